@@ -0,0 +1,114 @@
+package com.quizapp.service;
+
+import com.quizapp.model.dto.user.UserDetailsDTO;
+import com.quizapp.model.entity.Role;
+import com.quizapp.model.entity.SolvedQuiz;
+import com.quizapp.model.entity.User;
+import com.quizapp.model.enums.RoleName;
+import com.quizapp.repository.UserRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Logins per second through {@link UserDetailsServiceImpl#loadUserByUsername}, including the Java serialization the
+ * session store applies to the principal, against the previous principal that also carried the user's solved quizzes.
+ * The serialized size of both principals is printed once per trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginPrincipalBenchmark {
+
+    private static final String USERNAME = "user1";
+
+    @Param({"10", "1000", "10000"})
+    private int solvedQuizCount;
+
+    private UserDetailsServiceImpl userDetailsService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        Role role = new Role();
+        role.setName(RoleName.USER);
+
+        this.user = User.builder()
+                .id(1L)
+                .username(USERNAME)
+                .email("user1@gmail.com")
+                .password("encodedPassword")
+                .roles(Set.of(role))
+                .solvedQuizzes(IntStream.range(0, this.solvedQuizCount)
+                        .mapToObj(i -> SolvedQuiz.builder()
+                                .id((long) i)
+                                .categoryId(5L)
+                                .questionIds(List.of(1L, 2L, 3L))
+                                .userAnswers(Map.of(1L, "A", 2L, "B", 3L, "C"))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(this.user));
+        this.userDetailsService = new UserDetailsServiceImpl(userRepository);
+    }
+
+    @Benchmark
+    public void identityPrincipal(Blackhole blackhole) throws IOException {
+        blackhole.consume(serialize(this.userDetailsService.loadUserByUsername(USERNAME)));
+    }
+
+    @Benchmark
+    public void principalWithSolvedQuizzes(Blackhole blackhole) throws IOException {
+        blackhole.consume(serialize(legacyPrincipal()));
+    }
+
+    @TearDown
+    public void reportPrincipalSize() throws IOException {
+        System.out.printf("%n%d solved quizzes: identity principal %d bytes, principal with solved quizzes %d bytes%n",
+                this.solvedQuizCount,
+                serialize(this.userDetailsService.loadUserByUsername(USERNAME)).length,
+                serialize(legacyPrincipal()).length);
+    }
+
+    private LegacyPrincipal legacyPrincipal() {
+        UserDetailsDTO details = (UserDetailsDTO) this.userDetailsService.loadUserByUsername(USERNAME);
+        List<SolvedQuizState> solvedQuizzes = this.user.getSolvedQuizzes().stream()
+                .map(q -> new SolvedQuizState(q.getId(), q.getCategoryId(),
+                        new ArrayList<>(q.getQuestionIds()), new HashMap<>(q.getUserAnswers())))
+                .collect(Collectors.toList());
+
+        return new LegacyPrincipal(details, solvedQuizzes);
+    }
+
+    private static byte[] serialize(Object principal) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(principal);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    // SolvedQuiz is not Serializable, so the previous principal's quiz history is reproduced with its persisted fields.
+    private record SolvedQuizState(Long id, Long categoryId, List<Long> questionIds,
+                                   Map<Long, String> userAnswers) implements Serializable {
+    }
+
+    private record LegacyPrincipal(UserDetailsDTO details, List<SolvedQuizState> solvedQuizzes) implements Serializable {
+    }
+}
@@ -0,0 +1,68 @@
+package com.quizapp.service.evaluation;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Submissions scored per second through an {@link AnswerKey} against the previous approach, which counted
+ * correct answers with a stream and then compared every answer again for the question statistics.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizEvaluationBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int questionCount;
+
+    private List<QuestionDTO> questions;
+    private Map<Long, String> userAnswers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.questions = new ArrayList<>(this.questionCount);
+        this.userAnswers = new HashMap<>();
+
+        for (long id = 1; id <= this.questionCount; id++) {
+            List<String> options = List.of("Отговор А " + id, "Отговор Б " + id, "Отговор В " + id, "Отговор Г " + id);
+            String correctAnswer = options.get(random.nextInt(options.size()));
+
+            this.questions.add(QuestionDTO.builder()
+                    .id(id)
+                    .questionText("Въпрос " + id)
+                    .options(options)
+                    .correctAnswer(correctAnswer)
+                    .build());
+            // Submitted answers are parsed from the request, so they never share the question's string instances.
+            this.userAnswers.put(id, new String(options.get(random.nextInt(options.size()))));
+        }
+    }
+
+    @Benchmark
+    public void answerKey(Blackhole blackhole) {
+        QuizEvaluation evaluation = AnswerKey.of(this.questions).evaluate(this.userAnswers);
+
+        blackhole.consume(evaluation.getCorrectAnswers());
+        for (int i = 0; i < this.questions.size(); i++) {
+            blackhole.consume(evaluation.isCorrect(i));
+        }
+    }
+
+    @Benchmark
+    public void streamTwice(Blackhole blackhole) {
+        long correctAnswers = this.questions.stream()
+                .filter(q -> q.getCorrectAnswer().equals(this.userAnswers.get(q.getId())))
+                .count();
+
+        blackhole.consume(correctAnswers);
+        this.questions.forEach(q -> blackhole.consume(q.getCorrectAnswer().equals(this.userAnswers.get(q.getId()))));
+    }
+}
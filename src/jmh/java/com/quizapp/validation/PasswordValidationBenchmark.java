@@ -0,0 +1,59 @@
+package com.quizapp.validation;
+
+import org.openjdk.jmh.annotations.*;
+import org.passay.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validations per second of the shared {@link PasswordPolicy} against the previous approach of loading the
+ * message properties and building a new Passay validator on every call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordValidationBenchmark {
+
+    @Param({"Password123", "pass word"})
+    private String password;
+
+    private PasswordPolicy passwordPolicy;
+
+    @Setup
+    public void setUp() {
+        this.passwordPolicy = PasswordPolicy.defaults();
+    }
+
+    @Benchmark
+    public List<String> sharedPolicy() {
+        return this.passwordPolicy.validate(this.password);
+    }
+
+    @Benchmark
+    public boolean validatorPerCall() {
+        Properties props = new Properties();
+
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("passay.properties")) {
+            props.load(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        PasswordValidator validator = new PasswordValidator(new PropertiesMessageResolver(props), List.of(
+                new LengthRule(8, 20),
+                new CharacterRule(EnglishCharacterData.UpperCase, 1),
+                new CharacterRule(EnglishCharacterData.LowerCase, 1),
+                new CharacterRule(EnglishCharacterData.Digit, 1),
+                new WhitespaceRule()));
+
+        return validator.validate(new PasswordData(this.password)).isValid();
+    }
+}
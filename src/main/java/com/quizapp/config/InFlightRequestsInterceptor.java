@@ -0,0 +1,37 @@
+package com.quizapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InFlightRequestsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public InFlightRequestsInterceptor(MeterRegistry meterRegistry, String gaugeName) {
+        Gauge.builder(gaugeName, this.inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        this.inFlight.incrementAndGet();
+
+        try {
+            return execution.execute(request, body);
+        } finally {
+            this.inFlight.decrementAndGet();
+        }
+    }
+
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+}
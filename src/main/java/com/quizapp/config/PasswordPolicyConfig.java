@@ -0,0 +1,27 @@
+package com.quizapp.config;
+
+import com.quizapp.validation.PasswordPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "password.policy")
+@Data
+public class PasswordPolicyConfig {
+
+    private int minLength = 8;
+    private int maxLength = 20;
+    private int minUpperCase = 1;
+    private int minLowerCase = 1;
+    private int minDigits = 1;
+    private int minSpecial = 0;
+    private boolean allowWhitespace = false;
+    private String messages = "password-policy.properties";
+
+    @Bean
+    public PasswordPolicy passwordPolicy() {
+        return new PasswordPolicy(this);
+    }
+}
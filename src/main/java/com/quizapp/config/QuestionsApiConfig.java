@@ -3,12 +3,46 @@ package com.quizapp.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "questions.api")
 public class QuestionsApiConfig {
 
     private String baseUrl;
 
+    private int maxConnections = 50;
+
+    private int maxConnectionsPerRoute = 20;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    private boolean gzip = true;
+
+    private boolean http2 = false;
+
+    private String batchLookupPath;
+
+    private float breakerFailureRateThreshold = 50;
+
+    private int breakerSlidingWindowSize = 20;
+
+    private int breakerMinimumCalls = 10;
+
+    private Duration breakerOpenDuration = Duration.ofSeconds(30);
+
+    private int breakerHalfOpenCalls = 1;
+
+    private int bulkheadMaxConcurrentCalls = 5;
+
+    private Duration bulkheadMaxWait = Duration.ofMillis(250);
+
     public String getBaseUrl() {
         return this.baseUrl;
     }
@@ -17,4 +51,148 @@ public class QuestionsApiConfig {
         this.baseUrl = baseUrl;
         return this;
     }
+
+    public int getMaxConnections() {
+        return this.maxConnections;
+    }
+
+    public QuestionsApiConfig setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return this.maxConnectionsPerRoute;
+    }
+
+    public QuestionsApiConfig setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
+
+    public Duration getConnectTimeout() {
+        return this.connectTimeout;
+    }
+
+    public QuestionsApiConfig setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    public Duration getReadTimeout() {
+        return this.readTimeout;
+    }
+
+    public QuestionsApiConfig setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+        return this;
+    }
+
+    public Duration getConnectionRequestTimeout() {
+        return this.connectionRequestTimeout;
+    }
+
+    public QuestionsApiConfig setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+        return this;
+    }
+
+    public Duration getKeepAlive() {
+        return this.keepAlive;
+    }
+
+    public QuestionsApiConfig setKeepAlive(Duration keepAlive) {
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    public boolean isGzip() {
+        return this.gzip;
+    }
+
+    public QuestionsApiConfig setGzip(boolean gzip) {
+        this.gzip = gzip;
+        return this;
+    }
+
+    public boolean isHttp2() {
+        return this.http2;
+    }
+
+    public QuestionsApiConfig setHttp2(boolean http2) {
+        this.http2 = http2;
+        return this;
+    }
+
+    public String getBatchLookupPath() {
+        return this.batchLookupPath;
+    }
+
+    public QuestionsApiConfig setBatchLookupPath(String batchLookupPath) {
+        this.batchLookupPath = batchLookupPath;
+        return this;
+    }
+
+    public float getBreakerFailureRateThreshold() {
+        return this.breakerFailureRateThreshold;
+    }
+
+    public QuestionsApiConfig setBreakerFailureRateThreshold(float breakerFailureRateThreshold) {
+        this.breakerFailureRateThreshold = breakerFailureRateThreshold;
+        return this;
+    }
+
+    public int getBreakerSlidingWindowSize() {
+        return this.breakerSlidingWindowSize;
+    }
+
+    public QuestionsApiConfig setBreakerSlidingWindowSize(int breakerSlidingWindowSize) {
+        this.breakerSlidingWindowSize = breakerSlidingWindowSize;
+        return this;
+    }
+
+    public int getBreakerMinimumCalls() {
+        return this.breakerMinimumCalls;
+    }
+
+    public QuestionsApiConfig setBreakerMinimumCalls(int breakerMinimumCalls) {
+        this.breakerMinimumCalls = breakerMinimumCalls;
+        return this;
+    }
+
+    public Duration getBreakerOpenDuration() {
+        return this.breakerOpenDuration;
+    }
+
+    public QuestionsApiConfig setBreakerOpenDuration(Duration breakerOpenDuration) {
+        this.breakerOpenDuration = breakerOpenDuration;
+        return this;
+    }
+
+    public int getBreakerHalfOpenCalls() {
+        return this.breakerHalfOpenCalls;
+    }
+
+    public QuestionsApiConfig setBreakerHalfOpenCalls(int breakerHalfOpenCalls) {
+        this.breakerHalfOpenCalls = breakerHalfOpenCalls;
+        return this;
+    }
+
+    public int getBulkheadMaxConcurrentCalls() {
+        return this.bulkheadMaxConcurrentCalls;
+    }
+
+    public QuestionsApiConfig setBulkheadMaxConcurrentCalls(int bulkheadMaxConcurrentCalls) {
+        this.bulkheadMaxConcurrentCalls = bulkheadMaxConcurrentCalls;
+        return this;
+    }
+
+    public Duration getBulkheadMaxWait() {
+        return this.bulkheadMaxWait;
+    }
+
+    public QuestionsApiConfig setBulkheadMaxWait(Duration bulkheadMaxWait) {
+        this.bulkheadMaxWait = bulkheadMaxWait;
+        return this;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.quizapp.config;
+
+import com.quizapp.model.dto.quiz.QuizDTO;
+import com.quizapp.model.entity.Quiz;
+import com.quizapp.model.enums.QuizSessionKind;
+import com.quizapp.repository.QuizSessionRepository;
+import com.quizapp.service.session.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Replaces the in-memory quiz storages with the shared JDBC store when {@code quiz.session-store.type} is
+ * {@code jdbc}, each behind a near-cache on this node. Guest results stay in the off-heap store when it is enabled.
+ */
+@Configuration
+@ConditionalOnProperty(name = "quiz.session-store.type", havingValue = "jdbc")
+public class QuizSessionStoreConfig {
+
+    private final QuizSessionRepository quizSessionRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration nearCacheTtl;
+    private final int nearCacheMaxEntries;
+
+    public QuizSessionStoreConfig(QuizSessionRepository quizSessionRepository, MeterRegistry meterRegistry,
+                                  @Value("${quiz.session-store.near-cache-ttl:5s}") Duration nearCacheTtl,
+                                  @Value("${quiz.session-store.near-cache-max-entries:10000}") int nearCacheMaxEntries) {
+        this.quizSessionRepository = quizSessionRepository;
+        this.meterRegistry = meterRegistry;
+        this.nearCacheTtl = nearCacheTtl;
+        this.nearCacheMaxEntries = nearCacheMaxEntries;
+    }
+
+    @Bean
+    public QuizSessionStore<Quiz> tempQuizStore(@Value("${quiz.temp-storage.default-ttl:30m}") Duration defaultTtl) {
+        return this.nearCached("temp", new JdbcQuizSessionStore<>(this.quizSessionRepository,
+                QuizSessionKind.IN_FLIGHT, new QuizCodec(), Quiz::getExpireAt, defaultTtl, Clock.systemDefaultZone()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "quiz.guest-results.off-heap.enabled", havingValue = "false", matchIfMissing = true)
+    public QuizSessionStore<QuizDTO> guestQuizStore(@Value("${quiz.temp-storage.default-ttl:30m}") Duration defaultTtl) {
+        return this.nearCached("guest", new JdbcQuizSessionStore<>(this.quizSessionRepository,
+                QuizSessionKind.GUEST_RESULT, new QuizResultCodec(), QuizDTO::getExpireAt, defaultTtl,
+                Clock.systemDefaultZone()));
+    }
+
+    private <T> QuizSessionStore<T> nearCached(String name, QuizSessionStore<T> store) {
+        return new NearCachedQuizSessionStore<>(store, name, this.nearCacheTtl, this.nearCacheMaxEntries,
+                Clock.systemDefaultZone(), this.meterRegistry);
+    }
+}
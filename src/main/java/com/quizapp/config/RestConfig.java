@@ -1,20 +1,115 @@
 package com.quizapp.config;
 
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+
+/**
+ * The questions API client runs on a pooled Apache HttpClient with bounded connect, pool-wait and read
+ * timeouts, so a slow API fails fast instead of pinning request threads. Setting {@code questions.api.http2}
+ * switches to the JDK client, which multiplexes requests over a single HTTP/2 connection instead of pooling.
+ */
 @Configuration
 public class RestConfig {
 
     @Bean
-    public RestClient restClient(QuestionsApiConfig questionsApiConfig) {
-        return RestClient
-                .builder()
+    public RestClient restClient(RestClient.Builder restClientBuilder, QuestionsApiConfig questionsApiConfig,
+                                 ClientHttpRequestFactory questionsApiRequestFactory, MeterRegistry meterRegistry) {
+        return restClientBuilder
                 .baseUrl(questionsApiConfig.getBaseUrl())
+                .requestFactory(questionsApiRequestFactory)
+                .requestInterceptor(new InFlightRequestsInterceptor(meterRegistry, "questions.api.requests.in-flight"))
+                .observationConvention(new PathOnlyObservationConvention())
                 .defaultHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
 
-}
\ No newline at end of file
+    @Bean
+    public ClientHttpRequestFactory questionsApiRequestFactory(QuestionsApiConfig questionsApiConfig,
+                                                               MeterRegistry meterRegistry) {
+        if (questionsApiConfig.isHttp2()) {
+            return http2RequestFactory(questionsApiConfig);
+        }
+
+        return pooledRequestFactory(questionsApiConfig, meterRegistry);
+    }
+
+    static HttpComponentsClientHttpRequestFactory pooledRequestFactory(QuestionsApiConfig config,
+                                                                       MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(config.getMaxConnections())
+                .setMaxConnPerRoute(config.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(config.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(config.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(config.getKeepAlive()))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "questions-api")
+                .bindTo(meterRegistry);
+
+        var httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(config.getKeepAlive()))
+                .evictIdleConnections(TimeValue.of(config.getKeepAlive()))
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(config.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(config.getReadTimeout()))
+                        .build());
+
+        if (!config.isGzip()) {
+            httpClientBuilder.disableContentCompression();
+        }
+
+        CloseableHttpClient httpClient = httpClientBuilder.build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    static JdkClientHttpRequestFactory http2RequestFactory(QuestionsApiConfig config) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(config.getConnectTimeout())
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(config.getReadTimeout());
+
+        return requestFactory;
+    }
+
+    /**
+     * Tags client metrics with the request path only. Query strings built from page numbers and search text
+     * would otherwise give every request its own latency histogram.
+     */
+    static class PathOnlyObservationConvention extends DefaultClientRequestObservationConvention {
+
+        @Override
+        protected KeyValue uri(ClientRequestObservationContext context) {
+            KeyValue uri = super.uri(context);
+            int queryStart = uri.getValue().indexOf('?');
+
+            return queryStart < 0 ? uri : KeyValue.of(uri.getKey(), uri.getValue().substring(0, queryStart));
+        }
+    }
+}
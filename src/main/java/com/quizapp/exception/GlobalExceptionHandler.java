@@ -1,5 +1,6 @@
 package com.quizapp.exception;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -82,6 +83,15 @@ public class GlobalExceptionHandler {
         return modelAndView;
     }
 
+    @ExceptionHandler(QuestionsApiUnavailableException.class)
+    public ModelAndView handleQuestionsApiUnavailable(QuestionsApiUnavailableException ex) {
+        ModelAndView modelAndView = new ModelAndView("error/service-unavailable");
+
+        modelAndView.setStatus(HttpStatus.SERVICE_UNAVAILABLE);
+
+        return modelAndView;
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ModelAndView handleAccessDenied(AccessDeniedException ex) {
         return new ModelAndView("error/403");
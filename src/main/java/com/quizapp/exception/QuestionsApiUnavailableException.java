@@ -0,0 +1,8 @@
+package com.quizapp.exception;
+
+public class QuestionsApiUnavailableException extends RuntimeException {
+
+    public QuestionsApiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,30 @@
+package com.quizapp.model.converters;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stores a short list of strings in a single column, separated by the ASCII unit separator.
+ */
+@Converter
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+
+    public static final String SEPARATOR = "\u001F";
+
+    @Override
+    public String convertToDatabaseColumn(List<String> values) {
+        return values == null ? null : String.join(SEPARATOR, values);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String column) {
+        if (column == null) {
+            return null;
+        }
+
+        return column.isEmpty() ? List.of() : Arrays.asList(column.split(SEPARATOR, -1));
+    }
+}
@@ -0,0 +1,48 @@
+package com.quizapp.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeysetPageDTO<T> {
+
+    private List<T> content;
+
+    private int currentPage;
+
+    private int size;
+
+    private long totalElements;
+
+    private boolean hasPrevious;
+
+    private String previousCursor;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+
+    public int getTotalPages() {
+        int counted = this.size == 0 ? 0 : (int) Math.ceil((double) this.totalElements / this.size);
+        int reached = this.currentPage + (this.hasNext ? 2 : 1);
+
+        return this.content.isEmpty() && this.currentPage == 0 ? counted : Math.max(counted, reached);
+    }
+
+    public boolean isEmpty() {
+        return this.content.isEmpty();
+    }
+
+    public <R> KeysetPageDTO<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPageDTO<>(this.content.stream().<R>map(mapper).toList(), this.currentPage, this.size,
+                this.totalElements, this.hasPrevious, this.previousCursor, this.hasNext, this.nextCursor);
+    }
+}
@@ -0,0 +1,25 @@
+package com.quizapp.model.dto.category;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryStatsDeltaDTO {
+
+    private Long categoryId;
+
+    private String categoryName;
+
+    private int startedQuizzes;
+
+    private int completedQuizzes;
+
+    private int correctAnswers;
+
+    private int totalQuestions;
+}
@@ -0,0 +1,25 @@
+package com.quizapp.model.dto.question;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionStatsDeltaDTO {
+
+    private Long questionId;
+
+    private String questionText;
+
+    private Long categoryId;
+
+    private int attempts;
+
+    private int correctAnswers;
+
+    private int wrongAnswers;
+}
@@ -0,0 +1,19 @@
+package com.quizapp.model.dto.question;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionTextDTO {
+
+    private Long questionId;
+
+    private Long categoryId;
+
+    private String questionText;
+}
@@ -0,0 +1,25 @@
+package com.quizapp.model.dto.quiz;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SolvedQuizSummaryDTO {
+
+    private Long id;
+
+    private Long categoryId;
+
+    private int score;
+
+    private int maxScore;
+
+    private LocalDateTime solvedAt;
+}
@@ -0,0 +1,19 @@
+package com.quizapp.model.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InactiveUserDTO {
+
+    private Long statisticsId;
+
+    private String username;
+
+    private String email;
+}
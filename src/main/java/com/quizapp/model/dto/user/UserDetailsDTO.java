@@ -1,21 +1,24 @@
 package com.quizapp.model.dto.user;
 
-import com.quizapp.model.entity.SolvedQuiz;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.List;
 
+/**
+ * Authenticated principal kept in the HTTP session. It carries identity and authorities only, so its size does
+ * not depend on the user's quiz history; the password is erased once authentication succeeds.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class UserDetailsDTO implements UserDetails {
+public class UserDetailsDTO implements UserDetails, CredentialsContainer {
 
     private Long id;
 
@@ -27,8 +30,6 @@ public class UserDetailsDTO implements UserDetails {
 
     private Collection<? extends GrantedAuthority> authorities;
 
-    private List<SolvedQuiz> solvedQuizzes;
-
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -44,6 +45,11 @@ public class UserDetailsDTO implements UserDetails {
         return username;
     }
 
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
     @Override
     public boolean isAccountNonExpired() {
         return true;
@@ -0,0 +1,48 @@
+package com.quizapp.model.entity;
+
+import com.quizapp.model.converters.StringListConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.util.List;
+
+/**
+ * One version of a question as it was shown in a quiz. Rows are never updated: an edited question gets a
+ * new snapshot, and identical versions share one row through the content hash.
+ */
+@Entity
+@Immutable
+@Table(name = "question_snapshots")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "question_id", nullable = false)
+    private Long questionId;
+
+    @Column(name = "question_text", nullable = false, length = 4000)
+    private String questionText;
+
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "correct_answer", nullable = false, length = 1000)
+    private String correctAnswer;
+
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "options", length = 4000)
+    private List<String> options;
+}
@@ -7,7 +7,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "question_statistics")
+@Table(name = "question_statistics", indexes = {
+        @Index(name = "idx_question_statistics_accuracy_id", columnList = "accuracy DESC, id DESC"),
+        @Index(name = "idx_question_statistics_difficulty_id", columnList = "difficulty DESC, id DESC"),
+        @Index(name = "idx_question_statistics_completion_rate_id", columnList = "completion_rate DESC, id DESC"),
+        @Index(name = "idx_question_statistics_attempts_id", columnList = "attempts DESC, id DESC"),
+        @Index(name = "idx_question_statistics_correct_answers_id", columnList = "correct_answers DESC, id DESC"),
+        @Index(name = "idx_question_statistics_wrong_answers_id", columnList = "wrong_answers DESC, id DESC")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
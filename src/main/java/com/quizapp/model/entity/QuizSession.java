@@ -0,0 +1,49 @@
+package com.quizapp.model.entity;
+
+import com.quizapp.model.enums.QuizSessionKind;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * A quiz session shared between application nodes: an in-flight quiz or a guest result, encoded by a
+ * {@link com.quizapp.service.session.QuizSessionCodec}. Rows are written and read over JDBC; the entity only
+ * describes the table.
+ */
+@Entity
+@Table(name = "quiz_sessions",
+        indexes = @Index(name = "idx_quiz_sessions_kind_expires_at", columnList = "kind, expires_at"))
+@IdClass(QuizSession.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizSession {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private QuizSessionKind kind;
+
+    @Id
+    @Column(name = "view_token", nullable = false, length = 64)
+    private String viewToken;
+
+    @Column(nullable = false, length = 1_048_576)
+    private byte[] payload;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private QuizSessionKind kind;
+
+        private String viewToken;
+    }
+}
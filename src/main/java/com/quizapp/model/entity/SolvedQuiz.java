@@ -13,7 +13,8 @@ import java.util.List;
 import java.util.Map;
 
 @Entity
-@Table(name = "solved_quizzes")
+@Table(name = "solved_quizzes",
+        indexes = @Index(name = "idx_solved_quizzes_user_solved_at_id", columnList = "user_id, solved_at DESC, id DESC"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +37,14 @@ public class SolvedQuiz {
     @Column(name = "question_id")
     private List<Long> questionIds = new ArrayList<>();
 
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "solved_quiz_snapshots",
+            joinColumns = @JoinColumn(name = "solved_quiz_id"),
+            inverseJoinColumns = @JoinColumn(name = "snapshot_id"))
+    @OrderColumn(name = "position")
+    @Builder.Default
+    private List<QuestionSnapshot> questionSnapshots = new ArrayList<>();
+
     @Column
     private int score;
 
@@ -45,6 +54,9 @@ public class SolvedQuiz {
     @Column(name = "solved_at")
     private LocalDateTime solvedAt;
 
+    @Column(name = "snapshots_unavailable")
+    private Boolean snapshotsUnavailable;
+
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "solved_quiz_answers", joinColumns = @JoinColumn(name = "solved_quiz_id"))
     @MapKeyColumn(name = "question_id")
@@ -9,7 +9,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_statistics")
+@Table(name = "user_statistics", indexes = {
+        @Index(name = "idx_user_statistics_total_quizzes_id", columnList = "total_quizzes DESC, id DESC"),
+        @Index(name = "idx_user_statistics_total_correct_answers_id", columnList = "total_correct_answers DESC, id DESC"),
+        @Index(name = "idx_user_statistics_max_score_id", columnList = "max_score DESC, id DESC"),
+        @Index(name = "idx_user_statistics_average_score_id", columnList = "average_score DESC, id DESC"),
+        @Index(name = "idx_user_statistics_last_solved_at_id", columnList = "last_solved_at DESC, id DESC")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,8 @@
+package com.quizapp.model.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
@@ -0,0 +1,6 @@
+package com.quizapp.model.enums;
+
+public enum QuizSessionKind {
+    IN_FLIGHT,
+    GUEST_RESULT
+}
@@ -1,7 +1,7 @@
 package com.quizapp.model.enums;
 
 public enum UserSortField {
-    TOTAL_QUIZZES("totalSolvedQuizzes", "Решени куизове"),
+    TOTAL_QUIZZES("totalQuizzes", "Решени куизове"),
     TOTAL_CORRECT_ANSWERS("totalCorrectAnswers", "Верни отговори"),
     MAX_SCORE("maxScore", "Решени въпроси"),
     AVERAGE_SCORE("averageScore", "Среден резултат"),
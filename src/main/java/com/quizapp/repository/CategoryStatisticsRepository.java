@@ -5,12 +5,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface CategoryStatisticsRepository extends JpaRepository<CategoryStatistics, Long> {
+public interface CategoryStatisticsRepository extends JpaRepository<CategoryStatistics, Long>,
+        JpaSpecificationExecutor<CategoryStatistics>, CategoryStatisticsRepositoryCustom {
 
     Optional<CategoryStatistics> findByCategoryId(Long categoryId);
 
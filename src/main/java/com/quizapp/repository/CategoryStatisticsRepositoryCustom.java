@@ -0,0 +1,10 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.dto.category.CategoryStatsDeltaDTO;
+
+import java.util.List;
+
+public interface CategoryStatisticsRepositoryCustom {
+
+    void upsertDeltas(List<CategoryStatsDeltaDTO> deltas);
+}
@@ -0,0 +1,95 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.dto.category.CategoryStatsDeltaDTO;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Applies accumulated category counters with one batched upsert, in category id order. The derived
+ * accuracy and completion rate are recomputed by the database from the updated totals.
+ */
+public class CategoryStatisticsRepositoryCustomImpl implements CategoryStatisticsRepositoryCustom {
+
+    private static final String POSTGRES_UPSERT = """
+            INSERT INTO category_statistics AS t (category_id, category_name,
+                total_started_quizzes, total_completed_quizzes, total_correct_answers, total_questions,
+                average_accuracy, completion_rate)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (category_id) DO UPDATE SET
+                total_started_quizzes = t.total_started_quizzes + EXCLUDED.total_started_quizzes,
+                total_completed_quizzes = t.total_completed_quizzes + EXCLUDED.total_completed_quizzes,
+                total_correct_answers = t.total_correct_answers + EXCLUDED.total_correct_answers,
+                total_questions = t.total_questions + EXCLUDED.total_questions,
+                average_accuracy = CASE WHEN t.total_questions + EXCLUDED.total_questions > 0
+                    THEN (t.total_correct_answers + EXCLUDED.total_correct_answers) * 100.0
+                        / (t.total_questions + EXCLUDED.total_questions)
+                    ELSE 0 END,
+                completion_rate = CASE WHEN t.total_started_quizzes + EXCLUDED.total_started_quizzes > 0
+                    THEN (t.total_completed_quizzes + EXCLUDED.total_completed_quizzes) * 100.0
+                        / (t.total_started_quizzes + EXCLUDED.total_started_quizzes)
+                    ELSE 0 END
+            """;
+
+    private static final String MERGE_UPSERT = """
+            MERGE INTO category_statistics t
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(255)),
+                CAST(? AS INT), CAST(? AS INT), CAST(? AS INT), CAST(? AS INT),
+                CAST(? AS DOUBLE PRECISION), CAST(? AS DOUBLE PRECISION)))
+                AS s (category_id, category_name, total_started_quizzes, total_completed_quizzes,
+                    total_correct_answers, total_questions, average_accuracy, completion_rate)
+            ON t.category_id = s.category_id
+            WHEN MATCHED THEN UPDATE SET
+                total_started_quizzes = t.total_started_quizzes + s.total_started_quizzes,
+                total_completed_quizzes = t.total_completed_quizzes + s.total_completed_quizzes,
+                total_correct_answers = t.total_correct_answers + s.total_correct_answers,
+                total_questions = t.total_questions + s.total_questions,
+                average_accuracy = CASE WHEN t.total_questions + s.total_questions > 0
+                    THEN (t.total_correct_answers + s.total_correct_answers) * 100.0
+                        / (t.total_questions + s.total_questions)
+                    ELSE 0 END,
+                completion_rate = CASE WHEN t.total_started_quizzes + s.total_started_quizzes > 0
+                    THEN (t.total_completed_quizzes + s.total_completed_quizzes) * 100.0
+                        / (t.total_started_quizzes + s.total_started_quizzes)
+                    ELSE 0 END
+            WHEN NOT MATCHED THEN INSERT (category_id, category_name,
+                total_started_quizzes, total_completed_quizzes, total_correct_answers, total_questions,
+                average_accuracy, completion_rate)
+            VALUES (s.category_id, s.category_name, s.total_started_quizzes, s.total_completed_quizzes,
+                s.total_correct_answers, s.total_questions, s.average_accuracy, s.completion_rate)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsertSql;
+
+    public CategoryStatisticsRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertSql = DatabaseDialects.isPostgres(jdbcTemplate) ? POSTGRES_UPSERT : MERGE_UPSERT;
+    }
+
+    @Override
+    @Transactional
+    public void upsertDeltas(List<CategoryStatsDeltaDTO> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = deltas.stream()
+                .sorted(Comparator.comparing(CategoryStatsDeltaDTO::getCategoryId))
+                .map(delta -> new Object[]{
+                        delta.getCategoryId(),
+                        delta.getCategoryName(),
+                        delta.getStartedQuizzes(),
+                        delta.getCompletedQuizzes(),
+                        delta.getCorrectAnswers(),
+                        delta.getTotalQuestions(),
+                        DatabaseDialects.rate(delta.getCorrectAnswers(), delta.getTotalQuestions()),
+                        DatabaseDialects.rate(delta.getCompletedQuizzes(), delta.getStartedQuizzes())
+                })
+                .toList();
+
+        this.jdbcTemplate.batchUpdate(this.upsertSql, batchArgs);
+    }
+}
@@ -0,0 +1,21 @@
+package com.quizapp.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+final class DatabaseDialects {
+
+    private DatabaseDialects() {
+    }
+
+    static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        String productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        return "PostgreSQL".equalsIgnoreCase(productName);
+    }
+
+    static double rate(int part, int whole) {
+        return whole > 0 ? (part * 100.0) / whole : 0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.entity.EmailOutboxMessage;
+import com.quizapp.model.enums.EmailOutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM EmailOutboxMessage m WHERE m.status IN :statuses AND m.nextAttemptAt <= :now ORDER BY m.id")
+    List<EmailOutboxMessage> findDueForUpdate(Collection<EmailOutboxStatus> statuses, LocalDateTime now,
+                                              Pageable pageable);
+
+    long countByStatusIn(Collection<EmailOutboxStatus> statuses);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.quizapp.model.enums.EmailOutboxStatus.SENT, " +
+            "m.sentAt = :sentAt, m.lastError = null WHERE m.id IN :ids")
+    int markSent(Collection<Long> ids, LocalDateTime sentAt);
+}
@@ -0,0 +1,19 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.entity.QuestionSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface QuestionSnapshotRepository extends JpaRepository<QuestionSnapshot, Long>,
+        QuestionSnapshotRepositoryCustom {
+
+    List<QuestionSnapshot> findByContentHashIn(Collection<String> contentHashes);
+
+    @Query("SELECT qs FROM SolvedQuiz sq JOIN sq.questionSnapshots qs WHERE sq.id = :solvedQuizId ORDER BY INDEX(qs)")
+    List<QuestionSnapshot> findBySolvedQuizId(Long solvedQuizId);
+}
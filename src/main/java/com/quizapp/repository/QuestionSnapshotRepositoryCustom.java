@@ -0,0 +1,10 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.entity.QuestionSnapshot;
+
+import java.util.List;
+
+public interface QuestionSnapshotRepositoryCustom {
+
+    void insertMissing(List<QuestionSnapshot> snapshots);
+}
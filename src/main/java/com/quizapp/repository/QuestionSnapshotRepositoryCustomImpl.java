@@ -0,0 +1,65 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.converters.StringListConverter;
+import com.quizapp.model.entity.QuestionSnapshot;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Inserts snapshots whose content hash is not stored yet, in hash order. Concurrent submissions of the same
+ * question version race on the unique hash, and the loser's insert is simply skipped.
+ */
+public class QuestionSnapshotRepositoryCustomImpl implements QuestionSnapshotRepositoryCustom {
+
+    private static final String POSTGRES_INSERT = """
+            INSERT INTO question_snapshots (content_hash, question_id, question_text, category_name,
+                correct_answer, options)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (content_hash) DO NOTHING
+            """;
+
+    private static final String MERGE_INSERT = """
+            MERGE INTO question_snapshots t
+            USING (VALUES (CAST(? AS VARCHAR(64)), CAST(? AS BIGINT), CAST(? AS VARCHAR(4000)),
+                CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(1000)), CAST(? AS VARCHAR(4000))))
+                AS s (content_hash, question_id, question_text, category_name, correct_answer, options)
+            ON t.content_hash = s.content_hash
+            WHEN NOT MATCHED THEN INSERT (content_hash, question_id, question_text, category_name,
+                correct_answer, options)
+            VALUES (s.content_hash, s.question_id, s.question_text, s.category_name, s.correct_answer, s.options)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertSql;
+    private final StringListConverter optionsConverter = new StringListConverter();
+
+    public QuestionSnapshotRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = DatabaseDialects.isPostgres(jdbcTemplate) ? POSTGRES_INSERT : MERGE_INSERT;
+    }
+
+    @Override
+    @Transactional
+    public void insertMissing(List<QuestionSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = snapshots.stream()
+                .sorted(Comparator.comparing(QuestionSnapshot::getContentHash))
+                .map(snapshot -> new Object[]{
+                        snapshot.getContentHash(),
+                        snapshot.getQuestionId(),
+                        snapshot.getQuestionText(),
+                        snapshot.getCategoryName(),
+                        snapshot.getCorrectAnswer(),
+                        this.optionsConverter.convertToDatabaseColumn(snapshot.getOptions())
+                })
+                .toList();
+
+        this.jdbcTemplate.batchUpdate(this.insertSql, batchArgs);
+    }
+}
@@ -1,18 +1,27 @@
 package com.quizapp.repository;
 
+import com.quizapp.model.dto.question.QuestionTextDTO;
 import com.quizapp.model.entity.QuestionStatistics;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface QuestionStatisticsRepository extends JpaRepository<QuestionStatistics, Long> {
+public interface QuestionStatisticsRepository extends JpaRepository<QuestionStatistics, Long>,
+        JpaSpecificationExecutor<QuestionStatistics>, QuestionStatisticsRepositoryCustom {
 
     Optional<QuestionStatistics> findByQuestionId(Long questionId);
 
+    @Query("SELECT new com.quizapp.model.dto.question.QuestionTextDTO(qs.questionId, qs.categoryId, qs.questionText) FROM QuestionStatistics qs WHERE qs.questionId > :afterQuestionId ORDER BY qs.questionId")
+    List<QuestionTextDTO> findQuestionTexts(Long afterQuestionId, Limit limit);
+
     Page<QuestionStatistics> findAll(Specification<QuestionStatistics> spec, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.dto.question.QuestionStatsDeltaDTO;
+
+import java.util.List;
+
+public interface QuestionStatisticsRepositoryCustom {
+
+    void upsertDeltas(List<QuestionStatsDeltaDTO> deltas);
+
+    void createTextSearchIndex();
+
+    List<Long> searchQuestionIds(String prefixQuery, Long categoryId, int limit);
+}
@@ -0,0 +1,135 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.dto.question.QuestionStatsDeltaDTO;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Applies accumulated question counters with one batched upsert. Counters are incremented by the database
+ * itself, so concurrent writers never overwrite each other's changes, and the derived rates are recomputed
+ * in the same statement. Rows are always touched in question id order to keep concurrent batches from
+ * deadlocking.
+ */
+public class QuestionStatisticsRepositoryCustomImpl implements QuestionStatisticsRepositoryCustom {
+
+    private static final String POSTGRES_UPSERT = """
+            INSERT INTO question_statistics AS t (question_id, question_text, category_id,
+                attempts, correct_answers, wrong_answers, accuracy, difficulty, completion_rate)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (question_id) DO UPDATE SET
+                attempts = t.attempts + EXCLUDED.attempts,
+                correct_answers = t.correct_answers + EXCLUDED.correct_answers,
+                wrong_answers = t.wrong_answers + EXCLUDED.wrong_answers,
+                accuracy = CASE WHEN t.attempts + EXCLUDED.attempts > 0
+                    THEN (t.correct_answers + EXCLUDED.correct_answers) * 100.0 / (t.attempts + EXCLUDED.attempts)
+                    ELSE 0 END,
+                difficulty = CASE WHEN t.attempts + EXCLUDED.attempts > 0
+                    THEN (t.wrong_answers + EXCLUDED.wrong_answers) * 100.0 / (t.attempts + EXCLUDED.attempts)
+                    ELSE 0 END,
+                completion_rate = CASE WHEN t.attempts + EXCLUDED.attempts > 0
+                    THEN (t.correct_answers + EXCLUDED.correct_answers + t.wrong_answers + EXCLUDED.wrong_answers)
+                        * 100.0 / (t.attempts + EXCLUDED.attempts)
+                    ELSE 0 END
+            """;
+
+    private static final String MERGE_UPSERT = """
+            MERGE INTO question_statistics t
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(255)), CAST(? AS BIGINT),
+                CAST(? AS INT), CAST(? AS INT), CAST(? AS INT),
+                CAST(? AS DOUBLE PRECISION), CAST(? AS DOUBLE PRECISION), CAST(? AS DOUBLE PRECISION)))
+                AS s (question_id, question_text, category_id, attempts, correct_answers, wrong_answers,
+                    accuracy, difficulty, completion_rate)
+            ON t.question_id = s.question_id
+            WHEN MATCHED THEN UPDATE SET
+                attempts = t.attempts + s.attempts,
+                correct_answers = t.correct_answers + s.correct_answers,
+                wrong_answers = t.wrong_answers + s.wrong_answers,
+                accuracy = CASE WHEN t.attempts + s.attempts > 0
+                    THEN (t.correct_answers + s.correct_answers) * 100.0 / (t.attempts + s.attempts)
+                    ELSE 0 END,
+                difficulty = CASE WHEN t.attempts + s.attempts > 0
+                    THEN (t.wrong_answers + s.wrong_answers) * 100.0 / (t.attempts + s.attempts)
+                    ELSE 0 END,
+                completion_rate = CASE WHEN t.attempts + s.attempts > 0
+                    THEN (t.correct_answers + s.correct_answers + t.wrong_answers + s.wrong_answers)
+                        * 100.0 / (t.attempts + s.attempts)
+                    ELSE 0 END
+            WHEN NOT MATCHED THEN INSERT (question_id, question_text, category_id,
+                attempts, correct_answers, wrong_answers, accuracy, difficulty, completion_rate)
+            VALUES (s.question_id, s.question_text, s.category_id, s.attempts, s.correct_answers, s.wrong_answers,
+                s.accuracy, s.difficulty, s.completion_rate)
+            """;
+
+    private static final String DROP_UNFOLDED_TEXT_SEARCH_INDEX = """
+            DROP INDEX IF EXISTS idx_question_statistics_text_search
+            """;
+
+    // The index, the query and QuestionTextSearchFunctions must use the same expression, folding "ѝ" into "и"
+    // as QuestionTextTokenizer does.
+    private static final String CREATE_TEXT_SEARCH_INDEX = """
+            CREATE INDEX IF NOT EXISTS idx_question_statistics_folded_text_search
+                ON question_statistics USING gin (to_tsvector('simple', translate(lower(question_text), 'ѝ', 'и')))
+            """;
+
+    private static final String TEXT_SEARCH = """
+            SELECT question_id
+            FROM question_statistics, to_tsquery('simple', ?) AS query
+            WHERE to_tsvector('simple', translate(lower(question_text), 'ѝ', 'и')) @@ query
+                AND (CAST(? AS BIGINT) IS NULL OR category_id = ?)
+            ORDER BY ts_rank(to_tsvector('simple', translate(lower(question_text), 'ѝ', 'и')), query) DESC, question_id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsertSql;
+
+    public QuestionStatisticsRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertSql = DatabaseDialects.isPostgres(jdbcTemplate) ? POSTGRES_UPSERT : MERGE_UPSERT;
+    }
+
+    @Override
+    @Transactional
+    public void upsertDeltas(List<QuestionStatsDeltaDTO> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = deltas.stream()
+                .sorted(Comparator.comparing(QuestionStatsDeltaDTO::getQuestionId))
+                .map(delta -> new Object[]{
+                        delta.getQuestionId(),
+                        delta.getQuestionText(),
+                        delta.getCategoryId(),
+                        delta.getAttempts(),
+                        delta.getCorrectAnswers(),
+                        delta.getWrongAnswers(),
+                        DatabaseDialects.rate(delta.getCorrectAnswers(), delta.getAttempts()),
+                        DatabaseDialects.rate(delta.getWrongAnswers(), delta.getAttempts()),
+                        DatabaseDialects.rate(delta.getCorrectAnswers() + delta.getWrongAnswers(), delta.getAttempts())
+                })
+                .toList();
+
+        this.jdbcTemplate.batchUpdate(this.upsertSql, batchArgs);
+    }
+
+    /**
+     * PostgreSQL only; Hibernate cannot declare expression indexes, so the text search index is created here.
+     */
+    @Override
+    public void createTextSearchIndex() {
+        this.jdbcTemplate.execute(DROP_UNFOLDED_TEXT_SEARCH_INDEX);
+        this.jdbcTemplate.execute(CREATE_TEXT_SEARCH_INDEX);
+    }
+
+    /**
+     * PostgreSQL only. {@code prefixQuery} is a {@code to_tsquery} expression built from tokenized words.
+     */
+    @Override
+    public List<Long> searchQuestionIds(String prefixQuery, Long categoryId, int limit) {
+        return this.jdbcTemplate.queryForList(TEXT_SEARCH, Long.class, prefixQuery, categoryId, categoryId, limit);
+    }
+}
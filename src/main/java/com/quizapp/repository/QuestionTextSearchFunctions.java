@@ -0,0 +1,21 @@
+package com.quizapp.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Lets criteria queries use the PostgreSQL text search match, which has no JPA counterpart. The vector
+ * expression is the one {@link QuestionStatisticsRepositoryCustomImpl} indexes, so the match can use that index.
+ */
+public class QuestionTextSearchFunctions implements FunctionContributor {
+
+    public static final String MATCHES_TEXT_QUERY = "question_text_matches";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(MATCHES_TEXT_QUERY,
+                "(to_tsvector('simple', translate(lower(?1), 'ѝ', 'и')) @@ to_tsquery('simple', ?2))",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
@@ -0,0 +1,10 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.entity.QuizSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QuizSessionRepository extends JpaRepository<QuizSession, QuizSession.Key>,
+        QuizSessionRepositoryCustom {
+}
@@ -0,0 +1,16 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.enums.QuizSessionKind;
+
+import java.time.LocalDateTime;
+
+public interface QuizSessionRepositoryCustom {
+
+    void upsert(QuizSessionKind kind, String viewToken, byte[] payload, LocalDateTime expiresAt);
+
+    byte[] findLivePayload(QuizSessionKind kind, String viewToken, LocalDateTime now);
+
+    int delete(QuizSessionKind kind, String viewToken);
+
+    int deleteExpired(QuizSessionKind kind, LocalDateTime now);
+}
@@ -0,0 +1,66 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.enums.QuizSessionKind;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads and writes session payloads with single statements. Expired rows are never returned, so a session
+ * is gone for every node as soon as it expires, even before the sweep deletes it through the expiry index.
+ */
+public class QuizSessionRepositoryCustomImpl implements QuizSessionRepositoryCustom {
+
+    private static final String POSTGRES_UPSERT = """
+            INSERT INTO quiz_sessions (kind, view_token, payload, expires_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (kind, view_token) DO UPDATE
+            SET payload = EXCLUDED.payload, expires_at = EXCLUDED.expires_at
+            """;
+
+    private static final String MERGE_UPSERT = """
+            MERGE INTO quiz_sessions (kind, view_token, payload, expires_at)
+            KEY (kind, view_token)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_LIVE_PAYLOAD = """
+            SELECT payload FROM quiz_sessions
+            WHERE kind = ? AND view_token = ? AND expires_at > ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsertSql;
+
+    public QuizSessionRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertSql = DatabaseDialects.isPostgres(jdbcTemplate) ? POSTGRES_UPSERT : MERGE_UPSERT;
+    }
+
+    @Override
+    public void upsert(QuizSessionKind kind, String viewToken, byte[] payload, LocalDateTime expiresAt) {
+        this.jdbcTemplate.update(this.upsertSql, kind.name(), viewToken, payload, Timestamp.valueOf(expiresAt));
+    }
+
+    @Override
+    public byte[] findLivePayload(QuizSessionKind kind, String viewToken, LocalDateTime now) {
+        List<byte[]> payloads = this.jdbcTemplate.query(SELECT_LIVE_PAYLOAD,
+                (rs, rowNum) -> rs.getBytes("payload"), kind.name(), viewToken, Timestamp.valueOf(now));
+
+        return payloads.isEmpty() ? null : payloads.get(0);
+    }
+
+    @Override
+    public int delete(QuizSessionKind kind, String viewToken) {
+        return this.jdbcTemplate.update("DELETE FROM quiz_sessions WHERE kind = ? AND view_token = ?",
+                kind.name(), viewToken);
+    }
+
+    @Override
+    public int deleteExpired(QuizSessionKind kind, LocalDateTime now) {
+        return this.jdbcTemplate.update("DELETE FROM quiz_sessions WHERE kind = ? AND expires_at <= ?",
+                kind.name(), Timestamp.valueOf(now));
+    }
+}
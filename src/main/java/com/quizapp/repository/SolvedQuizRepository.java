@@ -1,13 +1,25 @@
 package com.quizapp.repository;
 
+import com.quizapp.model.dto.quiz.SolvedQuizSummaryDTO;
 import com.quizapp.model.entity.SolvedQuiz;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface SolvedQuizRepository extends JpaRepository<SolvedQuiz, Long> {
+public interface SolvedQuizRepository extends JpaRepository<SolvedQuiz, Long>, JpaSpecificationExecutor<SolvedQuiz> {
 
     Page<SolvedQuiz> findByUserUsernameOrderBySolvedAtDesc(String username, Pageable pageable);
+
+    @Query("SELECT new com.quizapp.model.dto.quiz.SolvedQuizSummaryDTO(sq.id, sq.categoryId, sq.score, sq.maxScore, sq.solvedAt) FROM SolvedQuiz sq WHERE sq.user.id = :userId ORDER BY sq.solvedAt DESC")
+    List<SolvedQuizSummaryDTO> findRecentSummariesByUserId(Long userId, Limit limit);
+
+    @Query("SELECT sq.id FROM SolvedQuiz sq WHERE sq.id > :afterId AND sq.questionSnapshots IS EMPTY AND (sq.snapshotsUnavailable IS NULL OR sq.snapshotsUnavailable = false) ORDER BY sq.id")
+    List<Long> findIdsWithoutSnapshots(Long afterId, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.quizapp.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface UserRepositoryCustom {
+
+    Map<String, Integer> purgeUsers(Collection<Long> userIds);
+}
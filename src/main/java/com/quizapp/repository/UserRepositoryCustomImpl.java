@@ -0,0 +1,56 @@
+package com.quizapp.repository;
+
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Deletes users together with everything that references them using one set-based statement per table,
+ * children first, so no entity or element collection is ever loaded into the persistence context.
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String SOLVED_QUIZZES_OF_USERS =
+            "SELECT sq.id FROM solved_quizzes sq WHERE sq.user_id IN (:userIds)";
+
+    private static final Map<String, String> PURGE_STATEMENTS = new LinkedHashMap<>();
+
+    static {
+        PURGE_STATEMENTS.put("solved_quiz_answers",
+                "DELETE FROM solved_quiz_answers WHERE solved_quiz_id IN (" + SOLVED_QUIZZES_OF_USERS + ")");
+        PURGE_STATEMENTS.put("solved_quiz_questions",
+                "DELETE FROM solved_quiz_questions WHERE solved_quiz_id IN (" + SOLVED_QUIZZES_OF_USERS + ")");
+        PURGE_STATEMENTS.put("solved_quiz_snapshots",
+                "DELETE FROM solved_quiz_snapshots WHERE solved_quiz_id IN (" + SOLVED_QUIZZES_OF_USERS + ")");
+        PURGE_STATEMENTS.put("solved_quizzes", "DELETE FROM solved_quizzes WHERE user_id IN (:userIds)");
+        PURGE_STATEMENTS.put("password_reset_tokens", "DELETE FROM password_reset_tokens WHERE user_id IN (:userIds)");
+        PURGE_STATEMENTS.put("users_roles", "DELETE FROM users_roles WHERE user_id IN (:userIds)");
+        PURGE_STATEMENTS.put("user_statistics", "DELETE FROM user_statistics WHERE user_id IN (:userIds)");
+        PURGE_STATEMENTS.put("users", "DELETE FROM users WHERE id IN (:userIds)");
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    @Transactional
+    public Map<String, Integer> purgeUsers(Collection<Long> userIds) {
+        Map<String, Integer> removedRows = new LinkedHashMap<>();
+
+        if (userIds.isEmpty()) {
+            return removedRows;
+        }
+
+        Map<String, Collection<Long>> params = Map.of("userIds", userIds);
+        PURGE_STATEMENTS.forEach((table, sql) -> removedRows.put(table, this.jdbcTemplate.update(sql, params)));
+
+        return removedRows;
+    }
+}
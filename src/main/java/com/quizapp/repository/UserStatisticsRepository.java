@@ -1,31 +1,48 @@
 package com.quizapp.repository;
 
-import com.quizapp.model.entity.User;
+import com.quizapp.model.dto.user.InactiveUserDTO;
 import com.quizapp.model.entity.UserStatistics;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface UserStatisticsRepository extends JpaRepository<UserStatistics, Long> {
+public interface UserStatisticsRepository extends JpaRepository<UserStatistics, Long>,
+        JpaSpecificationExecutor<UserStatistics>, UserStatisticsRepositoryCustom {
 
-    @Query("SELECT us FROM UserStatistics us WHERE (us.lastSolvedAt < :dateTime OR us.lastSolvedAt IS NULL) AND us.lastSolvingWarningSent = false")
-    List<UserStatistics> findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime dateTime);
+    @Query("SELECT new com.quizapp.model.dto.user.InactiveUserDTO(us.id, u.username, u.email) FROM UserStatistics us JOIN us.user u WHERE (us.lastSolvedAt < :dateTime OR us.lastSolvedAt IS NULL) AND us.lastSolvingWarningSent = false AND us.id > :afterId ORDER BY us.id")
+    List<InactiveUserDTO> findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime dateTime, Long afterId, Limit limit);
 
-    @Query("SELECT us FROM UserStatistics us WHERE us.lastSolvingWarningSent = true AND us.lastSolvingWarningSentAt < :dateTime AND (us.lastSolvedAt IS NULL OR us.lastSolvedAt < us.lastSolvingWarningSentAt)")
-    List<UserStatistics> findWarnedUsersToResendSolvingWarning(LocalDateTime dateTime);
+    @Query("SELECT new com.quizapp.model.dto.user.InactiveUserDTO(us.id, u.username, u.email) FROM UserStatistics us JOIN us.user u WHERE us.lastSolvingWarningSent = true AND us.lastSolvingWarningSentAt < :dateTime AND (us.lastSolvedAt IS NULL OR us.lastSolvedAt < us.lastSolvingWarningSentAt) AND us.id > :afterId ORDER BY us.id")
+    List<InactiveUserDTO> findWarnedUsersToResendSolvingWarning(LocalDateTime dateTime, Long afterId, Limit limit);
 
-    @Query("SELECT us FROM UserStatistics us WHERE (us.lastLoginAt < :dateTime OR us.lastLoginAt IS NULL) AND us.deletionWarningSent = false")
-    List<UserStatistics> findInactiveNotWarned(LocalDateTime dateTime);
+    @Query("SELECT new com.quizapp.model.dto.user.InactiveUserDTO(us.id, u.username, u.email) FROM UserStatistics us JOIN us.user u WHERE (us.lastLoginAt < :dateTime OR us.lastLoginAt IS NULL) AND us.deletionWarningSent = false AND us.id > :afterId ORDER BY us.id")
+    List<InactiveUserDTO> findInactiveNotWarned(LocalDateTime dateTime, Long afterId, Limit limit);
 
-    @Query("SELECT us.user FROM UserStatistics us WHERE us.deletionWarningSent = true AND us.deletionWarningSentAt < :dateTime AND (us.lastLoginAt IS NULL OR us.lastLoginAt < us.deletionWarningSentAt)")
-    List<User> findInactiveLoginUsersWarned(LocalDateTime dateTime);
+    @Modifying
+    @Query("UPDATE UserStatistics us SET us.lastSolvingWarningSent = true, us.lastSolvingWarningSentAt = :sentAt WHERE us.id IN :ids")
+    int markSolvingWarningSent(Collection<Long> ids, LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE UserStatistics us SET us.deletionWarningSent = true, us.deletionWarningSentAt = :sentAt WHERE us.id IN :ids")
+    int markDeletionWarningSent(Collection<Long> ids, LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE UserStatistics us SET us.totalQuizzes = us.totalQuizzes + 1, us.totalCorrectAnswers = us.totalCorrectAnswers + :correctAnswers, us.maxScore = us.maxScore + :totalQuestions, us.averageScore = (us.totalCorrectAnswers + :correctAnswers) * 100.0 / (us.maxScore + :totalQuestions), us.lastSolvedAt = :solvedAt WHERE us.user.id = :userId")
+    int recordSolvedQuiz(Long userId, int correctAnswers, int totalQuestions, LocalDateTime solvedAt);
+
+    @Query("SELECT us.user.id FROM UserStatistics us WHERE us.deletionWarningSent = true AND us.deletionWarningSentAt < :dateTime AND (us.lastLoginAt IS NULL OR us.lastLoginAt < us.deletionWarningSentAt) AND us.user.id > :afterId ORDER BY us.user.id")
+    List<Long> findInactiveLoginUsersWarned(LocalDateTime dateTime, Long afterId, Limit limit);
 
     Page<UserStatistics> findAll(Specification<UserStatistics> spec, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.quizapp.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface UserStatisticsRepositoryCustom {
+
+    int updateLastLoginTimes(Map<String, LocalDateTime> lastLoginByUsername);
+}
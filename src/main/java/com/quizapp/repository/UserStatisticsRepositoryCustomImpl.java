@@ -0,0 +1,82 @@
+package com.quizapp.repository;
+
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Applies buffered login timestamps in bulk, in username order. A timestamp only moves
+ * {@code last_login_at} forward, so a late flush can never overwrite a newer login.
+ */
+public class UserStatisticsRepositoryCustomImpl implements UserStatisticsRepositoryCustom {
+
+    private static final int ROWS_PER_STATEMENT = 1000;
+
+    private static final String POSTGRES_UPDATE = """
+            UPDATE user_statistics us SET last_login_at = v.ts
+            FROM (VALUES %s) AS v (username, ts), users u
+            WHERE u.username = v.username AND us.user_id = u.id
+                AND (us.last_login_at IS NULL OR us.last_login_at < v.ts)
+            """;
+
+    private static final String SINGLE_ROW_UPDATE = """
+            UPDATE user_statistics SET last_login_at = ?
+            WHERE user_id = (SELECT u.id FROM users u WHERE u.username = ?)
+                AND (last_login_at IS NULL OR last_login_at < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+
+    public UserStatisticsRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = DatabaseDialects.isPostgres(jdbcTemplate);
+    }
+
+    @Override
+    @Transactional
+    public int updateLastLoginTimes(Map<String, LocalDateTime> lastLoginByUsername) {
+        if (lastLoginByUsername.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<String, LocalDateTime>> entries = new ArrayList<>(new TreeMap<>(lastLoginByUsername).entrySet());
+
+        return this.postgres ? this.updateWithValuesList(entries) : this.updateWithBatch(entries);
+    }
+
+    private int updateWithValuesList(List<Map.Entry<String, LocalDateTime>> entries) {
+        int updated = 0;
+
+        for (int from = 0; from < entries.size(); from += ROWS_PER_STATEMENT) {
+            List<Map.Entry<String, LocalDateTime>> chunk =
+                    entries.subList(from, Math.min(from + ROWS_PER_STATEMENT, entries.size()));
+
+            String values = String.join(", ", Collections.nCopies(chunk.size(), "(?, CAST(? AS TIMESTAMP))"));
+            Object[] args = chunk.stream()
+                    .flatMap(entry -> Arrays.stream(new Object[]{entry.getKey(), Timestamp.valueOf(entry.getValue())}))
+                    .toArray();
+
+            updated += this.jdbcTemplate.update(POSTGRES_UPDATE.formatted(values), args);
+        }
+
+        return updated;
+    }
+
+    private int updateWithBatch(List<Map.Entry<String, LocalDateTime>> entries) {
+        List<Object[]> batchArgs = entries.stream()
+                .map(entry -> new Object[]{
+                        Timestamp.valueOf(entry.getValue()),
+                        entry.getKey(),
+                        Timestamp.valueOf(entry.getValue())
+                })
+                .toList();
+
+        return Arrays.stream(this.jdbcTemplate.batchUpdate(SINGLE_ROW_UPDATE, batchArgs))
+                .map(rows -> Math.max(rows, 0))
+                .sum();
+    }
+}
@@ -0,0 +1,88 @@
+package com.quizapp.repository.spec;
+
+import com.quizapp.service.paging.KeysetCursor;
+import com.quizapp.service.paging.KeysetSort;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class KeysetSpecifications {
+
+    /**
+     * Orders by the sort attribute and id, and when a cursor is given seeks past its boundary row instead of
+     * skipping an offset. Backward cursors read in reverse order; callers flip the rows back.
+     */
+    public static <T> Specification<T> seek(KeysetSort sort, KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            boolean backward = cursor != null && cursor.backward();
+            boolean descending = sort.descending() != backward;
+            Path<Long> id = root.get("id");
+
+            List<Order> orders = new ArrayList<>();
+            if (sort.hasAttribute()) {
+                Path<Comparable<Object>> value = root.get(sort.attribute());
+
+                if (sort.nullable()) {
+                    orders.add(backward ? cb.desc(cb.isNull(value)) : cb.asc(cb.isNull(value)));
+                }
+                orders.add(descending ? cb.desc(value) : cb.asc(value));
+            }
+            orders.add(descending ? cb.desc(id) : cb.asc(id));
+            query.orderBy(orders);
+
+            if (cursor == null) {
+                return null;
+            }
+
+            Predicate idPasses = passes(cb, id, cursor.id(), descending);
+            if (!sort.hasAttribute()) {
+                return idPasses;
+            }
+
+            Path<Comparable<Object>> value = root.get(sort.attribute());
+
+            if (cursor.value() == null) {
+                return backward
+                        ? cb.or(cb.isNotNull(value), cb.and(cb.isNull(value), idPasses))
+                        : cb.and(cb.isNull(value), idPasses);
+            }
+
+            Comparable<Object> boundary = parse(value.getJavaType(), cursor.value());
+            Predicate seek = cb.or(passes(cb, value, boundary, descending),
+                    cb.and(cb.equal(value, boundary), idPasses));
+
+            return sort.nullable() && !backward ? cb.or(seek, cb.isNull(value)) : seek;
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate passes(CriteriaBuilder cb, Expression<Y> expression,
+                                                                     Y boundary, boolean descending) {
+        return descending ? cb.lessThan(expression, boundary) : cb.greaterThan(expression, boundary);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> parse(Class<?> type, String value) {
+        Object parsed;
+
+        if (type == Integer.class || type == int.class) {
+            parsed = Integer.valueOf(value);
+        } else if (type == Long.class || type == long.class) {
+            parsed = Long.valueOf(value);
+        } else if (type == Double.class || type == double.class) {
+            parsed = Double.valueOf(value);
+        } else if (type == LocalDateTime.class) {
+            parsed = LocalDateTime.parse(value);
+        } else {
+            parsed = value;
+        }
+
+        return (Comparable<Object>) parsed;
+    }
+}
@@ -1,8 +1,11 @@
 package com.quizapp.repository.spec;
 
 import com.quizapp.model.entity.QuestionStatistics;
+import com.quizapp.repository.QuestionTextSearchFunctions;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+
 public class QuestionStatisticsSpecifications {
 
     public static Specification<QuestionStatistics> hasQuestionText(String questionText) {
@@ -12,6 +15,22 @@ public class QuestionStatisticsSpecifications {
                         : cb.like(cb.lower(root.get("questionText")), "%" + questionText.trim().toLowerCase() + "%");
     }
 
+    public static Specification<QuestionStatistics> hasQuestionIdIn(Collection<Long> questionIds) {
+        return (root, query, cb) ->
+                questionIds.isEmpty()
+                        ? cb.disjunction()
+                        : root.get("questionId").in(questionIds);
+    }
+
+    /**
+     * PostgreSQL only; {@code prefixQuery} is a {@code to_tsquery} expression, matched through the function
+     * registered by {@link QuestionTextSearchFunctions}.
+     */
+    public static Specification<QuestionStatistics> matchesTextQuery(String prefixQuery) {
+        return (root, query, cb) -> cb.isTrue(cb.function(QuestionTextSearchFunctions.MATCHES_TEXT_QUERY,
+                Boolean.class, root.get("questionText"), cb.literal(prefixQuery)));
+    }
+
     public static Specification<QuestionStatistics> hasCategory(Long categoryId) {
         return (root, query, cb) ->
                 categoryId == null
@@ -0,0 +1,11 @@
+package com.quizapp.repository.spec;
+
+import com.quizapp.model.entity.SolvedQuiz;
+import org.springframework.data.jpa.domain.Specification;
+
+public class SolvedQuizSpecifications {
+
+    public static Specification<SolvedQuiz> solvedBy(String username) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("username"), username);
+    }
+}
@@ -1,6 +1,7 @@
 package com.quizapp.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizapp.exception.QuestionsApiUnavailableException;
 import com.quizapp.model.dto.*;
 import com.quizapp.model.dto.category.AddCategoryDTO;
 import com.quizapp.model.dto.category.CategoryDTO;
@@ -8,12 +9,18 @@ import com.quizapp.model.dto.category.CategoryPageDTO;
 import com.quizapp.model.dto.category.UpdateCategoryDTO;
 import com.quizapp.model.rest.CategoryApiDTO;
 import com.quizapp.model.entity.Result;
+import com.quizapp.service.events.CategoryChangedEvent;
 import com.quizapp.service.interfaces.CategoryService;
+import com.quizapp.service.remote.QuestionsApiEndpoint;
+import com.quizapp.service.remote.QuestionsApiGuard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -23,7 +30,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
+    private static final String UNAVAILABLE_MESSAGE = "Услугата за въпроси е временно недостъпна. Опитайте отново по-късно.";
+
     private final RestClient restClient;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final QuestionsApiGuard questionsApiGuard;
 
     @Override
     public CategoryPageDTO<CategoryDTO> getAllCategories(String categoryName, int page, int size) {
@@ -67,12 +78,16 @@ public class CategoryServiceImpl implements CategoryService {
     public Result addCategory(AddCategoryDTO addCategoryDTO) {
         try {
             this.makePostRequest(addCategoryDTO);
+            this.applicationEventPublisher.publishEvent(new CategoryChangedEvent(this, null));
+
             return new Result(true, "Успешно добавихте категория " + addCategoryDTO.getName());
 
         } catch (HttpClientErrorException e) {
 
             String errorMessage = this.extractErrorMessage(e);
             return new Result(false, errorMessage);
+        } catch (QuestionsApiUnavailableException | ResourceAccessException | HttpServerErrorException e) {
+            return new Result(false, UNAVAILABLE_MESSAGE);
         }
     }
 
@@ -80,11 +95,15 @@ public class CategoryServiceImpl implements CategoryService {
     public Result updateCategory(Long id, UpdateCategoryDTO updateCategoryDTO) {
         try {
             this.makePutRequest(id, updateCategoryDTO);
+            this.applicationEventPublisher.publishEvent(new CategoryChangedEvent(this, id));
+
             return new Result(true, "Успешно редактирахте категория " + updateCategoryDTO.getName());
 
         } catch (HttpClientErrorException e) {
             String errorMessage = this.extractErrorMessage(e);
             return new Result(false, errorMessage);
+        } catch (QuestionsApiUnavailableException | ResourceAccessException | HttpServerErrorException e) {
+            return new Result(false, UNAVAILABLE_MESSAGE);
         }
     }
 
@@ -109,10 +128,10 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     private CategoryApiDTO makeGetRequestById(Long id) {
-        return this.restClient.get()
+        return this.questionsApiGuard.call(QuestionsApiEndpoint.CATEGORIES, () -> this.restClient.get()
                 .uri("/api/categories/{id}", id)
                 .retrieve()
-                .body(CategoryApiDTO.class);
+                .body(CategoryApiDTO.class));
     }
 
     private CategoryPageDTO<CategoryApiDTO> makeGetRequestAll(String categoryName, int page, int size) {
@@ -125,25 +144,25 @@ public class CategoryServiceImpl implements CategoryService {
             uriBuilder.queryParam("categoryName", categoryName);
         }
 
-        return this.restClient.get()
+        return this.questionsApiGuard.call(QuestionsApiEndpoint.CATEGORIES, () -> this.restClient.get()
                 .uri(uriBuilder.toUriString())
                 .retrieve()
-                .body(new ParameterizedTypeReference<>() {});
+                .body(new ParameterizedTypeReference<>() {}));
     }
 
     private ResponseEntity<Void> makePostRequest(AddCategoryDTO addCategoryDTO) {
-        return this.restClient.post()
+        return this.questionsApiGuard.call(QuestionsApiEndpoint.WRITES, () -> this.restClient.post()
                 .uri("/api/categories")
                 .body(addCategoryDTO)
                 .retrieve()
-                .toBodilessEntity();
+                .toBodilessEntity());
     }
 
     private ResponseEntity<Void> makePutRequest(Long id, UpdateCategoryDTO updateCategoryDTO) {
-        return this.restClient.put()
+        return this.questionsApiGuard.call(QuestionsApiEndpoint.WRITES, () -> this.restClient.put()
                 .uri("/api/categories/{id}", id)
                 .body(updateCategoryDTO)
                 .retrieve()
-                .toBodilessEntity();
+                .toBodilessEntity());
     }
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.quizapp.service;
 
-import com.quizapp.exception.CategoryStatisticsNotFound;
+import com.quizapp.model.dto.KeysetPageDTO;
 import com.quizapp.model.dto.category.CategoryStatsDTO;
 import com.quizapp.model.entity.CategoryStatistics;
+import com.quizapp.model.enums.CategorySortField;
 import com.quizapp.repository.CategoryStatisticsRepository;
 import com.quizapp.repository.spec.CategoryStatisticsSpecifications;
-import com.quizapp.service.interfaces.CategoryService;
 import com.quizapp.service.interfaces.CategoryStatisticsService;
+import com.quizapp.service.paging.KeysetPager;
+import com.quizapp.service.paging.KeysetSort;
+import com.quizapp.service.stats.StatisticsDeltaBuffer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,7 +21,8 @@ import org.springframework.stereotype.Service;
 public class CategoryStatisticsServiceImpl implements CategoryStatisticsService {
 
     private final CategoryStatisticsRepository categoryStatisticsRepository;
-    private final CategoryService categoryService;
+    private final StatisticsDeltaBuffer statisticsDeltaBuffer;
+    private final KeysetPager keysetPager;
 
     @Override
     public Page<CategoryStatsDTO> getAllCategoriesFiltered(Long categoryId, Pageable pageable) {
@@ -29,6 +33,19 @@ public class CategoryStatisticsServiceImpl implements CategoryStatisticsService
                 .map(this::mapStatsToDTO);
     }
 
+    @Override
+    public KeysetPageDTO<CategoryStatsDTO> getCategoryStatisticsPage(Long categoryId, CategorySortField sortBy,
+                                                                     String cursor, int size) {
+        KeysetSort sort = sortBy == null
+                ? KeysetSort.byId()
+                : KeysetSort.descending(sortBy.name(), sortBy.getFieldName());
+
+        return this.keysetPager.read(this.categoryStatisticsRepository,
+                        Specification.allOf(CategoryStatisticsSpecifications.hasCategory(categoryId)),
+                        sort, cursor, size, "category-statistics:" + categoryId)
+                .map(this::mapStatsToDTO);
+    }
+
     private CategoryStatsDTO mapStatsToDTO(CategoryStatistics categoryStatistics) {
         return CategoryStatsDTO.builder()
                 .categoryId(categoryStatistics.getCategoryId())
@@ -45,54 +62,11 @@ public class CategoryStatisticsServiceImpl implements CategoryStatisticsService
 
     @Override
     public void increaseStartedQuizzes(Long categoryId) {
-        CategoryStatistics categoryStatistics = categoryStatisticsRepository.findByCategoryId(categoryId)
-                .orElseGet(() -> this.createNewStatistics(categoryId));
-
-        categoryStatistics.setTotalStartedQuizzes(categoryStatistics.getTotalStartedQuizzes() + 1);
-
-        int completed = categoryStatistics.getTotalCompletedQuizzes();
-        int started = categoryStatistics.getTotalStartedQuizzes();
-        if (started > 0) {
-            categoryStatistics.setCompletionRate((completed * 100.0) / started);
-        }
-
-        this.categoryStatisticsRepository.saveAndFlush(categoryStatistics);
-    }
-
-    private CategoryStatistics createNewStatistics(Long categoryId) {
-        return CategoryStatistics.builder()
-                .categoryId(categoryId)
-                .categoryName(this.categoryService.getCategoryNameById(categoryId))
-                .totalStartedQuizzes(0)
-                .totalCompletedQuizzes(0)
-                .totalCorrectAnswers(0)
-                .totalQuestions(0)
-                .averageAccuracy(0)
-                .completionRate(0)
-                .build();
+        this.statisticsDeltaBuffer.recordQuizStarted(categoryId);
     }
 
     @Override
     public void updateOnQuizCompleted(Long categoryId, int correctAnswers, int totalQuestions) {
-        CategoryStatistics stats = categoryStatisticsRepository
-                .findByCategoryId(categoryId)
-                .orElseThrow(() -> new CategoryStatisticsNotFound("Не е намерена статистика за тази категория."));
-
-        stats.setTotalCompletedQuizzes(stats.getTotalCompletedQuizzes() + 1);
-
-        stats.setTotalQuestions(stats.getTotalQuestions() + totalQuestions);
-
-        stats.setTotalCorrectAnswers(stats.getTotalCorrectAnswers() + correctAnswers);
-
-        double newAverageAccuracy = (stats.getTotalCorrectAnswers() * 100.00) / stats.getTotalQuestions();
-        stats.setAverageAccuracy(newAverageAccuracy);
-
-        int started = stats.getTotalStartedQuizzes();
-        if (started > 0) {
-            double completionRate = (stats.getTotalCompletedQuizzes() * 100.00) / started;
-            stats.setCompletionRate(completionRate);
-        }
-
-        this.categoryStatisticsRepository.saveAndFlush(stats);
+        this.statisticsDeltaBuffer.recordQuizCompleted(categoryId, correctAnswers, totalQuestions);
     }
-}
\ No newline at end of file
+}
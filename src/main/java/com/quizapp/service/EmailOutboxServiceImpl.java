@@ -0,0 +1,121 @@
+package com.quizapp.service;
+
+import com.quizapp.model.entity.EmailOutboxMessage;
+import com.quizapp.model.enums.EmailOutboxStatus;
+import com.quizapp.repository.EmailOutboxRepository;
+import com.quizapp.service.interfaces.EmailOutboxService;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stores outgoing emails in the {@code email_outbox} table. Rows written inside a business transaction are
+ * only sent once that transaction commits. Claimed rows are leased for {@code email.outbox.lease}, so rows
+ * left behind by a crashed worker are picked up again. Failed sends are retried with exponential backoff
+ * until {@code email.outbox.max-attempts} is reached, after which the row is marked {@link EmailOutboxStatus#DEAD}.
+ */
+@Service
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private static final List<EmailOutboxStatus> UNSENT = List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public EmailOutboxServiceImpl(EmailOutboxRepository emailOutboxRepository,
+                                  @Value("${email.outbox.max-attempts:6}") int maxAttempts,
+                                  @Value("${email.outbox.initial-backoff:30s}") Duration initialBackoff,
+                                  @Value("${email.outbox.max-backoff:1h}") Duration maxBackoff,
+                                  @Value("${email.outbox.lease:5m}") Duration lease) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    @Override
+    public void enqueue(String sendTo, String subject, String content, String replyTo) {
+        LocalDateTime now = LocalDateTime.now();
+
+        EmailOutboxMessage message = EmailOutboxMessage.builder()
+                .recipient(sendTo)
+                .subject(subject)
+                .content(content)
+                .replyTo(replyTo)
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+
+        this.emailOutboxRepository.save(message);
+    }
+
+    @Override
+    @Transactional
+    public List<EmailOutboxMessage> claimDueMessages(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<EmailOutboxMessage> messages = this.emailOutboxRepository
+                .findDueForUpdate(UNSENT, now, PageRequest.of(0, batchSize));
+
+        messages.forEach(message -> {
+            message.setStatus(EmailOutboxStatus.SENDING);
+            message.setNextAttemptAt(now.plus(this.lease));
+        });
+
+        return this.emailOutboxRepository.saveAll(messages);
+    }
+
+    @Override
+    @Transactional
+    public void markSent(Collection<Long> messageIds) {
+        if (!messageIds.isEmpty()) {
+            this.emailOutboxRepository.markSent(messageIds, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(Long messageId, String error) {
+        this.emailOutboxRepository.findById(messageId).ifPresent(message -> {
+            int attempts = message.getAttempts() + 1;
+
+            message.setAttempts(attempts);
+            message.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                    ? error.substring(0, MAX_ERROR_LENGTH)
+                    : error);
+
+            if (attempts >= this.maxAttempts) {
+                message.setStatus(EmailOutboxStatus.DEAD);
+            } else {
+                message.setStatus(EmailOutboxStatus.PENDING);
+                message.setNextAttemptAt(LocalDateTime.now().plus(this.backoff(attempts)));
+            }
+
+            this.emailOutboxRepository.save(message);
+        });
+    }
+
+    @Override
+    public long countPending() {
+        return this.emailOutboxRepository.countByStatusIn(UNSENT);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = this.initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+
+        return backoff.compareTo(this.maxBackoff) > 0 ? this.maxBackoff : backoff;
+    }
+}
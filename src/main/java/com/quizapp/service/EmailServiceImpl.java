@@ -1,11 +1,8 @@
 package com.quizapp.service;
 
+import com.quizapp.service.interfaces.EmailOutboxService;
 import com.quizapp.service.interfaces.EmailService;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
@@ -16,13 +13,13 @@ import java.util.Map;
 public class EmailServiceImpl implements EmailService {
 
     private final TemplateEngine templateEngine;
-    private final JavaMailSender javaMailSender;
+    private final EmailOutboxService emailOutboxService;
     private final String email;
 
-    public EmailServiceImpl(TemplateEngine templateEngine, JavaMailSender javaMailSender,
+    public EmailServiceImpl(TemplateEngine templateEngine, EmailOutboxService emailOutboxService,
                             @Value("${mail.quiz_app}") String email) {
         this.templateEngine = templateEngine;
-        this.javaMailSender = javaMailSender;
+        this.emailOutboxService = emailOutboxService;
         this.email = email;
     }
 
@@ -145,20 +142,7 @@ public class EmailServiceImpl implements EmailService {
     }
 
     private void sendEmail(String sendTo, String subject, String content, String replyTo) {
-        try {
-            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage);
-
-            mimeMessageHelper.setTo(sendTo);
-            mimeMessageHelper.setFrom(this.email);
-            mimeMessageHelper.setReplyTo(replyTo);
-            mimeMessageHelper.setSubject(subject);
-            mimeMessageHelper.setText(content, true);
-
-            javaMailSender.send(mimeMessage);
-        } catch (MessagingException e) {
-            throw new RuntimeException("Грешка при изпращане на имейл: " + e.getMessage(), e);
-        }
+        this.emailOutboxService.enqueue(sendTo, subject, content, replyTo);
     }
 
     private String generateEmailContent(String templatePath, Map<String, Object> variables) {
@@ -5,12 +5,13 @@ import com.quizapp.model.dto.quiz.QuizDTO;
 import com.quizapp.model.dto.quiz.QuizResultDTO;
 import com.quizapp.model.dto.quiz.QuizSubmissionDTO;
 import com.quizapp.model.entity.Quiz;
+import com.quizapp.service.evaluation.QuizEvaluation;
 import com.quizapp.service.interfaces.CategoryStatisticsService;
 import com.quizapp.service.interfaces.GuestQuizService;
 import com.quizapp.service.interfaces.QuestionStatisticsService;
+import com.quizapp.service.session.QuizSessionStore;
 import com.quizapp.service.utils.AbstractQuizHelper;
-import com.quizapp.service.utils.GuestQuizStorage;
-import com.quizapp.service.utils.TempQuizStorage;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -20,33 +21,35 @@ import java.util.*;
 @Service
 public class GuestQuizServiceImpl extends AbstractQuizHelper implements GuestQuizService {
 
-    private final GuestQuizStorage guestQuizStorage;
+    private final QuizSessionStore<QuizDTO> guestQuizStore;
     private final CategoryStatisticsService categoryStatisticsService;
     private final QuestionStatisticsService questionStatisticsService;
 
-    public GuestQuizServiceImpl(TempQuizStorage tempQuizStorage, GuestQuizStorage guestQuizStorage,
+    public GuestQuizServiceImpl(QuizSessionStore<Quiz> tempQuizStore, QuizSessionStore<QuizDTO> guestQuizStore,
                                 CategoryStatisticsService categoryStatisticsService,
                                 QuestionStatisticsService questionStatisticsService) {
-        super(tempQuizStorage);
-        this.guestQuizStorage = guestQuizStorage;
+        super(tempQuizStore);
+        this.guestQuizStore = guestQuizStore;
         this.categoryStatisticsService = categoryStatisticsService;
         this.questionStatisticsService = questionStatisticsService;
     }
 
     @Override
+    @Transactional
     public void evaluateQuiz(QuizSubmissionDTO quizSubmissionDTO) {
         Quiz quiz = super.loadTempQuiz(quizSubmissionDTO.getViewToken());
+        QuizEvaluation evaluation = super.evaluate(quizSubmissionDTO.getViewToken(), quiz,
+                quizSubmissionDTO.getAnswers());
+        super.claimTempQuiz(quizSubmissionDTO.getViewToken(), quiz);
 
-        this.questionStatisticsService.updateOnQuizCompleted(quiz, quizSubmissionDTO.getAnswers());
+        this.questionStatisticsService.updateOnQuizCompleted(quiz, evaluation);
 
-        super.removeTempQuiz(quizSubmissionDTO.getViewToken());
-
-        this.saveQuizResult(quiz, quizSubmissionDTO.getAnswers());
+        this.saveQuizResult(quiz, quizSubmissionDTO.getAnswers(), evaluation);
     }
 
     @Override
     public QuizResultDTO getQuizResult(String viewToken) {
-        QuizDTO quizDTO = this.guestQuizStorage.get(viewToken);
+        QuizDTO quizDTO = this.guestQuizStore.get(viewToken);
 
         if (quizDTO == null) {
             throw new QuizNotFoundException("Куизът не е намерен.");
@@ -60,19 +63,18 @@ public class GuestQuizServiceImpl extends AbstractQuizHelper implements GuestQui
                 .build();
     }
 
-    private void saveQuizResult(Quiz quiz, Map<Long, String> userAnswers) {
+    private void saveQuizResult(Quiz quiz, Map<Long, String> userAnswers, QuizEvaluation evaluation) {
 
-        int totalQuestions = quiz.getQuestions().size();
-        long correctAnswers = super.getCorrectAnswers(quiz, userAnswers);
-        double scorePercent = ((double) correctAnswers / totalQuestions) * 100;
+        int totalQuestions = evaluation.getTotalQuestions();
+        int correctAnswers = evaluation.getCorrectAnswers();
 
-        this.categoryStatisticsService.updateOnQuizCompleted(quiz.getCategoryId(), (int) correctAnswers, totalQuestions);
+        this.categoryStatisticsService.updateOnQuizCompleted(quiz.getCategoryId(), correctAnswers, totalQuestions);
 
         QuizDTO quizDTO = QuizDTO.builder()
                 .viewToken(quiz.getViewToken())
-                .correctAnswers((int) correctAnswers)
+                .correctAnswers(correctAnswers)
                 .totalQuestions(totalQuestions)
-                .scorePercent(scorePercent)
+                .scorePercent(evaluation.getScorePercent())
                 .categoryName(quiz.getCategoryName())
                 .solvedAt(LocalDateTime.now())
                 .expireAt(quiz.getExpireAt())
@@ -80,12 +82,12 @@ public class GuestQuizServiceImpl extends AbstractQuizHelper implements GuestQui
                 .userAnswers(userAnswers)
                 .build();
 
-        this.guestQuizStorage.put(quiz.getViewToken(), quizDTO);
+        this.guestQuizStore.put(quiz.getViewToken(), quizDTO);
     }
 
     @Override
     public QuizDTO showQuizResult(String viewToken) {
-        QuizDTO quizDTO = this.guestQuizStorage.get(viewToken);
+        QuizDTO quizDTO = this.guestQuizStore.get(viewToken);
 
         if (quizDTO == null) {
             throw new QuizNotFoundException("Куизът не е намерен.");
@@ -98,7 +100,7 @@ public class GuestQuizServiceImpl extends AbstractQuizHelper implements GuestQui
     public String deleteExpiredGuestQuizzes() {
         LocalDateTime now = LocalDateTime.now();
 
-        this.guestQuizStorage.deleteExpiredQuizzes(now);
+        this.guestQuizStore.deleteExpiredQuizzes(now);
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss");
 
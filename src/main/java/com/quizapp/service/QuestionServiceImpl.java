@@ -1,6 +1,8 @@
 package com.quizapp.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizapp.config.QuestionsApiConfig;
+import com.quizapp.exception.QuestionsApiUnavailableException;
 import com.quizapp.model.dto.*;
 import com.quizapp.model.dto.question.AddQuestionDTO;
 import com.quizapp.model.dto.question.QuestionDTO;
@@ -8,23 +10,56 @@ import com.quizapp.model.dto.question.QuestionPageDTO;
 import com.quizapp.model.dto.question.UpdateQuestionDTO;
 import com.quizapp.model.rest.QuestionApiDTO;
 import com.quizapp.model.entity.Result;
+import com.quizapp.service.cache.QuestionByIdCache;
+import com.quizapp.service.events.QuestionChangedEvent;
 import com.quizapp.service.interfaces.QuestionService;
-import lombok.RequiredArgsConstructor;
+import com.quizapp.service.remote.QuestionsApiEndpoint;
+import com.quizapp.service.remote.QuestionsApiGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class QuestionServiceImpl implements QuestionService {
 
+    private static final String UNAVAILABLE_MESSAGE = "Услугата за въпроси е временно недостъпна. Опитайте отново по-късно.";
+
     private final RestClient restClient;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final QuestionsApiGuard questionsApiGuard;
+    private final QuestionByIdCache questionByIdCache;
+    private final QuestionsApiConfig questionsApiConfig;
+    private final Executor questionLookupExecutor;
+
+    private final AtomicBoolean batchLookupSupported = new AtomicBoolean(true);
+
+    public QuestionServiceImpl(RestClient restClient, ApplicationEventPublisher applicationEventPublisher,
+                               QuestionsApiGuard questionsApiGuard, QuestionByIdCache questionByIdCache,
+                               QuestionsApiConfig questionsApiConfig,
+                               @Qualifier("questionLookupExecutor") Executor questionLookupExecutor) {
+        this.restClient = restClient;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.questionsApiGuard = questionsApiGuard;
+        this.questionByIdCache = questionByIdCache;
+        this.questionsApiConfig = questionsApiConfig;
+        this.questionLookupExecutor = questionLookupExecutor;
+    }
 
     @Override
     public QuestionPageDTO<QuestionDTO> getAllQuestions(String questionText, Long categoryId, Pageable pageable) {
@@ -47,24 +82,123 @@ public class QuestionServiceImpl implements QuestionService {
 
     @Override
     public QuestionDTO getQuestionById(Long id) {
-        try {
-            QuestionApiDTO questionApiDTO = this.makeGetRequestById(id);
+        return this.getQuestionsByIds(Collections.singletonList(id)).get(0);
+    }
+
+    @Override
+    public List<QuestionDTO> getQuestionsByIds(List<Long> ids) {
+        Map<Long, QuestionDTO> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        new LinkedHashSet<>(ids).stream()
+                .filter(Objects::nonNull)
+                .forEach(id -> {
+                    QuestionDTO cached = this.questionByIdCache.get(id);
+
+                    if (cached == null) {
+                        missing.add(id);
+                    } else {
+                        found.put(id, cached);
+                    }
+                });
+
+        if (!missing.isEmpty()) {
+            try {
+                this.fetchQuestions(missing).forEach(question -> {
+                    this.questionByIdCache.put(question);
+                    found.put(question.getId(), question);
+                });
+            } catch (RuntimeException e) {
+                this.resolveStale(missing, found, e);
+            }
+        }
+
+        return ids.stream()
+                .map(id -> id == null ? null : found.get(id))
+                .toList();
+    }
+
+    private void resolveStale(List<Long> missing, Map<Long, QuestionDTO> found, RuntimeException cause) {
+        if (!QuestionsApiGuard.isUnavailable(cause)) {
+            throw cause;
+        }
+
+        for (Long id : missing) {
+            QuestionDTO stale = this.questionByIdCache.getStale(id);
+
+            if (stale == null) {
+                throw cause;
+            }
+
+            found.put(id, stale);
+        }
+
+        log.warn("Serving {} cached questions while the questions API is unavailable: {}",
+                missing.size(), cause.getMessage());
+    }
+
+    private List<QuestionDTO> fetchQuestions(List<Long> ids) {
+        if (ids.size() == 1) {
+            QuestionDTO question = this.fetchQuestion(ids.get(0));
+            return question == null ? List.of() : List.of(question);
+        }
+
+        String batchLookupPath = this.questionsApiConfig.getBatchLookupPath();
+
+        if (batchLookupPath != null && !batchLookupPath.isBlank() && this.batchLookupSupported.get()) {
+            try {
+                return Arrays.stream(this.makeGetRequestByIds(batchLookupPath, ids))
+                        .map(this::mapQuestionApiToDTO)
+                        .toList();
+            } catch (HttpClientErrorException.NotFound | HttpClientErrorException.MethodNotAllowed e) {
+                log.info("Questions API has no batch lookup at {}, falling back to parallel lookups", batchLookupPath);
+                this.batchLookupSupported.set(false);
+            }
+        }
+
+        List<CompletableFuture<QuestionDTO>> lookups = ids.stream()
+                .map(id -> CompletableFuture.supplyAsync(() -> this.fetchQuestion(id), this.questionLookupExecutor))
+                .toList();
+
+        return lookups.stream()
+                .map(this::await)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-            return this.mapQuestionApiToDTO(questionApiDTO);
+    private QuestionDTO fetchQuestion(Long id) {
+        try {
+            return this.mapQuestionApiToDTO(this.makeGetRequestById(id));
         } catch (HttpClientErrorException.NotFound e) {
             return null;
         }
     }
 
+    private QuestionDTO await(CompletableFuture<QuestionDTO> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     @Override
     public Result addQuestion(AddQuestionDTO addQuestionDTO) {
         try {
             this.makePostRequest(addQuestionDTO);
+            this.applicationEventPublisher.publishEvent(
+                    new QuestionChangedEvent(this, null, addQuestionDTO.getCategoryId()));
+
             return new Result(true, "Успешно добавихте въпрос.");
 
         } catch (HttpClientErrorException e) {
             String errorMessage = this.extractErrorMessage(e);
             return new Result(false, errorMessage);
+        } catch (QuestionsApiUnavailableException | ResourceAccessException | HttpServerErrorException e) {
+            return new Result(false, UNAVAILABLE_MESSAGE);
         }
     }
 
@@ -72,11 +206,15 @@ public class QuestionServiceImpl implements QuestionService {
     public Result updateQuestion(Long id, UpdateQuestionDTO updateQuestionDTO) {
         try {
             this.makePutRequest(id, updateQuestionDTO);
+            this.applicationEventPublisher.publishEvent(new QuestionChangedEvent(this, id, null));
+
             return new Result(true, "Успешно редактирахте въпрос.");
 
         } catch (HttpClientErrorException e) {
             String errorMessage = this.extractErrorMessage(e);
             return new Result(false, errorMessage);
+        } catch (QuestionsApiUnavailableException | ResourceAccessException | HttpServerErrorException e) {
+            return new Result(false, UNAVAILABLE_MESSAGE);
         }
     }
 
@@ -104,10 +242,21 @@ public class QuestionServiceImpl implements QuestionService {
 
     @Override
     public QuestionApiDTO makeGetRequestById(Long id) {
-        return this.restClient.get()
+        return this.questionsApiGuard.call(QuestionsApiEndpoint.QUESTION_BY_ID, () -> this.restClient.get()
                 .uri("/api/questions/{id}", id)
                 .retrieve()
-                .body(QuestionApiDTO.class);
+                .body(QuestionApiDTO.class));
+    }
+
+    private QuestionApiDTO[] makeGetRequestByIds(String batchLookupPath, List<Long> ids) {
+        String uri = UriComponentsBuilder.fromUriString(batchLookupPath)
+                .queryParam("ids", ids.toArray())
+                .toUriString();
+
+        return this.questionsApiGuard.call(QuestionsApiEndpoint.QUESTION_BY_ID, () -> this.restClient.get()
+                .uri(uri)
+                .retrieve()
+                .body(QuestionApiDTO[].class));
     }
 
     public QuestionPageDTO<QuestionApiDTO> makeGetRequestAll(String questionText, Long categoryId, int page, int size) {
@@ -124,33 +273,33 @@ public class QuestionServiceImpl implements QuestionService {
             uriBuilder.queryParam("categoryId", categoryId);
         }
 
-        return this.restClient.get()
+        return this.questionsApiGuard.call(QuestionsApiEndpoint.QUESTIONS_BY_CATEGORY, () -> this.restClient.get()
                 .uri(uriBuilder.toUriString())
                 .retrieve()
-                .body(new ParameterizedTypeReference<>() {});
+                .body(new ParameterizedTypeReference<>() {}));
     }
 
     private ResponseEntity<Void> makePostRequest(AddQuestionDTO addQuestionDTO) {
-        return this.restClient.post()
+        return this.questionsApiGuard.call(QuestionsApiEndpoint.WRITES, () -> this.restClient.post()
                 .uri("/api/questions")
                 .body(addQuestionDTO)
                 .retrieve()
-                .toBodilessEntity();
+                .toBodilessEntity());
     }
 
     private ResponseEntity<Void> makePutRequest(Long id, UpdateQuestionDTO updateQuestionDTO) {
-        return this.restClient.put()
+        return this.questionsApiGuard.call(QuestionsApiEndpoint.WRITES, () -> this.restClient.put()
                 .uri("/api/questions/{id}", id)
                 .body(updateQuestionDTO)
                 .retrieve()
-                .toBodilessEntity();
+                .toBodilessEntity());
     }
 
     @Override
     public QuestionApiDTO[] makeGetRequestByCategoryId(Long categoryId) {
-        return this.restClient.get()
+        return this.questionsApiGuard.call(QuestionsApiEndpoint.QUESTIONS_BY_CATEGORY, () -> this.restClient.get()
                 .uri("/api/questions/category/{id}", categoryId)
                 .retrieve()
-                .body(QuestionApiDTO[].class);
+                .body(QuestionApiDTO[].class));
     }
 }
\ No newline at end of file
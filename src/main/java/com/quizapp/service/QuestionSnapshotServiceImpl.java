@@ -0,0 +1,214 @@
+package com.quizapp.service;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import com.quizapp.model.entity.QuestionSnapshot;
+import com.quizapp.model.entity.SolvedQuiz;
+import com.quizapp.repository.QuestionSnapshotRepository;
+import com.quizapp.repository.SolvedQuizRepository;
+import com.quizapp.service.interfaces.QuestionService;
+import com.quizapp.service.interfaces.QuestionSnapshotService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuestionSnapshotServiceImpl implements QuestionSnapshotService {
+
+    static final int BACKFILL_CHUNK_SIZE = 100;
+
+    private final QuestionSnapshotRepository questionSnapshotRepository;
+    private final SolvedQuizRepository solvedQuizRepository;
+    private final QuestionService questionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional
+    public List<QuestionSnapshot> snapshotsOf(List<QuestionDTO> questions) {
+        List<QuestionSnapshot> snapshots = questions.stream()
+                .map(QuestionSnapshotServiceImpl::toSnapshot)
+                .toList();
+
+        Map<String, QuestionSnapshot> stored = this.findByHashes(snapshots.stream()
+                .map(QuestionSnapshot::getContentHash)
+                .collect(Collectors.toSet()));
+
+        List<QuestionSnapshot> missing = snapshots.stream()
+                .filter(snapshot -> !stored.containsKey(snapshot.getContentHash()))
+                .collect(Collectors.toMap(QuestionSnapshot::getContentHash, Function.identity(), (a, b) -> a,
+                        LinkedHashMap::new))
+                .values().stream()
+                .toList();
+
+        if (!missing.isEmpty()) {
+            this.questionSnapshotRepository.insertMissing(missing);
+            stored.putAll(this.findByHashes(missing.stream()
+                    .map(QuestionSnapshot::getContentHash)
+                    .collect(Collectors.toSet())));
+        }
+
+        return snapshots.stream()
+                .map(snapshot -> stored.get(snapshot.getContentHash()))
+                .toList();
+    }
+
+    @Override
+    public List<QuestionDTO> getSnapshotQuestions(Long solvedQuizId) {
+        return this.questionSnapshotRepository.findBySolvedQuizId(solvedQuizId).stream()
+                .map(QuestionSnapshotServiceImpl::toQuestionDTO)
+                .toList();
+    }
+
+    @Override
+    public int backfillSolvedQuizzes() {
+        int backfilled = 0;
+        int skipped = 0;
+        long afterId = 0;
+        List<Long> solvedQuizIds;
+
+        do {
+            solvedQuizIds = this.solvedQuizRepository.findIdsWithoutSnapshots(afterId, Limit.of(BACKFILL_CHUNK_SIZE));
+
+            if (solvedQuizIds.isEmpty()) {
+                break;
+            }
+
+            afterId = solvedQuizIds.get(solvedQuizIds.size() - 1);
+
+            Map<Long, QuestionDTO> questionsById = this.fetchQuestionsOf(solvedQuizIds);
+
+            List<Long> chunk = solvedQuizIds;
+            Integer attached = this.transactionTemplate.execute(status -> this.attachSnapshots(chunk, questionsById));
+
+            backfilled += attached == null ? 0 : attached;
+            skipped += chunk.size() - (attached == null ? 0 : attached);
+        } while (solvedQuizIds.size() == BACKFILL_CHUNK_SIZE);
+
+        log.info("Question snapshot backfill attached snapshots to {} solved quizzes, skipped {} with missing questions",
+                backfilled, skipped);
+
+        return backfilled;
+    }
+
+    private Map<Long, QuestionDTO> fetchQuestionsOf(List<Long> solvedQuizIds) {
+        List<Long> questionIds = this.solvedQuizRepository.findAllById(solvedQuizIds).stream()
+                .flatMap(solvedQuiz -> solvedQuiz.getQuestionIds().stream())
+                .distinct()
+                .toList();
+
+        return this.questionService.getQuestionsByIds(questionIds).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(QuestionDTO::getId, Function.identity(), (a, b) -> a));
+    }
+
+    private int attachSnapshots(List<Long> solvedQuizIds, Map<Long, QuestionDTO> questionsById) {
+        List<QuestionDTO> questions = new ArrayList<>(questionsById.values());
+        List<QuestionSnapshot> snapshots = this.snapshotsOf(questions);
+
+        Map<Long, QuestionSnapshot> snapshotsByQuestionId = new HashMap<>();
+        for (int i = 0; i < questions.size(); i++) {
+            snapshotsByQuestionId.put(questions.get(i).getId(), snapshots.get(i));
+        }
+
+        int attached = 0;
+
+        for (SolvedQuiz solvedQuiz : this.solvedQuizRepository.findAllById(solvedQuizIds)) {
+            List<QuestionSnapshot> quizSnapshots = solvedQuiz.getQuestionIds().stream()
+                    .map(snapshotsByQuestionId::get)
+                    .toList();
+
+            if (quizSnapshots.isEmpty() || quizSnapshots.contains(null)) {
+                solvedQuiz.setSnapshotsUnavailable(true);
+                continue;
+            }
+
+            solvedQuiz.setQuestionSnapshots(new ArrayList<>(quizSnapshots));
+            attached++;
+        }
+
+        return attached;
+    }
+
+    private Map<String, QuestionSnapshot> findByHashes(Set<String> contentHashes) {
+        return this.questionSnapshotRepository.findByContentHashIn(contentHashes).stream()
+                .collect(Collectors.toMap(QuestionSnapshot::getContentHash, Function.identity(), (a, b) -> a,
+                        HashMap::new));
+    }
+
+    static QuestionSnapshot toSnapshot(QuestionDTO question) {
+        return QuestionSnapshot.builder()
+                .contentHash(contentHash(question))
+                .questionId(question.getId())
+                .questionText(question.getQuestionText())
+                .categoryName(question.getCategoryName())
+                .correctAnswer(question.getCorrectAnswer())
+                .options(canonicalOptions(question))
+                .build();
+    }
+
+    static QuestionDTO toQuestionDTO(QuestionSnapshot snapshot) {
+        return QuestionDTO.builder()
+                .id(snapshot.getQuestionId())
+                .questionText(snapshot.getQuestionText())
+                .categoryName(snapshot.getCategoryName())
+                .correctAnswer(snapshot.getCorrectAnswer())
+                .options(snapshot.getOptions())
+                .build();
+    }
+
+    static String contentHash(QuestionDTO question) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        updateDigest(digest, String.valueOf(question.getId()));
+        updateDigest(digest, question.getQuestionText());
+        updateDigest(digest, question.getCategoryName());
+        updateDigest(digest, question.getCorrectAnswer());
+
+        List<String> options = canonicalOptions(question);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(options.size()).array());
+        options.forEach(option -> updateDigest(digest, option));
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Options are shuffled for every quiz, so a version is hashed and stored with its options in sorted order.
+     */
+    private static List<String> canonicalOptions(QuestionDTO question) {
+        if (question.getOptions() == null) {
+            return List.of();
+        }
+
+        return question.getOptions().stream()
+                .sorted(Comparator.nullsFirst(Comparator.naturalOrder()))
+                .toList();
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+}
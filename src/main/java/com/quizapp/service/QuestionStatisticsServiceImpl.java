@@ -1,42 +1,149 @@
 package com.quizapp.service;
 
-import com.quizapp.exception.QuestionStatisticsNotFound;
+import com.quizapp.model.dto.KeysetPageDTO;
+import com.quizapp.model.dto.question.QuestionDTO;
 import com.quizapp.model.dto.question.QuestionStatsDTO;
 import com.quizapp.model.entity.QuestionStatistics;
 import com.quizapp.model.entity.Quiz;
+import com.quizapp.model.enums.QuestionSortField;
 import com.quizapp.repository.QuestionStatisticsRepository;
 import com.quizapp.repository.spec.QuestionStatisticsSpecifications;
-import com.quizapp.service.interfaces.CategoryService;
+import com.quizapp.service.cache.CategoryNameResolver;
+import com.quizapp.service.evaluation.QuizEvaluation;
 import com.quizapp.service.interfaces.QuestionStatisticsService;
+import com.quizapp.service.paging.KeysetCursor;
+import com.quizapp.service.paging.KeysetPager;
+import com.quizapp.service.paging.KeysetSort;
+import com.quizapp.service.search.QuestionTextSearch;
+import com.quizapp.service.stats.StatisticsDeltaBuffer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class QuestionStatisticsServiceImpl implements QuestionStatisticsService {
 
+    static final int MAX_SEARCH_RESULTS = 1000;
+    static final String RANK_SORT = "RANK";
+
     private final QuestionStatisticsRepository questionStatisticsRepository;
-    private final CategoryService categoryService;
+    private final CategoryNameResolver categoryNameResolver;
+    private final StatisticsDeltaBuffer statisticsDeltaBuffer;
+    private final KeysetPager keysetPager;
+    private final QuestionTextSearch questionTextSearch;
 
     @Override
     public Page<QuestionStatsDTO> getFilteredQuestionStatistics(Long categoryId, String questionText, Pageable pageable) {
+        Page<QuestionStatistics> statisticsPage = this.questionStatisticsRepository
+                .findAll(this.filter(categoryId, questionText), pageable);
+
+        Map<Long, String> categoryNames = this.categoryNameResolver.resolveNames(statisticsPage.getContent().stream()
+                .map(QuestionStatistics::getCategoryId)
+                .toList());
+
+        return statisticsPage.map(questionStats ->
+                this.mapStatsToDTO(questionStats, categoryNames.get(questionStats.getCategoryId())));
+    }
+
+    @Override
+    public KeysetPageDTO<QuestionStatsDTO> getQuestionStatisticsPage(Long categoryId, String questionText,
+                                                                     QuestionSortField sortBy, String cursor, int size) {
+        if (sortBy == null && questionText != null && !questionText.isBlank()) {
+            return this.getRankedQuestionStatisticsPage(categoryId, questionText, cursor, size);
+        }
+
+        KeysetSort sort = sortBy == null
+                ? KeysetSort.byId()
+                : KeysetSort.descending(sortBy.name(), sortBy.getFieldName());
+        String countKey = "question-statistics:" + categoryId + ":"
+                + (questionText == null ? "" : questionText.trim().toLowerCase());
+
+        KeysetPageDTO<QuestionStatistics> statisticsPage = this.keysetPager.read(this.questionStatisticsRepository,
+                this.filter(categoryId, questionText), sort, cursor, size, countKey);
+
+        Map<Long, String> categoryNames = this.categoryNameResolver.resolveNames(statisticsPage.getContent().stream()
+                .map(QuestionStatistics::getCategoryId)
+                .toList());
+
+        return statisticsPage.map(questionStats ->
+                this.mapStatsToDTO(questionStats, categoryNames.get(questionStats.getCategoryId())));
+    }
+
+    /**
+     * Text searches without an explicit sort are listed by search rank. The ranked ids are capped at
+     * {@link #MAX_SEARCH_RESULTS}, so pages are slices of that list and only the rows on the page are loaded.
+     * A cursor past the end of the list is treated as the first page.
+     */
+    private KeysetPageDTO<QuestionStatsDTO> getRankedQuestionStatisticsPage(Long categoryId, String questionText,
+                                                                            String cursor, int requestedSize) {
+        List<Long> rankedIds = this.questionTextSearch.search(questionText, categoryId, MAX_SEARCH_RESULTS);
+
+        int size = Math.max(1, Math.min(requestedSize, MAX_SEARCH_RESULTS));
+        KeysetCursor position = KeysetCursor.decode(cursor, RANK_SORT);
+        int page = position == null ? 0 : position.page();
+
+        if ((long) page * size >= rankedIds.size()) {
+            page = 0;
+        }
+
+        int from = page * size;
+        List<Long> pageIds = rankedIds.subList(from, Math.min(from + size, rankedIds.size()));
+
+        Map<Long, QuestionStatistics> rows = pageIds.isEmpty()
+                ? Map.of()
+                : this.questionStatisticsRepository
+                        .findAll(Specification.allOf(QuestionStatisticsSpecifications.hasQuestionIdIn(pageIds)))
+                        .stream()
+                        .collect(Collectors.toMap(QuestionStatistics::getQuestionId, Function.identity()));
+
+        List<QuestionStatistics> content = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Map<Long, String> categoryNames = this.categoryNameResolver.resolveNames(content.stream()
+                .map(QuestionStatistics::getCategoryId)
+                .toList());
+
+        boolean hasNext = from + size < rankedIds.size();
+
+        return KeysetPageDTO.<QuestionStatistics>builder()
+                .content(content)
+                .currentPage(page)
+                .size(size)
+                .totalElements(rankedIds.size())
+                .hasPrevious(page > 0)
+                .previousCursor(page > 1 ? new KeysetCursor(RANK_SORT, false, page - 1, 0, null).encode() : null)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new KeysetCursor(RANK_SORT, false, page + 1, 0, null).encode() : null)
+                .build()
+                .map(questionStats -> this.mapStatsToDTO(questionStats, categoryNames.get(questionStats.getCategoryId())));
+    }
+
+    private Specification<QuestionStatistics> filter(Long categoryId, String questionText) {
         Specification<QuestionStatistics> spec = Specification
-                .allOf(QuestionStatisticsSpecifications.hasQuestionText(questionText))
-                .and(QuestionStatisticsSpecifications.hasCategory(categoryId));
+                .allOf(QuestionStatisticsSpecifications.hasCategory(categoryId));
+
+        if (questionText == null || questionText.isBlank()) {
+            return spec;
+        }
 
-        return this.questionStatisticsRepository.findAll(spec, pageable)
-                .map(this::mapStatsToDTO);
+        return spec.and(this.questionTextSearch.matching(questionText, categoryId));
     }
 
-    private QuestionStatsDTO mapStatsToDTO(QuestionStatistics questionStats) {
+    private QuestionStatsDTO mapStatsToDTO(QuestionStatistics questionStats, String categoryName) {
         return QuestionStatsDTO.builder()
                 .categoryId(questionStats.getCategoryId())
-                .categoryName(this.categoryService.getCategoryNameById(questionStats.getCategoryId()))
+                .categoryName(categoryName)
                 .questionId(questionStats.getQuestionId())
                 .questionText(questionStats.getQuestionText())
                 .attempts(questionStats.getAttempts())
@@ -49,63 +156,20 @@ public class QuestionStatisticsServiceImpl implements QuestionStatisticsService
     }
 
     @Override
-    public void increaseUsedQuestion(Long questionId, String questionText, Long categoryId) {
-        QuestionStatistics questionStatistics = this.questionStatisticsRepository.findByQuestionId(questionId)
-                .orElseGet(() -> this.createNewStatistics(questionId, questionText, categoryId));
-
-        questionStatistics.setAttempts(questionStatistics.getAttempts() + 1);
-
-        int completed = questionStatistics.getCorrectAnswers() + questionStatistics.getWrongAnswers();
-        int attempts = questionStatistics.getAttempts();
-        if (attempts > 0) {
-            questionStatistics.setCompletionRate((completed * 100.0) / attempts);
-        }
-
-        this.questionStatisticsRepository.saveAndFlush(questionStatistics);
-    }
-
-    private QuestionStatistics createNewStatistics(Long questionId, String questionText, Long categoryId) {
-        return QuestionStatistics.builder()
-                .questionId(questionId)
-                .categoryId(categoryId)
-                .questionText(questionText)
-                .attempts(0)
-                .correctAnswers(0)
-                .wrongAnswers(0)
-                .accuracy(0)
-                .difficulty(0)
-                .build();
+    public void increaseUsedQuestions(List<QuestionDTO> questions, Long categoryId) {
+        questions.forEach(questionDTO -> this.statisticsDeltaBuffer
+                .recordQuestionAttempt(questionDTO.getId(), questionDTO.getQuestionText(), categoryId));
     }
 
     @Override
-    public void updateOnQuizCompleted(Quiz quiz, Map<Long, String> userAnswers) {
-        quiz.getQuestions().forEach(questionDTO -> {
-            QuestionStatistics stats = this.questionStatisticsRepository
-                    .findByQuestionId(questionDTO.getId())
-                    .orElseThrow(() -> new QuestionStatisticsNotFound("Не е намерена статистика за този въпрос."));
-
-            boolean isCorrect = questionDTO.getCorrectAnswer().equals(userAnswers.get(questionDTO.getId()));
-
-            if (isCorrect) {
-                stats.setCorrectAnswers(stats.getCorrectAnswers() + 1);
-            } else {
-                stats.setWrongAnswers(stats.getWrongAnswers() + 1);
-            }
-
-            int correctAnswers = stats.getCorrectAnswers();
-            int wrongAnswers = stats.getWrongAnswers();
-            int completed = correctAnswers + wrongAnswers;
-            int attempts = stats.getAttempts();
-
-            stats.setAccuracy((correctAnswers * 100.00) / attempts);
-            stats.setDifficulty((wrongAnswers * 100.00) / attempts);
-
-            if (attempts > 0) {
-                double completionRate = (completed * 100.00) / attempts;
-                stats.setCompletionRate(completionRate);
-            }
-
-            this.questionStatisticsRepository.saveAndFlush(stats);
-        });
+    public void updateOnQuizCompleted(Quiz quiz, QuizEvaluation evaluation) {
+        List<QuestionDTO> questions = quiz.getQuestions();
+
+        for (int i = 0; i < questions.size(); i++) {
+            QuestionDTO questionDTO = questions.get(i);
+
+            this.statisticsDeltaBuffer.recordQuestionAnswer(questionDTO.getId(), questionDTO.getQuestionText(),
+                    quiz.getCategoryId(), evaluation.isCorrect(i));
+        }
     }
-}
\ No newline at end of file
+}
@@ -5,32 +5,37 @@ import com.quizapp.exception.NoQuestionsFoundException;
 import com.quizapp.exception.NotEnoughQuestionsException;
 import com.quizapp.model.dto.question.QuestionDTO;
 import com.quizapp.model.entity.Quiz;
-import com.quizapp.model.rest.QuestionApiDTO;
-import com.quizapp.service.interfaces.CategoryService;
+import com.quizapp.service.cache.CategoryNameResolver;
+import com.quizapp.service.cache.QuestionPool;
+import com.quizapp.service.cache.QuestionPoolCache;
 import com.quizapp.service.interfaces.CategoryStatisticsService;
 import com.quizapp.service.interfaces.QuestionService;
 import com.quizapp.service.interfaces.QuestionStatisticsService;
+import com.quizapp.service.session.QuizSessionStore;
 import com.quizapp.service.utils.AbstractQuizHelper;
-import com.quizapp.service.utils.TempQuizStorage;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 public class QuizCommonService extends AbstractQuizHelper {
 
     private final QuestionService questionService;
-    private final CategoryService categoryService;
+    private final QuestionPoolCache questionPoolCache;
+    private final CategoryNameResolver categoryNameResolver;
     private final CategoryStatisticsService categoryStatisticsService;
     private final QuestionStatisticsService questionStatisticsService;
 
-    public QuizCommonService(TempQuizStorage tempQuizStorage, QuestionService questionService,
-                             CategoryService categoryService, CategoryStatisticsService categoryStatisticsService,
+    public QuizCommonService(QuizSessionStore<Quiz> tempQuizStore, QuestionService questionService,
+                             QuestionPoolCache questionPoolCache, CategoryNameResolver categoryNameResolver,
+                             CategoryStatisticsService categoryStatisticsService,
                              QuestionStatisticsService questionStatisticsService) {
-        super(tempQuizStorage);
+        super(tempQuizStore);
         this.questionService = questionService;
-        this.categoryService = categoryService;
+        this.questionPoolCache = questionPoolCache;
+        this.categoryNameResolver = categoryNameResolver;
         this.categoryStatisticsService = categoryStatisticsService;
         this.questionStatisticsService = questionStatisticsService;
     }
@@ -40,29 +45,27 @@ public class QuizCommonService extends AbstractQuizHelper {
     }
 
     public Quiz createQuiz(Long categoryId, int numberOfQuestions) {
-        String categoryName = this.categoryService.getCategoryNameById(categoryId);
-        if (categoryName.isBlank()) {
+        String categoryName = this.categoryNameResolver.resolveName(categoryId);
+        if (categoryName == null || categoryName.isBlank()) {
             throw new CategoryNotFoundException("Категорията не е намерена.");
         }
 
-        List<QuestionApiDTO> questionApiDTOs = Arrays.asList(this.questionService.makeGetRequestByCategoryId(categoryId));
-        if (questionApiDTOs.isEmpty()) {
+        QuestionPool questionPool = this.questionPoolCache.getPool(categoryId);
+        if (questionPool.isEmpty()) {
             throw new NoQuestionsFoundException("Няма налични въпроси в тази категория.");
         }
 
-        if (questionApiDTOs.size() < numberOfQuestions) {
+        if (questionPool.size() < numberOfQuestions) {
             throw new NotEnoughQuestionsException("Броят на въпросите налични в тази категория не е достатъчен, за да започнете куиз.");
         }
 
-        Collections.shuffle(questionApiDTOs);
-        List<QuestionDTO> questionDTOs = questionApiDTOs.stream()
-                .limit(numberOfQuestions)
+        List<QuestionDTO> questionDTOs = questionPool.sample(numberOfQuestions, ThreadLocalRandom.current()).stream()
                 .map(this.questionService::mapQuestionApiToDTO)
-                .peek(questionDTO -> Collections.shuffle(questionDTO.getOptions()))
-                .peek(questionDTO -> this.questionStatisticsService
-                        .increaseUsedQuestion(questionDTO.getId(), questionDTO.getQuestionText(), categoryId))
+                .peek(questionDTO -> questionDTO.setOptions(this.shuffledCopy(questionDTO.getOptions())))
                 .toList();
 
+        this.questionStatisticsService.increaseUsedQuestions(questionDTOs, categoryId);
+
         String viewToken = UUID.randomUUID().toString();
         Quiz quiz = Quiz.builder()
                 .viewToken(viewToken)
@@ -77,4 +80,10 @@ public class QuizCommonService extends AbstractQuizHelper {
         super.putTempQuiz(viewToken, quiz);
         return quiz;
     }
+
+    private List<String> shuffledCopy(List<String> options) {
+        List<String> shuffled = new ArrayList<>(options);
+        Collections.shuffle(shuffled);
+        return shuffled;
+    }
 }
\ No newline at end of file
@@ -38,8 +38,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 user.getUsername(),
                 user.getEmail(),
                 user.getPassword(),
-                mapAuthorities(user.getRoles()),
-                user.getSolvedQuizzes()
+                mapAuthorities(user.getRoles())
         );
     }
 
@@ -1,6 +1,7 @@
 package com.quizapp.service;
 
 import com.quizapp.exception.*;
+import com.quizapp.model.dto.KeysetPageDTO;
 import com.quizapp.model.dto.question.QuestionDTO;
 import com.quizapp.model.dto.quiz.QuizDTO;
 import com.quizapp.model.dto.quiz.QuizResultDTO;
@@ -8,11 +9,15 @@ import com.quizapp.model.dto.quiz.QuizSubmissionDTO;
 import com.quizapp.model.entity.Quiz;
 import com.quizapp.model.entity.SolvedQuiz;
 import com.quizapp.model.entity.User;
-import com.quizapp.model.entity.UserStatistics;
 import com.quizapp.repository.SolvedQuizRepository;
+import com.quizapp.repository.spec.SolvedQuizSpecifications;
+import com.quizapp.service.cache.CategoryNameResolver;
+import com.quizapp.service.evaluation.QuizEvaluation;
 import com.quizapp.service.interfaces.*;
+import com.quizapp.service.paging.KeysetPager;
+import com.quizapp.service.paging.KeysetSort;
+import com.quizapp.service.session.QuizSessionStore;
 import com.quizapp.service.utils.AbstractQuizHelper;
-import com.quizapp.service.utils.TempQuizStorage;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -27,26 +32,31 @@ import java.util.*;
 public class UserQuizServiceImpl extends AbstractQuizHelper implements UserQuizService {
 
     private final QuestionService questionService;
-    private final CategoryService categoryService;
+    private final CategoryNameResolver categoryNameResolver;
     private final SolvedQuizRepository solvedQuizRepository;
     private final UserService userService;
     private final UserStatisticsService userStatisticsService;
     private final CategoryStatisticsService categoryStatisticsService;
     private final QuestionStatisticsService questionStatisticsService;
+    private final QuestionSnapshotService questionSnapshotService;
+    private final KeysetPager keysetPager;
 
-    public UserQuizServiceImpl(TempQuizStorage tempQuizStorage, QuestionService questionService,
-                               CategoryService categoryService, SolvedQuizRepository solvedQuizRepository,
+    public UserQuizServiceImpl(QuizSessionStore<Quiz> tempQuizStore, QuestionService questionService,
+                               CategoryNameResolver categoryNameResolver, SolvedQuizRepository solvedQuizRepository,
                                UserService userService, UserStatisticsService userStatisticsService,
                                CategoryStatisticsService categoryStatisticsService,
-                               QuestionStatisticsService questionStatisticsService) {
-        super(tempQuizStorage);
+                               QuestionStatisticsService questionStatisticsService,
+                               QuestionSnapshotService questionSnapshotService, KeysetPager keysetPager) {
+        super(tempQuizStore);
         this.questionService = questionService;
-        this.categoryService = categoryService;
+        this.categoryNameResolver = categoryNameResolver;
         this.solvedQuizRepository = solvedQuizRepository;
         this.userService = userService;
         this.userStatisticsService = userStatisticsService;
         this.categoryStatisticsService = categoryStatisticsService;
         this.questionStatisticsService = questionStatisticsService;
+        this.questionSnapshotService = questionSnapshotService;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -54,14 +64,16 @@ public class UserQuizServiceImpl extends AbstractQuizHelper implements UserQuizS
         SolvedQuiz solvedQuiz = this.solvedQuizRepository.findById(id)
                 .orElseThrow(() -> new QuizNotFoundException("Куизът не е намерен."));
 
-        List<QuestionDTO> questionDTOs = solvedQuiz.getQuestionIds().stream()
-                .map(this.questionService::getQuestionById)
-                .toList();
+        List<QuestionDTO> questionDTOs = this.questionSnapshotService.getSnapshotQuestions(solvedQuiz.getId());
+
+        if (questionDTOs.isEmpty() && !solvedQuiz.getQuestionIds().isEmpty()) {
+            questionDTOs = this.questionService.getQuestionsByIds(solvedQuiz.getQuestionIds());
+        }
 
         return QuizDTO.builder()
                 .id(solvedQuiz.getId())
                 .categoryId(solvedQuiz.getCategoryId())
-                .categoryName(this.categoryService.getCategoryNameById(solvedQuiz.getCategoryId()))
+                .categoryName(this.categoryNameResolver.resolveName(solvedQuiz.getCategoryId()))
                 .correctAnswers(solvedQuiz.getScore())
                 .totalQuestions(solvedQuiz.getMaxScore())
                 .solvedAt(solvedQuiz.getSolvedAt())
@@ -78,34 +90,57 @@ public class UserQuizServiceImpl extends AbstractQuizHelper implements UserQuizS
         Page<SolvedQuiz> solvedQuizzesPage = this.solvedQuizRepository
                 .findByUserUsernameOrderBySolvedAtDesc(username, pageable);
 
-        return solvedQuizzesPage.map(solvedQuiz ->
-                QuizDTO.builder()
-                        .id(solvedQuiz.getId())
-                        .categoryId(solvedQuiz.getCategoryId())
-                        .categoryName(this.categoryService.getCategoryNameById(solvedQuiz.getCategoryId()))
-                        .correctAnswers(solvedQuiz.getScore())
-                        .totalQuestions(solvedQuiz.getMaxScore())
-                        .solvedAt(solvedQuiz.getSolvedAt())
-                        .build()
-        );
+        Map<Long, String> categoryNames = this.categoryNameResolver.resolveNames(solvedQuizzesPage.getContent().stream()
+                .map(SolvedQuiz::getCategoryId)
+                .toList());
+
+        return solvedQuizzesPage.map(solvedQuiz -> this.mapSolvedQuizToDTO(solvedQuiz, categoryNames));
+    }
+
+    @Override
+    @Transactional
+    public KeysetPageDTO<QuizDTO> getSolvedQuizzesPage(String username, String cursor, int size) {
+        KeysetPageDTO<SolvedQuiz> solvedQuizzesPage = this.keysetPager.read(this.solvedQuizRepository,
+                SolvedQuizSpecifications.solvedBy(username), KeysetSort.descending("solvedAt", "solvedAt"),
+                cursor, size, "solved-quizzes:" + username);
+
+        Map<Long, String> categoryNames = this.categoryNameResolver.resolveNames(solvedQuizzesPage.getContent().stream()
+                .map(SolvedQuiz::getCategoryId)
+                .toList());
+
+        return solvedQuizzesPage.map(solvedQuiz -> this.mapSolvedQuizToDTO(solvedQuiz, categoryNames));
+    }
+
+    private QuizDTO mapSolvedQuizToDTO(SolvedQuiz solvedQuiz, Map<Long, String> categoryNames) {
+        return QuizDTO.builder()
+                .id(solvedQuiz.getId())
+                .categoryId(solvedQuiz.getCategoryId())
+                .categoryName(categoryNames.get(solvedQuiz.getCategoryId()))
+                .correctAnswers(solvedQuiz.getScore())
+                .totalQuestions(solvedQuiz.getMaxScore())
+                .solvedAt(solvedQuiz.getSolvedAt())
+                .build();
     }
 
     @Override
     @Transactional
     public Long evaluateQuiz(QuizSubmissionDTO quizSubmissionDTO, String username) {
         Quiz quiz = super.loadTempQuiz(quizSubmissionDTO.getViewToken());
+        QuizEvaluation evaluation = super.evaluate(quizSubmissionDTO.getViewToken(), quiz,
+                quizSubmissionDTO.getAnswers());
+        super.claimTempQuiz(quizSubmissionDTO.getViewToken(), quiz);
 
-        User user = this.userService.getUserByUsername(username)
+        User user = this.userService.getUserReferenceByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("Потребителят не е намерен."));
 
-        this.questionStatisticsService.updateOnQuizCompleted(quiz, quizSubmissionDTO.getAnswers());
+        this.questionStatisticsService.updateOnQuizCompleted(quiz, evaluation);
 
-        return this.saveSolvedQuiz(quiz, user, quizSubmissionDTO.getAnswers());
+        return this.saveSolvedQuiz(quiz, user, quizSubmissionDTO.getAnswers(), evaluation);
     }
 
-    private Long saveSolvedQuiz(Quiz quiz, User user, Map<Long, String> userAnswers) {
-        long correctAnswers = this.getCorrectAnswers(quiz, userAnswers);
-        int totalQuestions = quiz.getQuestions().size();
+    private Long saveSolvedQuiz(Quiz quiz, User user, Map<Long, String> userAnswers, QuizEvaluation evaluation) {
+        int correctAnswers = evaluation.getCorrectAnswers();
+        int totalQuestions = evaluation.getTotalQuestions();
         LocalDateTime solvedAt = LocalDateTime.now();
 
         List<Long> questionIds = quiz.getQuestions().stream()
@@ -115,22 +150,18 @@ public class UserQuizServiceImpl extends AbstractQuizHelper implements UserQuizS
         SolvedQuiz solvedQuiz = SolvedQuiz.builder()
                 .categoryId(quiz.getCategoryId())
                 .user(user)
-                .score((int) correctAnswers)
+                .score(correctAnswers)
                 .maxScore(totalQuestions)
                 .questionIds(questionIds)
+                .questionSnapshots(new ArrayList<>(this.questionSnapshotService.snapshotsOf(quiz.getQuestions())))
                 .userAnswers(userAnswers)
                 .solvedAt(solvedAt)
                 .build();
 
-        SolvedQuiz savedQuiz = this.solvedQuizRepository.saveAndFlush(solvedQuiz);
-
-        this.categoryStatisticsService.updateOnQuizCompleted(quiz.getCategoryId(), (int) correctAnswers, totalQuestions);
-
-        UserStatistics userStatistics = this.userStatisticsService
-                .updateUserStatistics(user.getUserStatistics(), correctAnswers, totalQuestions, solvedAt);
+        SolvedQuiz savedQuiz = this.solvedQuizRepository.save(solvedQuiz);
 
-        user.setUserStatistics(userStatistics);
-        this.userService.saveAndFlushUser(user);
+        this.categoryStatisticsService.updateOnQuizCompleted(quiz.getCategoryId(), correctAnswers, totalQuestions);
+        this.userStatisticsService.recordSolvedQuiz(user.getId(), correctAnswers, totalQuestions, solvedAt);
 
         return savedQuiz.getId();
     }
@@ -2,40 +2,60 @@ package com.quizapp.service;
 
 import com.quizapp.exception.UserNotFoundException;
 import com.quizapp.model.dto.quiz.QuizDTO;
+import com.quizapp.model.dto.quiz.SolvedQuizSummaryDTO;
+import com.quizapp.model.dto.user.InactiveUserDTO;
 import com.quizapp.model.dto.user.UpdatePasswordDTO;
 import com.quizapp.model.dto.user.UserDTO;
 import com.quizapp.model.dto.user.UserRegisterDTO;
 import com.quizapp.model.dto.user.UserStatsDTO;
 import com.quizapp.model.entity.*;
 import com.quizapp.model.enums.RoleName;
+import com.quizapp.repository.SolvedQuizRepository;
 import com.quizapp.repository.UserRepository;
+import com.quizapp.service.cache.CategoryNameResolver;
 import com.quizapp.service.events.DeletionWarningEvent;
 import com.quizapp.service.events.InactiveSolvingQuizzesEvent;
 import com.quizapp.service.events.UserRegisterEvent;
-import com.quizapp.service.interfaces.CategoryService;
 import com.quizapp.service.interfaces.RoleService;
 import com.quizapp.service.interfaces.UserService;
 import com.quizapp.service.interfaces.UserStatisticsService;
+import com.quizapp.service.stats.LastLoginBuffer;
+import com.quizapp.service.stats.LastLoginFlusher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final int INACTIVITY_CHUNK_SIZE = 500;
+    private static final int RECENT_QUIZZES_COUNT = 3;
+
     private final UserRepository userRepository;
-    private final CategoryService categoryService;
+    private final SolvedQuizRepository solvedQuizRepository;
+    private final CategoryNameResolver categoryNameResolver;
     private final RoleService roleService;
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final UserStatisticsService userStatisticsService;
+    private final TransactionTemplate transactionTemplate;
+    private final LastLoginBuffer lastLoginBuffer;
+    private final LastLoginFlusher lastLoginFlusher;
 
     @Override
     @Transactional
@@ -48,13 +68,18 @@ public class UserServiceImpl implements UserService {
 
         User user = optionalUser.get();
 
-        List<QuizDTO> solvedQuizDTOs = user.getSolvedQuizzes().stream()
-                .sorted(Comparator.comparing(SolvedQuiz::getSolvedAt).reversed())
-                .limit(3)
+        List<SolvedQuizSummaryDTO> recentQuizzes = this.solvedQuizRepository
+                .findRecentSummariesByUserId(user.getId(), Limit.of(RECENT_QUIZZES_COUNT));
+
+        Map<Long, String> categoryNames = this.categoryNameResolver.resolveNames(recentQuizzes.stream()
+                .map(SolvedQuizSummaryDTO::getCategoryId)
+                .toList());
+
+        List<QuizDTO> solvedQuizDTOs = recentQuizzes.stream()
                 .map(solvedQuiz -> QuizDTO.builder()
                         .id(solvedQuiz.getId())
                         .categoryId(solvedQuiz.getCategoryId())
-                        .categoryName(this.categoryService.getCategoryNameById(solvedQuiz.getCategoryId()))
+                        .categoryName(categoryNames.get(solvedQuiz.getCategoryId()))
                         .correctAnswers(solvedQuiz.getScore())
                         .totalQuestions(solvedQuiz.getMaxScore())
                         .solvedAt(solvedQuiz.getSolvedAt())
@@ -135,72 +160,124 @@ public class UserServiceImpl implements UserService {
     public Integer sendInactiveSolvingQuizzesUsersEmails() {
         LocalDateTime oneMonthAgo = LocalDateTime.now().minusMonths(1);
 
-        List<UserStatistics> inactiveUsers = this.userStatisticsService.findInactiveSolvingQuizzesUsersNotWarned(oneMonthAgo);
-
-        inactiveUsers.forEach(userStatistics -> {
-            this.applicationEventPublisher.publishEvent(
-                    new InactiveSolvingQuizzesEvent(this, userStatistics.getUser().getUsername(),
-                            userStatistics.getUser().getEmail()));
-
-            userStatistics.setLastSolvingWarningSent(true);
-            userStatistics.setLastSolvingWarningSentAt(LocalDateTime.now());
-
-            this.userStatisticsService.saveAndFlushUserStatistics(userStatistics);
-        });
-
-        return inactiveUsers.size();
+        return this.notifyInChunks("inactive-solving-quizzes",
+                (afterId, limit) -> this.userStatisticsService
+                        .findInactiveSolvingQuizzesUsersNotWarned(oneMonthAgo, afterId, limit),
+                user -> new InactiveSolvingQuizzesEvent(this, user.getUsername(), user.getEmail()),
+                this.userStatisticsService::markSolvingWarningSent);
     }
 
     @Override
-    @Transactional
     public Integer resendWarnedInactiveSolvingQuizzesUsersEmails() {
         LocalDateTime oneWeekAgo = LocalDateTime.now().minusWeeks(1);
 
-        List<UserStatistics> warnedInactiveUsers = this.userStatisticsService.findWarnedUsersToResendSolvingWarning(oneWeekAgo);
-
-        warnedInactiveUsers.forEach(userStatistics -> {
-            this.applicationEventPublisher.publishEvent(
-                    new InactiveSolvingQuizzesEvent(this,userStatistics.getUser().getUsername(),
-                            userStatistics.getUser().getEmail()));
-
-            userStatistics.setLastSolvingWarningSentAt(LocalDateTime.now());
-
-            this.userStatisticsService.saveAndFlushUserStatistics(userStatistics);
-        });
-
-        return warnedInactiveUsers.size();
+        return this.notifyInChunks("resend-inactive-solving-quizzes",
+                (afterId, limit) -> this.userStatisticsService
+                        .findWarnedUsersToResendSolvingWarning(oneWeekAgo, afterId, limit),
+                user -> new InactiveSolvingQuizzesEvent(this, user.getUsername(), user.getEmail()),
+                this.userStatisticsService::markSolvingWarningSent);
     }
 
     @Override
-    @Transactional
     public Integer sendInactiveUsersWarnEmail() {
-        LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
+        this.lastLoginFlusher.flush();
 
-        List<UserStatistics> inactiveUsers = this.userStatisticsService.findInactiveNotWarned(oneYearAgo);
-
-        inactiveUsers.forEach(userStatistics -> {
-            this.applicationEventPublisher.publishEvent(
-                    new DeletionWarningEvent(this, userStatistics.getUser().getUsername(),
-                            userStatistics.getUser().getEmail()));
+        LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
 
-            userStatistics.setDeletionWarningSent(true);
-            userStatistics.setDeletionWarningSentAt(LocalDateTime.now());
+        return this.notifyInChunks("deletion-warning",
+                (afterId, limit) -> this.userStatisticsService.findInactiveNotWarned(oneYearAgo, afterId, limit),
+                user -> new DeletionWarningEvent(this, user.getUsername(), user.getEmail()),
+                this.userStatisticsService::markDeletionWarningSent);
+    }
 
-            this.userStatisticsService.saveAndFlushUserStatistics(userStatistics);
-        });
+    /**
+     * Walks the matching users in id order, one chunk per transaction. Each chunk publishes its email events,
+     * which only write outbox rows, and marks the whole chunk with a single bulk update.
+     */
+    private int notifyInChunks(String jobName, BiFunction<Long, Integer, List<InactiveUserDTO>> nextChunk,
+                               Function<InactiveUserDTO, ApplicationEvent> toEvent,
+                               BiConsumer<List<Long>, LocalDateTime> markNotified) {
+        long startedAt = System.nanoTime();
+        int processed = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            Long afterId = lastId;
+            List<InactiveUserDTO> chunk = this.transactionTemplate.execute(status -> {
+                List<InactiveUserDTO> users = nextChunk.apply(afterId, INACTIVITY_CHUNK_SIZE);
+
+                if (!users.isEmpty()) {
+                    users.forEach(user -> this.applicationEventPublisher.publishEvent(toEvent.apply(user)));
+                    markNotified.accept(users.stream().map(InactiveUserDTO::getStatisticsId).toList(),
+                            LocalDateTime.now());
+                }
+
+                return users;
+            });
+
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+
+            processed += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).getStatisticsId();
+
+            double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+            log.info("{}: notified {} users in this chunk, {} in total ({} users/s)",
+                    jobName, chunk.size(), processed, String.format("%.1f", processed / elapsedSeconds));
+
+            if (chunk.size() < INACTIVITY_CHUNK_SIZE) {
+                break;
+            }
+        }
 
-        return inactiveUsers.size();
+        return processed;
     }
 
     @Override
     public Integer removeWarnedInactiveLoginUsersAccounts() {
+        this.lastLoginFlusher.flush();
+
         LocalDateTime oneYearAgo = LocalDateTime.now().minusWeeks(1);
 
-        List<User> inactiveUsers = this.userStatisticsService.findInactiveLoginUsersWarned(oneYearAgo);
+        long startedAt = System.nanoTime();
+        int removedUsers = 0;
+        Map<String, Integer> removedRowsTotal = new LinkedHashMap<>();
+        Long lastUserId = 0L;
+
+        while (true) {
+            Long afterUserId = lastUserId;
+            List<Long> userIds = this.userStatisticsService
+                    .findInactiveLoginUsersWarned(oneYearAgo, afterUserId, INACTIVITY_CHUNK_SIZE);
+
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            Map<String, Integer> removedRows = this.transactionTemplate
+                    .execute(status -> this.userRepository.purgeUsers(userIds));
+
+            if (removedRows != null) {
+                removedRows.forEach((table, rows) -> removedRowsTotal.merge(table, rows, Integer::sum));
+                removedUsers += removedRows.getOrDefault("users", 0);
+            }
 
-        inactiveUsers.forEach(user -> this.deleteById(user.getId()));
+            lastUserId = userIds.get(userIds.size() - 1);
 
-        return inactiveUsers.size();
+            double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+            log.info("inactive-accounts-purge: removed {} users in this chunk, {} in total ({} users/s), rows per table {}",
+                    userIds.size(), removedUsers, String.format("%.1f", removedUsers / elapsedSeconds), removedRows);
+
+            if (userIds.size() < INACTIVITY_CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        if (removedUsers > 0) {
+            log.info("inactive-accounts-purge: finished, rows removed per table {}", removedRowsTotal);
+        }
+
+        return removedUsers;
     }
 
     @Override
@@ -242,15 +319,8 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Transactional
     public void updateLastLoginTime(String username) {
-        User user = this.userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserNotFoundException("Не е намерен потребител " + username + "."));
-
-        if (user.getUserStatistics() != null) {
-            user.getUserStatistics().setLastLoginAt(LocalDateTime.now());
-            this.userRepository.saveAndFlush(user);
-        }
+        this.lastLoginBuffer.recordLogin(username, LocalDateTime.now());
     }
 
     @Override
@@ -258,6 +328,15 @@ public class UserServiceImpl implements UserService {
         return this.userRepository.findByUsername(username);
     }
 
+    /**
+     * Looks up only the id of the user and returns an unloaded reference, for callers that just link to the user.
+     */
+    @Override
+    public Optional<User> getUserReferenceByUsername(String username) {
+        return this.userRepository.findIdByUsername(username)
+                .map(this.userRepository::getReferenceById);
+    }
+
     @Override
     public Optional<User> getUserByEmail(String email) {
         return this.userRepository.findByEmail(email);
@@ -1,5 +1,7 @@
 package com.quizapp.service;
 
+import com.quizapp.model.dto.KeysetPageDTO;
+import com.quizapp.model.dto.user.InactiveUserDTO;
 import com.quizapp.model.dto.user.UserStatisticsDTO;
 import com.quizapp.model.entity.User;
 import com.quizapp.model.entity.UserStatistics;
@@ -7,14 +9,18 @@ import com.quizapp.model.enums.UserSortField;
 import com.quizapp.repository.UserStatisticsRepository;
 import com.quizapp.repository.spec.UserStatisticsSpecifications;
 import com.quizapp.service.interfaces.UserStatisticsService;
+import com.quizapp.service.paging.KeysetPager;
+import com.quizapp.service.paging.KeysetSort;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -22,6 +28,7 @@ import java.util.List;
 public class UserStatisticsServiceImpl implements UserStatisticsService {
 
     private final UserStatisticsRepository userStatisticsRepository;
+    private final KeysetPager keysetPager;
 
     @Override
     @Transactional
@@ -38,6 +45,28 @@ public class UserStatisticsServiceImpl implements UserStatisticsService {
                 .map(this::mapStatisticsToDTO);
     }
 
+    @Override
+    @Transactional
+    public KeysetPageDTO<UserStatisticsDTO> getUserStatisticsPage(String username, UserSortField sortBy,
+                                                                  String cursor, int size) {
+        Specification<UserStatistics> spec = Specification
+                .allOf(UserStatisticsSpecifications.hasUsername(username))
+                .and(UserStatisticsSpecifications.onlyRegularUsers());
+
+        KeysetSort sort;
+        if (sortBy == null) {
+            sort = KeysetSort.byId();
+        } else if (sortBy == UserSortField.LAST_SOLVED_AT) {
+            sort = KeysetSort.descendingNullsLast(sortBy.name(), sortBy.getFieldName());
+        } else {
+            sort = KeysetSort.descending(sortBy.name(), sortBy.getFieldName());
+        }
+
+        return this.keysetPager.read(this.userStatisticsRepository, spec, sort, cursor, size,
+                        "user-statistics:" + (username == null ? "" : username))
+                .map(this::mapStatisticsToDTO);
+    }
+
     private UserStatisticsDTO mapStatisticsToDTO(UserStatistics userStatistics) {
         return UserStatisticsDTO.builder()
                 .userId(userStatistics.getUser().getId())
@@ -65,36 +94,42 @@ public class UserStatisticsServiceImpl implements UserStatisticsService {
         return this.userStatisticsRepository.saveAndFlush(userStatistics);
     }
 
+    /**
+     * Adds a solved quiz to the user's statistics in a single UPDATE, without loading the row first.
+     */
     @Override
-    public UserStatistics updateUserStatistics(UserStatistics userStatistics, long correctAnswers,
-                                               int totalQuestions, LocalDateTime solvedAt) {
-        userStatistics.setTotalQuizzes(userStatistics.getTotalQuizzes() + 1);
-        userStatistics.setTotalCorrectAnswers(userStatistics.getTotalCorrectAnswers() + (int) correctAnswers);
-        userStatistics.setMaxScore(userStatistics.getMaxScore() + totalQuestions);
-        userStatistics.setAverageScore((double) userStatistics.getTotalCorrectAnswers() / userStatistics.getMaxScore() * 100);
-        userStatistics.setLastSolvedAt(solvedAt);
+    public void recordSolvedQuiz(Long userId, int correctAnswers, int totalQuestions, LocalDateTime solvedAt) {
+        this.userStatisticsRepository.recordSolvedQuiz(userId, correctAnswers, totalQuestions, solvedAt);
+    }
 
-        return this.userStatisticsRepository.saveAndFlush(userStatistics);
+    @Override
+    public List<InactiveUserDTO> findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime dateTime, Long afterId, int limit) {
+        return this.userStatisticsRepository.findInactiveSolvingQuizzesUsersNotWarned(dateTime, afterId, Limit.of(limit));
+    }
+
+    @Override
+    public List<InactiveUserDTO> findWarnedUsersToResendSolvingWarning(LocalDateTime dateTime, Long afterId, int limit) {
+        return this.userStatisticsRepository.findWarnedUsersToResendSolvingWarning(dateTime, afterId, Limit.of(limit));
     }
 
     @Override
-    public List<UserStatistics> findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime dateTime) {
-        return this.userStatisticsRepository.findInactiveSolvingQuizzesUsersNotWarned(dateTime);
+    public List<Long> findInactiveLoginUsersWarned(LocalDateTime dateTime, Long afterUserId, int limit) {
+        return this.userStatisticsRepository.findInactiveLoginUsersWarned(dateTime, afterUserId, Limit.of(limit));
     }
 
     @Override
-    public List<UserStatistics> findWarnedUsersToResendSolvingWarning(LocalDateTime dateTime) {
-        return this.userStatisticsRepository.findWarnedUsersToResendSolvingWarning(dateTime);
+    public List<InactiveUserDTO> findInactiveNotWarned(LocalDateTime dateTime, Long afterId, int limit) {
+        return this.userStatisticsRepository.findInactiveNotWarned(dateTime, afterId, Limit.of(limit));
     }
 
     @Override
-    public List<User> findInactiveLoginUsersWarned(LocalDateTime dateTime) {
-        return this.userStatisticsRepository.findInactiveLoginUsersWarned(dateTime);
+    public void markSolvingWarningSent(Collection<Long> userStatisticsIds, LocalDateTime sentAt) {
+        this.userStatisticsRepository.markSolvingWarningSent(userStatisticsIds, sentAt);
     }
 
     @Override
-    public List<UserStatistics> findInactiveNotWarned(LocalDateTime oneYearAgo) {
-        return this.userStatisticsRepository.findInactiveNotWarned(oneYearAgo);
+    public void markDeletionWarningSent(Collection<Long> userStatisticsIds, LocalDateTime sentAt) {
+        this.userStatisticsRepository.markDeletionWarningSent(userStatisticsIds, sentAt);
     }
 
     @Override
@@ -0,0 +1,205 @@
+package com.quizapp.service.cache;
+
+import com.quizapp.model.dto.category.CategoryDTO;
+import com.quizapp.service.interfaces.CategoryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the category list shown on every page in memory. Stale entries are served while a single
+ * background refresh reloads them, and the last known catalog is kept when the questions API is down.
+ */
+@Component
+@Slf4j
+public class CategoryCatalogCache {
+
+    private static final int CATALOG_SIZE = 100;
+
+    private final CategoryService categoryService;
+    private final Executor refreshExecutor;
+    private final Duration ttl;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Snapshot>> coldStartLoad = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshes;
+    private final Counter refreshFailures;
+
+    public CategoryCatalogCache(CategoryService categoryService,
+                                @Qualifier("cacheRefreshExecutor") Executor refreshExecutor,
+                                MeterRegistry meterRegistry,
+                                @Value("${cache.categories.ttl:5m}") Duration ttl) {
+        this.categoryService = categoryService;
+        this.refreshExecutor = refreshExecutor;
+        this.ttl = ttl;
+
+        this.hits = meterRegistry.counter("category.catalog.hits");
+        this.misses = meterRegistry.counter("category.catalog.misses");
+        this.refreshes = meterRegistry.counter("category.catalog.refreshes");
+        this.refreshFailures = meterRegistry.counter("category.catalog.refresh.failures");
+
+        Gauge.builder("category.catalog.size", this.snapshot,
+                        ref -> ref.get() == null ? 0 : ref.get().categories().size())
+                .register(meterRegistry);
+    }
+
+    public List<CategoryDTO> getCategories() {
+        return this.currentSnapshot().categories();
+    }
+
+    public Map<Long, String> getCategoryNames() {
+        return this.currentSnapshot().namesById();
+    }
+
+    /**
+     * When the catalog was loaded; {@link Instant#EPOCH} before the first load and after an invalidation.
+     */
+    public Instant getLoadedAt() {
+        Snapshot current = this.snapshot.get();
+
+        return current == null ? Instant.EPOCH : current.loadedAt();
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = this.snapshot.get();
+
+        if (current == null) {
+            this.misses.increment();
+            return this.loadOnColdStart();
+        }
+
+        this.hits.increment();
+
+        if (current.isStale(this.ttl)) {
+            this.scheduleRefresh();
+        }
+
+        return current;
+    }
+
+    public void invalidate() {
+        this.generation.incrementAndGet();
+
+        Snapshot current = this.snapshot.get();
+        if (current != null) {
+            this.snapshot.compareAndSet(current, current.expired());
+        }
+
+        this.scheduleRefresh();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        this.scheduleRefresh();
+    }
+
+    /**
+     * Only the first caller loads the catalog; callers arriving meanwhile wait for its result instead of each
+     * calling the questions API. If the load fails they all get an empty catalog, and the next request retries.
+     */
+    private Snapshot loadOnColdStart() {
+        CompletableFuture<Snapshot> loading = new CompletableFuture<>();
+        CompletableFuture<Snapshot> inFlight = this.coldStartLoad.compareAndExchange(null, loading);
+
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+
+        try {
+            this.refresh();
+        } catch (RuntimeException e) {
+            log.warn("Category catalog could not be loaded: {}", e.getMessage());
+        } finally {
+            Snapshot loaded = this.snapshot.get();
+            loading.complete(loaded == null ? Snapshot.EMPTY : loaded);
+            this.coldStartLoad.set(null);
+        }
+
+        return loading.join();
+    }
+
+    private void scheduleRefresh() {
+        if (!this.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            this.refreshExecutor.execute(() -> {
+                try {
+                    this.refresh();
+                } catch (RuntimeException e) {
+                    log.warn("Category catalog refresh failed, serving last known catalog: {}", e.getMessage());
+                } finally {
+                    this.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.refreshing.set(false);
+        }
+    }
+
+    private void refresh() {
+        long startGeneration;
+
+        do {
+            startGeneration = this.generation.get();
+
+            List<CategoryDTO> categories;
+            try {
+                categories = List.copyOf(this.categoryService
+                        .getAllCategories("", 0, CATALOG_SIZE)
+                        .getCategories());
+            } catch (RuntimeException e) {
+                this.refreshFailures.increment();
+                throw e;
+            }
+
+            this.snapshot.set(Snapshot.of(categories));
+            this.refreshes.increment();
+        } while (startGeneration != this.generation.get());
+    }
+
+    private record Snapshot(List<CategoryDTO> categories, Map<Long, String> namesById, Instant loadedAt) {
+
+        static final Snapshot EMPTY = new Snapshot(List.of(), Map.of(), Instant.EPOCH);
+
+        static Snapshot of(List<CategoryDTO> categories) {
+            Map<Long, String> namesById = categories.stream()
+                    .filter(category -> category.getId() != null && category.getName() != null)
+                    .collect(Collectors.toUnmodifiableMap(CategoryDTO::getId, CategoryDTO::getName, (a, b) -> a));
+
+            return new Snapshot(categories, namesById, Instant.now());
+        }
+
+        boolean isStale(Duration ttl) {
+            return !Instant.now().isBefore(this.loadedAt.plus(ttl));
+        }
+
+        Snapshot expired() {
+            return new Snapshot(this.categories, this.namesById, Instant.EPOCH);
+        }
+    }
+}
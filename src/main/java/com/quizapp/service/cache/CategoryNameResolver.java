@@ -0,0 +1,152 @@
+package com.quizapp.service.cache;
+
+import com.quizapp.model.dto.category.CategoryDTO;
+import com.quizapp.service.interfaces.CategoryService;
+import com.quizapp.service.remote.QuestionsApiGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves category ids to names for list pages. Names come from the category catalog, or from a local memo
+ * when its entry was fetched after the catalog was loaded, and whatever is still missing is fetched with a
+ * single remote call per page. When the questions API is unavailable, expired memo entries are served instead.
+ */
+@Component
+@Slf4j
+public class CategoryNameResolver {
+
+    private static final int BULK_FETCH_SIZE = 1000;
+
+    private final CategoryService categoryService;
+    private final CategoryCatalogCache categoryCatalogCache;
+    private final Duration ttl;
+
+    private final Map<Long, CachedName> names = new ConcurrentHashMap<>();
+
+    private final Counter remoteCalls;
+    private final Counter savedLookups;
+
+    public CategoryNameResolver(CategoryService categoryService, CategoryCatalogCache categoryCatalogCache,
+                                MeterRegistry meterRegistry,
+                                @Value("${cache.category-names.ttl:10m}") Duration ttl) {
+        this.categoryService = categoryService;
+        this.categoryCatalogCache = categoryCatalogCache;
+        this.ttl = ttl;
+
+        this.remoteCalls = meterRegistry.counter("category.names.remote.calls");
+        this.savedLookups = meterRegistry.counter("category.names.remote.lookups.saved");
+    }
+
+    public String resolveName(Long categoryId) {
+        return this.resolveNames(Collections.singletonList(categoryId)).get(categoryId);
+    }
+
+    public Map<Long, String> resolveNames(Collection<Long> categoryIds) {
+        Map<Long, String> resolved = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        Map<Long, String> catalogNames = this.categoryCatalogCache.getCategoryNames();
+        Instant catalogLoadedAt = this.categoryCatalogCache.getLoadedAt();
+        Instant now = Instant.now();
+
+        List<Long> distinctIds = new LinkedHashSet<>(categoryIds).stream()
+                .filter(Objects::nonNull)
+                .toList();
+
+        distinctIds.forEach(categoryId -> {
+            String name = catalogNames.get(categoryId);
+            CachedName cachedName = this.names.get(categoryId);
+
+            if (cachedName != null && cachedName.expiresAt().isAfter(now)
+                    && (name == null || cachedName.fetchedAt().isAfter(catalogLoadedAt))) {
+                name = cachedName.name();
+            }
+
+            if (name == null) {
+                missing.add(categoryId);
+            } else {
+                resolved.put(categoryId, name);
+            }
+        });
+
+        int calls = 0;
+        if (!missing.isEmpty()) {
+            try {
+                this.fetchMissing(missing, resolved);
+            } catch (RuntimeException e) {
+                if (!QuestionsApiGuard.isUnavailable(e)) {
+                    throw e;
+                }
+
+                log.warn("Category names could not be fetched, serving expired names: {}", e.getMessage());
+                this.resolveExpired(missing, resolved);
+            }
+            calls = 1;
+        }
+
+        this.remoteCalls.increment(calls);
+        this.savedLookups.increment(Math.max(0, distinctIds.size() - calls));
+
+        return resolved;
+    }
+
+    public void evict(Long categoryId) {
+        if (categoryId != null) {
+            this.names.remove(categoryId);
+        }
+    }
+
+    private void fetchMissing(List<Long> missing, Map<Long, String> resolved) {
+        Instant fetchedAt = Instant.now();
+
+        if (missing.size() == 1) {
+            Long categoryId = missing.get(0);
+            String name = this.categoryService.getCategoryNameById(categoryId);
+
+            if (name != null) {
+                this.names.put(categoryId, new CachedName(name, fetchedAt, fetchedAt.plus(this.ttl)));
+                resolved.put(categoryId, name);
+            }
+
+            return;
+        }
+
+        List<CategoryDTO> categories = this.categoryService
+                .getAllCategories("", 0, BULK_FETCH_SIZE)
+                .getCategories();
+
+        categories.stream()
+                .filter(category -> category.getId() != null && category.getName() != null)
+                .forEach(category -> this.names.put(category.getId(), new CachedName(category.getName(), fetchedAt,
+                        fetchedAt.plus(this.ttl))));
+
+        missing.forEach(categoryId -> {
+            CachedName cachedName = this.names.get(categoryId);
+
+            if (cachedName != null) {
+                resolved.put(categoryId, cachedName.name());
+            }
+        });
+    }
+
+    private void resolveExpired(List<Long> missing, Map<Long, String> resolved) {
+        missing.forEach(categoryId -> {
+            CachedName cachedName = this.names.get(categoryId);
+
+            if (cachedName != null) {
+                resolved.put(categoryId, cachedName.name());
+            }
+        });
+    }
+
+    private record CachedName(String name, Instant fetchedAt, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.quizapp.service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived totals for paged listings, keyed by listing and filters, so paging through a listing runs its
+ * count query once per TTL instead of once per page. Totals are only shown to the user; page navigation does
+ * not depend on them.
+ */
+@Component
+public class ListingCountCache {
+
+    private final Duration ttl;
+    private final int maxEntries;
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ListingCountCache(MeterRegistry meterRegistry,
+                             @Value("${cache.listing-counts.ttl:1m}") Duration ttl,
+                             @Value("${cache.listing-counts.max-entries:1000}") int maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+
+        this.hits = meterRegistry.counter("listing.count.cache.hits");
+        this.misses = meterRegistry.counter("listing.count.cache.misses");
+    }
+
+    public long count(String key, LongSupplier loader) {
+        Instant now = Instant.now();
+        CachedCount cachedCount = this.counts.get(key);
+
+        if (cachedCount != null && cachedCount.expiresAt().isAfter(now)) {
+            this.hits.increment();
+            return cachedCount.count();
+        }
+
+        this.misses.increment();
+        long count = loader.getAsLong();
+
+        if (this.counts.size() >= this.maxEntries) {
+            this.counts.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+
+            if (this.counts.size() >= this.maxEntries) {
+                this.counts.clear();
+            }
+        }
+
+        this.counts.put(key, new CachedCount(count, now.plus(this.ttl)));
+        return count;
+    }
+
+    public void evict(String key) {
+        this.counts.remove(key);
+    }
+
+    private record CachedCount(long count, Instant expiresAt) {
+    }
+}
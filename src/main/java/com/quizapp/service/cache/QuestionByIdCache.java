@@ -0,0 +1,100 @@
+package com.quizapp.service.cache;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of single questions for review pages. Entries expire after the TTL and are evicted when the
+ * question is edited; expired entries are still handed out by {@link #getStale} while the questions API is down.
+ */
+@Component
+public class QuestionByIdCache {
+
+    private final Duration ttl;
+    private final int maxEntries;
+
+    private final Map<Long, CachedQuestion> questions = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public QuestionByIdCache(MeterRegistry meterRegistry,
+                             @Value("${cache.questions.ttl:10m}") Duration ttl,
+                             @Value("${cache.questions.max-entries:10000}") int maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+
+        this.hits = meterRegistry.counter("question.cache.hits");
+        this.misses = meterRegistry.counter("question.cache.misses");
+
+        Gauge.builder("question.cache.size", this.questions, Map::size)
+                .register(meterRegistry);
+    }
+
+    public QuestionDTO get(Long questionId) {
+        CachedQuestion cachedQuestion = this.questions.get(questionId);
+
+        if (cachedQuestion == null || !cachedQuestion.expiresAt().isAfter(Instant.now())) {
+            this.misses.increment();
+            return null;
+        }
+
+        this.hits.increment();
+        return cachedQuestion.question();
+    }
+
+    public QuestionDTO getStale(Long questionId) {
+        CachedQuestion cachedQuestion = this.questions.get(questionId);
+        return cachedQuestion == null ? null : cachedQuestion.question();
+    }
+
+    public void put(QuestionDTO question) {
+        if (question == null || question.getId() == null) {
+            return;
+        }
+
+        if (this.questions.size() >= this.maxEntries && !this.questions.containsKey(question.getId())) {
+            this.makeRoom();
+        }
+
+        this.questions.put(question.getId(), new CachedQuestion(question, Instant.now().plus(this.ttl)));
+    }
+
+    public void evict(Long questionId) {
+        if (questionId != null) {
+            this.questions.remove(questionId);
+        }
+    }
+
+    public void evictAll() {
+        this.questions.clear();
+    }
+
+    public int size() {
+        return this.questions.size();
+    }
+
+    private void makeRoom() {
+        Instant now = Instant.now();
+        this.questions.values().removeIf(cachedQuestion -> !cachedQuestion.expiresAt().isAfter(now));
+
+        Iterator<Long> iterator = this.questions.keySet().iterator();
+        while (this.questions.size() >= this.maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedQuestion(QuestionDTO question, Instant expiresAt) {
+    }
+}
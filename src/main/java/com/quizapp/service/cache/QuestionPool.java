@@ -0,0 +1,71 @@
+package com.quizapp.service.cache;
+
+import com.quizapp.model.rest.QuestionApiDTO;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class QuestionPool {
+
+    private final List<QuestionApiDTO> questions;
+    private final long epoch;
+    private final long version;
+    private final Instant loadedAt;
+
+    public QuestionPool(List<QuestionApiDTO> questions, long epoch, long version, Instant loadedAt) {
+        this.questions = List.copyOf(questions);
+        this.epoch = epoch;
+        this.version = version;
+        this.loadedAt = loadedAt;
+    }
+
+    public int size() {
+        return this.questions.size();
+    }
+
+    public boolean isEmpty() {
+        return this.questions.isEmpty();
+    }
+
+    /**
+     * Picks {@code count} distinct questions in random order with a partial Fisher-Yates shuffle.
+     * Only the swapped positions are tracked, so the pool itself is never copied or reordered.
+     */
+    public List<QuestionApiDTO> sample(int count, Random random) {
+        int size = this.questions.size();
+
+        if (count < 0 || count > size) {
+            throw new IllegalArgumentException("Cannot sample " + count + " questions from a pool of " + size);
+        }
+
+        Map<Integer, Integer> swapped = new HashMap<>(count * 2);
+        List<QuestionApiDTO> sample = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(size - i);
+
+            int picked = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+
+            sample.add(this.questions.get(picked));
+        }
+
+        return sample;
+    }
+
+    long getEpoch() {
+        return this.epoch;
+    }
+
+    long getVersion() {
+        return this.version;
+    }
+
+    Instant getLoadedAt() {
+        return this.loadedAt;
+    }
+}
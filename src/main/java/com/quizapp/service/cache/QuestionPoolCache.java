@@ -0,0 +1,150 @@
+package com.quizapp.service.cache;
+
+import com.quizapp.model.rest.QuestionApiDTO;
+import com.quizapp.service.interfaces.QuestionService;
+import com.quizapp.service.remote.QuestionsApiGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the question list of each category so quiz starts can sample from memory.
+ * A pool is reloaded when its TTL passes or when its category version (or the global epoch)
+ * was bumped by a question write; concurrent starts on a cold category share one load.
+ * While the questions API is unavailable the last loaded pool of a category keeps being served.
+ */
+@Component
+@Slf4j
+public class QuestionPoolCache {
+
+    private final QuestionService questionService;
+    private final Duration ttl;
+
+    private final Map<Long, CompletableFuture<QuestionPool>> pools = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> categoryVersions = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleServed;
+
+    public QuestionPoolCache(QuestionService questionService, MeterRegistry meterRegistry,
+                             @Value("${cache.question-pools.ttl:10m}") Duration ttl) {
+        this.questionService = questionService;
+        this.ttl = ttl;
+
+        this.hits = meterRegistry.counter("question.pool.hits");
+        this.misses = meterRegistry.counter("question.pool.misses");
+        this.staleServed = meterRegistry.counter("question.pool.stale.served");
+
+        Gauge.builder("question.pool.categories", this.pools, Map::size)
+                .register(meterRegistry);
+    }
+
+    public QuestionPool getPool(Long categoryId) {
+        while (true) {
+            CompletableFuture<QuestionPool> current = this.pools.get(categoryId);
+
+            if (current != null) {
+                if (!current.isDone()) {
+                    return this.await(current);
+                }
+
+                QuestionPool pool = current.isCompletedExceptionally() ? null : current.join();
+                if (pool != null && this.isValid(categoryId, pool)) {
+                    this.hits.increment();
+                    return pool;
+                }
+            }
+
+            CompletableFuture<QuestionPool> loading = new CompletableFuture<>();
+            boolean claimed = current == null
+                    ? this.pools.putIfAbsent(categoryId, loading) == null
+                    : this.pools.replace(categoryId, current, loading);
+
+            if (!claimed) {
+                continue;
+            }
+
+            this.misses.increment();
+
+            try {
+                QuestionPool pool = this.load(categoryId);
+                loading.complete(pool);
+                return pool;
+            } catch (RuntimeException e) {
+                QuestionPool stale = current == null || current.isCompletedExceptionally() ? null : current.join();
+
+                if (stale != null && QuestionsApiGuard.isUnavailable(e)) {
+                    log.warn("Serving stale question pool for category {}: {}", categoryId, e.getMessage());
+                    this.pools.replace(categoryId, loading, current);
+                    loading.complete(stale);
+                    this.staleServed.increment();
+                    return stale;
+                }
+
+                this.pools.remove(categoryId, loading);
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    public void invalidate(Long categoryId) {
+        if (categoryId == null) {
+            this.invalidateAll();
+            return;
+        }
+
+        this.categoryVersions.computeIfAbsent(categoryId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        this.epoch.incrementAndGet();
+    }
+
+    private QuestionPool load(Long categoryId) {
+        long currentEpoch = this.epoch.get();
+        long currentVersion = this.versionOf(categoryId);
+
+        QuestionApiDTO[] questions = this.questionService.makeGetRequestByCategoryId(categoryId);
+        List<QuestionApiDTO> questionList = questions == null ? List.of() : Arrays.asList(questions);
+
+        return new QuestionPool(questionList, currentEpoch, currentVersion, Instant.now());
+    }
+
+    private boolean isValid(Long categoryId, QuestionPool pool) {
+        return pool.getEpoch() == this.epoch.get()
+                && pool.getVersion() == this.versionOf(categoryId)
+                && pool.getLoadedAt().plus(this.ttl).isAfter(Instant.now());
+    }
+
+    private long versionOf(Long categoryId) {
+        AtomicLong version = this.categoryVersions.get(categoryId);
+        return version == null ? 0 : version.get();
+    }
+
+    private QuestionPool await(CompletableFuture<QuestionPool> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.quizapp.service.evaluation;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Correct answers of a quiz laid out by question position, each kept as the index of the correct option. A
+ * submitted answer is mapped to its option index and compared with the key in a single pass, and the resulting
+ * {@link QuizEvaluation} is shared by scoring and statistics instead of each of them comparing the answers again.
+ */
+public final class AnswerKey {
+
+    private final Entry[] entries;
+
+    private AnswerKey(Entry[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Key over questions that already keep their correct option index, such as the interned questions of a
+     * stored quiz.
+     */
+    public static AnswerKey of(Entry[] entries) {
+        return new AnswerKey(entries);
+    }
+
+    public static AnswerKey of(List<QuestionDTO> questions) {
+        Entry[] entries = new Entry[questions.size()];
+
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new OptionIndexEntry(questions.get(i));
+        }
+
+        return new AnswerKey(entries);
+    }
+
+    public int size() {
+        return this.entries.length;
+    }
+
+    public QuizEvaluation evaluate(Map<Long, String> userAnswers) {
+        BitSet correct = new BitSet(this.entries.length);
+
+        for (int i = 0; i < this.entries.length; i++) {
+            String answer = userAnswers.get(this.entries[i].getId());
+
+            if (answer != null && this.entries[i].isCorrect(answer)) {
+                correct.set(i);
+            }
+        }
+
+        return new QuizEvaluation(correct, this.entries.length);
+    }
+
+    /**
+     * One question of the key. {@link #isCorrect} maps the submitted option text to its option index and compares
+     * it with the index of the correct option.
+     */
+    public interface Entry {
+
+        Long getId();
+
+        boolean isCorrect(String answer);
+    }
+
+    private static final class OptionIndexEntry implements Entry {
+
+        private final Long id;
+        private final List<String> options;
+        private final int correctOption;
+        private final String detachedCorrectAnswer;
+
+        private OptionIndexEntry(QuestionDTO question) {
+            this.id = question.getId();
+            this.options = question.getOptions() == null ? Collections.emptyList() : question.getOptions();
+            this.correctOption = question.getCorrectAnswer() == null ? -1 : this.options.indexOf(question.getCorrectAnswer());
+            this.detachedCorrectAnswer = this.correctOption < 0 ? question.getCorrectAnswer() : null;
+        }
+
+        @Override
+        public Long getId() {
+            return this.id;
+        }
+
+        @Override
+        public boolean isCorrect(String answer) {
+            return this.correctOption < 0
+                    ? answer.equals(this.detachedCorrectAnswer)
+                    : this.options.indexOf(answer) == this.correctOption;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.quizapp.service.evaluation;
+
+/**
+ * A quiz store that can score a quiz from its own form of it, without the quiz being rebuilt first.
+ */
+public interface AnswerKeySource {
+
+    /**
+     * Returns {@code null} when the store does not hold the quiz.
+     */
+    AnswerKey answerKey(String viewToken);
+}
@@ -0,0 +1,33 @@
+package com.quizapp.service.evaluation;
+
+import java.util.BitSet;
+
+/**
+ * Outcome of one submission: which questions, by position in the quiz, were answered correctly.
+ */
+public final class QuizEvaluation {
+
+    private final BitSet correct;
+    private final int totalQuestions;
+
+    QuizEvaluation(BitSet correct, int totalQuestions) {
+        this.correct = correct;
+        this.totalQuestions = totalQuestions;
+    }
+
+    public boolean isCorrect(int position) {
+        return this.correct.get(position);
+    }
+
+    public int getCorrectAnswers() {
+        return this.correct.cardinality();
+    }
+
+    public int getTotalQuestions() {
+        return this.totalQuestions;
+    }
+
+    public double getScorePercent() {
+        return ((double) this.getCorrectAnswers() / this.totalQuestions) * 100;
+    }
+}
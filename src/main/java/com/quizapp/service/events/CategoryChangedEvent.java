@@ -0,0 +1,17 @@
+package com.quizapp.service.events;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+@Setter
+public class CategoryChangedEvent extends ApplicationEvent {
+
+    private Long categoryId;
+
+    public CategoryChangedEvent(Object source, Long categoryId) {
+        super(source);
+        this.categoryId = categoryId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.quizapp.service.events;
+
+import com.quizapp.service.cache.CategoryCatalogCache;
+import com.quizapp.service.cache.CategoryNameResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CategoryChangedEventListener {
+
+    private final CategoryCatalogCache categoryCatalogCache;
+    private final CategoryNameResolver categoryNameResolver;
+
+    @EventListener
+    public void handleCategoryChanged(CategoryChangedEvent categoryChangedEvent) {
+
+        this.categoryNameResolver.evict(categoryChangedEvent.getCategoryId());
+        this.categoryCatalogCache.invalidate();
+    }
+}
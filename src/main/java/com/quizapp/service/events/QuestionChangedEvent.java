@@ -0,0 +1,20 @@
+package com.quizapp.service.events;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+@Setter
+public class QuestionChangedEvent extends ApplicationEvent {
+
+    private Long questionId;
+
+    private Long categoryId;
+
+    public QuestionChangedEvent(Object source, Long questionId, Long categoryId) {
+        super(source);
+        this.questionId = questionId;
+        this.categoryId = categoryId;
+    }
+}
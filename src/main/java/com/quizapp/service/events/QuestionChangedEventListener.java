@@ -0,0 +1,22 @@
+package com.quizapp.service.events;
+
+import com.quizapp.service.cache.QuestionByIdCache;
+import com.quizapp.service.cache.QuestionPoolCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class QuestionChangedEventListener {
+
+    private final QuestionPoolCache questionPoolCache;
+    private final QuestionByIdCache questionByIdCache;
+
+    @EventListener
+    public void handleQuestionChanged(QuestionChangedEvent questionChangedEvent) {
+
+        this.questionPoolCache.invalidate(questionChangedEvent.getCategoryId());
+        this.questionByIdCache.evict(questionChangedEvent.getQuestionId());
+    }
+}
@@ -1,6 +1,8 @@
 package com.quizapp.service.interfaces;
 
+import com.quizapp.model.dto.KeysetPageDTO;
 import com.quizapp.model.dto.category.CategoryStatsDTO;
+import com.quizapp.model.enums.CategorySortField;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -8,6 +10,9 @@ public interface CategoryStatisticsService {
 
     Page<CategoryStatsDTO> getAllCategoriesFiltered(Long categoryId, Pageable pageable);
 
+    KeysetPageDTO<CategoryStatsDTO> getCategoryStatisticsPage(Long categoryId, CategorySortField sortBy,
+                                                              String cursor, int size);
+
     void increaseStartedQuizzes(Long categoryId);
 
     void updateOnQuizCompleted(Long categoryId, int correctAnswers, int totalQuestions);
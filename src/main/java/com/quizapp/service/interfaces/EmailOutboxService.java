@@ -0,0 +1,19 @@
+package com.quizapp.service.interfaces;
+
+import com.quizapp.model.entity.EmailOutboxMessage;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxService {
+
+    void enqueue(String sendTo, String subject, String content, String replyTo);
+
+    List<EmailOutboxMessage> claimDueMessages(int batchSize);
+
+    void markSent(Collection<Long> messageIds);
+
+    void markFailed(Long messageId, String error);
+
+    long countPending();
+}
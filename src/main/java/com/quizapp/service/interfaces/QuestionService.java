@@ -8,12 +8,16 @@ import com.quizapp.model.rest.QuestionApiDTO;
 import com.quizapp.model.entity.Result;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface QuestionService {
 
     QuestionPageDTO getAllQuestions(String questionText, Long categoryId, Pageable pageable);
 
     QuestionDTO getQuestionById(Long id);
 
+    List<QuestionDTO> getQuestionsByIds(List<Long> ids);
+
     Result addQuestion(AddQuestionDTO addQuestionDTO);
 
     QuestionDTO mapQuestionApiToDTO(QuestionApiDTO questionApiDTO);
@@ -0,0 +1,15 @@
+package com.quizapp.service.interfaces;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import com.quizapp.model.entity.QuestionSnapshot;
+
+import java.util.List;
+
+public interface QuestionSnapshotService {
+
+    List<QuestionSnapshot> snapshotsOf(List<QuestionDTO> questions);
+
+    List<QuestionDTO> getSnapshotQuestions(Long solvedQuizId);
+
+    int backfillSolvedQuizzes();
+}
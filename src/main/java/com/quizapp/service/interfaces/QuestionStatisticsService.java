@@ -1,17 +1,24 @@
 package com.quizapp.service.interfaces;
 
+import com.quizapp.model.dto.KeysetPageDTO;
+import com.quizapp.model.dto.question.QuestionDTO;
 import com.quizapp.model.dto.question.QuestionStatsDTO;
 import com.quizapp.model.entity.Quiz;
+import com.quizapp.model.enums.QuestionSortField;
+import com.quizapp.service.evaluation.QuizEvaluation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.Map;
+import java.util.List;
 
 public interface QuestionStatisticsService {
 
     Page<QuestionStatsDTO> getFilteredQuestionStatistics(Long categoryId, String questionText, Pageable pageable);
 
-    void increaseUsedQuestion(Long questionId, String questionText, Long categoryId);
+    KeysetPageDTO<QuestionStatsDTO> getQuestionStatisticsPage(Long categoryId, String questionText,
+                                                              QuestionSortField sortBy, String cursor, int size);
 
-    void updateOnQuizCompleted(Quiz quiz, Map<Long, String> userAnswers);
+    void increaseUsedQuestions(List<QuestionDTO> questions, Long categoryId);
+
+    void updateOnQuizCompleted(Quiz quiz, QuizEvaluation evaluation);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.quizapp.service.interfaces;
 
+import com.quizapp.model.dto.KeysetPageDTO;
 import com.quizapp.model.dto.quiz.QuizDTO;
 import com.quizapp.model.dto.quiz.QuizResultDTO;
 import com.quizapp.model.dto.quiz.QuizSubmissionDTO;
@@ -15,6 +16,9 @@ public interface UserQuizService {
     @Transactional
     Page<QuizDTO> getSolvedQuizzesByUsername(String username, int page, int size);
 
+    @Transactional
+    KeysetPageDTO<QuizDTO> getSolvedQuizzesPage(String username, String cursor, int size);
+
     @Transactional
     Long evaluateQuiz(QuizSubmissionDTO quizSubmissionDTO, String username);
 
@@ -18,7 +18,6 @@ public interface UserService {
 
     Integer sendInactiveSolvingQuizzesUsersEmails();
 
-    @Transactional
     Integer resendWarnedInactiveSolvingQuizzesUsersEmails();
 
     Integer sendInactiveUsersWarnEmail();
@@ -33,6 +32,8 @@ public interface UserService {
 
     Optional<User> getUserByUsername(String username);
 
+    Optional<User> getUserReferenceByUsername(String username);
+
     Optional<User> getUserByEmail(String email);
 
     User saveAndFlushUser(User user);
@@ -1,5 +1,7 @@
 package com.quizapp.service.interfaces;
 
+import com.quizapp.model.dto.KeysetPageDTO;
+import com.quizapp.model.dto.user.InactiveUserDTO;
 import com.quizapp.model.dto.user.UserStatisticsDTO;
 import com.quizapp.model.entity.User;
 import com.quizapp.model.entity.UserStatistics;
@@ -8,23 +10,30 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface UserStatisticsService {
 
     Page<UserStatisticsDTO> getUserStatisticsFiltered(String username, UserSortField sortBy, Pageable pageable);
 
+    KeysetPageDTO<UserStatisticsDTO> getUserStatisticsPage(String username, UserSortField sortBy, String cursor, int size);
+
     UserStatistics createInitialStatistics(User user);
 
-    UserStatistics updateUserStatistics(UserStatistics userStatistics, long correctAnswers, int totalQuestions, LocalDateTime solvedAt);
+    void recordSolvedQuiz(Long userId, int correctAnswers, int totalQuestions, LocalDateTime solvedAt);
+
+    List<InactiveUserDTO> findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime dateTime, Long afterId, int limit);
+
+    List<InactiveUserDTO> findWarnedUsersToResendSolvingWarning(LocalDateTime dateTime, Long afterId, int limit);
 
-    List<UserStatistics> findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime dateTime);
+    List<Long> findInactiveLoginUsersWarned(LocalDateTime dateTime, Long afterUserId, int limit);
 
-    List<UserStatistics> findWarnedUsersToResendSolvingWarning(LocalDateTime dateTime);
+    List<InactiveUserDTO> findInactiveNotWarned(LocalDateTime dateTime, Long afterId, int limit);
 
-    List<User> findInactiveLoginUsersWarned(LocalDateTime dateTime);
+    void markSolvingWarningSent(Collection<Long> userStatisticsIds, LocalDateTime sentAt);
 
-    List<UserStatistics> findInactiveNotWarned(LocalDateTime oneYearAgo);
+    void markDeletionWarningSent(Collection<Long> userStatisticsIds, LocalDateTime sentAt);
 
     void saveAndFlushUserStatistics(UserStatistics userStatistics);
 }
\ No newline at end of file
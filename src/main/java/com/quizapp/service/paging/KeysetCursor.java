@@ -0,0 +1,48 @@
+package com.quizapp.service.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a keyset listing: the sort value and id of the boundary row, the direction to read from it and the
+ * number of the page being read. Encoded as an opaque URL-safe token for continuation links.
+ */
+public record KeysetCursor(String sortName, boolean backward, int page, long id, String value) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, this.sortName, this.backward ? "b" : "f", String.valueOf(this.page),
+                String.valueOf(this.id), this.value == null ? "" : this.value);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns {@code null} for missing, malformed or foreign tokens, which callers treat as the first page.
+     */
+    public static KeysetCursor decode(String token, String expectedSortName) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 5);
+
+            if (parts.length != 5 || !parts[0].equals(expectedSortName)) {
+                return null;
+            }
+
+            int page = Integer.parseInt(parts[2]);
+            if (page < 1) {
+                return null;
+            }
+
+            return new KeysetCursor(parts[0], parts[1].equals("b"), page, Long.parseLong(parts[3]),
+                    parts[4].isEmpty() ? null : parts[4]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
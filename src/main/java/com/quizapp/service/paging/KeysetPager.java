@@ -0,0 +1,79 @@
+package com.quizapp.service.paging;
+
+import com.quizapp.model.dto.KeysetPageDTO;
+import com.quizapp.repository.spec.KeysetSpecifications;
+import com.quizapp.service.cache.ListingCountCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads listings page by page with (sort value, id) seek predicates instead of offsets, so a deep page costs
+ * the same as the first one. Totals come from {@link ListingCountCache} rather than a count per page.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPager {
+
+    private final ListingCountCache listingCountCache;
+
+    public <T> KeysetPageDTO<T> read(JpaSpecificationExecutor<T> repository, Specification<T> filter,
+                                     KeysetSort sort, String cursorToken, int size, String countKey) {
+        KeysetCursor cursor = KeysetCursor.decode(cursorToken, sort.name());
+
+        List<T> rows = new ArrayList<>(repository.findBy(
+                Specification.allOf(filter, KeysetSpecifications.seek(sort, cursor)),
+                query -> query.limit(size + 1).all()));
+
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+
+        int page = cursor == null ? 0 : cursor.page();
+        boolean backward = cursor != null && cursor.backward();
+
+        if (backward) {
+            Collections.reverse(rows);
+
+            if (!hasMore) {
+                page = 0;
+            }
+        }
+
+        boolean hasNext = !rows.isEmpty() && (backward || hasMore);
+        boolean hasPrevious = page > 0;
+
+        String nextCursor = hasNext ? this.cursorAt(rows.get(rows.size() - 1), sort, false, page + 1) : null;
+        String previousCursor = hasPrevious && page > 1 && !rows.isEmpty()
+                ? this.cursorAt(rows.get(0), sort, true, page - 1)
+                : null;
+
+        long totalElements = this.listingCountCache.count(countKey, () -> repository.count(filter));
+
+        return KeysetPageDTO.<T>builder()
+                .content(rows)
+                .currentPage(page)
+                .size(size)
+                .totalElements(totalElements)
+                .hasPrevious(hasPrevious)
+                .previousCursor(previousCursor)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private String cursorAt(Object row, KeysetSort sort, boolean backward, int page) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(row);
+        Object value = sort.hasAttribute() ? wrapper.getPropertyValue(sort.attribute()) : null;
+
+        return new KeysetCursor(sort.name(), backward, page, (Long) wrapper.getPropertyValue("id"),
+                value == null ? null : value.toString()).encode();
+    }
+}
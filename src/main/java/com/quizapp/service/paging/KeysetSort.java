@@ -0,0 +1,24 @@
+package com.quizapp.service.paging;
+
+/**
+ * Ordering of a keyset listing: an optional sort attribute, always followed by the entity id as a tie-breaker.
+ * Nullable attributes are ordered with nulls last.
+ */
+public record KeysetSort(String name, String attribute, boolean descending, boolean nullable) {
+
+    public static KeysetSort byId() {
+        return new KeysetSort("id", null, false, false);
+    }
+
+    public static KeysetSort descending(String name, String attribute) {
+        return new KeysetSort(name, attribute, true, false);
+    }
+
+    public static KeysetSort descendingNullsLast(String name, String attribute) {
+        return new KeysetSort(name, attribute, true, true);
+    }
+
+    public boolean hasAttribute() {
+        return this.attribute != null;
+    }
+}
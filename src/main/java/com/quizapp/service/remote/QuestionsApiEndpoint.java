@@ -0,0 +1,19 @@
+package com.quizapp.service.remote;
+
+public enum QuestionsApiEndpoint {
+
+    CATEGORIES("categories"),
+    QUESTIONS_BY_CATEGORY("questions-by-category"),
+    QUESTION_BY_ID("question-by-id"),
+    WRITES("writes");
+
+    private final String name;
+
+    QuestionsApiEndpoint(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+}
@@ -0,0 +1,100 @@
+package com.quizapp.service.remote;
+
+import com.quizapp.config.QuestionsApiConfig;
+import com.quizapp.exception.QuestionsApiUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Runs questions API calls through a circuit breaker and a concurrency bulkhead per endpoint family, so a
+ * degraded API is cut off after repeated I/O errors or 5xx responses instead of tying up request threads.
+ * An open breaker lets a single probe through once its wait has passed and closes again if the probe succeeds.
+ */
+@Component
+@Slf4j
+public class QuestionsApiGuard {
+
+    private final Map<QuestionsApiEndpoint, CircuitBreaker> circuitBreakers = new EnumMap<>(QuestionsApiEndpoint.class);
+    private final Map<QuestionsApiEndpoint, Bulkhead> bulkheads = new EnumMap<>(QuestionsApiEndpoint.class);
+
+    public QuestionsApiGuard(QuestionsApiConfig questionsApiConfig, MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(questionsApiConfig.getBreakerSlidingWindowSize())
+                .minimumNumberOfCalls(questionsApiConfig.getBreakerMinimumCalls())
+                .failureRateThreshold(questionsApiConfig.getBreakerFailureRateThreshold())
+                .waitDurationInOpenState(questionsApiConfig.getBreakerOpenDuration())
+                .permittedNumberOfCallsInHalfOpenState(questionsApiConfig.getBreakerHalfOpenCalls())
+                .recordException(QuestionsApiGuard::isRemoteFailure)
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(questionsApiConfig.getBulkheadMaxConcurrentCalls())
+                .maxWaitDuration(questionsApiConfig.getBulkheadMaxWait())
+                .build());
+
+        for (QuestionsApiEndpoint endpoint : QuestionsApiEndpoint.values()) {
+            String name = "questions-api." + endpoint.getName();
+
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+            circuitBreaker.getEventPublisher().onStateTransition(event -> {
+                log.warn("Circuit breaker {} moved {}", event.getCircuitBreakerName(), event.getStateTransition());
+                meterRegistry.counter("questions.api.circuit.transitions",
+                        "name", event.getCircuitBreakerName(),
+                        "from", event.getStateTransition().getFromState().name(),
+                        "to", event.getStateTransition().getToState().name()).increment();
+            });
+
+            this.circuitBreakers.put(endpoint, circuitBreaker);
+            this.bulkheads.put(endpoint, bulkheadRegistry.bulkhead(name));
+        }
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    public <T> T call(QuestionsApiEndpoint endpoint, Supplier<T> remoteCall) {
+        CircuitBreaker circuitBreaker = this.circuitBreakers.get(endpoint);
+        Bulkhead bulkhead = this.bulkheads.get(endpoint);
+
+        try {
+            return circuitBreaker.executeSupplier(() -> bulkhead.executeSupplier(remoteCall));
+        } catch (CallNotPermittedException e) {
+            throw new QuestionsApiUnavailableException(
+                    "Questions API " + endpoint.getName() + " calls are suspended while the circuit is open", e);
+        } catch (BulkheadFullException e) {
+            throw new QuestionsApiUnavailableException(
+                    "Too many concurrent questions API " + endpoint.getName() + " calls", e);
+        }
+    }
+
+    public CircuitBreaker.State getState(QuestionsApiEndpoint endpoint) {
+        return this.circuitBreakers.get(endpoint).getState();
+    }
+
+    public static boolean isRemoteFailure(Throwable throwable) {
+        return throwable instanceof ResourceAccessException || throwable instanceof HttpServerErrorException;
+    }
+
+    public static boolean isUnavailable(Throwable throwable) {
+        return throwable instanceof QuestionsApiUnavailableException || isRemoteFailure(throwable);
+    }
+}
@@ -2,6 +2,7 @@ package com.quizapp.service.scheduler;
 
 import com.quizapp.service.interfaces.GuestQuizService;
 import com.quizapp.service.interfaces.PasswordResetService;
+import com.quizapp.service.interfaces.QuestionSnapshotService;
 import com.quizapp.service.interfaces.UserService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ public class CronScheduler {
     private final PasswordResetService passwordResetService;
     private final GuestQuizService guestQuizService;
     private final UserService userService;
+    private final QuestionSnapshotService questionSnapshotService;
 
     @Scheduled(cron = "0 20 16 * * *")
     @Transactional
@@ -44,7 +46,6 @@ public class CronScheduler {
     }
 
     @Scheduled(cron = "0 0 3 * * ?")
-    @Transactional
     public void cleanupInactiveUsersWarned() {
         Integer removedProfiles = this.userService.removeWarnedInactiveLoginUsersAccounts();
 
@@ -64,4 +65,11 @@ public class CronScheduler {
 
         this.LOGGER.info("Повторно са изпратени имейли на {} неактивни потребители.", resendReminderEmails);
     }
+
+    @Scheduled(cron = "${quiz.snapshots.backfill-cron:0 30 2 * * *}")
+    public void backfillQuestionSnapshots() {
+        int backfilledQuizzes = this.questionSnapshotService.backfillSolvedQuizzes();
+
+        this.LOGGER.info("Добавени са снимки на въпросите към {} решени куиза.", backfilledQuizzes);
+    }
 }
\ No newline at end of file
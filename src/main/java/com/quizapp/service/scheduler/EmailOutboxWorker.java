@@ -0,0 +1,147 @@
+package com.quizapp.service.scheduler;
+
+import com.quizapp.model.entity.EmailOutboxMessage;
+import com.quizapp.service.interfaces.EmailOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the email outbox. Each poll claims a batch of due messages and splits it between the outbox worker
+ * threads. Every worker sends its share over a single SMTP connection.
+ */
+@Slf4j
+@Component
+public class EmailOutboxWorker {
+
+    private final EmailOutboxService emailOutboxService;
+    private final JavaMailSender javaMailSender;
+    private final Executor emailOutboxExecutor;
+    private final String email;
+    private final int batchSize;
+    private final int workers;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Counter sent;
+    private final Counter failures;
+
+    public EmailOutboxWorker(EmailOutboxService emailOutboxService, JavaMailSender javaMailSender,
+                             @Qualifier("emailOutboxExecutor") Executor emailOutboxExecutor,
+                             MeterRegistry meterRegistry,
+                             @Value("${mail.quiz_app}") String email,
+                             @Value("${email.outbox.batch-size:50}") int batchSize,
+                             @Value("${email.outbox.workers:2}") int workers) {
+        this.emailOutboxService = emailOutboxService;
+        this.javaMailSender = javaMailSender;
+        this.emailOutboxExecutor = emailOutboxExecutor;
+        this.email = email;
+        this.batchSize = batchSize;
+        this.workers = workers;
+
+        Gauge.builder("email.outbox.depth", this.queueDepth, AtomicLong::get)
+                .register(meterRegistry);
+        this.sent = meterRegistry.counter("email.outbox.sent");
+        this.failures = meterRegistry.counter("email.outbox.failures");
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:2s}")
+    public void drain() {
+        List<EmailOutboxMessage> messages = this.emailOutboxService.claimDueMessages(this.batchSize);
+
+        if (!messages.isEmpty()) {
+            int chunkSize = (messages.size() + this.workers - 1) / this.workers;
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+
+            for (int from = 0; from < messages.size(); from += chunkSize) {
+                List<EmailOutboxMessage> chunk = messages.subList(from, Math.min(from + chunkSize, messages.size()));
+                chunks.add(CompletableFuture.runAsync(() -> this.sendChunk(chunk), this.emailOutboxExecutor));
+            }
+
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        }
+
+        this.queueDepth.set(this.emailOutboxService.countPending());
+    }
+
+    void sendChunk(List<EmailOutboxMessage> chunk) {
+        Map<MimeMessage, Long> messageIds = new LinkedHashMap<>();
+
+        for (EmailOutboxMessage message : chunk) {
+            try {
+                messageIds.put(this.toMimeMessage(message), message.getId());
+            } catch (MessagingException e) {
+                this.fail(message.getId(), e);
+            }
+        }
+
+        if (messageIds.isEmpty()) {
+            return;
+        }
+
+        Set<Long> failedIds = new HashSet<>();
+
+        try {
+            this.javaMailSender.send(messageIds.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                messageIds.values().forEach(id -> this.fail(id, e));
+                failedIds.addAll(messageIds.values());
+            } else {
+                e.getFailedMessages().forEach((failedMessage, cause) -> {
+                    Long id = messageIds.get(failedMessage);
+                    if (id != null) {
+                        this.fail(id, cause);
+                        failedIds.add(id);
+                    }
+                });
+            }
+        } catch (MailException e) {
+            messageIds.values().forEach(id -> this.fail(id, e));
+            failedIds.addAll(messageIds.values());
+        }
+
+        List<Long> sentIds = messageIds.values().stream()
+                .filter(id -> !failedIds.contains(id))
+                .toList();
+
+        this.emailOutboxService.markSent(sentIds);
+        this.sent.increment(sentIds.size());
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxMessage message) throws MessagingException {
+        MimeMessage mimeMessage = this.javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, "UTF-8");
+
+        mimeMessageHelper.setTo(message.getRecipient());
+        mimeMessageHelper.setFrom(this.email);
+        if (message.getReplyTo() != null) {
+            mimeMessageHelper.setReplyTo(message.getReplyTo());
+        }
+        mimeMessageHelper.setSubject(message.getSubject());
+        mimeMessageHelper.setText(message.getContent(), true);
+
+        return mimeMessage;
+    }
+
+    private void fail(Long messageId, Exception cause) {
+        log.warn("Failed to send outbox email {}: {}", messageId, cause.getMessage());
+        this.failures.increment();
+        this.emailOutboxService.markFailed(messageId, cause.getMessage());
+    }
+}
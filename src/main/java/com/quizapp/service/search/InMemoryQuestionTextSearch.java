@@ -0,0 +1,152 @@
+package com.quizapp.service.search;
+
+import com.quizapp.model.dto.question.QuestionTextDTO;
+import com.quizapp.model.entity.QuestionStatistics;
+import com.quizapp.repository.QuestionStatisticsRepository;
+import com.quizapp.repository.spec.QuestionStatisticsSpecifications;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process inverted index over question statistics text, used where the database has no text search of its
+ * own. Tokens are kept sorted so a query word also matches every indexed word it is a prefix of. The index is
+ * loaded from the statistics table at startup and then kept current by the statistics write path.
+ */
+@Component
+@ConditionalOnProperty(name = "search.question-text.engine", havingValue = "in-memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryQuestionTextSearch implements QuestionTextSearch {
+
+    static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int EXACT_SCORE = 2;
+    private static final int PREFIX_SCORE = 1;
+
+    private final QuestionStatisticsRepository questionStatisticsRepository;
+
+    private final ConcurrentNavigableMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, IndexedQuestion> questions = new ConcurrentHashMap<>();
+
+    public InMemoryQuestionTextSearch(QuestionStatisticsRepository questionStatisticsRepository,
+                                      MeterRegistry meterRegistry) {
+        this.questionStatisticsRepository = questionStatisticsRepository;
+
+        Gauge.builder("question.text.index.size", this.questions, Map::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long afterQuestionId = 0L;
+        List<QuestionTextDTO> chunk;
+
+        do {
+            chunk = this.questionStatisticsRepository.findQuestionTexts(afterQuestionId, Limit.of(REBUILD_CHUNK_SIZE));
+            chunk.forEach(question ->
+                    this.index(question.getQuestionId(), question.getCategoryId(), question.getQuestionText()));
+
+            if (!chunk.isEmpty()) {
+                afterQuestionId = chunk.get(chunk.size() - 1).getQuestionId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        log.info("Indexed the text of {} questions for search.", this.questions.size());
+    }
+
+    @Override
+    public void index(Long questionId, Long categoryId, String questionText) {
+        if (questionId == null) {
+            return;
+        }
+
+        List<String> tokens = QuestionTextTokenizer.tokenize(questionText);
+        IndexedQuestion previous = this.questions.put(questionId, new IndexedQuestion(categoryId, tokens));
+
+        if (previous != null) {
+            if (previous.tokens().equals(tokens)) {
+                return;
+            }
+
+            previous.tokens().forEach(token -> this.postings.computeIfPresent(token, (key, ids) -> {
+                ids.remove(questionId);
+                return ids.isEmpty() ? null : ids;
+            }));
+        }
+
+        tokens.forEach(token -> this.postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet())
+                .add(questionId));
+    }
+
+    @Override
+    public List<Long> search(String text, Long categoryId, int limit) {
+        List<String> queryTokens = QuestionTextTokenizer.tokenize(text);
+
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map<Long, Integer>> tokenMatches = queryTokens.stream()
+                .map(this::matches)
+                .sorted(Comparator.comparingInt(Map::size))
+                .toList();
+
+        Map<Long, Integer> scores = new HashMap<>(tokenMatches.get(0));
+        for (int i = 1; i < tokenMatches.size() && !scores.isEmpty(); i++) {
+            Map<Long, Integer> matches = tokenMatches.get(i);
+
+            scores.keySet().retainAll(matches.keySet());
+            scores.replaceAll((questionId, score) -> score + matches.get(questionId));
+        }
+
+        return scores.entrySet().stream()
+                .filter(entry -> categoryId == null
+                        || categoryId.equals(this.questions.get(entry.getKey()).categoryId()))
+                .sorted(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                        .thenComparingInt(entry -> this.questions.get(entry.getKey()).tokens().size())
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public Specification<QuestionStatistics> matching(String text, Long categoryId) {
+        return QuestionStatisticsSpecifications.hasQuestionIdIn(this.search(text, categoryId, Integer.MAX_VALUE));
+    }
+
+    public int size() {
+        return this.questions.size();
+    }
+
+    private Map<Long, Integer> matches(String token) {
+        Map<Long, Integer> matches = new HashMap<>();
+
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            this.postings.subMap(token, false, token + Character.MAX_VALUE, false).values()
+                    .forEach(ids -> ids.forEach(questionId -> matches.put(questionId, PREFIX_SCORE)));
+        }
+
+        Set<Long> exact = this.postings.get(token);
+        if (exact != null) {
+            exact.forEach(questionId -> matches.put(questionId, EXACT_SCORE));
+        }
+
+        return matches;
+    }
+
+    private record IndexedQuestion(Long categoryId, List<String> tokens) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.quizapp.service.search;
+
+import com.quizapp.model.entity.QuestionStatistics;
+import com.quizapp.repository.QuestionStatisticsRepository;
+import com.quizapp.repository.spec.QuestionStatisticsSpecifications;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Question text search backed by a PostgreSQL GIN index over the question text, with "ѝ" folded into "и" as
+ * {@link QuestionTextTokenizer} folds the searched words. The database keeps the index current on every
+ * statistics insert, so {@link #index} has nothing to do.
+ */
+@Component
+@ConditionalOnProperty(name = "search.question-text.engine", havingValue = "postgres")
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresQuestionTextSearch implements QuestionTextSearch {
+
+    private final QuestionStatisticsRepository questionStatisticsRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndex() {
+        try {
+            this.questionStatisticsRepository.createTextSearchIndex();
+        } catch (RuntimeException e) {
+            log.warn("Failed to create the question text search index, searches will scan the table.", e);
+        }
+    }
+
+    @Override
+    public List<Long> search(String text, Long categoryId, int limit) {
+        String prefixQuery = prefixQuery(text);
+
+        if (prefixQuery == null) {
+            return List.of();
+        }
+
+        return this.questionStatisticsRepository.searchQuestionIds(prefixQuery, categoryId, limit);
+    }
+
+    /**
+     * Matches in SQL against the same index as {@link #search}, so sorted listings see every match.
+     */
+    @Override
+    public Specification<QuestionStatistics> matching(String text, Long categoryId) {
+        String prefixQuery = prefixQuery(text);
+
+        return prefixQuery == null
+                ? QuestionStatisticsSpecifications.hasQuestionIdIn(List.of())
+                : QuestionStatisticsSpecifications.matchesTextQuery(prefixQuery);
+    }
+
+    private static String prefixQuery(String text) {
+        List<String> tokens = QuestionTextTokenizer.tokenize(text);
+
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        return tokens.stream()
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    @Override
+    public void index(Long questionId, Long categoryId, String questionText) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.quizapp.service.search;
+
+import com.quizapp.model.entity.QuestionStatistics;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface QuestionTextSearch {
+
+    /**
+     * Returns the ids of questions whose text contains every word of {@code text}, either whole or as a
+     * prefix, best matches first.
+     */
+    List<Long> search(String text, Long categoryId, int limit);
+
+    /**
+     * Restricts a statistics query to the questions {@link #search} would return, with no limit on how many
+     * match, for listings sorted by something other than rank.
+     */
+    Specification<QuestionStatistics> matching(String text, Long categoryId);
+
+    void index(Long questionId, Long categoryId, String questionText);
+}
@@ -0,0 +1,32 @@
+package com.quizapp.service.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits question text into lower-case search tokens. Letters of any script and digits form tokens, so
+ * Cyrillic words are kept whole; the Bulgarian accented "ѝ" is folded into "и" the way users type it.
+ */
+public final class QuestionTextTokenizer {
+
+    private static final Locale BULGARIAN = Locale.forLanguageTag("bg");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private QuestionTextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = text.toLowerCase(BULGARIAN).replace('ѝ', 'и');
+
+        return Arrays.stream(SEPARATORS.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,239 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Binary layout shared by the session codecs: a format version byte followed by the fields in declaration
+ * order. Numbers and lengths are variable-length, a UUID view token takes two longs and a correct answer is
+ * the index of the matching option. A question's category name is only written when it differs from the
+ * quiz category.
+ * <p>
+ * Version 1 wrote fixed-width numbers, text view tokens and correct answers as text. Sessions live for minutes,
+ * so a version 1 payload is decoded as a miss instead of being converted.
+ */
+public abstract class AbstractQuizSessionCodec<T> implements QuizSessionCodec<T> {
+
+    private static final byte FORMAT_VERSION = 2;
+    private static final byte FIXED_WIDTH_FORMAT_VERSION = 1;
+
+    private static final int UUID_TOKEN = 1;
+    private static final int TEXT_TOKEN = 2;
+    private static final int NOT_AN_OPTION = 0;
+
+    @Override
+    public byte[] encode(T session) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            this.write(out, session);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public T decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version == FIXED_WIDTH_FORMAT_VERSION) {
+                return null;
+            }
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported quiz session format " + version);
+            }
+
+            return this.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void write(DataOutput out, T session) throws IOException;
+
+    protected abstract T read(DataInput in) throws IOException;
+
+    protected static void writeVarLong(DataOutput out, long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+
+        while ((zigZag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.writeByte((int) zigZag);
+    }
+
+    protected static long readVarLong(DataInput in) throws IOException {
+        long zigZag = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+
+        throw new IOException("Malformed variable-length number");
+    }
+
+    protected static void writeLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(out, value);
+        }
+    }
+
+    protected static Long readLong(DataInput in) throws IOException {
+        return in.readBoolean() ? readVarLong(in) : null;
+    }
+
+    /**
+     * Writes a length or count, or -1 for a missing value.
+     */
+    protected static void writeSize(DataOutput out, int size) throws IOException {
+        writeVarLong(out, size);
+    }
+
+    protected static int readSize(DataInput in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    protected static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeSize(out, -1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeSize(out, bytes.length);
+        out.write(bytes);
+    }
+
+    protected static String readString(DataInput in) throws IOException {
+        int length = readSize(in);
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    protected static void writeViewToken(DataOutput out, String viewToken) throws IOException {
+        ViewTokenKey key = ViewTokenKey.of(viewToken);
+
+        if (key.isUuid()) {
+            out.writeByte(UUID_TOKEN);
+            out.writeLong(key.mostSignificantBits());
+            out.writeLong(key.leastSignificantBits());
+        } else {
+            out.writeByte(TEXT_TOKEN);
+            writeString(out, viewToken);
+        }
+    }
+
+    protected static String readViewToken(DataInput in) throws IOException {
+        if (in.readByte() == UUID_TOKEN) {
+            return new ViewTokenKey(in.readLong(), in.readLong(), null).asString();
+        }
+
+        return readString(in);
+    }
+
+    protected static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(out, value.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(out, value.getNano());
+        }
+    }
+
+    protected static LocalDateTime readDateTime(DataInput in) throws IOException {
+        return in.readBoolean()
+                ? LocalDateTime.ofEpochSecond(readVarLong(in), (int) readVarLong(in), ZoneOffset.UTC)
+                : null;
+    }
+
+    protected static void writeQuestions(DataOutput out, List<QuestionDTO> questions, String quizCategoryName)
+            throws IOException {
+        if (questions == null) {
+            writeSize(out, -1);
+            return;
+        }
+
+        writeSize(out, questions.size());
+        for (QuestionDTO question : questions) {
+            writeLong(out, question.getId());
+            writeString(out, question.getQuestionText());
+
+            boolean quizCategory = Objects.equals(question.getCategoryName(), quizCategoryName);
+            out.writeBoolean(quizCategory);
+            if (!quizCategory) {
+                writeString(out, question.getCategoryName());
+            }
+
+            List<String> options = question.getOptions();
+            writeSize(out, options == null ? -1 : options.size());
+            if (options != null) {
+                for (String option : options) {
+                    writeString(out, option);
+                }
+            }
+
+            int correctIndex = options == null ? -1 : options.indexOf(question.getCorrectAnswer());
+            writeSize(out, correctIndex + 1);
+            if (correctIndex < 0) {
+                writeString(out, question.getCorrectAnswer());
+            }
+        }
+    }
+
+    protected static List<QuestionDTO> readQuestions(DataInput in, String quizCategoryName) throws IOException {
+        int size = readSize(in);
+        if (size < 0) {
+            return null;
+        }
+
+        List<QuestionDTO> questions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Long id = readLong(in);
+            String questionText = readString(in);
+            String categoryName = in.readBoolean() ? quizCategoryName : readString(in);
+
+            int optionCount = readSize(in);
+            List<String> options = null;
+            if (optionCount >= 0) {
+                options = new ArrayList<>(optionCount);
+                for (int j = 0; j < optionCount; j++) {
+                    options.add(readString(in));
+                }
+            }
+
+            int correctOption = readSize(in);
+            String correctAnswer = correctOption == NOT_AN_OPTION ? readString(in) : options.get(correctOption - 1);
+
+            questions.add(QuestionDTO.builder()
+                    .id(id)
+                    .questionText(questionText)
+                    .categoryName(categoryName)
+                    .correctAnswer(correctAnswer)
+                    .options(options)
+                    .build());
+        }
+
+        return questions;
+    }
+}
@@ -0,0 +1,106 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import com.quizapp.model.entity.Quiz;
+import com.quizapp.service.evaluation.AnswerKey;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Heap form of an in-flight quiz. Questions are references into the {@link QuestionInternPool}, so a quiz only
+ * owns the order its options were shuffled into, one byte per option, and its view token as two longs.
+ */
+public final class CompactQuiz {
+
+    private static final long NO_EXPIRY = Long.MIN_VALUE;
+
+    private final ViewTokenKey viewToken;
+    private final Long id;
+    private final Long categoryId;
+    private final String categoryName;
+    private final long expireAtSecond;
+    private final int expireAtNano;
+    private final InternedQuestion[] questions;
+    private final byte[] optionOrder;
+
+    private CompactQuiz(ViewTokenKey viewToken, Quiz quiz, String categoryName, InternedQuestion[] questions,
+                        byte[] optionOrder) {
+        this.viewToken = viewToken;
+        this.id = quiz.getId();
+        this.categoryId = quiz.getCategoryId();
+        this.categoryName = categoryName;
+        this.expireAtSecond = quiz.getExpireAt() == null ? NO_EXPIRY : quiz.getExpireAt().toEpochSecond(ZoneOffset.UTC);
+        this.expireAtNano = quiz.getExpireAt() == null ? 0 : quiz.getExpireAt().getNano();
+        this.questions = questions;
+        this.optionOrder = optionOrder;
+    }
+
+    public static CompactQuiz of(ViewTokenKey viewToken, Quiz quiz, QuestionInternPool questionInternPool) {
+        List<QuestionDTO> questionDTOs = quiz.getQuestions() == null ? List.of() : quiz.getQuestions();
+        InternedQuestion[] questions = new InternedQuestion[questionDTOs.size()];
+
+        int optionCount = 0;
+        for (int i = 0; i < questions.length; i++) {
+            questions[i] = questionInternPool.intern(questionDTOs.get(i));
+            optionCount += questions[i].optionCount();
+        }
+
+        byte[] optionOrder = new byte[optionCount];
+        int offset = 0;
+        for (int i = 0; i < questions.length; i++) {
+            questions[i].writeOrder(questionDTOs.get(i).getOptions(), optionOrder, offset);
+            offset += questions[i].optionCount();
+        }
+
+        return new CompactQuiz(viewToken, quiz, questionInternPool.internCategoryName(quiz.getCategoryName()),
+                questions, optionOrder);
+    }
+
+    public ViewTokenKey getViewToken() {
+        return this.viewToken;
+    }
+
+    public Quiz toQuiz() {
+        List<QuestionDTO> questionDTOs = new ArrayList<>(this.questions.length);
+
+        int offset = 0;
+        for (InternedQuestion question : this.questions) {
+            questionDTOs.add(question.toQuestionDTO(this.optionOrder, offset));
+            offset += question.optionCount();
+        }
+
+        return Quiz.builder()
+                .id(this.id)
+                .viewToken(this.viewToken.asString())
+                .categoryId(this.categoryId)
+                .categoryName(this.categoryName)
+                .questions(questionDTOs)
+                .expireAt(this.expireAtSecond == NO_EXPIRY
+                        ? null
+                        : LocalDateTime.ofEpochSecond(this.expireAtSecond, this.expireAtNano, ZoneOffset.UTC))
+                .build();
+    }
+
+    /**
+     * Key read from the questions' correct option indexes; built on submission only, not on every page view.
+     */
+    public AnswerKey answerKey() {
+        return AnswerKey.of(this.questions);
+    }
+
+    /**
+     * Rough shallow size of this quiz and the arrays it owns; pooled questions are not counted.
+     */
+    public long estimatedBytes() {
+        long bytes = 56 + 32 + 16 + 4L * this.questions.length + 16 + this.optionOrder.length;
+
+        if (!this.viewToken.isUuid() && this.viewToken.token() != null) {
+            bytes += 40 + this.viewToken.token().length();
+        }
+
+        return bytes;
+    }
+}
@@ -0,0 +1,105 @@
+package com.quizapp.service.session;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Hashed timer wheel of one-second slots. Entries are filed in the slot of their deadline, so a sweep only
+ * visits the slots whose time has come; entries further out than a full turn stay put until their turn comes
+ * round again. The owning store keeps the entries themselves and decides what expiring one means.
+ */
+public final class ExpiryWheel<E extends ExpiryWheel.Entry> {
+
+    public static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 4096;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Set<E>[] slots;
+    private final ReentrantLock sweepLock = new ReentrantLock();
+    private volatile long lastSweptTick;
+
+    @SuppressWarnings("unchecked")
+    public ExpiryWheel(long nowMillis) {
+        this.slots = new Set[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            this.slots[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.lastSweptTick = nowMillis / TICK_MILLIS;
+    }
+
+    public void add(E entry) {
+        long tick = Math.max(entry.deadlineMillis / TICK_MILLIS, this.lastSweptTick + 1);
+        entry.slot = (int) (tick & WHEEL_MASK);
+
+        this.slots[entry.slot].add(entry);
+    }
+
+    public void remove(E entry) {
+        this.slots[entry.slot].remove(entry);
+    }
+
+    /**
+     * Hands every entry due by {@code nowMillis} to {@code expire} and returns how many it accepted, or -1 if
+     * another sweep is already running.
+     */
+    public int sweepUntil(long nowMillis, Predicate<E> expire) {
+        if (!this.sweepLock.tryLock()) {
+            return -1;
+        }
+
+        try {
+            long nowTick = nowMillis / TICK_MILLIS;
+            long fromTick = Math.max(this.lastSweptTick + 1, nowTick - WHEEL_MASK);
+            int expired = 0;
+
+            for (long tick = fromTick; tick <= nowTick; tick++) {
+                for (E entry : this.slots[(int) (tick & WHEEL_MASK)]) {
+                    if (entry.deadlineMillis <= nowMillis && expire.test(entry)) {
+                        expired++;
+                    }
+                }
+            }
+
+            if (nowTick > this.lastSweptTick) {
+                this.lastSweptTick = nowTick;
+            }
+
+            return expired;
+        } finally {
+            this.sweepLock.unlock();
+        }
+    }
+
+    /**
+     * Offers entries to {@code evict} starting from the slot closest to expiry until one is accepted.
+     */
+    public boolean evictClosestToExpiry(Predicate<E> evict) {
+        long firstTick = this.lastSweptTick + 1;
+
+        for (int offset = 0; offset < WHEEL_SIZE; offset++) {
+            for (E entry : this.slots[(int) ((firstTick + offset) & WHEEL_MASK)]) {
+                if (evict.test(entry)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public abstract static class Entry {
+
+        final long deadlineMillis;
+        int slot;
+
+        protected Entry(long deadlineMillis) {
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public long getDeadlineMillis() {
+            return this.deadlineMillis;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import com.quizapp.service.evaluation.AnswerKey;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One version of a question shared by every compact quiz that shows it. The correct answer is kept as the
+ * index of the matching option; only a correct answer that is not among the options is kept as text.
+ */
+public final class InternedQuestion implements AnswerKey.Entry {
+
+    static final int MAX_OPTIONS = 255;
+
+    private static final byte NOT_AN_OPTION = (byte) 0xFF;
+
+    private final Long id;
+    private final String questionText;
+    private final String categoryName;
+    private final String[] options;
+    private final byte correctOption;
+    private final String detachedCorrectAnswer;
+
+    InternedQuestion(QuestionDTO question, String categoryName) {
+        this.id = question.getId();
+        this.questionText = question.getQuestionText();
+        this.categoryName = categoryName;
+        this.options = question.getOptions() == null ? null : question.getOptions().toArray(String[]::new);
+
+        if (this.options != null && this.options.length > MAX_OPTIONS) {
+            throw new IllegalArgumentException("Question " + this.id + " has more than " + MAX_OPTIONS + " options");
+        }
+
+        int correctIndex = this.options == null ? -1 : Arrays.asList(this.options).indexOf(question.getCorrectAnswer());
+        this.correctOption = correctIndex < 0 ? NOT_AN_OPTION : (byte) correctIndex;
+        this.detachedCorrectAnswer = correctIndex < 0 ? question.getCorrectAnswer() : null;
+    }
+
+    @Override
+    public Long getId() {
+        return this.id;
+    }
+
+    @Override
+    public boolean isCorrect(String answer) {
+        if (this.correctOption == NOT_AN_OPTION) {
+            return answer.equals(this.detachedCorrectAnswer);
+        }
+
+        return this.optionIndexOf(answer) == Byte.toUnsignedInt(this.correctOption);
+    }
+
+    public int optionCount() {
+        return this.options == null ? 0 : this.options.length;
+    }
+
+    public String correctAnswer() {
+        return this.correctOption == NOT_AN_OPTION
+                ? this.detachedCorrectAnswer
+                : this.options[Byte.toUnsignedInt(this.correctOption)];
+    }
+
+    /**
+     * Whether {@code question} is this version of the question, with its options in any order.
+     */
+    boolean matches(QuestionDTO question) {
+        return Objects.equals(this.id, question.getId())
+                && Objects.equals(this.questionText, question.getQuestionText())
+                && Objects.equals(this.categoryName, question.getCategoryName())
+                && Objects.equals(this.correctAnswer(), question.getCorrectAnswer())
+                && this.writeOrder(question.getOptions(), new byte[this.optionCount()], 0);
+    }
+
+    /**
+     * Writes the position of each of {@code options} in this question's options, one byte per option, and
+     * returns false when {@code options} are not a reordering of them.
+     */
+    boolean writeOrder(List<String> options, byte[] target, int offset) {
+        if (options == null || this.options == null) {
+            return options == null && this.options == null;
+        }
+
+        if (options.size() != this.options.length) {
+            return false;
+        }
+
+        boolean[] used = new boolean[this.options.length];
+        for (int i = 0; i < options.size(); i++) {
+            int index = this.unusedIndexOf(options.get(i), used);
+
+            if (index < 0) {
+                return false;
+            }
+
+            used[index] = true;
+            target[offset + i] = (byte) index;
+        }
+
+        return true;
+    }
+
+    QuestionDTO toQuestionDTO(byte[] order, int offset) {
+        String[] shuffled = null;
+
+        if (this.options != null) {
+            shuffled = new String[this.options.length];
+            for (int i = 0; i < shuffled.length; i++) {
+                shuffled[i] = this.options[Byte.toUnsignedInt(order[offset + i])];
+            }
+        }
+
+        return QuestionDTO.builder()
+                .id(this.id)
+                .questionText(this.questionText)
+                .categoryName(this.categoryName)
+                .correctAnswer(this.correctAnswer())
+                .options(shuffled == null ? null : Arrays.asList(shuffled))
+                .build();
+    }
+
+    private int optionIndexOf(String answer) {
+        for (int i = 0; i < this.optionCount(); i++) {
+            if (answer.equals(this.options[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private int unusedIndexOf(String option, boolean[] used) {
+        for (int i = 0; i < this.options.length; i++) {
+            if (!used[i] && Objects.equals(this.options[i], option)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
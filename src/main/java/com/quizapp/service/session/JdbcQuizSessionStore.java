@@ -0,0 +1,61 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.enums.QuizSessionKind;
+import com.quizapp.repository.QuizSessionRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Stores encoded sessions in the shared {@code quiz_sessions} table, so any node can continue a quiz or show a
+ * guest result another node created. A session without its own expiry time lives for {@code defaultTtl}.
+ */
+public class JdbcQuizSessionStore<T> implements QuizSessionStore<T> {
+
+    private final QuizSessionRepository quizSessionRepository;
+    private final QuizSessionKind kind;
+    private final QuizSessionCodec<T> codec;
+    private final Function<T, LocalDateTime> expiryOf;
+    private final Duration defaultTtl;
+    private final Clock clock;
+
+    public JdbcQuizSessionStore(QuizSessionRepository quizSessionRepository, QuizSessionKind kind,
+                                QuizSessionCodec<T> codec, Function<T, LocalDateTime> expiryOf,
+                                Duration defaultTtl, Clock clock) {
+        this.quizSessionRepository = quizSessionRepository;
+        this.kind = kind;
+        this.codec = codec;
+        this.expiryOf = expiryOf;
+        this.defaultTtl = defaultTtl;
+        this.clock = clock;
+    }
+
+    @Override
+    public T get(String viewToken) {
+        byte[] payload = this.quizSessionRepository.findLivePayload(this.kind, viewToken, LocalDateTime.now(this.clock));
+
+        return payload == null ? null : this.codec.decode(payload);
+    }
+
+    @Override
+    public void put(String viewToken, T session) {
+        LocalDateTime expiresAt = this.expiryOf.apply(session);
+        if (expiresAt == null) {
+            expiresAt = LocalDateTime.now(this.clock).plus(this.defaultTtl);
+        }
+
+        this.quizSessionRepository.upsert(this.kind, viewToken, this.codec.encode(session), expiresAt);
+    }
+
+    @Override
+    public boolean remove(String viewToken) {
+        return this.quizSessionRepository.delete(this.kind, viewToken) > 0;
+    }
+
+    @Override
+    public void deleteExpiredQuizzes(LocalDateTime dateTime) {
+        this.quizSessionRepository.deleteExpired(this.kind, dateTime);
+    }
+}
@@ -0,0 +1,25 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.entity.Quiz;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes abandoned in-flight quizzes from the shared store. Guest results are swept by the guest quiz cleanup.
+ */
+@Component
+@ConditionalOnProperty(name = "quiz.session-store.type", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcQuizSessionSweeper {
+
+    private final QuizSessionStore<Quiz> tempQuizStore;
+
+    @Scheduled(fixedDelayString = "${quiz.session-store.sweep-interval:1m}")
+    public void sweepExpiredQuizzes() {
+        this.tempQuizStore.deleteExpiredQuizzes(LocalDateTime.now());
+    }
+}
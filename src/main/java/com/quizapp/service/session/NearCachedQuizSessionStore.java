@@ -0,0 +1,113 @@
+package com.quizapp.service.session;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps recently used sessions of a shared store on this node for a short TTL, so the page views of a quiz
+ * on one node do not each decode a row. Writes and removals go through to the shared store at once; a removal
+ * made on another node is seen here once the local copy's TTL has passed, but {@link #remove} answers from the
+ * shared store, so a session removed elsewhere is never reported as removed here as well.
+ */
+public class NearCachedQuizSessionStore<T> implements QuizSessionStore<T> {
+
+    private final QuizSessionStore<T> delegate;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+
+    private final Map<String, CachedSession<T>> sessions = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public NearCachedQuizSessionStore(QuizSessionStore<T> delegate, String name, Duration ttl, int maxEntries,
+                                      Clock clock, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+
+        this.hits = meterRegistry.counter("quiz.session.near-cache.hits", "store", name);
+        this.misses = meterRegistry.counter("quiz.session.near-cache.misses", "store", name);
+
+        Gauge.builder("quiz.session.near-cache.size", this.sessions, Map::size)
+                .tag("store", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public T get(String viewToken) {
+        CachedSession<T> cachedSession = this.sessions.get(viewToken);
+
+        if (cachedSession != null && cachedSession.expiresAtMillis() > this.clock.millis()) {
+            this.hits.increment();
+            return cachedSession.session();
+        }
+
+        this.misses.increment();
+        T session = this.delegate.get(viewToken);
+
+        if (session == null) {
+            this.sessions.remove(viewToken);
+        } else {
+            this.cache(viewToken, session);
+        }
+
+        return session;
+    }
+
+    @Override
+    public void put(String viewToken, T session) {
+        this.delegate.put(viewToken, session);
+        this.cache(viewToken, session);
+    }
+
+    @Override
+    public boolean remove(String viewToken) {
+        this.sessions.remove(viewToken);
+        return this.delegate.remove(viewToken);
+    }
+
+    @Override
+    public void deleteExpiredQuizzes(LocalDateTime dateTime) {
+        this.delegate.deleteExpiredQuizzes(dateTime);
+
+        long nowMillis = this.clock.millis();
+        this.sessions.values().removeIf(cachedSession -> cachedSession.expiresAtMillis() <= nowMillis);
+    }
+
+    public int size() {
+        return this.sessions.size();
+    }
+
+    private void cache(String viewToken, T session) {
+        if (this.sessions.size() >= this.maxEntries && !this.sessions.containsKey(viewToken)) {
+            this.makeRoom();
+        }
+
+        this.sessions.put(viewToken, new CachedSession<>(session, this.clock.millis() + this.ttl.toMillis()));
+    }
+
+    private void makeRoom() {
+        long nowMillis = this.clock.millis();
+        this.sessions.values().removeIf(cachedSession -> cachedSession.expiresAtMillis() <= nowMillis);
+
+        Iterator<String> iterator = this.sessions.keySet().iterator();
+        while (this.sessions.size() >= this.maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedSession<T>(T session, long expiresAtMillis) {
+    }
+}
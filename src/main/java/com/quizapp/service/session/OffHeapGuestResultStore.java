@@ -0,0 +1,427 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.dto.quiz.QuizDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps guest results outside the Java heap: encoded results are appended to fixed-size slabs of direct
+ * memory, or of a memory-mapped file when {@code file} is set, and only a small index of view token to slab
+ * position stays on the heap. Results are appended in roughly expiry order, so a whole slab is reclaimed once
+ * its last result has expired or been removed; at the byte cap the oldest slab is evicted. A file-backed store
+ * rebuilds its index from the file on startup.
+ * <p>
+ * A record is {@code [int length][byte state][long expiresAt][token][payload]}; a zero length ends the slab.
+ */
+@Component
+@ConditionalOnProperty(name = "quiz.guest-results.off-heap.enabled", havingValue = "true")
+@Slf4j
+public class OffHeapGuestResultStore implements QuizSessionStore<QuizDTO> {
+
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + Long.BYTES;
+    private static final byte LIVE = 1;
+    private static final byte REMOVED = 0;
+    private static final byte UUID_TOKEN = 1;
+    private static final byte TEXT_TOKEN = 2;
+
+    private final QuizSessionCodec<QuizDTO> codec = new QuizResultCodec();
+    private final Clock clock;
+    private final int slabSize;
+    private final int maxSlabs;
+    private final FileChannel file;
+
+    private final Map<ViewTokenKey, Location> index = new ConcurrentHashMap<>();
+    private final List<Slab> slabs = new ArrayList<>();
+    private final Deque<Slab> filledSlabs = new ArrayDeque<>();
+    private final Deque<Slab> freeSlabs = new ArrayDeque<>();
+    private Slab currentSlab;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Counter capacityEvictions;
+    private final Counter rejected;
+
+    @Autowired
+    public OffHeapGuestResultStore(MeterRegistry meterRegistry,
+                                   @Value("${quiz.guest-results.off-heap.slab-size:4MB}") DataSize slabSize,
+                                   @Value("${quiz.guest-results.off-heap.max-size:256MB}") DataSize maxSize,
+                                   @Value("${quiz.guest-results.off-heap.file:}") String file) {
+        this(meterRegistry, slabSize, maxSize, file.isBlank() ? null : Path.of(file), Clock.systemDefaultZone());
+    }
+
+    OffHeapGuestResultStore(MeterRegistry meterRegistry, DataSize slabSize, DataSize maxSize, Path file, Clock clock) {
+        if (slabSize.toBytes() > Integer.MAX_VALUE || maxSize.toBytes() < 2 * slabSize.toBytes()) {
+            throw new IllegalArgumentException("Off-heap guest results need a slab size below 2GB and room for two slabs");
+        }
+
+        this.clock = clock;
+        this.slabSize = (int) slabSize.toBytes();
+        this.maxSlabs = (int) (maxSize.toBytes() / slabSize.toBytes());
+
+        try {
+            this.file = file == null ? null : FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            if (this.file != null) {
+                this.recover();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open guest result file " + file, e);
+        }
+
+        Gauge.builder("guest.results.offheap.live", this.index, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("guest.results.offheap.bytes", this, store -> (double) store.getReservedBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        this.capacityEvictions = meterRegistry.counter("guest.results.offheap.evictions", "reason", "capacity");
+        this.rejected = meterRegistry.counter("guest.results.offheap.rejected");
+    }
+
+    @Override
+    public QuizDTO get(String viewToken) {
+        byte[] payload;
+
+        this.lock.readLock().lock();
+        try {
+            Location location = this.index.get(ViewTokenKey.of(viewToken));
+
+            if (location == null || location.expiresAtMillis() <= this.clock.millis()) {
+                return null;
+            }
+
+            payload = new byte[location.payloadLength()];
+            location.slab().buffer.get(location.payloadOffset(), payload);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        return this.codec.decode(payload);
+    }
+
+    @Override
+    public void put(String viewToken, QuizDTO quizDTO) {
+        ViewTokenKey key = ViewTokenKey.of(viewToken);
+        byte[] token = encodeToken(key);
+        byte[] payload = this.codec.encode(quizDTO);
+        long expiresAtMillis = this.millisOf(quizDTO.getExpireAt());
+
+        int recordLength = HEADER_BYTES + token.length + payload.length;
+        if (recordLength + Integer.BYTES > this.slabSize) {
+            this.rejected.increment();
+            log.warn("Guest result {} takes {} bytes and does not fit in a slab", viewToken, recordLength);
+            return;
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            Slab slab = this.slabWithRoom(recordLength + Integer.BYTES);
+            int offset = slab.writePosition;
+
+            ByteBuffer buffer = slab.buffer;
+            buffer.put(offset + Integer.BYTES, LIVE);
+            buffer.putLong(offset + Integer.BYTES + 1, expiresAtMillis);
+            buffer.put(offset + HEADER_BYTES, token);
+            buffer.put(offset + HEADER_BYTES + token.length, payload);
+            buffer.putInt(offset + recordLength, 0);
+            buffer.putInt(offset, recordLength);
+
+            Location location = new Location(slab, offset, offset + HEADER_BYTES + token.length, payload.length,
+                    expiresAtMillis);
+            slab.add(key, location);
+
+            Location previous = this.index.put(key, location);
+            if (previous != null) {
+                this.markRemoved(previous);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String viewToken) {
+        this.lock.writeLock().lock();
+        try {
+            Location location = this.index.remove(ViewTokenKey.of(viewToken));
+
+            if (location == null) {
+                return false;
+            }
+
+            this.markRemoved(location);
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reclaims every slab whose results have all expired by {@code dateTime}. Expired results in a slab that
+     * still holds live ones are dropped from the index, and their bytes are freed with the slab.
+     */
+    @Override
+    public void deleteExpiredQuizzes(LocalDateTime dateTime) {
+        long nowMillis = this.millisOf(dateTime);
+
+        this.lock.writeLock().lock();
+        try {
+            Iterator<Slab> iterator = this.filledSlabs.iterator();
+            while (iterator.hasNext()) {
+                Slab slab = iterator.next();
+
+                if (slab.latestExpiryMillis <= nowMillis) {
+                    iterator.remove();
+                    this.reclaim(slab);
+                }
+            }
+
+            if (this.currentSlab != null && this.currentSlab.latestExpiryMillis <= nowMillis) {
+                this.reclaim(this.currentSlab);
+                this.currentSlab = null;
+            }
+
+            for (Map.Entry<ViewTokenKey, Location> entry : this.index.entrySet()) {
+                Location location = entry.getValue();
+
+                if (location.expiresAtMillis() <= nowMillis && this.index.remove(entry.getKey(), location)) {
+                    this.markRemoved(location);
+                }
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return this.index.size();
+    }
+
+    public long getReservedBytes() {
+        return (long) this.slabs.size() * this.slabSize;
+    }
+
+    public int getFreeSlabs() {
+        return this.freeSlabs.size();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (this.file == null) {
+            return;
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            for (Slab slab : this.slabs) {
+                ((MappedByteBuffer) slab.buffer).force();
+            }
+            this.file.close();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private Slab slabWithRoom(int bytes) {
+        if (this.currentSlab != null && this.slabSize - this.currentSlab.writePosition >= bytes) {
+            return this.currentSlab;
+        }
+
+        if (this.currentSlab != null) {
+            this.filledSlabs.addLast(this.currentSlab);
+        }
+
+        Slab slab = this.freeSlabs.pollFirst();
+        if (slab == null && this.slabs.size() < this.maxSlabs) {
+            slab = this.allocate(this.slabs.size());
+            this.slabs.add(slab);
+        }
+
+        if (slab == null) {
+            slab = this.filledSlabs.pollFirst();
+            this.capacityEvictions.increment(slab.liveRecords);
+            this.reclaim(slab);
+            this.freeSlabs.remove(slab);
+        }
+
+        this.currentSlab = slab;
+        return slab;
+    }
+
+    private void markRemoved(Location location) {
+        Slab slab = location.slab();
+        slab.buffer.put(location.offset() + Integer.BYTES, REMOVED);
+
+        if (--slab.liveRecords == 0 && slab != this.currentSlab && this.filledSlabs.remove(slab)) {
+            this.reclaim(slab);
+        }
+    }
+
+    private void reclaim(Slab slab) {
+        for (ViewTokenKey key : slab.keys) {
+            this.index.computeIfPresent(key, (k, location) -> location.slab() == slab ? null : location);
+        }
+
+        slab.reset();
+        this.freeSlabs.addLast(slab);
+    }
+
+    private Slab allocate(int slabIndex) {
+        if (this.file == null) {
+            return new Slab(ByteBuffer.allocateDirect(this.slabSize));
+        }
+
+        try {
+            return new Slab(this.file.map(FileChannel.MapMode.READ_WRITE, (long) slabIndex * this.slabSize, this.slabSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map guest result slab " + slabIndex, e);
+        }
+    }
+
+    private void recover() throws IOException {
+        long nowMillis = this.clock.millis();
+        int existingSlabs = (int) Math.min(this.file.size() / this.slabSize, this.maxSlabs);
+        List<Slab> inUse = new ArrayList<>();
+
+        for (int i = 0; i < existingSlabs; i++) {
+            Slab slab = this.allocate(i);
+            this.slabs.add(slab);
+            this.scan(slab, nowMillis);
+        }
+
+        for (Slab slab : this.slabs) {
+            if (slab.liveRecords == 0) {
+                slab.reset();
+                this.freeSlabs.addLast(slab);
+            } else {
+                inUse.add(slab);
+            }
+        }
+
+        inUse.sort(Comparator.comparingLong(slab -> slab.latestExpiryMillis));
+        this.filledSlabs.addAll(inUse);
+
+        log.info("Recovered {} guest results from {} slabs.", this.index.size(), existingSlabs);
+    }
+
+    private void scan(Slab slab, long nowMillis) {
+        ByteBuffer buffer = slab.buffer;
+        int offset = 0;
+
+        while (offset + HEADER_BYTES <= this.slabSize) {
+            int recordLength = buffer.getInt(offset);
+            if (recordLength < HEADER_BYTES || offset + recordLength > this.slabSize) {
+                break;
+            }
+
+            byte state = buffer.get(offset + Integer.BYTES);
+            long expiresAtMillis = buffer.getLong(offset + Integer.BYTES + 1);
+
+            if (state == LIVE && expiresAtMillis > nowMillis) {
+                ByteBuffer record = buffer.duplicate().position(offset + HEADER_BYTES).limit(offset + recordLength);
+                ViewTokenKey key = decodeToken(record);
+
+                Location location = new Location(slab, offset, record.position(), record.remaining(), expiresAtMillis);
+                slab.add(key, location);
+
+                Location previous = this.index.put(key, location);
+                if (previous != null) {
+                    previous.slab().buffer.put(previous.offset() + Integer.BYTES, REMOVED);
+                    previous.slab().liveRecords--;
+                }
+            }
+
+            offset += recordLength;
+        }
+
+        slab.writePosition = offset;
+    }
+
+    private long millisOf(LocalDateTime dateTime) {
+        return dateTime == null
+                ? Long.MAX_VALUE
+                : dateTime.atZone(this.clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static byte[] encodeToken(ViewTokenKey key) {
+        if (key.isUuid()) {
+            return ByteBuffer.allocate(1 + 2 * Long.BYTES)
+                    .put(UUID_TOKEN)
+                    .putLong(key.mostSignificantBits())
+                    .putLong(key.leastSignificantBits())
+                    .array();
+        }
+
+        byte[] token = key.token().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + Short.BYTES + token.length)
+                .put(TEXT_TOKEN)
+                .putShort((short) token.length)
+                .put(token)
+                .array();
+    }
+
+    private static ViewTokenKey decodeToken(ByteBuffer record) {
+        if (record.get() == UUID_TOKEN) {
+            return new ViewTokenKey(record.getLong(), record.getLong(), null);
+        }
+
+        byte[] token = new byte[Short.toUnsignedInt(record.getShort())];
+        record.get(token);
+        return ViewTokenKey.of(new String(token, StandardCharsets.UTF_8));
+    }
+
+    private static final class Slab {
+
+        private final ByteBuffer buffer;
+        private final List<ViewTokenKey> keys = new ArrayList<>();
+        private int writePosition;
+        private int liveRecords;
+        private long latestExpiryMillis = Long.MIN_VALUE;
+
+        private Slab(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private void add(ViewTokenKey key, Location location) {
+            this.keys.add(key);
+            this.writePosition = location.offset() + this.buffer.getInt(location.offset());
+            this.liveRecords++;
+            this.latestExpiryMillis = Math.max(this.latestExpiryMillis, location.expiresAtMillis());
+        }
+
+        private void reset() {
+            this.keys.clear();
+            this.writePosition = 0;
+            this.liveRecords = 0;
+            this.latestExpiryMillis = Long.MIN_VALUE;
+            this.buffer.putInt(0, 0);
+        }
+    }
+
+    private record Location(Slab slab, int offset, int payloadOffset, int payloadLength, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares one {@link InternedQuestion} per question between all in-flight quizzes. An edited question replaces
+ * the pooled version; quizzes started before the edit keep the version they were shown.
+ */
+@Component
+public class QuestionInternPool {
+
+    private final Map<Long, InternedQuestion> questions = new ConcurrentHashMap<>();
+    private final Map<String, String> categoryNames = new ConcurrentHashMap<>();
+
+    public QuestionInternPool(MeterRegistry meterRegistry) {
+        Gauge.builder("question.intern.pool.size", this.questions, Map::size)
+                .register(meterRegistry);
+    }
+
+    public InternedQuestion intern(QuestionDTO question) {
+        InternedQuestion pooled = question.getId() == null ? null : this.questions.get(question.getId());
+
+        if (pooled != null && pooled.matches(question)) {
+            return pooled;
+        }
+
+        InternedQuestion interned = new InternedQuestion(question, this.internCategoryName(question.getCategoryName()));
+        if (question.getId() != null) {
+            this.questions.put(question.getId(), interned);
+        }
+
+        return interned;
+    }
+
+    public String internCategoryName(String categoryName) {
+        return categoryName == null ? null : this.categoryNames.computeIfAbsent(categoryName, name -> name);
+    }
+
+    public int size() {
+        return this.questions.size();
+    }
+}
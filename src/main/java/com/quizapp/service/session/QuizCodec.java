@@ -0,0 +1,34 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.entity.Quiz;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class QuizCodec extends AbstractQuizSessionCodec<Quiz> {
+
+    @Override
+    protected void write(DataOutput out, Quiz quiz) throws IOException {
+        writeLong(out, quiz.getId());
+        writeViewToken(out, quiz.getViewToken());
+        writeLong(out, quiz.getCategoryId());
+        writeString(out, quiz.getCategoryName());
+        writeDateTime(out, quiz.getExpireAt());
+        writeQuestions(out, quiz.getQuestions(), quiz.getCategoryName());
+    }
+
+    @Override
+    protected Quiz read(DataInput in) throws IOException {
+        Quiz quiz = Quiz.builder()
+                .id(readLong(in))
+                .viewToken(readViewToken(in))
+                .categoryId(readLong(in))
+                .categoryName(readString(in))
+                .expireAt(readDateTime(in))
+                .build();
+
+        quiz.setQuestions(readQuestions(in, quiz.getCategoryName()));
+        return quiz;
+    }
+}
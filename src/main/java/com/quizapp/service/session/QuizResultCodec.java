@@ -0,0 +1,63 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.dto.quiz.QuizDTO;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class QuizResultCodec extends AbstractQuizSessionCodec<QuizDTO> {
+
+    @Override
+    protected void write(DataOutput out, QuizDTO quizDTO) throws IOException {
+        writeLong(out, quizDTO.getId());
+        writeViewToken(out, quizDTO.getViewToken());
+        writeSize(out, quizDTO.getCorrectAnswers());
+        writeSize(out, quizDTO.getTotalQuestions());
+        out.writeDouble(quizDTO.getScorePercent());
+        writeLong(out, quizDTO.getCategoryId());
+        writeString(out, quizDTO.getCategoryName());
+        writeDateTime(out, quizDTO.getSolvedAt());
+        writeDateTime(out, quizDTO.getExpireAt());
+        writeQuestions(out, quizDTO.getQuestions(), quizDTO.getCategoryName());
+
+        Map<Long, String> userAnswers = quizDTO.getUserAnswers();
+        writeSize(out, userAnswers == null ? -1 : userAnswers.size());
+        if (userAnswers != null) {
+            for (Map.Entry<Long, String> answer : userAnswers.entrySet()) {
+                writeLong(out, answer.getKey());
+                writeString(out, answer.getValue());
+            }
+        }
+    }
+
+    @Override
+    protected QuizDTO read(DataInput in) throws IOException {
+        QuizDTO quizDTO = QuizDTO.builder()
+                .id(readLong(in))
+                .viewToken(readViewToken(in))
+                .correctAnswers(readSize(in))
+                .totalQuestions(readSize(in))
+                .scorePercent(in.readDouble())
+                .categoryId(readLong(in))
+                .categoryName(readString(in))
+                .solvedAt(readDateTime(in))
+                .expireAt(readDateTime(in))
+                .build();
+
+        quizDTO.setQuestions(readQuestions(in, quizDTO.getCategoryName()));
+
+        int answers = readSize(in);
+        if (answers >= 0) {
+            Map<Long, String> userAnswers = new LinkedHashMap<>();
+            for (int i = 0; i < answers; i++) {
+                userAnswers.put(readLong(in), readString(in));
+            }
+            quizDTO.setUserAnswers(userAnswers);
+        }
+
+        return quizDTO;
+    }
+}
@@ -0,0 +1,11 @@
+package com.quizapp.service.session;
+
+public interface QuizSessionCodec<T> {
+
+    byte[] encode(T session);
+
+    /**
+     * Returns {@code null} for a payload written in a format this codec no longer reads.
+     */
+    T decode(byte[] payload);
+}
@@ -0,0 +1,22 @@
+package com.quizapp.service.session;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps quiz sessions (in-flight quizzes, guest results) by view token until they expire. The in-memory
+ * stores are the default; the JDBC store shares sessions between nodes behind a load balancer.
+ */
+public interface QuizSessionStore<T> {
+
+    T get(String viewToken);
+
+    void put(String viewToken, T session);
+
+    /**
+     * Returns whether this call removed the session. Of concurrent removals, on this node or another, only one
+     * sees {@code true}.
+     */
+    boolean remove(String viewToken);
+
+    void deleteExpiredQuizzes(LocalDateTime dateTime);
+}
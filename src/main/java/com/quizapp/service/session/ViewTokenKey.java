@@ -0,0 +1,34 @@
+package com.quizapp.service.session;
+
+import java.util.UUID;
+
+/**
+ * A view token held as the two halves of its UUID instead of a 36 character string. Tokens that are not in
+ * canonical UUID form are kept as they are.
+ */
+public record ViewTokenKey(long mostSignificantBits, long leastSignificantBits, String token) {
+
+    public static ViewTokenKey of(String viewToken) {
+        if (viewToken != null && viewToken.length() == 36) {
+            try {
+                UUID uuid = UUID.fromString(viewToken);
+
+                if (uuid.toString().equals(viewToken)) {
+                    return new ViewTokenKey(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null);
+                }
+            } catch (IllegalArgumentException ignored) {
+                // not a UUID, kept as a plain token
+            }
+        }
+
+        return new ViewTokenKey(0, 0, viewToken);
+    }
+
+    public boolean isUuid() {
+        return this.token == null;
+    }
+
+    public String asString() {
+        return this.isUuid() ? new UUID(this.mostSignificantBits, this.leastSignificantBits).toString() : this.token;
+    }
+}
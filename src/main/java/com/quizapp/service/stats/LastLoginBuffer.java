@@ -0,0 +1,59 @@
+package com.quizapp.service.stats;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces login timestamps per user so a login never waits on the database. Only the latest timestamp of
+ * each user is kept; {@link LastLoginFlusher} writes them in bulk.
+ */
+@Component
+public class LastLoginBuffer {
+
+    private final Map<String, LocalDateTime> lastLogins = new ConcurrentHashMap<>();
+
+    public LastLoginBuffer(MeterRegistry meterRegistry) {
+        Gauge.builder("stats.last-login.pending", this.lastLogins, Map::size)
+                .register(meterRegistry);
+    }
+
+    public void recordLogin(String username, LocalDateTime loggedInAt) {
+        this.lastLogins.merge(username, loggedInAt, LastLoginBuffer::latest);
+    }
+
+    public int pendingLogins() {
+        return this.lastLogins.size();
+    }
+
+    /**
+     * Takes every pending timestamp. A login recorded while draining is either returned here or left in
+     * the buffer for the next drain.
+     */
+    public Map<String, LocalDateTime> drain() {
+        Map<String, LocalDateTime> drained = new TreeMap<>();
+
+        for (String username : this.lastLogins.keySet()) {
+            LocalDateTime loggedInAt = this.lastLogins.remove(username);
+
+            if (loggedInAt != null) {
+                drained.put(username, loggedInAt);
+            }
+        }
+
+        return drained;
+    }
+
+    public void restore(Map<String, LocalDateTime> lastLogins) {
+        lastLogins.forEach(this::recordLogin);
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
@@ -0,0 +1,65 @@
+package com.quizapp.service.stats;
+
+import com.quizapp.repository.UserStatisticsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Writes the timestamps collected by {@link LastLoginBuffer} every {@code stats.last-login.flush-interval},
+ * which bounds how stale {@code last_login_at} can be. The buffer is also flushed on shutdown and on demand
+ * before jobs that read {@code last_login_at}. Timestamps that fail to write are put back for the next flush.
+ */
+@Slf4j
+@Component
+public class LastLoginFlusher {
+
+    private final LastLoginBuffer lastLoginBuffer;
+    private final UserStatisticsRepository userStatisticsRepository;
+
+    private final Counter flushes;
+    private final Counter flushFailures;
+
+    public LastLoginFlusher(LastLoginBuffer lastLoginBuffer, UserStatisticsRepository userStatisticsRepository,
+                            MeterRegistry meterRegistry) {
+        this.lastLoginBuffer = lastLoginBuffer;
+        this.userStatisticsRepository = userStatisticsRepository;
+
+        this.flushes = meterRegistry.counter("stats.last-login.flushes");
+        this.flushFailures = meterRegistry.counter("stats.last-login.flush.failures");
+    }
+
+    @Scheduled(fixedDelayString = "${stats.last-login.flush-interval:5s}")
+    public void flushPeriodically() {
+        this.flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        this.flush();
+    }
+
+    public synchronized void flush() {
+        Map<String, LocalDateTime> pending = this.lastLoginBuffer.drain();
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        this.flushes.increment();
+
+        try {
+            this.userStatisticsRepository.updateLastLoginTimes(pending);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} login timestamps, keeping them for the next flush.", pending.size(), e);
+            this.flushFailures.increment();
+            this.lastLoginBuffer.restore(pending);
+        }
+    }
+}
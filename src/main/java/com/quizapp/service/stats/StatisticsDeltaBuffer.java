@@ -0,0 +1,204 @@
+package com.quizapp.service.stats;
+
+import com.quizapp.model.dto.category.CategoryStatsDeltaDTO;
+import com.quizapp.model.dto.question.QuestionStatsDeltaDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects statistics deltas from request threads into per-question and per-category striped counters.
+ * Recording never touches the database; {@link StatisticsFlusher} drains the counters periodically and
+ * writes them in batches.
+ */
+@Component
+public class StatisticsDeltaBuffer {
+
+    private final Clock clock;
+
+    private final Map<Long, QuestionCounters> questions = new ConcurrentHashMap<>();
+    private final Map<Long, CategoryCounters> categories = new ConcurrentHashMap<>();
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+
+    @Autowired
+    public StatisticsDeltaBuffer(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemUTC());
+    }
+
+    StatisticsDeltaBuffer(MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+
+        Gauge.builder("stats.write-behind.pending", this, StatisticsDeltaBuffer::pendingDeltas)
+                .register(meterRegistry);
+    }
+
+    public void recordQuestionAttempt(Long questionId, String questionText, Long categoryId) {
+        this.questionCounters(questionId, questionText, categoryId).attempts.increment();
+        this.markPending();
+    }
+
+    public void recordQuestionAnswer(Long questionId, String questionText, Long categoryId, boolean correct) {
+        QuestionCounters counters = this.questionCounters(questionId, questionText, categoryId);
+
+        if (correct) {
+            counters.correctAnswers.increment();
+        } else {
+            counters.wrongAnswers.increment();
+        }
+        this.markPending();
+    }
+
+    public void recordQuizStarted(Long categoryId) {
+        this.categories.computeIfAbsent(categoryId, id -> new CategoryCounters()).startedQuizzes.increment();
+        this.markPending();
+    }
+
+    public void recordQuizCompleted(Long categoryId, int correctAnswers, int totalQuestions) {
+        CategoryCounters counters = this.categories.computeIfAbsent(categoryId, id -> new CategoryCounters());
+
+        counters.completedQuizzes.increment();
+        counters.correctAnswers.add(correctAnswers);
+        counters.totalQuestions.add(totalQuestions);
+        this.markPending();
+    }
+
+    public long pendingDeltas() {
+        long pending = 0;
+
+        for (QuestionCounters counters : this.questions.values()) {
+            pending += counters.attempts.sum() + counters.correctAnswers.sum() + counters.wrongAnswers.sum();
+        }
+        for (CategoryCounters counters : this.categories.values()) {
+            pending += counters.startedQuizzes.sum() + counters.completedQuizzes.sum();
+        }
+
+        return pending;
+    }
+
+    public Duration oldestPendingAge() {
+        long since = this.oldestPendingMillis.get();
+
+        return since == 0 ? Duration.ZERO : Duration.ofMillis(Math.max(0, this.clock.millis() - since));
+    }
+
+    /**
+     * Takes everything recorded so far and resets the counters. Increments that race with the drain are
+     * either included in the result or left for the next one, never lost.
+     */
+    public PendingDeltas drain() {
+        this.oldestPendingMillis.set(0);
+
+        List<QuestionStatsDeltaDTO> questionDeltas = new ArrayList<>();
+        this.questions.forEach((questionId, counters) -> {
+            int attempts = (int) counters.attempts.sumThenReset();
+            int correctAnswers = (int) counters.correctAnswers.sumThenReset();
+            int wrongAnswers = (int) counters.wrongAnswers.sumThenReset();
+
+            if (attempts != 0 || correctAnswers != 0 || wrongAnswers != 0) {
+                questionDeltas.add(QuestionStatsDeltaDTO.builder()
+                        .questionId(questionId)
+                        .questionText(counters.questionText)
+                        .categoryId(counters.categoryId)
+                        .attempts(attempts)
+                        .correctAnswers(correctAnswers)
+                        .wrongAnswers(wrongAnswers)
+                        .build());
+            }
+        });
+
+        List<CategoryStatsDeltaDTO> categoryDeltas = new ArrayList<>();
+        this.categories.forEach((categoryId, counters) -> {
+            int startedQuizzes = (int) counters.startedQuizzes.sumThenReset();
+            int completedQuizzes = (int) counters.completedQuizzes.sumThenReset();
+            int correctAnswers = (int) counters.correctAnswers.sumThenReset();
+            int totalQuestions = (int) counters.totalQuestions.sumThenReset();
+
+            if (startedQuizzes != 0 || completedQuizzes != 0 || correctAnswers != 0 || totalQuestions != 0) {
+                categoryDeltas.add(CategoryStatsDeltaDTO.builder()
+                        .categoryId(categoryId)
+                        .startedQuizzes(startedQuizzes)
+                        .completedQuizzes(completedQuizzes)
+                        .correctAnswers(correctAnswers)
+                        .totalQuestions(totalQuestions)
+                        .build());
+            }
+        });
+
+        return new PendingDeltas(questionDeltas, categoryDeltas);
+    }
+
+    public void restoreQuestions(List<QuestionStatsDeltaDTO> deltas) {
+        deltas.forEach(delta -> {
+            QuestionCounters counters =
+                    this.questionCounters(delta.getQuestionId(), delta.getQuestionText(), delta.getCategoryId());
+
+            counters.attempts.add(delta.getAttempts());
+            counters.correctAnswers.add(delta.getCorrectAnswers());
+            counters.wrongAnswers.add(delta.getWrongAnswers());
+        });
+        this.markPending();
+    }
+
+    public void restoreCategories(List<CategoryStatsDeltaDTO> deltas) {
+        deltas.forEach(delta -> {
+            CategoryCounters counters = this.categories.computeIfAbsent(delta.getCategoryId(), id -> new CategoryCounters());
+
+            counters.startedQuizzes.add(delta.getStartedQuizzes());
+            counters.completedQuizzes.add(delta.getCompletedQuizzes());
+            counters.correctAnswers.add(delta.getCorrectAnswers());
+            counters.totalQuestions.add(delta.getTotalQuestions());
+        });
+        this.markPending();
+    }
+
+    private QuestionCounters questionCounters(Long questionId, String questionText, Long categoryId) {
+        QuestionCounters counters = this.questions.computeIfAbsent(questionId, id -> new QuestionCounters());
+
+        if (counters.questionText == null) {
+            counters.questionText = questionText;
+        }
+        if (counters.categoryId == null) {
+            counters.categoryId = categoryId;
+        }
+
+        return counters;
+    }
+
+    private void markPending() {
+        this.oldestPendingMillis.compareAndSet(0, this.clock.millis());
+    }
+
+    public record PendingDeltas(List<QuestionStatsDeltaDTO> questions, List<CategoryStatsDeltaDTO> categories) {
+
+        public boolean isEmpty() {
+            return this.questions.isEmpty() && this.categories.isEmpty();
+        }
+    }
+
+    private static final class QuestionCounters {
+
+        private volatile String questionText;
+        private volatile Long categoryId;
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder correctAnswers = new LongAdder();
+        private final LongAdder wrongAnswers = new LongAdder();
+    }
+
+    private static final class CategoryCounters {
+
+        private final LongAdder startedQuizzes = new LongAdder();
+        private final LongAdder completedQuizzes = new LongAdder();
+        private final LongAdder correctAnswers = new LongAdder();
+        private final LongAdder totalQuestions = new LongAdder();
+    }
+}
@@ -0,0 +1,161 @@
+package com.quizapp.service.stats;
+
+import com.quizapp.model.dto.category.CategoryStatsDeltaDTO;
+import com.quizapp.model.dto.question.QuestionStatsDeltaDTO;
+import com.quizapp.repository.CategoryStatisticsRepository;
+import com.quizapp.repository.QuestionStatisticsRepository;
+import com.quizapp.service.cache.CategoryNameResolver;
+import com.quizapp.service.search.QuestionTextSearch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the deltas collected by {@link StatisticsDeltaBuffer} to the statistics tables. The buffer is checked
+ * every {@code stats.write-behind.flush-interval} and flushed once its oldest delta is {@code max-lag} old.
+ * Whatever is left is flushed when the application shuts down. Deltas that fail to write are put back and
+ * retried on the next flush; written question texts are added to the question text search index. Category
+ * deltas whose name still cannot be resolved after {@link #MAX_UNRESOLVED_FLUSHES} flushes are dropped, so an
+ * unknown or deleted category does not keep the buffer pending forever.
+ */
+@Slf4j
+@Component
+public class StatisticsFlusher {
+
+    static final int MAX_UNRESOLVED_FLUSHES = 5;
+
+    private final StatisticsDeltaBuffer statisticsDeltaBuffer;
+    private final QuestionStatisticsRepository questionStatisticsRepository;
+    private final CategoryStatisticsRepository categoryStatisticsRepository;
+    private final CategoryNameResolver categoryNameResolver;
+    private final QuestionTextSearch questionTextSearch;
+    private final Duration maxLag;
+
+    private final Map<Long, Integer> unresolvedFlushes = new HashMap<>();
+
+    private final Counter flushes;
+    private final Counter flushFailures;
+    private final Counter droppedCategoryDeltas;
+
+    public StatisticsFlusher(StatisticsDeltaBuffer statisticsDeltaBuffer,
+                             QuestionStatisticsRepository questionStatisticsRepository,
+                             CategoryStatisticsRepository categoryStatisticsRepository,
+                             CategoryNameResolver categoryNameResolver,
+                             QuestionTextSearch questionTextSearch,
+                             MeterRegistry meterRegistry,
+                             @Value("${stats.write-behind.max-lag:5s}") Duration maxLag) {
+        this.statisticsDeltaBuffer = statisticsDeltaBuffer;
+        this.questionStatisticsRepository = questionStatisticsRepository;
+        this.categoryStatisticsRepository = categoryStatisticsRepository;
+        this.categoryNameResolver = categoryNameResolver;
+        this.questionTextSearch = questionTextSearch;
+        this.maxLag = maxLag;
+
+        this.flushes = meterRegistry.counter("stats.write-behind.flushes");
+        this.flushFailures = meterRegistry.counter("stats.write-behind.flush.failures");
+        this.droppedCategoryDeltas = meterRegistry.counter("stats.write-behind.dropped", "reason", "unknown-category");
+    }
+
+    @Scheduled(fixedDelayString = "${stats.write-behind.flush-interval:1s}")
+    public void flushIfDue() {
+        Duration age = this.statisticsDeltaBuffer.oldestPendingAge();
+
+        if (!age.isZero() && age.compareTo(this.maxLag) >= 0) {
+            this.flush();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        this.flush();
+    }
+
+    public synchronized void flush() {
+        StatisticsDeltaBuffer.PendingDeltas pending = this.statisticsDeltaBuffer.drain();
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        this.flushes.increment();
+
+        this.flushQuestions(pending.questions());
+        this.flushCategories(pending.categories());
+    }
+
+    private void flushQuestions(List<QuestionStatsDeltaDTO> deltas) {
+        try {
+            this.questionStatisticsRepository.upsertDeltas(deltas);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} question statistics deltas, keeping them for the next flush.",
+                    deltas.size(), e);
+            this.flushFailures.increment();
+            this.statisticsDeltaBuffer.restoreQuestions(deltas);
+            return;
+        }
+
+        deltas.forEach(delta -> this.questionTextSearch
+                .index(delta.getQuestionId(), delta.getCategoryId(), delta.getQuestionText()));
+    }
+
+    private void flushCategories(List<CategoryStatsDeltaDTO> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> categoryNames;
+        try {
+            categoryNames = this.categoryNameResolver.resolveNames(deltas.stream()
+                    .map(CategoryStatsDeltaDTO::getCategoryId)
+                    .toList());
+        } catch (RuntimeException e) {
+            log.warn("Failed to resolve category names, keeping {} category statistics deltas for the next flush.",
+                    deltas.size(), e);
+            this.flushFailures.increment();
+            this.statisticsDeltaBuffer.restoreCategories(deltas);
+            return;
+        }
+
+        List<CategoryStatsDeltaDTO> resolved = new ArrayList<>();
+        List<CategoryStatsDeltaDTO> unresolved = new ArrayList<>();
+
+        deltas.forEach(delta -> {
+            delta.setCategoryName(categoryNames.get(delta.getCategoryId()));
+
+            if (delta.getCategoryName() != null) {
+                this.unresolvedFlushes.remove(delta.getCategoryId());
+                resolved.add(delta);
+            } else if (this.unresolvedFlushes.merge(delta.getCategoryId(), 1, Integer::sum) < MAX_UNRESOLVED_FLUSHES) {
+                unresolved.add(delta);
+            } else {
+                log.warn("Dropping statistics of category {}, its name could not be resolved in {} flushes.",
+                        delta.getCategoryId(), MAX_UNRESOLVED_FLUSHES);
+                this.unresolvedFlushes.remove(delta.getCategoryId());
+                this.droppedCategoryDeltas.increment();
+            }
+        });
+
+        try {
+            this.categoryStatisticsRepository.upsertDeltas(resolved);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} category statistics deltas, keeping them for the next flush.",
+                    resolved.size(), e);
+            this.flushFailures.increment();
+            unresolved.addAll(resolved);
+        }
+
+        if (!unresolved.isEmpty()) {
+            this.statisticsDeltaBuffer.restoreCategories(unresolved);
+        }
+    }
+}
@@ -2,17 +2,23 @@ package com.quizapp.service.utils;
 
 import com.quizapp.exception.QuizNotFoundException;
 import com.quizapp.model.entity.Quiz;
+import com.quizapp.service.evaluation.AnswerKey;
+import com.quizapp.service.evaluation.AnswerKeySource;
+import com.quizapp.service.evaluation.QuizEvaluation;
+import com.quizapp.service.session.QuizSessionStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Map;
 
 @RequiredArgsConstructor
 public abstract class AbstractQuizHelper {
 
-    private final TempQuizStorage tempQuizStorage;
+    private final QuizSessionStore<Quiz> tempQuizStore;
 
     protected Quiz loadTempQuiz(String viewToken) {
-        Quiz quiz = this.tempQuizStorage.get(viewToken);
+        Quiz quiz = this.tempQuizStore.get(viewToken);
 
         if (quiz == null) {
             throw new QuizNotFoundException("Куизът не е намерен.");
@@ -21,17 +27,45 @@ public abstract class AbstractQuizHelper {
         return quiz;
     }
 
-    protected void removeTempQuiz(String viewToken) {
-        this.tempQuizStorage.remove(viewToken);
+    /**
+     * Takes the quiz out of the store on submission. Only the submission that removes it may score it, so a
+     * second submission of the same quiz, through this node or another, is rejected. The removal is final
+     * only once the surrounding transaction commits; if it rolls back, the quiz is put back to be submitted again.
+     */
+    protected void claimTempQuiz(String viewToken, Quiz quiz) {
+        if (!this.tempQuizStore.remove(viewToken)) {
+            throw new QuizNotFoundException("Куизът вече е предаден.");
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        AbstractQuizHelper.this.tempQuizStore.put(viewToken, quiz);
+                    }
+                }
+            });
+        }
     }
 
     protected void putTempQuiz(String viewToken, Quiz quiz) {
-        this.tempQuizStorage.put(viewToken, quiz);
+        this.tempQuizStore.put(viewToken, quiz);
     }
 
-    protected Long getCorrectAnswers(Quiz quiz, Map<Long, String> userAnswers) {
-        return quiz.getQuestions().stream()
-                .filter(q -> q.getCorrectAnswer().equals(userAnswers.get(q.getId())))
-                .count();
+    /**
+     * Scores the submission with the store's own answer key when it keeps one, otherwise with a key built from
+     * the quiz's questions.
+     */
+    protected QuizEvaluation evaluate(String viewToken, Quiz quiz, Map<Long, String> userAnswers) {
+        AnswerKey answerKey = this.tempQuizStore instanceof AnswerKeySource answerKeySource
+                ? answerKeySource.answerKey(viewToken)
+                : null;
+
+        if (answerKey == null) {
+            answerKey = AnswerKey.of(quiz.getQuestions());
+        }
+
+        return answerKey.evaluate(userAnswers);
     }
-}
\ No newline at end of file
+}
@@ -1,31 +1,143 @@
 package com.quizapp.service.utils;
 
 import com.quizapp.model.dto.quiz.QuizDTO;
+import com.quizapp.service.session.ExpiryWheel;
+import com.quizapp.service.session.QuizSessionStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Holds guest results until they expire. Results are filed in an {@link ExpiryWheel} by expiry time and swept
+ * every second, so the cost of a sweep follows the number of results expiring rather than the number held.
+ */
 @Component
-public class GuestQuizStorage {
+@ConditionalOnExpression("'${quiz.session-store.type:memory}' == 'memory' and !${quiz.guest-results.off-heap.enabled:false}")
+public class GuestQuizStorage implements QuizSessionStore<QuizDTO> {
 
-    private final Map<String, QuizDTO> guestQuizResults = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration defaultTtl;
 
+    private final Map<String, Entry> guestQuizResults = new ConcurrentHashMap<>();
+    private final ExpiryWheel<Entry> expiryWheel;
+
+    private final Counter expiredEvictions;
+    private final Timer sweepTimer;
+
+    @Autowired
+    public GuestQuizStorage(MeterRegistry meterRegistry,
+                            @Value("${quiz.temp-storage.default-ttl:30m}") Duration defaultTtl) {
+        this(meterRegistry, defaultTtl, Clock.systemDefaultZone());
+    }
+
+    GuestQuizStorage(MeterRegistry meterRegistry, Duration defaultTtl, Clock clock) {
+        this.clock = clock;
+        this.defaultTtl = defaultTtl;
+        this.expiryWheel = new ExpiryWheel<>(clock.millis());
+
+        Gauge.builder("guest.quizzes.live", this.guestQuizResults, Map::size)
+                .register(meterRegistry);
+
+        this.expiredEvictions = meterRegistry.counter("guest.quizzes.evictions", "reason", "expired");
+        this.sweepTimer = meterRegistry.timer("guest.quizzes.sweep");
+    }
+
+    @Override
     public QuizDTO get(String viewToken) {
-        return this.guestQuizResults.get(viewToken);
+        Entry entry = this.guestQuizResults.get(viewToken);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.getDeadlineMillis() <= this.clock.millis()) {
+            if (this.removeEntry(entry)) {
+                this.expiredEvictions.increment();
+            }
+            return null;
+        }
+
+        return entry.result;
     }
 
-    public void remove(String viewToken) {
-        this.guestQuizResults.remove(viewToken);
+    @Override
+    public boolean remove(String viewToken) {
+        Entry entry = this.guestQuizResults.get(viewToken);
+
+        return entry != null && this.removeEntry(entry);
     }
 
+    @Override
     public void put(String viewToken, QuizDTO quizDTO) {
-        this.guestQuizResults.put(viewToken, quizDTO);
+        Entry entry = new Entry(viewToken, quizDTO, this.deadlineOf(quizDTO));
+
+        Entry previous = this.guestQuizResults.put(viewToken, entry);
+        this.expiryWheel.add(entry);
+
+        if (previous != null) {
+            this.expiryWheel.remove(previous);
+        }
+    }
+
+    public int size() {
+        return this.guestQuizResults.size();
     }
 
+    @Scheduled(fixedDelay = ExpiryWheel.TICK_MILLIS)
+    public void sweepExpired() {
+        this.sweepUntil(this.clock.millis());
+    }
+
+    @Override
     public void deleteExpiredQuizzes(LocalDateTime dateTime) {
-        this.guestQuizResults.entrySet()
-                .removeIf(entry -> entry.getValue().getExpireAt().isBefore(dateTime));
+        long dateTimeMillis = dateTime.atZone(this.clock.getZone()).toInstant().toEpochMilli();
+
+        this.sweepUntil(Math.min(dateTimeMillis, this.clock.millis()));
+    }
+
+    private void sweepUntil(long nowMillis) {
+        int expired = this.sweepTimer.record(() -> this.expiryWheel.sweepUntil(nowMillis, this::removeEntry));
+
+        if (expired > 0) {
+            this.expiredEvictions.increment(expired);
+        }
+    }
+
+    private boolean removeEntry(Entry entry) {
+        this.expiryWheel.remove(entry);
+
+        return this.guestQuizResults.remove(entry.viewToken, entry);
+    }
+
+    private long deadlineOf(QuizDTO quizDTO) {
+        if (quizDTO.getExpireAt() == null) {
+            return this.clock.millis() + this.defaultTtl.toMillis();
+        }
+
+        return quizDTO.getExpireAt().atZone(this.clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static final class Entry extends ExpiryWheel.Entry {
+
+        private final String viewToken;
+        private final QuizDTO result;
+
+        private Entry(String viewToken, QuizDTO result, long deadlineMillis) {
+            super(deadlineMillis);
+            this.viewToken = viewToken;
+            this.result = result;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,194 @@
 package com.quizapp.service.utils;
 
 import com.quizapp.model.entity.Quiz;
+import com.quizapp.service.evaluation.AnswerKey;
+import com.quizapp.service.evaluation.AnswerKeySource;
+import com.quizapp.service.session.CompactQuiz;
+import com.quizapp.service.session.ExpiryWheel;
+import com.quizapp.service.session.QuestionInternPool;
+import com.quizapp.service.session.QuizSessionStore;
+import com.quizapp.service.session.ViewTokenKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Holds in-flight quizzes until they are submitted or expire. Every entry is filed in an {@link ExpiryWheel}
+ * slot by its expiry time, so the sweeper only visits the slots whose time has come instead of the whole map.
+ * When {@code maxEntries} is reached the entry closest to expiry is evicted to make room. Quizzes are held in
+ * their {@link CompactQuiz} form, sharing question content through the {@link QuestionInternPool}.
+ */
 @Component
-public class TempQuizStorage {
+@ConditionalOnProperty(name = "quiz.session-store.type", havingValue = "memory", matchIfMissing = true)
+public class TempQuizStorage implements QuizSessionStore<Quiz>, AnswerKeySource {
 
-    private final Map<String, Quiz> tempQuizzes = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final int maxEntries;
+    private final Duration defaultTtl;
+    private final QuestionInternPool questionInternPool;
 
+    private final Map<ViewTokenKey, Entry> tempQuizzes = new ConcurrentHashMap<>();
+    private final ExpiryWheel<Entry> expiryWheel;
+
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final Counter expiredEvictions;
+    private final Counter capacityEvictions;
+
+    @Autowired
+    public TempQuizStorage(MeterRegistry meterRegistry, QuestionInternPool questionInternPool,
+                           @Value("${quiz.temp-storage.max-entries:50000}") int maxEntries,
+                           @Value("${quiz.temp-storage.default-ttl:30m}") Duration defaultTtl) {
+        this(meterRegistry, questionInternPool, maxEntries, defaultTtl, Clock.systemDefaultZone());
+    }
+
+    TempQuizStorage(MeterRegistry meterRegistry, QuestionInternPool questionInternPool, int maxEntries,
+                    Duration defaultTtl, Clock clock) {
+        this.clock = clock;
+        this.maxEntries = maxEntries;
+        this.defaultTtl = defaultTtl;
+        this.questionInternPool = questionInternPool;
+        this.expiryWheel = new ExpiryWheel<>(clock.millis());
+
+        Gauge.builder("temp.quizzes.live", this.tempQuizzes, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("temp.quizzes.estimated.bytes", this.estimatedBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        this.expiredEvictions = meterRegistry.counter("temp.quizzes.evictions", "reason", "expired");
+        this.capacityEvictions = meterRegistry.counter("temp.quizzes.evictions", "reason", "capacity");
+    }
+
+    @Override
     public Quiz get(String viewToken) {
-        return this.tempQuizzes.get(viewToken);
+        Entry entry = this.tempQuizzes.get(ViewTokenKey.of(viewToken));
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.getDeadlineMillis() <= this.clock.millis()) {
+            if (this.removeEntry(entry)) {
+                this.expiredEvictions.increment();
+            }
+            return null;
+        }
+
+        return entry.quiz.toQuiz();
     }
 
-    public void remove(String viewToken) {
-        this.tempQuizzes.remove(viewToken);
+    @Override
+    public AnswerKey answerKey(String viewToken) {
+        Entry entry = this.tempQuizzes.get(ViewTokenKey.of(viewToken));
+
+        return entry == null ? null : entry.quiz.answerKey();
+    }
+
+    @Override
+    public boolean remove(String viewToken) {
+        Entry entry = this.tempQuizzes.get(ViewTokenKey.of(viewToken));
+
+        return entry != null && this.removeEntry(entry);
     }
 
+    @Override
     public void put(String viewToken, Quiz quiz) {
-        this.tempQuizzes.put(viewToken, quiz);
+        CompactQuiz compactQuiz = CompactQuiz.of(ViewTokenKey.of(viewToken), quiz, this.questionInternPool);
+        Entry entry = new Entry(compactQuiz, this.deadlineOf(quiz));
+
+        Entry previous = this.tempQuizzes.put(compactQuiz.getViewToken(), entry);
+        this.expiryWheel.add(entry);
+        this.estimatedBytes.addAndGet(entry.estimatedBytes);
+
+        if (previous != null) {
+            this.expiryWheel.remove(previous);
+            this.estimatedBytes.addAndGet(-previous.estimatedBytes);
+        }
+
+        while (this.tempQuizzes.size() > this.maxEntries) {
+            if (!this.expiryWheel.evictClosestToExpiry(this::evictForCapacity)) {
+                break;
+            }
+        }
+    }
+
+    public int size() {
+        return this.tempQuizzes.size();
+    }
+
+    public long getEstimatedBytes() {
+        return this.estimatedBytes.get();
+    }
+
+    @Scheduled(fixedDelay = ExpiryWheel.TICK_MILLIS)
+    public void sweepExpired() {
+        this.sweepUntil(this.clock.millis());
+    }
+
+    @Override
+    public void deleteExpiredQuizzes(LocalDateTime dateTime) {
+        long dateTimeMillis = dateTime.atZone(this.clock.getZone()).toInstant().toEpochMilli();
+
+        this.sweepUntil(Math.min(dateTimeMillis, this.clock.millis()));
+    }
+
+    private void sweepUntil(long nowMillis) {
+        int expired = this.expiryWheel.sweepUntil(nowMillis, this::removeEntry);
+
+        if (expired > 0) {
+            this.expiredEvictions.increment(expired);
+        }
+    }
+
+    private boolean evictForCapacity(Entry entry) {
+        if (this.removeEntry(entry)) {
+            this.capacityEvictions.increment();
+            return true;
+        }
+
+        return false;
+    }
+
+    private boolean removeEntry(Entry entry) {
+        this.expiryWheel.remove(entry);
+
+        if (this.tempQuizzes.remove(entry.quiz.getViewToken(), entry)) {
+            this.estimatedBytes.addAndGet(-entry.estimatedBytes);
+            return true;
+        }
+
+        return false;
+    }
+
+    private long deadlineOf(Quiz quiz) {
+        if (quiz.getExpireAt() == null) {
+            return this.clock.millis() + this.defaultTtl.toMillis();
+        }
+
+        return quiz.getExpireAt().atZone(this.clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static final class Entry extends ExpiryWheel.Entry {
+
+        private final CompactQuiz quiz;
+        private final long estimatedBytes;
+
+        private Entry(CompactQuiz quiz, long deadlineMillis) {
+            super(deadlineMillis);
+            this.quiz = quiz;
+            this.estimatedBytes = quiz.estimatedBytes();
+        }
     }
-}
\ No newline at end of file
+}
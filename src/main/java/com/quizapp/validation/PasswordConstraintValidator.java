@@ -3,49 +3,53 @@ package com.quizapp.validation;
 import com.quizapp.model.annotations.ValidPassword;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import org.passay.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Arrays;
-import java.util.Properties;
+import java.util.List;
 
 public class PasswordConstraintValidator implements ConstraintValidator<ValidPassword, String> {
 
+    private final PasswordPolicy passwordPolicy;
+
+    public PasswordConstraintValidator() {
+        this(PasswordPolicy.defaults());
+    }
+
+    @Autowired
+    public PasswordConstraintValidator(ObjectProvider<PasswordPolicy> passwordPolicy) {
+        this(passwordPolicy.getIfAvailable(PasswordPolicy::defaults));
+    }
+
+    PasswordConstraintValidator(PasswordPolicy passwordPolicy) {
+        this.passwordPolicy = passwordPolicy;
+    }
+
     @Override
     public void initialize(final ValidPassword arg0) {
     }
 
     @Override
     public boolean isValid(String password, ConstraintValidatorContext context) {
+        if (password == null) {
+            return false;
+        }
 
-        Properties props = new Properties();
-        InputStream inputStream = getClass()
-                .getClassLoader().getResourceAsStream("passay.properties");
+        List<String> violations = this.passwordPolicy.validate(password);
 
-        try {
-            props.load(inputStream);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        if (violations.isEmpty()) {
+            return true;
         }
 
-        MessageResolver resolver = new PropertiesMessageResolver(props);
+        context.disableDefaultConstraintViolation();
+        violations.forEach(message -> context
+                .buildConstraintViolationWithTemplate(escapeTemplate(message))
+                .addConstraintViolation());
 
-        PasswordValidator validator = new PasswordValidator(resolver, Arrays.asList(
-                // length between 8 and 16 characters
-                new LengthRule(8, 20),
-                // at least one upper-case character
-                new CharacterRule(EnglishCharacterData.UpperCase, 1),
-                // at least one lower-case character
-                new CharacterRule(EnglishCharacterData.LowerCase, 1),
-                // at least one digit character
-                new CharacterRule(EnglishCharacterData.Digit, 1),
-                // no whitespace
-                new WhitespaceRule()
-        ));
-
-        RuleResult result = validator.validate(new PasswordData(password));
+        return false;
+    }
 
-        return result.isValid();
+    private static String escapeTemplate(String message) {
+        return message.replaceAll("([\\\\{}$])", "\\\\$1");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package com.quizapp.validation;
+
+import com.quizapp.config.PasswordPolicyConfig;
+import org.passay.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Password rules built once from {@link PasswordPolicyConfig}. The Passay validator is immutable and thread-safe,
+ * so a single instance serves every register, reset and update-password request.
+ */
+public class PasswordPolicy {
+
+    private static final PasswordPolicy DEFAULTS = new PasswordPolicy(new PasswordPolicyConfig());
+
+    private final PasswordValidator validator;
+
+    public PasswordPolicy(PasswordPolicyConfig config) {
+        this.validator = new PasswordValidator(loadMessages(config.getMessages()), buildRules(config));
+    }
+
+    public static PasswordPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    public List<String> validate(String password) {
+        RuleResult result = this.validator.validate(new PasswordData(password));
+
+        if (result.isValid()) {
+            return List.of();
+        }
+
+        return this.validator.getMessages(result);
+    }
+
+    private static List<Rule> buildRules(PasswordPolicyConfig config) {
+        List<Rule> rules = new ArrayList<>();
+
+        rules.add(new LengthRule(config.getMinLength(), config.getMaxLength()));
+        addCharacterRule(rules, EnglishCharacterData.UpperCase, config.getMinUpperCase());
+        addCharacterRule(rules, EnglishCharacterData.LowerCase, config.getMinLowerCase());
+        addCharacterRule(rules, EnglishCharacterData.Digit, config.getMinDigits());
+        addCharacterRule(rules, EnglishCharacterData.Special, config.getMinSpecial());
+
+        if (!config.isAllowWhitespace()) {
+            rules.add(new WhitespaceRule());
+        }
+
+        return rules;
+    }
+
+    private static void addCharacterRule(List<Rule> rules, CharacterData characterData, int minCount) {
+        if (minCount > 0) {
+            rules.add(new CharacterRule(characterData, minCount));
+        }
+    }
+
+    private static MessageResolver loadMessages(String location) {
+        try (InputStream inputStream = PasswordPolicy.class.getClassLoader().getResourceAsStream(location)) {
+            if (inputStream == null) {
+                return new PropertiesMessageResolver();
+            }
+
+            Properties messages = new Properties();
+            messages.load(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+            return new PropertiesMessageResolver(messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package com.quizapp.web;
 
 import com.quizapp.model.dto.category.CategoryDTO;
-import com.quizapp.model.dto.category.CategoryPageDTO;
 import com.quizapp.model.enums.CategorySortField;
 import com.quizapp.model.enums.ProblemType;
 import com.quizapp.model.enums.QuestionSortField;
 import com.quizapp.model.enums.UserSortField;
-import com.quizapp.service.interfaces.CategoryService;
+import com.quizapp.service.cache.CategoryCatalogCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -17,12 +16,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GlobalController {
 
-    private final CategoryService categoryService;
+    private final CategoryCatalogCache categoryCatalogCache;
 
     @ModelAttribute("categories")
     public List<CategoryDTO> getCategoriesForSelectElement() {
-        CategoryPageDTO<CategoryDTO> categoryPageDTO = this.categoryService.getAllCategories("", 0, 100);
-        return categoryPageDTO.getCategories();
+        return this.categoryCatalogCache.getCategories();
     }
 
     @ModelAttribute("problemTypes")
@@ -1,5 +1,6 @@
 package com.quizapp.web;
 
+import com.quizapp.model.dto.KeysetPageDTO;
 import com.quizapp.model.dto.category.CategoryStatsDTO;
 import com.quizapp.model.dto.question.QuestionStatsDTO;
 import com.quizapp.model.dto.user.UserStatisticsDTO;
@@ -10,10 +11,6 @@ import com.quizapp.service.interfaces.CategoryStatisticsService;
 import com.quizapp.service.interfaces.QuestionStatisticsService;
 import com.quizapp.service.interfaces.UserStatisticsService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -30,31 +27,23 @@ public class StatisticsController {
     private final UserStatisticsService userStatisticsService;
 
     @GetMapping("/categories")
-    public ModelAndView showCategoriesStats(@RequestParam(defaultValue = "0") int page,
+    public ModelAndView showCategoriesStats(@RequestParam(value = "cursor", required = false) String cursor,
                                             @RequestParam(defaultValue = "10") int size,
                                             @RequestParam(value = "sortBy", required = false) CategorySortField sortBy,
                                             @RequestParam(value = "categoryId", required = false) Long categoryId) {
 
         ModelAndView modelAndView = new ModelAndView("categories-statistics");
 
-        Sort sort = Sort.unsorted();
-        if (sortBy != null) {
-            sort = Sort.by(sortBy.getFieldName()).descending();
-        }
-
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<CategoryStatsDTO> categoryStatsDTOs = this.categoryStatisticsService.getAllCategoriesFiltered(categoryId, pageable);
+        KeysetPageDTO<CategoryStatsDTO> categoryStatsDTOs = this.categoryStatisticsService
+                .getCategoryStatisticsPage(categoryId, sortBy, cursor, size);
 
         modelAndView.addObject("categoriesStats", categoryStatsDTOs.getContent());
-        modelAndView.addObject("currentPage", categoryStatsDTOs.getNumber());
-        modelAndView.addObject("totalPages", categoryStatsDTOs.getTotalPages());
-        modelAndView.addObject("totalElements", categoryStatsDTOs.getTotalElements());
-        modelAndView.addObject("size", categoryStatsDTOs.getSize());
+        this.addPagination(modelAndView, categoryStatsDTOs);
 
         modelAndView.addObject("categoryId", categoryId);
         modelAndView.addObject("sortBy", sortBy);
 
-        if (categoryStatsDTOs.getTotalElements() == 0) {
+        if (categoryStatsDTOs.isEmpty()) {
             modelAndView.addObject("warning", "Няма намерени статистики за категории.");
         }
 
@@ -62,7 +51,7 @@ public class StatisticsController {
     }
 
     @GetMapping("/questions")
-    public ModelAndView showQuestionsStats(@RequestParam(defaultValue = "0") int page,
+    public ModelAndView showQuestionsStats(@RequestParam(value = "cursor", required = false) String cursor,
                                            @RequestParam(defaultValue = "10") int size,
                                            @RequestParam(value = "categoryId", required = false) Long categoryId,
                                            @RequestParam(value = "sortBy", required = false) QuestionSortField sortBy,
@@ -70,26 +59,17 @@ public class StatisticsController {
 
         ModelAndView modelAndView = new ModelAndView("questions-statistics");
 
-        Sort sort = Sort.unsorted();
-        if (sortBy != null) {
-            sort = Sort.by(sortBy.getFieldName()).descending();
-        }
-
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<QuestionStatsDTO> questionStatsDTOs = this.questionStatisticsService
-                .getFilteredQuestionStatistics(categoryId, questionText, pageable);
+        KeysetPageDTO<QuestionStatsDTO> questionStatsDTOs = this.questionStatisticsService
+                .getQuestionStatisticsPage(categoryId, questionText, sortBy, cursor, size);
 
         modelAndView.addObject("questionStats", questionStatsDTOs.getContent());
-        modelAndView.addObject("currentPage", questionStatsDTOs.getNumber());
-        modelAndView.addObject("totalPages", questionStatsDTOs.getTotalPages());
-        modelAndView.addObject("totalElements", questionStatsDTOs.getTotalElements());
-        modelAndView.addObject("size", questionStatsDTOs.getSize());
+        this.addPagination(modelAndView, questionStatsDTOs);
 
         modelAndView.addObject("categoryId", categoryId);
         modelAndView.addObject("sortBy", sortBy);
         modelAndView.addObject("questionText", questionText);
 
-        if (questionStatsDTOs.getTotalElements() == 0) {
+        if (questionStatsDTOs.isEmpty()) {
             modelAndView.addObject("warning", "Няма намерени статистики за въпроси.");
         }
 
@@ -97,42 +77,37 @@ public class StatisticsController {
     }
 
     @GetMapping("/users")
-    public ModelAndView showUsersStats(@RequestParam(defaultValue = "0") int page,
+    public ModelAndView showUsersStats(@RequestParam(value = "cursor", required = false) String cursor,
                                        @RequestParam(defaultValue = "10") int size,
                                        @RequestParam(value = "sortBy", required = false) UserSortField sortBy,
                                        @RequestParam(value = "username", required = false) String username) {
 
         ModelAndView modelAndView = new ModelAndView("users-statistics");
 
-        Pageable pageable;
-        if (sortBy == UserSortField.LAST_SOLVED_AT) {
-            pageable = PageRequest.of(page, size);
-        } else {
-            Sort sort = Sort.unsorted();
-
-            if (sortBy != null) {
-                sort = Sort.by(sortBy.getFieldName()).descending();
-            }
-
-            pageable = PageRequest.of(page, size, sort);
-        }
-
-        Page<UserStatisticsDTO> userStatisticsDTOs = this.userStatisticsService
-                .getUserStatisticsFiltered(username, sortBy, pageable);
+        KeysetPageDTO<UserStatisticsDTO> userStatisticsDTOs = this.userStatisticsService
+                .getUserStatisticsPage(username, sortBy, cursor, size);
 
         modelAndView.addObject("userStats", userStatisticsDTOs.getContent());
-        modelAndView.addObject("currentPage", userStatisticsDTOs.getNumber());
-        modelAndView.addObject("totalPages", userStatisticsDTOs.getTotalPages());
-        modelAndView.addObject("totalElements", userStatisticsDTOs.getTotalElements());
-        modelAndView.addObject("size", userStatisticsDTOs.getSize());
+        this.addPagination(modelAndView, userStatisticsDTOs);
 
         modelAndView.addObject("sortBy", sortBy);
         modelAndView.addObject("username", username);
 
-        if (userStatisticsDTOs.getTotalElements() == 0) {
+        if (userStatisticsDTOs.isEmpty()) {
             modelAndView.addObject("warning", "Няма намерени статистики за потребители.");
         }
 
         return modelAndView;
     }
-}
\ No newline at end of file
+
+    private void addPagination(ModelAndView modelAndView, KeysetPageDTO<?> page) {
+        modelAndView.addObject("currentPage", page.getCurrentPage());
+        modelAndView.addObject("totalPages", page.getTotalPages());
+        modelAndView.addObject("totalElements", page.getTotalElements());
+        modelAndView.addObject("size", page.getSize());
+        modelAndView.addObject("hasPrevious", page.isHasPrevious());
+        modelAndView.addObject("previousCursor", page.getPreviousCursor());
+        modelAndView.addObject("hasNext", page.isHasNext());
+        modelAndView.addObject("nextCursor", page.getNextCursor());
+    }
+}
@@ -1,5 +1,6 @@
 package com.quizapp.web;
 
+import com.quizapp.model.dto.KeysetPageDTO;
 import com.quizapp.model.dto.quiz.QuizDTO;
 import com.quizapp.model.dto.user.UpdatePasswordDTO;
 import com.quizapp.model.dto.user.UserDTO;
@@ -9,7 +10,6 @@ import com.quizapp.service.interfaces.UserQuizService;
 import com.quizapp.service.interfaces.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -50,17 +50,21 @@ public class UserController {
 
     @GetMapping("/quizzes")
     public ModelAndView viewUserQuizzes(@AuthenticationPrincipal UserDetailsDTO userDetailsDTO,
-                                        @RequestParam(defaultValue = "0") int page,
+                                        @RequestParam(value = "cursor", required = false) String cursor,
                                         @RequestParam(defaultValue = "10") int size) {
 
-        Page<QuizDTO> quizPage = this.userQuizService
-                .getSolvedQuizzesByUsername(userDetailsDTO.getUsername(), page, size);
+        KeysetPageDTO<QuizDTO> quizPage = this.userQuizService
+                .getSolvedQuizzesPage(userDetailsDTO.getUsername(), cursor, size);
 
         ModelAndView modelAndView = new ModelAndView("quizzes");
 
-        modelAndView.addObject("currentPage", page);
+        modelAndView.addObject("currentPage", quizPage.getCurrentPage());
         modelAndView.addObject("totalPages", quizPage.getTotalPages());
         modelAndView.addObject("size", size);
+        modelAndView.addObject("hasPrevious", quizPage.isHasPrevious());
+        modelAndView.addObject("previousCursor", quizPage.getPreviousCursor());
+        modelAndView.addObject("hasNext", quizPage.isHasNext());
+        modelAndView.addObject("nextCursor", quizPage.getNextCursor());
 
         if (quizPage.isEmpty()) {
             modelAndView.addObject("warning", "Все още нямате решени куизове.");
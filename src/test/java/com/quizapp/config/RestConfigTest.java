@@ -0,0 +1,164 @@
+package com.quizapp.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.zip.GZIPOutputStream;
+
+public class RestConfigTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private MeterRegistry meterRegistry;
+    private QuestionsApiConfig questionsApiConfig;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch releaseSlowRequest = new CountDownLatch(1);
+    private final CountDownLatch slowRequestStarted = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.serverExecutor = Executors.newCachedThreadPool();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(this.serverExecutor);
+
+        this.server.createContext("/api/fast", exchange -> this.respond(exchange, "{\"ok\":true}".getBytes(), false));
+        this.server.createContext("/api/gzip", exchange -> this.respond(exchange, gzip("{\"ok\":true}"), true));
+        this.server.createContext("/api/slow", exchange -> {
+            this.slowRequestStarted.countDown();
+            try {
+                this.releaseSlowRequest.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.respond(exchange, "{}".getBytes(), false);
+        });
+        this.server.start();
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.questionsApiConfig = new QuestionsApiConfig()
+                .setBaseUrl("http://localhost:" + this.server.getAddress().getPort())
+                .setMaxConnectionsPerRoute(1)
+                .setReadTimeout(Duration.ofMillis(300))
+                .setConnectionRequestTimeout(Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.releaseSlowRequest.countDown();
+        this.server.stop(0);
+        this.serverExecutor.shutdownNow();
+    }
+
+    private void respond(HttpExchange exchange, byte[] body, boolean gzipped) throws IOException {
+        this.clientPorts.add(exchange.getRemoteAddress().getPort());
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        if (gzipped) {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private RestClient createRestClient() {
+        ClientHttpRequestFactory requestFactory = new RestConfig()
+                .questionsApiRequestFactory(this.questionsApiConfig, this.meterRegistry);
+
+        return new RestConfig().restClient(RestClient.builder(), this.questionsApiConfig, requestFactory,
+                this.meterRegistry);
+    }
+
+    @Test
+    void restClient_ShouldReuseSinglePooledConnection_ForSequentialRequests() {
+        RestClient restClient = this.createRestClient();
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals("{\"ok\":true}", restClient.get().uri("/api/fast").retrieve().body(String.class));
+        }
+
+        Assertions.assertEquals(1, this.clientPorts.size());
+    }
+
+    @Test
+    void restClient_ShouldFailFast_WhenApiDoesNotAnswerWithinReadTimeout() {
+        RestClient restClient = this.createRestClient();
+        long startedAt = System.nanoTime();
+
+        Assertions.assertThrows(ResourceAccessException.class,
+                () -> restClient.get().uri("/api/slow").retrieve().body(String.class));
+
+        Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - startedAt).compareTo(Duration.ofSeconds(2)) < 0);
+    }
+
+    @Test
+    void restClient_ShouldTimeOutWaitingForConnection_WhenRoutePoolIsExhausted() throws Exception {
+        this.questionsApiConfig.setReadTimeout(Duration.ofSeconds(5));
+        RestClient restClient = this.createRestClient();
+
+        CompletableFuture<String> slowRequest = CompletableFuture.supplyAsync(
+                () -> restClient.get().uri("/api/slow").retrieve().body(String.class));
+        Assertions.assertTrue(this.slowRequestStarted.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(1, this.meterRegistry.get("questions.api.requests.in-flight").gauge().value());
+        Assertions.assertThrows(ResourceAccessException.class,
+                () -> restClient.get().uri("/api/fast").retrieve().body(String.class));
+
+        this.releaseSlowRequest.countDown();
+        Assertions.assertEquals("{}", slowRequest.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, this.meterRegistry.get("questions.api.requests.in-flight").gauge().value());
+    }
+
+    @Test
+    void restClient_ShouldDecompressGzipResponses() {
+        RestClient restClient = this.createRestClient();
+
+        Assertions.assertEquals("{\"ok\":true}", restClient.get().uri("/api/gzip").retrieve().body(String.class));
+    }
+
+    @Test
+    void questionsApiRequestFactory_ShouldExposeConnectionPoolMetrics() {
+        this.createRestClient().get().uri("/api/fast").retrieve().body(String.class);
+
+        Assertions.assertEquals(50, this.meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "questions-api").gauge().value());
+    }
+
+    @Test
+    void questionsApiRequestFactory_ShouldFallBackToHttp1_WhenHttp2EnabledButServerDoesNotUpgrade() {
+        this.questionsApiConfig.setHttp2(true);
+
+        Assertions.assertEquals("{\"ok\":true}",
+                this.createRestClient().get().uri("/api/fast").retrieve().body(String.class));
+    }
+}
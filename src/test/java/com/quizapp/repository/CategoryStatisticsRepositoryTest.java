@@ -1,16 +1,19 @@
 package com.quizapp.repository;
 
+import com.quizapp.model.dto.category.CategoryStatsDeltaDTO;
 import com.quizapp.model.entity.CategoryStatistics;
 import com.quizapp.repository.spec.CategoryStatisticsSpecifications;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,6 +23,8 @@ public class CategoryStatisticsRepositoryTest {
 
     @Autowired
     private CategoryStatisticsRepository categoryStatsRepo;
+    @Autowired
+    private TestEntityManager entityManager;
 
     @BeforeEach
     void setUp() {
@@ -34,7 +39,7 @@ public class CategoryStatisticsRepositoryTest {
                 .completionRate(71.00)
                 .build();
 
-        this.categoryStatsRepo.save(categoryStats);
+        this.categoryStatsRepo.saveAndFlush(categoryStats);
     }
 
     @Test
@@ -74,4 +79,26 @@ public class CategoryStatisticsRepositoryTest {
         assertThat(page).isNotEmpty();
         assertThat(page.getContent().get(0).getCategoryId()).isEqualTo(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void upsertDeltas_ShouldAddToExistingAndInsertMissingStatistics() {
+        this.categoryStatsRepo.upsertDeltas(List.of(
+                CategoryStatsDeltaDTO.builder().categoryId(1L).categoryName("Maths")
+                        .startedQuizzes(3).completedQuizzes(5).correctAnswers(2).totalQuestions(25).build(),
+                CategoryStatsDeltaDTO.builder().categoryId(2L).categoryName("Music")
+                        .startedQuizzes(2).completedQuizzes(1).correctAnswers(4).totalQuestions(5).build()));
+        this.entityManager.clear();
+
+        CategoryStatistics existing = this.categoryStatsRepo.findByCategoryId(1L).get();
+        assertThat(existing.getTotalStartedQuizzes()).isEqualTo(10);
+        assertThat(existing.getTotalCompletedQuizzes()).isEqualTo(10);
+        assertThat(existing.getTotalQuestions()).isEqualTo(50);
+        assertThat(existing.getAverageAccuracy()).isEqualTo(50.0);
+        assertThat(existing.getCompletionRate()).isEqualTo(100.0);
+
+        CategoryStatistics inserted = this.categoryStatsRepo.findByCategoryId(2L).get();
+        assertThat(inserted.getCategoryName()).isEqualTo("Music");
+        assertThat(inserted.getAverageAccuracy()).isEqualTo(80.0);
+        assertThat(inserted.getCompletionRate()).isEqualTo(50.0);
+    }
+}
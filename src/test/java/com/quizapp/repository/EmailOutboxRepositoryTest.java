@@ -0,0 +1,73 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.entity.EmailOutboxMessage;
+import com.quizapp.model.enums.EmailOutboxStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class EmailOutboxRepositoryTest {
+
+    private static final List<EmailOutboxStatus> UNSENT = List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private EmailOutboxMessage due;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        this.due = this.emailOutboxRepository.save(this.message(EmailOutboxStatus.PENDING, now.minusMinutes(1)));
+        this.emailOutboxRepository.save(this.message(EmailOutboxStatus.PENDING, now.plusMinutes(10)));
+        this.emailOutboxRepository.save(this.message(EmailOutboxStatus.SENT, now.minusMinutes(1)));
+        this.emailOutboxRepository.save(this.message(EmailOutboxStatus.DEAD, now.minusMinutes(1)));
+    }
+
+    private EmailOutboxMessage message(EmailOutboxStatus status, LocalDateTime nextAttemptAt) {
+        return EmailOutboxMessage.builder()
+                .recipient("john@example.com")
+                .subject("Subject")
+                .content("<html>ok</html>")
+                .status(status)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void findDueForUpdate_ShouldReturnOnlyDueUnsentMessages() {
+        List<EmailOutboxMessage> dueMessages = this.emailOutboxRepository
+                .findDueForUpdate(UNSENT, LocalDateTime.now(), PageRequest.of(0, 10));
+
+        assertThat(dueMessages).extracting(EmailOutboxMessage::getId).containsExactly(this.due.getId());
+    }
+
+    @Test
+    void countByStatusIn_ShouldCountUnsentMessages() {
+        assertThat(this.emailOutboxRepository.countByStatusIn(UNSENT)).isEqualTo(2);
+    }
+
+    @Test
+    void markSent_ShouldUpdateStatusAndSentAt() {
+        this.emailOutboxRepository.markSent(List.of(this.due.getId()), LocalDateTime.now());
+        this.entityManager.clear();
+
+        EmailOutboxMessage sent = this.emailOutboxRepository.findById(this.due.getId()).orElseThrow();
+
+        assertThat(sent.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(sent.getSentAt()).isNotNull();
+    }
+}
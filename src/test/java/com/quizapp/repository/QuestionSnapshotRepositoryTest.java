@@ -0,0 +1,66 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.entity.QuestionSnapshot;
+import com.quizapp.model.entity.SolvedQuiz;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class QuestionSnapshotRepositoryTest {
+
+    @Autowired
+    private QuestionSnapshotRepository questionSnapshotRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private QuestionSnapshot snapshot(String hash, Long questionId) {
+        return QuestionSnapshot.builder()
+                .contentHash(hash)
+                .questionId(questionId)
+                .questionText("Question" + questionId)
+                .categoryName("Maths")
+                .correctAnswer("A")
+                .options(List.of("A", "B, with comma", ""))
+                .build();
+    }
+
+    @Test
+    void insertMissing_ShouldStoreEachContentHashOnce() {
+        this.questionSnapshotRepository.insertMissing(List.of(this.snapshot("a", 1L), this.snapshot("b", 2L)));
+        this.questionSnapshotRepository.insertMissing(List.of(this.snapshot("a", 1L), this.snapshot("c", 3L)));
+
+        assertThat(this.questionSnapshotRepository.count()).isEqualTo(3);
+        assertThat(this.questionSnapshotRepository.findByContentHashIn(List.of("a", "c")))
+                .extracting(QuestionSnapshot::getQuestionId)
+                .containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void findBySolvedQuizId_ShouldReturnSnapshotsInQuizOrder() {
+        this.questionSnapshotRepository.insertMissing(List.of(this.snapshot("a", 1L), this.snapshot("b", 2L)));
+        QuestionSnapshot first = this.questionSnapshotRepository.findByContentHashIn(List.of("a")).get(0);
+        QuestionSnapshot second = this.questionSnapshotRepository.findByContentHashIn(List.of("b")).get(0);
+
+        SolvedQuiz solvedQuiz = this.entityManager.persist(SolvedQuiz.builder()
+                .categoryId(1L)
+                .questionIds(new ArrayList<>(List.of(2L, 1L)))
+                .questionSnapshots(new ArrayList<>(List.of(second, first)))
+                .solvedAt(LocalDateTime.now())
+                .build());
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        List<QuestionSnapshot> snapshots = this.questionSnapshotRepository.findBySolvedQuizId(solvedQuiz.getId());
+
+        assertThat(snapshots).extracting(QuestionSnapshot::getQuestionId).containsExactly(2L, 1L);
+        assertThat(snapshots.get(0).getOptions()).containsExactly("A", "B, with comma", "");
+    }
+}
@@ -1,16 +1,22 @@
 package com.quizapp.repository;
 
+import com.quizapp.model.dto.question.QuestionStatsDeltaDTO;
+import com.quizapp.model.dto.question.QuestionTextDTO;
 import com.quizapp.model.entity.QuestionStatistics;
 import com.quizapp.repository.spec.QuestionStatisticsSpecifications;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,6 +26,8 @@ public class QuestionStatisticsRepositoryTest {
 
     @Autowired
     private QuestionStatisticsRepository questionStatisticsRepo;
+    @Autowired
+    private TestEntityManager entityManager;
 
     @BeforeEach
     void setUp() {
@@ -29,7 +37,7 @@ public class QuestionStatisticsRepositoryTest {
                 .categoryId(5L)
                 .build();
 
-        this.questionStatisticsRepo.save(questionStatistics);
+        this.questionStatisticsRepo.saveAndFlush(questionStatistics);
     }
 
     @Test
@@ -47,6 +55,21 @@ public class QuestionStatisticsRepositoryTest {
         assertThat(optionalQuestionStatistics.get().getQuestionId()).isEqualTo(1L);
     }
 
+    @Test
+    void findQuestionTexts_ShouldReturnTextsAfterQuestionId_InIdOrder() {
+        this.questionStatisticsRepo.saveAndFlush(QuestionStatistics.builder()
+                .questionId(3L)
+                .questionText("Question3")
+                .categoryId(6L)
+                .build());
+
+        List<QuestionTextDTO> texts = this.questionStatisticsRepo.findQuestionTexts(0L, Limit.of(10));
+
+        assertThat(texts).extracting(QuestionTextDTO::getQuestionId).containsExactly(1L, 3L);
+        assertThat(this.questionStatisticsRepo.findQuestionTexts(1L, Limit.of(10)))
+                .containsExactly(new QuestionTextDTO(3L, 6L, "Question3"));
+    }
+
     @Test
     void findAllWithSpecification_ShouldReturnEmptyPage_WhenQuestionStatsNotFound() {
         Specification<QuestionStatistics> spec = Specification
@@ -71,4 +94,55 @@ public class QuestionStatisticsRepositoryTest {
         assertThat(page).isNotEmpty();
         assertThat(page.getContent().get(0).getCategoryId()).isEqualTo(5L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void textSearchFunction_ShouldBeRegisteredForCriteriaQueries() {
+        SessionFactoryImplementor sessionFactory = this.entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class);
+
+        assertThat(sessionFactory.getQueryEngine().getSqmFunctionRegistry()
+                .findFunctionDescriptor(QuestionTextSearchFunctions.MATCHES_TEXT_QUERY))
+                .isNotNull();
+    }
+
+    @Test
+    void upsertDeltas_ShouldInsertMissingAndAddToExistingStatistics() {
+        this.questionStatisticsRepo.upsertDeltas(List.of(
+                QuestionStatsDeltaDTO.builder().questionId(1L).questionText("Question").categoryId(5L)
+                        .attempts(4).correctAnswers(1).wrongAnswers(1).build(),
+                QuestionStatsDeltaDTO.builder().questionId(2L).questionText("Question2").categoryId(5L)
+                        .attempts(2).correctAnswers(1).build()));
+        this.entityManager.clear();
+
+        QuestionStatistics existing = this.questionStatisticsRepo.findByQuestionId(1L).get();
+        assertThat(existing.getAttempts()).isEqualTo(4);
+        assertThat(existing.getAccuracy()).isEqualTo(25.0);
+        assertThat(existing.getDifficulty()).isEqualTo(25.0);
+        assertThat(existing.getCompletionRate()).isEqualTo(50.0);
+
+        QuestionStatistics inserted = this.questionStatisticsRepo.findByQuestionId(2L).get();
+        assertThat(inserted.getAttempts()).isEqualTo(2);
+        assertThat(inserted.getCategoryId()).isEqualTo(5L);
+        assertThat(inserted.getQuestionText()).isEqualTo("Question2");
+        assertThat(inserted.getAccuracy()).isEqualTo(50.0);
+    }
+
+    @Test
+    void upsertDeltas_ShouldAccumulateAcrossFlushes() {
+        QuestionStatsDeltaDTO delta = QuestionStatsDeltaDTO.builder()
+                .questionId(1L).questionText("Question").categoryId(5L)
+                .attempts(2).correctAnswers(1).wrongAnswers(1)
+                .build();
+
+        this.questionStatisticsRepo.upsertDeltas(List.of(delta));
+        this.questionStatisticsRepo.upsertDeltas(List.of(delta));
+        this.entityManager.clear();
+
+        QuestionStatistics stats = this.questionStatisticsRepo.findByQuestionId(1L).get();
+        assertThat(stats.getAttempts()).isEqualTo(4);
+        assertThat(stats.getCorrectAnswers()).isEqualTo(2);
+        assertThat(stats.getWrongAnswers()).isEqualTo(2);
+        assertThat(stats.getCompletionRate()).isEqualTo(100.0);
+    }
+}
@@ -0,0 +1,60 @@
+package com.quizapp.repository;
+
+import com.quizapp.model.entity.QuizSession;
+import com.quizapp.model.enums.QuizSessionKind;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class QuizSessionRepositoryTest {
+
+    @Autowired
+    private QuizSessionRepository quizSessionRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Test
+    void upsert_ShouldInsertAndReplacePayload() {
+        this.quizSessionRepository.upsert(QuizSessionKind.IN_FLIGHT, "token", new byte[]{1}, this.now.plusMinutes(30));
+        this.quizSessionRepository.upsert(QuizSessionKind.IN_FLIGHT, "token", new byte[]{2, 3}, this.now.plusMinutes(40));
+
+        assertThat(this.quizSessionRepository.findLivePayload(QuizSessionKind.IN_FLIGHT, "token", this.now))
+                .containsExactly(2, 3);
+        assertThat(this.quizSessionRepository.findById(new QuizSession.Key(QuizSessionKind.IN_FLIGHT, "token")))
+                .get()
+                .extracting(QuizSession::getExpiresAt)
+                .isEqualTo(this.now.plusMinutes(40));
+    }
+
+    @Test
+    void findLivePayload_ShouldKeepKindsApart_AndSkipExpiredSessions() {
+        this.quizSessionRepository.upsert(QuizSessionKind.IN_FLIGHT, "token", new byte[]{1}, this.now.plusMinutes(30));
+        this.quizSessionRepository.upsert(QuizSessionKind.GUEST_RESULT, "token", new byte[]{2}, this.now.minusMinutes(1));
+
+        assertThat(this.quizSessionRepository.findLivePayload(QuizSessionKind.IN_FLIGHT, "token", this.now))
+                .containsExactly(1);
+        assertThat(this.quizSessionRepository.findLivePayload(QuizSessionKind.GUEST_RESULT, "token", this.now))
+                .isNull();
+        assertThat(this.quizSessionRepository.findLivePayload(QuizSessionKind.IN_FLIGHT, "missing", this.now))
+                .isNull();
+    }
+
+    @Test
+    void deleteExpired_ShouldDeleteOnlyExpiredSessionsOfKind() {
+        this.quizSessionRepository.upsert(QuizSessionKind.IN_FLIGHT, "expired", new byte[]{1}, this.now.minusMinutes(1));
+        this.quizSessionRepository.upsert(QuizSessionKind.IN_FLIGHT, "live", new byte[]{1}, this.now.plusMinutes(1));
+        this.quizSessionRepository.upsert(QuizSessionKind.GUEST_RESULT, "expired", new byte[]{1}, this.now.minusMinutes(1));
+
+        int deleted = this.quizSessionRepository.deleteExpired(QuizSessionKind.IN_FLIGHT, this.now);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(this.quizSessionRepository.count()).isEqualTo(2);
+        assertThat(this.quizSessionRepository.delete(QuizSessionKind.IN_FLIGHT, "live")).isEqualTo(1);
+        assertThat(this.quizSessionRepository.delete(QuizSessionKind.IN_FLIGHT, "live")).isZero();
+    }
+}
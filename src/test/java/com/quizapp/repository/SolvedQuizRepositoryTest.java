@@ -1,5 +1,6 @@
 package com.quizapp.repository;
 
+import com.quizapp.model.dto.quiz.SolvedQuizSummaryDTO;
 import com.quizapp.model.entity.Role;
 import com.quizapp.model.entity.SolvedQuiz;
 import com.quizapp.model.entity.User;
@@ -9,11 +10,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -76,4 +79,42 @@ public class SolvedQuizRepositoryTest {
         assertThat(page.getTotalElements()).isEqualTo(2);
         assertThat(page.getContent().get(0).getSolvedAt()).isAfter(page.getContent().get(1).getSolvedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findRecentSummariesByUserId_ShouldReturnLatestQuizzesFirst_UpToLimit() {
+        Long userId = this.entityManager.getEntityManager()
+                .createQuery("SELECT u.id FROM User u WHERE u.username = 'user1'", Long.class)
+                .getSingleResult();
+
+        List<SolvedQuizSummaryDTO> summaries = this.solvedQuizRepository.findRecentSummariesByUserId(userId, Limit.of(1));
+
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getCategoryId()).isEqualTo(1L);
+    }
+
+    @Test
+    void findRecentSummariesByUserId_ShouldReturnEmptyList_WhenUserHasNoQuizzes() {
+        List<SolvedQuizSummaryDTO> summaries = this.solvedQuizRepository.findRecentSummariesByUserId(-1L, Limit.of(3));
+
+        assertThat(summaries).isEmpty();
+    }
+
+    @Test
+    void findIdsWithoutSnapshots_ShouldReturnQuizzesWithoutSnapshotsAfterGivenId() {
+        List<Long> allIds = this.solvedQuizRepository.findIdsWithoutSnapshots(0L, Limit.of(10));
+
+        assertThat(allIds).hasSize(2).isSorted();
+        assertThat(this.solvedQuizRepository.findIdsWithoutSnapshots(allIds.get(0), Limit.of(10)))
+                .containsExactly(allIds.get(1));
+    }
+
+    @Test
+    void findIdsWithoutSnapshots_ShouldSkipQuizzesMarkedUnavailable() {
+        List<Long> allIds = this.solvedQuizRepository.findIdsWithoutSnapshots(0L, Limit.of(10));
+        this.solvedQuizRepository.findById(allIds.get(0)).orElseThrow().setSnapshotsUnavailable(true);
+        this.entityManager.flush();
+
+        assertThat(this.solvedQuizRepository.findIdsWithoutSnapshots(0L, Limit.of(10)))
+                .containsExactly(allIds.get(1));
+    }
+}
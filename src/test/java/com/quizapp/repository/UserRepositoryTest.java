@@ -1,7 +1,10 @@
 package com.quizapp.repository;
 
+import com.quizapp.model.entity.PasswordResetToken;
 import com.quizapp.model.entity.Role;
+import com.quizapp.model.entity.SolvedQuiz;
 import com.quizapp.model.entity.User;
+import com.quizapp.model.entity.UserStatistics;
 import com.quizapp.model.enums.RoleName;
 import com.quizapp.repository.spec.UserSpecifications;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +17,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -90,6 +98,13 @@ public class UserRepositoryTest {
         assertThat(optionalUser.get().getEmail()).isEqualTo("user@gmail.com");
     }
 
+    @Test
+    void findIdByUsername_ShouldReturnOnlyTheId() {
+        assertThat(this.userRepository.findIdByUsername("user1"))
+                .contains(this.userRepository.findByUsername("user1").orElseThrow().getId());
+        assertThat(this.userRepository.findIdByUsername("missing")).isEmpty();
+    }
+
     @Test
     void findByEmail_ShouldReturnEmpty_WhenUserNotFound() {
         Optional<User> optionalUser = this.userRepository.findByEmail("missing");
@@ -131,4 +146,48 @@ public class UserRepositoryTest {
         assertThat(page.getTotalElements()).isEqualTo(1);
         assertThat(page.getContent().get(0).getUsername()).isEqualTo("user1");
     }
-}
\ No newline at end of file
+
+    @Test
+    void purgeUsers_ShouldDeleteUserAndEveryDependentRow() {
+        User user = this.userRepository.findByUsername("user1").orElseThrow();
+
+        this.entityManager.persist(UserStatistics.builder().user(user).build());
+        this.entityManager.persist(PasswordResetToken.builder()
+                .token("token")
+                .user(user)
+                .expiryDate(LocalDateTime.now().plusHours(1))
+                .build());
+        for (int i = 0; i < 2; i++) {
+            this.entityManager.persist(SolvedQuiz.builder()
+                    .user(user)
+                    .categoryId(1L)
+                    .questionIds(new ArrayList<>(List.of(1L, 2L)))
+                    .userAnswers(new HashMap<>(Map.of(1L, "A", 2L, "B")))
+                    .solvedAt(LocalDateTime.now())
+                    .build());
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        Map<String, Integer> removedRows = this.userRepository.purgeUsers(List.of(user.getId()));
+
+        assertThat(removedRows).containsExactly(
+                Map.entry("solved_quiz_answers", 4),
+                Map.entry("solved_quiz_questions", 4),
+                Map.entry("solved_quiz_snapshots", 0),
+                Map.entry("solved_quizzes", 2),
+                Map.entry("password_reset_tokens", 1),
+                Map.entry("users_roles", 1),
+                Map.entry("user_statistics", 1),
+                Map.entry("users", 1));
+        assertThat(this.userRepository.existsByUsername("user1")).isFalse();
+    }
+
+    @Test
+    void purgeUsers_ShouldDoNothing_WhenNoIdsGiven() {
+        Map<String, Integer> removedRows = this.userRepository.purgeUsers(List.of());
+
+        assertThat(removedRows).isEmpty();
+        assertThat(this.userRepository.count()).isEqualTo(1);
+    }
+}
@@ -1,5 +1,6 @@
 package com.quizapp.repository;
 
+import com.quizapp.model.dto.user.InactiveUserDTO;
 import com.quizapp.model.entity.Role;
 import com.quizapp.model.entity.User;
 import com.quizapp.model.entity.UserStatistics;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +19,7 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,39 +74,97 @@ public class UserStatisticsRepositoryTest {
 
     @Test
     void findInactiveSolvingQuizzesUsersNotWarned_ShouldReturnCorrectUsers() {
-        List<UserStatistics> result = this.userStatisticsRepo
-                .findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime.now().minusDays(1));
+        List<InactiveUserDTO> result = this.userStatisticsRepo
+                .findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime.now().minusDays(1), 0L, Limit.of(10));
 
-        assertThat(result).isNotEmpty();
-        assertThat(result).contains(this.stats1);
-        assertThat(result).doesNotContain(this.stats2);
+        assertThat(result).extracting(InactiveUserDTO::getStatisticsId).containsExactly(this.stats1.getId());
+        assertThat(result.get(0).getUsername()).isEqualTo("john");
+        assertThat(result.get(0).getEmail()).isEqualTo("john@example.com");
+    }
+
+    @Test
+    void findInactiveSolvingQuizzesUsersNotWarned_ShouldSkipRowsUpToAfterId() {
+        List<InactiveUserDTO> result = this.userStatisticsRepo
+                .findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime.now().minusDays(1), this.stats1.getId(), Limit.of(10));
+
+        assertThat(result).isEmpty();
     }
 
     @Test
     void findWarnedUsersToResendSolvingWarning_ShouldReturnCorrectUsers() {
-        List<UserStatistics> result = this.userStatisticsRepo.findWarnedUsersToResendSolvingWarning(LocalDateTime.now());
+        List<InactiveUserDTO> result = this.userStatisticsRepo
+                .findWarnedUsersToResendSolvingWarning(LocalDateTime.now(), 0L, Limit.of(10));
 
-        assertThat(result).isNotEmpty();
-        assertThat(result).contains(this.stats2);
-        assertThat(result).doesNotContain(this.stats1);
+        assertThat(result).extracting(InactiveUserDTO::getStatisticsId).containsExactly(this.stats2.getId());
     }
 
     @Test
     void findInactiveNotWarned_ShouldReturnCorrectUsers() {
-        List<UserStatistics> result = this.userStatisticsRepo.findInactiveNotWarned(LocalDateTime.now());
+        List<InactiveUserDTO> result = this.userStatisticsRepo.findInactiveNotWarned(LocalDateTime.now(), 0L, Limit.of(10));
+
+        assertThat(result).extracting(InactiveUserDTO::getStatisticsId).containsExactly(this.stats1.getId());
+    }
+
+    @Test
+    void findInactiveNotWarned_ShouldReturnAtMostLimitRowsInIdOrder() {
+        this.stats2.setDeletionWarningSent(false);
+        this.entityManager.flush();
+
+        List<InactiveUserDTO> result = this.userStatisticsRepo.findInactiveNotWarned(LocalDateTime.now(), 0L, Limit.of(1));
+
+        assertThat(result).extracting(InactiveUserDTO::getStatisticsId)
+                .containsExactly(Math.min(this.stats1.getId(), this.stats2.getId()));
+    }
+
+    @Test
+    void markSolvingWarningSent_ShouldUpdateOnlyGivenRows() {
+        LocalDateTime sentAt = LocalDateTime.now().withNano(0);
+
+        int updated = this.userStatisticsRepo.markSolvingWarningSent(List.of(this.stats1.getId()), sentAt);
+        this.entityManager.clear();
+
+        UserStatistics reloaded = this.entityManager.find(UserStatistics.class, this.stats1.getId());
+        assertThat(updated).isEqualTo(1);
+        assertThat(reloaded.isLastSolvingWarningSent()).isTrue();
+        assertThat(reloaded.getLastSolvingWarningSentAt()).isEqualTo(sentAt);
+    }
+
+    @Test
+    void markDeletionWarningSent_ShouldUpdateOnlyGivenRows() {
+        LocalDateTime sentAt = LocalDateTime.now().withNano(0);
+
+        int updated = this.userStatisticsRepo.markDeletionWarningSent(List.of(this.stats1.getId()), sentAt);
+        this.entityManager.clear();
 
-        assertThat(result).isNotEmpty();
-        assertThat(result).contains(this.stats1);
-        assertThat(result).doesNotContain(this.stats2);
+        UserStatistics reloaded = this.entityManager.find(UserStatistics.class, this.stats1.getId());
+        assertThat(updated).isEqualTo(1);
+        assertThat(reloaded.isDeletionWarningSent()).isTrue();
+        assertThat(reloaded.getDeletionWarningSentAt()).isEqualTo(sentAt);
+    }
+
+    @Test
+    void updateLastLoginTimes_ShouldOnlyMoveLastLoginForward() {
+        LocalDateTime newer = LocalDateTime.now().withNano(0);
+        LocalDateTime older = LocalDateTime.now().minusDays(30).withNano(0);
+
+        int updated = this.userStatisticsRepo.updateLastLoginTimes(Map.of(
+                "john", older,
+                "jane", newer,
+                "missing", newer));
+        this.entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(this.entityManager.find(UserStatistics.class, this.stats1.getId()).getLastLoginAt())
+                .isAfter(older);
+        assertThat(this.entityManager.find(UserStatistics.class, this.stats2.getId()).getLastLoginAt())
+                .isEqualTo(newer);
     }
 
     @Test
     void findInactiveLoginUsersWarned_ShouldReturnCorrectUsers() {
-        List<User> result = this.userStatisticsRepo.findInactiveLoginUsersWarned(LocalDateTime.now());
+        List<Long> result = this.userStatisticsRepo.findInactiveLoginUsersWarned(LocalDateTime.now(), 0L, Limit.of(10));
 
-        assertThat(result).isNotEmpty();
-        assertThat(result).contains(this.user2);
-        assertThat(result).doesNotContain(this.user1);
+        assertThat(result).containsExactly(this.user2.getId());
     }
 
     @Test
@@ -147,4 +208,21 @@ public class UserStatisticsRepositoryTest {
         assertThat(page.getContent().get(0).getLastSolvedAt()).isNotNull();
         assertThat(page.getContent().get(1).getLastSolvedAt()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void recordSolvedQuiz_ShouldAddQuizToTotals_AndRecomputeAverage() {
+        LocalDateTime solvedAt = LocalDateTime.now().withNano(0);
+
+        this.userStatisticsRepo.recordSolvedQuiz(this.user1.getId(), 3, 5, solvedAt);
+        this.userStatisticsRepo.recordSolvedQuiz(this.user1.getId(), 4, 5, solvedAt);
+        this.entityManager.clear();
+
+        UserStatistics updated = this.userStatisticsRepo.findById(this.stats1.getId()).orElseThrow();
+        assertThat(updated.getTotalQuizzes()).isEqualTo(2);
+        assertThat(updated.getTotalCorrectAnswers()).isEqualTo(7);
+        assertThat(updated.getMaxScore()).isEqualTo(10);
+        assertThat(updated.getAverageScore()).isEqualTo(70.0);
+        assertThat(updated.getLastSolvedAt()).isEqualTo(solvedAt);
+        assertThat(this.userStatisticsRepo.findById(this.stats2.getId()).orElseThrow().getTotalQuizzes()).isZero();
+    }
+}
@@ -2,6 +2,7 @@ package com.quizapp.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizapp.config.QuestionsApiConfig;
 import com.quizapp.model.dto.ProblemDetailDTO;
 import com.quizapp.model.dto.category.AddCategoryDTO;
 import com.quizapp.model.dto.category.CategoryDTO;
@@ -9,13 +10,18 @@ import com.quizapp.model.dto.category.CategoryPageDTO;
 import com.quizapp.model.dto.category.UpdateCategoryDTO;
 import com.quizapp.model.entity.Result;
 import com.quizapp.model.rest.CategoryApiDTO;
+import com.quizapp.service.events.CategoryChangedEvent;
+import com.quizapp.service.remote.QuestionsApiGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -27,8 +33,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +44,10 @@ public class CategoryServiceImplTest {
 
     @Mock
     private RestClient restClient;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Spy
+    private QuestionsApiGuard questionsApiGuard = new QuestionsApiGuard(new QuestionsApiConfig(), new SimpleMeterRegistry());
 
     @InjectMocks
     private CategoryServiceImpl categoryService;
@@ -250,6 +262,7 @@ public class CategoryServiceImplTest {
 
         Assertions.assertTrue(result.isSuccess());
         Assertions.assertEquals("Успешно добавихте категория Maths", result.getMessage());
+        verify(this.applicationEventPublisher).publishEvent(any(CategoryChangedEvent.class));
     }
 
     @Test
@@ -317,6 +330,7 @@ public class CategoryServiceImplTest {
         Assertions.assertNotNull(result);
         Assertions.assertTrue(result.isSuccess());
         Assertions.assertEquals("Успешно редактирахте категория Maths", result.getMessage());
+        verify(this.applicationEventPublisher).publishEvent(any(CategoryChangedEvent.class));
     }
 
     @Test
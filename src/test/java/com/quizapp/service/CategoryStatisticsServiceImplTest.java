@@ -1,10 +1,9 @@
 package com.quizapp.service;
 
-import com.quizapp.exception.CategoryStatisticsNotFound;
 import com.quizapp.model.dto.category.CategoryStatsDTO;
 import com.quizapp.model.entity.CategoryStatistics;
 import com.quizapp.repository.CategoryStatisticsRepository;
-import com.quizapp.service.interfaces.CategoryService;
+import com.quizapp.service.stats.StatisticsDeltaBuffer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,7 +20,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -32,7 +30,7 @@ public class CategoryStatisticsServiceImplTest {
     @Mock
     private CategoryStatisticsRepository mockCategoryStatisticsRepository;
     @Mock
-    private CategoryService mockCategoryService;
+    private StatisticsDeltaBuffer mockStatisticsDeltaBuffer;
     @InjectMocks
     private CategoryStatisticsServiceImpl mockCategoryStatisticsService;
 
@@ -84,62 +82,18 @@ public class CategoryStatisticsServiceImplTest {
     }
 
     @Test
-    void increaseStartedQuizzes_ShouldCreateNewStats_WhenNoneExist() {
-        when(this.mockCategoryStatisticsRepository.findByCategoryId(5L)).thenReturn(Optional.empty());
-
+    void increaseStartedQuizzes_ShouldRecordStartedQuiz() {
         this.mockCategoryStatisticsService.increaseStartedQuizzes(5L);
 
-        ArgumentCaptor<CategoryStatistics> statsCaptor = ArgumentCaptor.forClass(CategoryStatistics.class);
-
-        verify(this.mockCategoryStatisticsRepository).saveAndFlush(statsCaptor.capture());
-        CategoryStatistics savedStats = statsCaptor.getValue();
-
-        Assertions.assertEquals(1, savedStats.getTotalStartedQuizzes());
-        Assertions.assertEquals(0, savedStats.getTotalCompletedQuizzes());
-        Assertions.assertEquals(0.0, savedStats.getCompletionRate());
-    }
-
-    @Test
-    void increaseStartedQuizzes_ShouldIncreaseStartAndRecalculateRate_WhenStatsExist() {
-        when(this.mockCategoryStatisticsRepository.findByCategoryId(1L)).thenReturn(Optional.of(this.mockCategoryStats));
-
-        this.mockCategoryStatisticsService.increaseStartedQuizzes(1L);
-
-        Assertions.assertEquals(11, this.mockCategoryStats.getTotalStartedQuizzes());
-
-        double expectedRate = this.mockCategoryStats.getTotalCompletedQuizzes() * 100.0 / this.mockCategoryStats.getTotalStartedQuizzes();
-        Assertions.assertEquals(expectedRate, this.mockCategoryStats.getCompletionRate());
-
-        verify(this.mockCategoryStatisticsRepository, times(1)).saveAndFlush(this.mockCategoryStats);
+        verify(this.mockStatisticsDeltaBuffer).recordQuizStarted(5L);
+        verifyNoInteractions(this.mockCategoryStatisticsRepository);
     }
 
     @Test
-    void updateOnQuizCompleted_ShouldThrowException_WhenCategoryStatisticsNotFound() {
-        when(this.mockCategoryStatisticsRepository.findByCategoryId(5L)).thenReturn(Optional.empty());
-
-        CategoryStatisticsNotFound exception = Assertions.assertThrows(CategoryStatisticsNotFound.class,
-                () -> this.mockCategoryStatisticsService.updateOnQuizCompleted(5L, 3, 5));
-
-        Assertions.assertEquals("Не е намерена статистика за тази категория.", exception.getMessage());
-    }
-
-    @Test
-    void updateOnQuizCompleted_ShouldUpdateCategoryStats_WhenQuizCompleted() {
-        when(this.mockCategoryStatisticsRepository.findByCategoryId(1L))
-                .thenReturn(Optional.of(this.mockCategoryStats));
-
+    void updateOnQuizCompleted_ShouldRecordCompletedQuiz() {
         this.mockCategoryStatisticsService.updateOnQuizCompleted(1L, 3, 5);
 
-        Assertions.assertEquals(8, this.mockCategoryStats.getTotalCompletedQuizzes());
-        Assertions.assertEquals(55, this.mockCategoryStats.getTotalQuestions());
-        Assertions.assertEquals(35, this.mockCategoryStats.getTotalCorrectAnswers());
-
-        double newAverageAccuracy = (this.mockCategoryStats.getTotalCorrectAnswers() * 100.00) / this.mockCategoryStats.getTotalQuestions();
-        Assertions.assertEquals(newAverageAccuracy, this.mockCategoryStats.getAverageAccuracy());
-
-        double completionRate = (this.mockCategoryStats.getTotalCompletedQuizzes() * 100.00) / this.mockCategoryStats.getTotalStartedQuizzes();
-        Assertions.assertEquals(completionRate, this.mockCategoryStats.getCompletionRate());
-
-        verify(this.mockCategoryStatisticsRepository, times(1)).saveAndFlush(this.mockCategoryStats);
+        verify(this.mockStatisticsDeltaBuffer).recordQuizCompleted(1L, 3, 5);
+        verifyNoInteractions(this.mockCategoryStatisticsRepository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package com.quizapp.service;
+
+import com.quizapp.model.entity.EmailOutboxMessage;
+import com.quizapp.model.enums.EmailOutboxStatus;
+import com.quizapp.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailOutboxServiceImplTest {
+
+    @Mock
+    private EmailOutboxRepository mockEmailOutboxRepository;
+
+    private EmailOutboxServiceImpl emailOutboxService;
+
+    private EmailOutboxMessage message;
+
+    @BeforeEach
+    void setUp() {
+        this.emailOutboxService = new EmailOutboxServiceImpl(this.mockEmailOutboxRepository, 3,
+                Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+        this.message = EmailOutboxMessage.builder()
+                .id(1L)
+                .recipient("john@example.com")
+                .subject("Subject")
+                .content("<html>ok</html>")
+                .status(EmailOutboxStatus.SENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void enqueue_ShouldSavePendingMessage() {
+        this.emailOutboxService.enqueue("john@example.com", "Subject", "<html>ok</html>", "reply@example.com");
+
+        ArgumentCaptor<EmailOutboxMessage> messageCaptor = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+        verify(this.mockEmailOutboxRepository).save(messageCaptor.capture());
+
+        EmailOutboxMessage saved = messageCaptor.getValue();
+        Assertions.assertEquals(EmailOutboxStatus.PENDING, saved.getStatus());
+        Assertions.assertEquals("john@example.com", saved.getRecipient());
+        Assertions.assertEquals("reply@example.com", saved.getReplyTo());
+        Assertions.assertEquals(0, saved.getAttempts());
+        Assertions.assertNotNull(saved.getNextAttemptAt());
+    }
+
+    @Test
+    void claimDueMessages_ShouldLeaseClaimedMessages() {
+        this.message.setStatus(EmailOutboxStatus.PENDING);
+        when(this.mockEmailOutboxRepository.findDueForUpdate(anyCollection(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(this.message));
+        when(this.mockEmailOutboxRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        List<EmailOutboxMessage> claimed = this.emailOutboxService.claimDueMessages(10);
+
+        Assertions.assertEquals(1, claimed.size());
+        Assertions.assertEquals(EmailOutboxStatus.SENDING, claimed.get(0).getStatus());
+        Assertions.assertTrue(claimed.get(0).getNextAttemptAt().isAfter(LocalDateTime.now().plusMinutes(4)));
+    }
+
+    @Test
+    void markFailed_ShouldRescheduleWithBackoff() {
+        when(this.mockEmailOutboxRepository.findById(1L)).thenReturn(Optional.of(this.message));
+
+        this.emailOutboxService.markFailed(1L, "Connection refused");
+
+        Assertions.assertEquals(EmailOutboxStatus.PENDING, this.message.getStatus());
+        Assertions.assertEquals(1, this.message.getAttempts());
+        Assertions.assertEquals("Connection refused", this.message.getLastError());
+        Assertions.assertTrue(this.message.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(25)));
+        verify(this.mockEmailOutboxRepository).save(this.message);
+    }
+
+    @Test
+    void markFailed_ShouldCapBackoff() {
+        this.message.setAttempts(1);
+        when(this.mockEmailOutboxRepository.findById(1L)).thenReturn(Optional.of(this.message));
+
+        this.emailOutboxService.markFailed(1L, "Connection refused");
+
+        Assertions.assertTrue(this.message.getNextAttemptAt().isBefore(LocalDateTime.now().plusSeconds(61)));
+    }
+
+    @Test
+    void markFailed_ShouldDeadLetter_WhenMaxAttemptsReached() {
+        this.message.setAttempts(2);
+        when(this.mockEmailOutboxRepository.findById(1L)).thenReturn(Optional.of(this.message));
+
+        this.emailOutboxService.markFailed(1L, "Mailbox unavailable");
+
+        Assertions.assertEquals(EmailOutboxStatus.DEAD, this.message.getStatus());
+        Assertions.assertEquals(3, this.message.getAttempts());
+    }
+
+    @Test
+    void markSent_ShouldSkipRepository_WhenNothingWasSent() {
+        this.emailOutboxService.markSent(List.of());
+
+        verifyNoInteractions(this.mockEmailOutboxRepository);
+    }
+}
@@ -25,8 +25,11 @@ import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -81,17 +84,31 @@ public class GuestQuizServiceImplTest {
     @Test
     void evaluateQuiz_ShouldUpdateStats_RemoveTempQuiz_AndSaveResult() {
         when(this.mockTempQuizStorage.get("token123")).thenReturn(this.mockQuiz);
+        when(this.mockTempQuizStorage.remove("token123")).thenReturn(true);
 
         this.mockGuestQuizService.evaluateQuiz(this.submissionDTO);
 
-        verify(this.mockQuestionStatsService)
-                .updateOnQuizCompleted(eq(this.mockQuiz), eq(this.submissionDTO.getAnswers()));
+        verify(this.mockQuestionStatsService).updateOnQuizCompleted(eq(this.mockQuiz),
+                argThat(evaluation -> evaluation.isCorrect(0) && !evaluation.isCorrect(1)));
         verify(this.mockTempQuizStorage).remove("token123");
         verify(this.mockGuestQuizStorage).put(eq("token123"), any(QuizDTO.class));
         verify(this.mockCategoryStatsService)
                 .updateOnQuizCompleted(eq(10L), eq(1), eq(2));
     }
 
+    @Test
+    void evaluateQuiz_ShouldRejectSubmission_WhenQuizWasAlreadyClaimed() {
+        when(this.mockTempQuizStorage.get("token123")).thenReturn(this.mockQuiz);
+        when(this.mockTempQuizStorage.remove("token123")).thenReturn(false);
+
+        QuizNotFoundException exception = Assertions.assertThrows(QuizNotFoundException.class,
+                () -> this.mockGuestQuizService.evaluateQuiz(this.submissionDTO));
+
+        Assertions.assertEquals("Куизът вече е предаден.", exception.getMessage());
+        verifyNoInteractions(this.mockQuestionStatsService, this.mockCategoryStatsService);
+        verify(this.mockGuestQuizStorage, never()).put(any(), any());
+    }
+
     @Test
     void getQuizResult_ShouldReturnError_WhenQuizNotFound() {
         when(this.mockGuestQuizStorage.get("missing")).thenReturn(null);
@@ -2,6 +2,7 @@ package com.quizapp.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizapp.config.QuestionsApiConfig;
 import com.quizapp.model.dto.ProblemDetailDTO;
 import com.quizapp.model.dto.question.AddQuestionDTO;
 import com.quizapp.model.dto.question.QuestionDTO;
@@ -9,27 +10,38 @@ import com.quizapp.model.dto.question.QuestionPageDTO;
 import com.quizapp.model.dto.question.UpdateQuestionDTO;
 import com.quizapp.model.entity.Result;
 import com.quizapp.model.rest.QuestionApiDTO;
+import com.quizapp.service.events.QuestionChangedEvent;
+import com.quizapp.service.cache.QuestionByIdCache;
+import com.quizapp.service.remote.QuestionsApiGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +49,16 @@ public class QuestionServiceImplTest {
 
     @Mock
     private RestClient restClient;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Spy
+    private QuestionsApiGuard questionsApiGuard = new QuestionsApiGuard(new QuestionsApiConfig(), new SimpleMeterRegistry());
+    @Spy
+    private QuestionByIdCache questionByIdCache = new QuestionByIdCache(new SimpleMeterRegistry(), Duration.ofMinutes(10), 100);
+    @Spy
+    private QuestionsApiConfig questionsApiConfig = new QuestionsApiConfig();
+    @Spy
+    private SyncTaskExecutor questionLookupExecutor = new SyncTaskExecutor();
 
     @InjectMocks
     private QuestionServiceImpl questionService;
@@ -229,6 +251,76 @@ public class QuestionServiceImplTest {
         Assertions.assertNull(result);
     }
 
+    @Test
+    void getQuestionsByIds_ShouldReturnQuestionsInRequestedOrder_AndCacheThem() {
+        when(this.restClient.get()).thenReturn(this.getSpec);
+        when(this.getSpec.uri("/api/questions/{id}", 1L)).thenReturn(this.headersSpec);
+        when(this.getSpec.uri("/api/questions/{id}", 2L)).thenReturn(this.headersSpec);
+        when(this.headersSpec.retrieve()).thenReturn(this.responseSpec);
+        when(this.responseSpec.body(QuestionApiDTO.class)).thenReturn(this.api2, this.api1);
+
+        List<QuestionDTO> first = this.questionService.getQuestionsByIds(List.of(2L, 1L, 2L));
+        List<QuestionDTO> second = this.questionService.getQuestionsByIds(List.of(1L, 2L));
+
+        Assertions.assertEquals(List.of(2L, 1L, 2L), first.stream().map(QuestionDTO::getId).toList());
+        Assertions.assertEquals(List.of(1L, 2L), second.stream().map(QuestionDTO::getId).toList());
+        verify(this.restClient, times(2)).get();
+    }
+
+    @Test
+    void getQuestionsByIds_ShouldUseBatchEndpoint_WhenConfigured() {
+        this.questionsApiConfig.setBatchLookupPath("/api/questions/batch");
+
+        when(this.restClient.get()).thenReturn(this.getSpec);
+        when(this.getSpec.uri("/api/questions/batch?ids=1&ids=2")).thenReturn(this.headersSpec);
+        when(this.headersSpec.retrieve()).thenReturn(this.responseSpec);
+        when(this.responseSpec.body(QuestionApiDTO[].class)).thenReturn(new QuestionApiDTO[]{this.api2, this.api1});
+
+        List<QuestionDTO> result = this.questionService.getQuestionsByIds(List.of(1L, 2L));
+
+        Assertions.assertEquals(List.of(1L, 2L), result.stream().map(QuestionDTO::getId).toList());
+        verify(this.restClient, times(1)).get();
+    }
+
+    @Test
+    void getQuestionsByIds_ShouldFallBackToSingleLookups_WhenBatchEndpointMissing() {
+        this.questionsApiConfig.setBatchLookupPath("/api/questions/batch");
+
+        when(this.restClient.get()).thenReturn(this.getSpec);
+        when(this.getSpec.uri("/api/questions/batch?ids=1&ids=2")).thenReturn(this.headersSpec);
+        when(this.getSpec.uri("/api/questions/{id}", 1L)).thenReturn(this.headersSpec);
+        when(this.getSpec.uri("/api/questions/{id}", 2L)).thenReturn(this.headersSpec);
+        when(this.headersSpec.retrieve()).thenReturn(this.responseSpec);
+        when(this.responseSpec.body(QuestionApiDTO[].class))
+                .thenThrow(HttpClientErrorException.NotFound
+                        .create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null));
+        when(this.responseSpec.body(QuestionApiDTO.class)).thenReturn(this.api1, this.api2);
+
+        List<QuestionDTO> result = this.questionService.getQuestionsByIds(List.of(1L, 2L));
+
+        Assertions.assertEquals(List.of(1L, 2L), result.stream().map(QuestionDTO::getId).toList());
+        verify(this.restClient, times(3)).get();
+    }
+
+    @Test
+    void getQuestionsByIds_ShouldServeExpiredQuestions_WhenApiUnavailable() {
+        QuestionByIdCache expiringCache = new QuestionByIdCache(new SimpleMeterRegistry(), Duration.ZERO, 100);
+        QuestionServiceImpl service = new QuestionServiceImpl(this.restClient, this.applicationEventPublisher,
+                this.questionsApiGuard, expiringCache, this.questionsApiConfig, this.questionLookupExecutor);
+
+        when(this.restClient.get()).thenReturn(this.getSpec);
+        when(this.getSpec.uri("/api/questions/{id}", 1L)).thenReturn(this.headersSpec);
+        when(this.headersSpec.retrieve()).thenReturn(this.responseSpec);
+        when(this.responseSpec.body(QuestionApiDTO.class))
+                .thenReturn(this.api1)
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        service.getQuestionById(1L);
+
+        Assertions.assertEquals("Question 1", service.getQuestionById(1L).getQuestionText());
+        Assertions.assertThrows(ResourceAccessException.class, () -> service.getQuestionsByIds(List.of(1L, 2L)));
+    }
+
     @Test
     void addQuestion_ShouldReturnSuccess_WhenDtoIsValid() {
         when(this.restClient.post()).thenReturn(this.postSpec);
@@ -242,6 +334,7 @@ public class QuestionServiceImplTest {
 
         Assertions.assertTrue(result.isSuccess());
         Assertions.assertEquals("Успешно добавихте въпрос.", result.getMessage());
+        verify(this.applicationEventPublisher).publishEvent(any(QuestionChangedEvent.class));
     }
 
     @Test
@@ -309,6 +402,7 @@ public class QuestionServiceImplTest {
         Assertions.assertNotNull(result);
         Assertions.assertTrue(result.isSuccess());
         Assertions.assertEquals("Успешно редактирахте въпрос.", result.getMessage());
+        verify(this.applicationEventPublisher).publishEvent(any(QuestionChangedEvent.class));
     }
 
     @Test
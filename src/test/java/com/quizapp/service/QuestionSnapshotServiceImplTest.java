@@ -0,0 +1,204 @@
+package com.quizapp.service;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import com.quizapp.model.entity.QuestionSnapshot;
+import com.quizapp.model.entity.SolvedQuiz;
+import com.quizapp.repository.QuestionSnapshotRepository;
+import com.quizapp.repository.SolvedQuizRepository;
+import com.quizapp.service.interfaces.QuestionService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class QuestionSnapshotServiceImplTest {
+
+    @Mock
+    private QuestionSnapshotRepository mockQuestionSnapshotRepository;
+    @Mock
+    private SolvedQuizRepository mockSolvedQuizRepository;
+    @Mock
+    private QuestionService mockQuestionService;
+    @Mock
+    private TransactionTemplate mockTransactionTemplate;
+    @InjectMocks
+    private QuestionSnapshotServiceImpl questionSnapshotService;
+
+    private final Map<String, QuestionSnapshot> storedSnapshots = new HashMap<>();
+    private final AtomicLong snapshotIds = new AtomicLong();
+
+    private QuestionDTO question1;
+    private QuestionDTO question2;
+
+    @BeforeEach
+    void setUp() {
+        this.question1 = QuestionDTO.builder()
+                .id(1L)
+                .questionText("Question1")
+                .categoryName("Maths")
+                .correctAnswer("A")
+                .options(List.of("A", "B"))
+                .build();
+        this.question2 = QuestionDTO.builder()
+                .id(2L)
+                .questionText("Question2")
+                .categoryName("Maths")
+                .correctAnswer("B")
+                .options(List.of("A", "B"))
+                .build();
+    }
+
+    private void useInMemorySnapshotTable() {
+        when(this.mockQuestionSnapshotRepository.findByContentHashIn(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<String>>getArgument(0).stream()
+                        .map(this.storedSnapshots::get)
+                        .filter(Objects::nonNull)
+                        .toList());
+        lenient().doAnswer(invocation -> {
+            invocation.<List<QuestionSnapshot>>getArgument(0).forEach(snapshot ->
+                    this.storedSnapshots.putIfAbsent(snapshot.getContentHash(), this.stored(snapshot)));
+            return null;
+        }).when(this.mockQuestionSnapshotRepository).insertMissing(anyList());
+    }
+
+    private QuestionSnapshot stored(QuestionSnapshot snapshot) {
+        return new QuestionSnapshot(this.snapshotIds.incrementAndGet(), snapshot.getContentHash(),
+                snapshot.getQuestionId(), snapshot.getQuestionText(), snapshot.getCategoryName(),
+                snapshot.getCorrectAnswer(), snapshot.getOptions());
+    }
+
+    @Test
+    void contentHash_ShouldIdentifyQuestionVersion() {
+        QuestionDTO edited = QuestionDTO.builder()
+                .id(1L)
+                .questionText("Question1 edited")
+                .categoryName("Maths")
+                .correctAnswer("A")
+                .options(List.of("A", "B"))
+                .build();
+        QuestionDTO shiftedOptions = QuestionDTO.builder()
+                .id(1L)
+                .questionText("Question1")
+                .categoryName("Maths")
+                .correctAnswer("A")
+                .options(List.of("AB"))
+                .build();
+
+        String hash = QuestionSnapshotServiceImpl.contentHash(this.question1);
+
+        Assertions.assertEquals(64, hash.length());
+        Assertions.assertEquals(hash, QuestionSnapshotServiceImpl.contentHash(
+                QuestionSnapshotServiceImpl.toQuestionDTO(QuestionSnapshotServiceImpl.toSnapshot(this.question1))));
+        Assertions.assertNotEquals(hash, QuestionSnapshotServiceImpl.contentHash(edited));
+        Assertions.assertNotEquals(hash, QuestionSnapshotServiceImpl.contentHash(shiftedOptions));
+    }
+
+    @Test
+    void snapshotsOf_ShouldInsertOnlyMissingVersions_AndKeepQuestionOrder() {
+        this.useInMemorySnapshotTable();
+        QuestionSnapshot existing = this.stored(QuestionSnapshotServiceImpl.toSnapshot(this.question1));
+        this.storedSnapshots.put(existing.getContentHash(), existing);
+
+        List<QuestionSnapshot> snapshots = this.questionSnapshotService
+                .snapshotsOf(List.of(this.question2, this.question1, this.question2));
+
+        Assertions.assertEquals(List.of(2L, 1L, 2L), snapshots.stream().map(QuestionSnapshot::getQuestionId).toList());
+        Assertions.assertSame(existing, snapshots.get(1));
+        Assertions.assertSame(snapshots.get(0), snapshots.get(2));
+
+        ArgumentCaptor<List<QuestionSnapshot>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(this.mockQuestionSnapshotRepository).insertMissing(inserted.capture());
+        Assertions.assertEquals(List.of(2L), inserted.getValue().stream().map(QuestionSnapshot::getQuestionId).toList());
+    }
+
+    @Test
+    void snapshotsOf_ShouldReuseOneSnapshot_ForEveryShuffleOfTheOptions() {
+        this.useInMemorySnapshotTable();
+        QuestionDTO shuffled = QuestionDTO.builder()
+                .id(1L)
+                .questionText("Question1")
+                .categoryName("Maths")
+                .correctAnswer("A")
+                .options(List.of("B", "A"))
+                .build();
+
+        QuestionSnapshot first = this.questionSnapshotService.snapshotsOf(List.of(this.question1)).get(0);
+        QuestionSnapshot second = this.questionSnapshotService.snapshotsOf(List.of(shuffled)).get(0);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(List.of("A", "B"), second.getOptions());
+        Assertions.assertEquals(1, this.storedSnapshots.size());
+        verify(this.mockQuestionSnapshotRepository, times(1)).insertMissing(anyList());
+    }
+
+    @Test
+    void snapshotsOf_ShouldNotInsert_WhenEveryVersionIsStored() {
+        this.useInMemorySnapshotTable();
+        this.questionSnapshotService.snapshotsOf(List.of(this.question1));
+        clearInvocations(this.mockQuestionSnapshotRepository);
+
+        this.questionSnapshotService.snapshotsOf(List.of(this.question1));
+
+        verify(this.mockQuestionSnapshotRepository, never()).insertMissing(anyList());
+    }
+
+    @Test
+    void getSnapshotQuestions_ShouldMapSnapshotsToQuestions() {
+        when(this.mockQuestionSnapshotRepository.findBySolvedQuizId(7L))
+                .thenReturn(List.of(this.stored(QuestionSnapshotServiceImpl.toSnapshot(this.question2))));
+
+        List<QuestionDTO> questions = this.questionSnapshotService.getSnapshotQuestions(7L);
+
+        Assertions.assertEquals(List.of(this.question2), questions);
+    }
+
+    @Test
+    void backfillSolvedQuizzes_ShouldAttachSnapshots_AndSkipQuizzesWithRemovedQuestions() {
+        this.useInMemorySnapshotTable();
+        when(this.mockTransactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        SolvedQuiz complete = SolvedQuiz.builder()
+                .id(10L)
+                .questionIds(List.of(2L, 1L))
+                .questionSnapshots(new ArrayList<>())
+                .build();
+        SolvedQuiz withRemovedQuestion = SolvedQuiz.builder()
+                .id(11L)
+                .questionIds(List.of(1L, 3L))
+                .questionSnapshots(new ArrayList<>())
+                .build();
+
+        when(this.mockSolvedQuizRepository.findIdsWithoutSnapshots(0L, Limit.of(QuestionSnapshotServiceImpl.BACKFILL_CHUNK_SIZE)))
+                .thenReturn(List.of(10L, 11L));
+        when(this.mockSolvedQuizRepository.findAllById(List.of(10L, 11L)))
+                .thenReturn(List.of(complete, withRemovedQuestion));
+        when(this.mockQuestionService.getQuestionsByIds(List.of(2L, 1L, 3L)))
+                .thenReturn(Arrays.asList(this.question2, this.question1, null));
+
+        int backfilled = this.questionSnapshotService.backfillSolvedQuizzes();
+
+        Assertions.assertEquals(1, backfilled);
+        Assertions.assertEquals(List.of(2L, 1L), complete.getQuestionSnapshots().stream()
+                .map(QuestionSnapshot::getQuestionId)
+                .toList());
+        Assertions.assertTrue(withRemovedQuestion.getQuestionSnapshots().isEmpty());
+        Assertions.assertTrue(withRemovedQuestion.getSnapshotsUnavailable());
+        Assertions.assertNull(complete.getSnapshotsUnavailable());
+        verify(this.mockSolvedQuizRepository, times(1)).findIdsWithoutSnapshots(anyLong(), any());
+    }
+}
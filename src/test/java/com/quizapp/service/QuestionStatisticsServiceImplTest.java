@@ -1,12 +1,17 @@
 package com.quizapp.service;
 
-import com.quizapp.exception.QuestionStatisticsNotFound;
+import com.quizapp.model.dto.KeysetPageDTO;
 import com.quizapp.model.dto.question.QuestionDTO;
 import com.quizapp.model.dto.question.QuestionStatsDTO;
 import com.quizapp.model.entity.QuestionStatistics;
 import com.quizapp.model.entity.Quiz;
 import com.quizapp.repository.QuestionStatisticsRepository;
-import com.quizapp.service.interfaces.CategoryService;
+import com.quizapp.service.cache.CategoryNameResolver;
+import com.quizapp.service.evaluation.AnswerKey;
+import com.quizapp.service.paging.KeysetCursor;
+import com.quizapp.service.paging.KeysetPager;
+import com.quizapp.service.search.QuestionTextSearch;
+import com.quizapp.service.stats.StatisticsDeltaBuffer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,7 +30,6 @@ import org.springframework.data.jpa.domain.Specification;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -36,7 +40,13 @@ public class QuestionStatisticsServiceImplTest {
     @Mock
     private QuestionStatisticsRepository mockQuestionStatsRepository;
     @Mock
-    private CategoryService mockCategoryService;
+    private CategoryNameResolver mockCategoryNameResolver;
+    @Mock
+    private StatisticsDeltaBuffer mockStatisticsDeltaBuffer;
+    @Mock
+    private KeysetPager mockKeysetPager;
+    @Mock
+    private QuestionTextSearch mockQuestionTextSearch;
     @InjectMocks
     private QuestionStatisticsServiceImpl mockQuestionStatsService;
 
@@ -92,6 +102,50 @@ public class QuestionStatisticsServiceImplTest {
         Specification<QuestionStatistics> usedSpec = specCaptor.getValue();
 
         Assertions.assertNotNull(usedSpec);
+        verify(this.mockQuestionTextSearch).matching(text, categoryId);
+        verify(this.mockQuestionTextSearch, never()).search(any(), any(), anyInt());
+    }
+
+    @Test
+    void getQuestionStatisticsPage_ShouldListTextMatchesByRank_WhenNoSortBy() {
+        QuestionStatistics first = QuestionStatistics.builder().questionId(3L).categoryId(1L).questionText("Столица").build();
+        QuestionStatistics second = QuestionStatistics.builder().questionId(1L).categoryId(1L).questionText("Столицата на").build();
+
+        when(this.mockQuestionTextSearch.search("столиц", null, QuestionStatisticsServiceImpl.MAX_SEARCH_RESULTS))
+                .thenReturn(List.of(3L, 1L, 2L));
+        when(this.mockQuestionStatsRepository.findAll(ArgumentMatchers.<Specification<QuestionStatistics>>any()))
+                .thenReturn(List.of(second, first));
+        when(this.mockCategoryNameResolver.resolveNames(List.of(1L, 1L))).thenReturn(Map.of(1L, "География"));
+
+        KeysetPageDTO<QuestionStatsDTO> page = this.mockQuestionStatsService
+                .getQuestionStatisticsPage(null, "столиц", null, null, 2);
+
+        Assertions.assertEquals(List.of(3L, 1L), page.getContent().stream().map(QuestionStatsDTO::getQuestionId).toList());
+        Assertions.assertEquals(3, page.getTotalElements());
+        Assertions.assertTrue(page.isHasNext());
+        Assertions.assertEquals(1, KeysetCursor.decode(page.getNextCursor(),
+                QuestionStatisticsServiceImpl.RANK_SORT).page());
+        verifyNoInteractions(this.mockKeysetPager);
+    }
+
+    @Test
+    void getQuestionStatisticsPage_ShouldTreatCursorPastTheEndAsFirstPage() {
+        QuestionStatistics first = QuestionStatistics.builder().questionId(3L).categoryId(1L).questionText("Столица").build();
+        String overflowingCursor = new KeysetCursor(QuestionStatisticsServiceImpl.RANK_SORT, false,
+                Integer.MAX_VALUE / 2, 0, null).encode();
+
+        when(this.mockQuestionTextSearch.search("столиц", null, QuestionStatisticsServiceImpl.MAX_SEARCH_RESULTS))
+                .thenReturn(List.of(3L, 1L));
+        when(this.mockQuestionStatsRepository.findAll(ArgumentMatchers.<Specification<QuestionStatistics>>any()))
+                .thenReturn(List.of(first));
+        when(this.mockCategoryNameResolver.resolveNames(List.of(1L))).thenReturn(Map.of(1L, "География"));
+
+        KeysetPageDTO<QuestionStatsDTO> page = this.mockQuestionStatsService
+                .getQuestionStatisticsPage(null, "столиц", null, overflowingCursor, 5);
+
+        Assertions.assertEquals(0, page.getCurrentPage());
+        Assertions.assertEquals(List.of(3L), page.getContent().stream().map(QuestionStatsDTO::getQuestionId).toList());
+        Assertions.assertFalse(page.isHasPrevious());
     }
 
     @Test
@@ -105,6 +159,8 @@ public class QuestionStatisticsServiceImplTest {
 
         when(this.mockQuestionStatsRepository.findAll(ArgumentMatchers.<Specification<QuestionStatistics>>any(), eq(pageable)))
                 .thenReturn(page);
+        when(this.mockCategoryNameResolver.resolveNames(List.of(this.mockQuestionStats.getCategoryId())))
+                .thenReturn(Map.of(this.mockQuestionStats.getCategoryId(), "Maths"));
 
         Page<QuestionStatsDTO> result = this.mockQuestionStatsService.getFilteredQuestionStatistics(1L, questionText, pageable);
 
@@ -116,6 +172,7 @@ public class QuestionStatisticsServiceImplTest {
         QuestionStatsDTO dto = result.getContent().get(0);
 
         Assertions.assertEquals(this.mockQuestionStats.getCategoryId(), dto.getCategoryId());
+        Assertions.assertEquals("Maths", dto.getCategoryName());
         Assertions.assertEquals(this.mockQuestionStats.getQuestionId(), dto.getQuestionId());
         Assertions.assertEquals(this.mockQuestionStats.getQuestionText(), dto.getQuestionText());
         Assertions.assertEquals(this.mockQuestionStats.getCorrectAnswers(), dto.getCorrectAnswers());
@@ -126,99 +183,39 @@ public class QuestionStatisticsServiceImplTest {
     }
 
     @Test
-    void increaseUsedQuestion_ShouldCreateNewStatistics_WhenNotExist() {
-        String questionText = "Question";
-        when(this.mockQuestionStatsRepository.findByQuestionId(5L))
-                .thenReturn(Optional.empty());
-
-        this.mockQuestionStatsService.increaseUsedQuestion(5L, questionText, 1L);
-
-        ArgumentCaptor<QuestionStatistics> statsCaptor = ArgumentCaptor.forClass(QuestionStatistics.class);
-
-        verify(this.mockQuestionStatsRepository).saveAndFlush(statsCaptor.capture());
-        QuestionStatistics savedStats = statsCaptor.getValue();
-
-        Assertions.assertEquals(5L, savedStats.getQuestionId());
-        Assertions.assertEquals(1L, savedStats.getCategoryId());
-        Assertions.assertEquals(questionText, savedStats.getQuestionText());
-        Assertions.assertEquals(1, savedStats.getAttempts());
-        Assertions.assertEquals(0, savedStats.getCompletionRate());
-    }
-
-    @Test
-    void increaseUsedQuestion_ShouldIncreaseAttemptsAndRecalculateRate_WhenNotExist() {
-        String questionText = "Question";
-        when(this.mockQuestionStatsRepository.findByQuestionId(1L))
-                .thenReturn(Optional.of(this.mockQuestionStats));
-
-        this.mockQuestionStatsService.increaseUsedQuestion(1L, questionText, 1L);
-
-        Assertions.assertEquals(21, this.mockQuestionStats.getAttempts());
-
-        double completionRate = (this.mockQuestionStats.getCorrectAnswers() + this.mockQuestionStats.getWrongAnswers()) * 100.00 / this.mockQuestionStats.getAttempts();
-        Assertions.assertEquals(completionRate, this.mockQuestionStats.getCompletionRate());
-        verify(this.mockQuestionStatsRepository, times(1)).saveAndFlush(this.mockQuestionStats);
-    }
-
-    @Test
-    void updateOnQuizCompleted_ShouldThrowException_WhenQuestionStatsNotFound() {
-        when(this.mockQuestionStatsRepository.findByQuestionId(1L))
-                .thenReturn(Optional.empty());
-
-        Map<Long, String> answers = Map.of(1L, "A");
+    void increaseUsedQuestions_ShouldRecordAttemptsWithoutTouchingRepository() {
+        QuestionDTO secondQuestion = QuestionDTO.builder()
+                .id(2L)
+                .questionText("Question2")
+                .correctAnswer("B")
+                .build();
 
-        QuestionStatisticsNotFound exception = Assertions.assertThrows(QuestionStatisticsNotFound.class,
-                () -> this.mockQuestionStatsService.updateOnQuizCompleted(this.mockQuiz, answers));
+        this.mockQuestionStatsService.increaseUsedQuestions(List.of(this.questionDTO, secondQuestion), 1L);
 
-        Assertions.assertEquals("Не е намерена статистика за този въпрос.", exception.getMessage());
-        verify(this.mockQuestionStatsRepository, never()).saveAndFlush(any());
+        verify(this.mockStatisticsDeltaBuffer).recordQuestionAttempt(1L, "Question", 1L);
+        verify(this.mockStatisticsDeltaBuffer).recordQuestionAttempt(2L, "Question2", 1L);
+        verifyNoInteractions(this.mockQuestionStatsRepository);
     }
 
     @Test
-    void updateOnQuizCompleted_ShouldUpdateQuestionStats_WhenWrongAnswer() {
-        when(this.mockQuestionStatsRepository.findByQuestionId(1L))
-                .thenReturn(Optional.of(this.mockQuestionStats));
-
+    void updateOnQuizCompleted_ShouldRecordWrongAnswer_WhenWrongAnswer() {
         Map<Long, String> answers = Map.of(1L, "C");
 
-        this.mockQuestionStatsService.updateOnQuizCompleted(this.mockQuiz, answers);
+        this.mockQuestionStatsService.updateOnQuizCompleted(this.mockQuiz,
+                AnswerKey.of(this.mockQuiz.getQuestions()).evaluate(answers));
 
-        Assertions.assertEquals(15, this.mockQuestionStats.getCorrectAnswers());
-        Assertions.assertEquals(3, this.mockQuestionStats.getWrongAnswers());
-
-        double accuracy = this.mockQuestionStats.getCorrectAnswers() * 100.00 / this.mockQuestionStats.getAttempts();
-        Assertions.assertEquals(accuracy, this.mockQuestionStats.getAccuracy());
-
-        double difficulty = this.mockQuestionStats.getWrongAnswers() * 100.00 / this.mockQuestionStats.getAttempts();
-        Assertions.assertEquals(difficulty, this.mockQuestionStats.getDifficulty());
-
-        double completionRate = (this.mockQuestionStats.getCorrectAnswers() + this.mockQuestionStats.getWrongAnswers()) * 100.00 / this.mockQuestionStats.getAttempts();
-        Assertions.assertEquals(completionRate, this.mockQuestionStats.getCompletionRate());
-
-        verify(this.mockQuestionStatsRepository, times(1)).saveAndFlush(this.mockQuestionStats);
+        verify(this.mockStatisticsDeltaBuffer).recordQuestionAnswer(1L, "Question", 1L, false);
+        verifyNoInteractions(this.mockQuestionStatsRepository);
     }
 
     @Test
-    void updateOnQuizCompleted_ShouldUpdateQuestionStats_WhenCorrectAnswer() {
-        when(this.mockQuestionStatsRepository.findByQuestionId(1L))
-                .thenReturn(Optional.of(this.mockQuestionStats));
-
+    void updateOnQuizCompleted_ShouldRecordCorrectAnswer_WhenCorrectAnswer() {
         Map<Long, String> answers = Map.of(1L, "A");
 
-        this.mockQuestionStatsService.updateOnQuizCompleted(this.mockQuiz, answers);
-
-        Assertions.assertEquals(16, this.mockQuestionStats.getCorrectAnswers());
-        Assertions.assertEquals(2, this.mockQuestionStats.getWrongAnswers());
-
-        double accuracy = this.mockQuestionStats.getCorrectAnswers() * 100.00 / this.mockQuestionStats.getAttempts();
-        Assertions.assertEquals(accuracy, this.mockQuestionStats.getAccuracy());
-
-        double difficulty = this.mockQuestionStats.getWrongAnswers() * 100.00 / this.mockQuestionStats.getAttempts();
-        Assertions.assertEquals(difficulty, this.mockQuestionStats.getDifficulty());
-
-        double completionRate = (this.mockQuestionStats.getCorrectAnswers() + this.mockQuestionStats.getWrongAnswers()) * 100.00 / this.mockQuestionStats.getAttempts();
-        Assertions.assertEquals(completionRate, this.mockQuestionStats.getCompletionRate());
+        this.mockQuestionStatsService.updateOnQuizCompleted(this.mockQuiz,
+                AnswerKey.of(this.mockQuiz.getQuestions()).evaluate(answers));
 
-        verify(this.mockQuestionStatsRepository, times(1)).saveAndFlush(this.mockQuestionStats);
+        verify(this.mockStatisticsDeltaBuffer).recordQuestionAnswer(1L, "Question", 1L, true);
+        verifyNoInteractions(this.mockQuestionStatsRepository);
     }
-}
\ No newline at end of file
+}
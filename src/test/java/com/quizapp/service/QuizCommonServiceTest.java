@@ -6,7 +6,9 @@ import com.quizapp.exception.NotEnoughQuestionsException;
 import com.quizapp.model.dto.question.QuestionDTO;
 import com.quizapp.model.entity.Quiz;
 import com.quizapp.model.rest.QuestionApiDTO;
-import com.quizapp.service.interfaces.CategoryService;
+import com.quizapp.service.cache.CategoryNameResolver;
+import com.quizapp.service.cache.QuestionPool;
+import com.quizapp.service.cache.QuestionPoolCache;
 import com.quizapp.service.interfaces.CategoryStatisticsService;
 import com.quizapp.service.interfaces.QuestionService;
 import com.quizapp.service.interfaces.QuestionStatisticsService;
@@ -19,6 +21,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,7 +36,9 @@ public class QuizCommonServiceTest {
     @Mock
     private QuestionService mockQuestionService;
     @Mock
-    private CategoryService mockCategoryService;
+    private QuestionPoolCache mockQuestionPoolCache;
+    @Mock
+    private CategoryNameResolver mockCategoryNameResolver;
     @Mock
     private CategoryStatisticsService mockCategoryStatsService;
     @Mock
@@ -50,7 +55,8 @@ public class QuizCommonServiceTest {
         this.mockQuizCommonService = new QuizCommonService(
                 this.mockTempQuizStorage,
                 this.mockQuestionService,
-                this.mockCategoryService,
+                this.mockQuestionPoolCache,
+                this.mockCategoryNameResolver,
                 this.mockCategoryStatsService,
                 this.mockQuestionStatsService);
 
@@ -97,6 +103,10 @@ public class QuizCommonServiceTest {
                 .build();
     }
 
+    private QuestionPool poolOf(QuestionApiDTO... questions) {
+        return new QuestionPool(List.of(questions), 0, 0, Instant.now());
+    }
+
     @Test
     void getQuizFromTemp_ShouldReturnQuiz_WhenDataIsValid() {
         when(this.mockTempQuizStorage.get("token123")).thenReturn(this.mockQuiz);
@@ -110,7 +120,7 @@ public class QuizCommonServiceTest {
 
     @Test
     void createQuiz_ShouldReturnError_WhenCategoryNotFound() {
-        when(this.mockCategoryService.getCategoryNameById(5L)).thenReturn("");
+        when(this.mockCategoryNameResolver.resolveName(5L)).thenReturn("");
 
         CategoryNotFoundException exception = Assertions.assertThrows(CategoryNotFoundException.class,
                 () -> this.mockQuizCommonService.createQuiz(5L, 2));
@@ -120,11 +130,11 @@ public class QuizCommonServiceTest {
 
     @Test
     void createQuiz_ShouldReturnError_WhenNoQuestionsFound() {
-        when(this.mockCategoryService.getCategoryNameById(5L))
+        when(this.mockCategoryNameResolver.resolveName(5L))
                 .thenReturn("Math");
 
-        when(this.mockQuestionService.makeGetRequestByCategoryId(5L))
-                .thenReturn(new QuestionApiDTO[]{});
+        when(this.mockQuestionPoolCache.getPool(5L))
+                .thenReturn(this.poolOf());
 
         NoQuestionsFoundException exception = Assertions.assertThrows(NoQuestionsFoundException.class,
                 () -> this.mockQuizCommonService.createQuiz(5L, 5));
@@ -134,11 +144,11 @@ public class QuizCommonServiceTest {
 
     @Test
     void createQuiz_ShouldReturnError_WhenNotEnoughQuestions() {
-        when(this.mockCategoryService.getCategoryNameById(5L))
+        when(this.mockCategoryNameResolver.resolveName(5L))
                 .thenReturn("Math");
 
-        when(this.mockQuestionService.makeGetRequestByCategoryId(5L))
-                .thenReturn(new QuestionApiDTO[]{this.question1, this.question2});
+        when(this.mockQuestionPoolCache.getPool(5L))
+                .thenReturn(this.poolOf(this.question1, this.question2));
 
         NotEnoughQuestionsException exception = Assertions.assertThrows(NotEnoughQuestionsException.class,
                 () -> this.mockQuizCommonService.createQuiz(5L, 5));
@@ -148,10 +158,10 @@ public class QuizCommonServiceTest {
 
     @Test
     void createQuiz_ShouldCreateQuiz_WhenDataIsValid() {
-        when(this.mockCategoryService.getCategoryNameById(5L))
+        when(this.mockCategoryNameResolver.resolveName(5L))
                 .thenReturn("Math");
-        when(this.mockQuestionService.makeGetRequestByCategoryId(5L))
-                .thenReturn(new QuestionApiDTO[]{this.question1, this.question2});
+        when(this.mockQuestionPoolCache.getPool(5L))
+                .thenReturn(this.poolOf(this.question1, this.question2));
         when(this.mockQuestionService.mapQuestionApiToDTO(any(QuestionApiDTO.class)))
                 .thenAnswer(inv -> {
                     QuestionApiDTO api = inv.getArgument(0);
@@ -167,8 +177,8 @@ public class QuizCommonServiceTest {
         Quiz createdQuiz = this.mockQuizCommonService.createQuiz(5L, 2);
 
         Assertions.assertNotNull(createdQuiz);
-        verify(this.mockQuestionStatsService, times(2))
-                .increaseUsedQuestion(anyLong(), anyString(), eq(5L));
+        verify(this.mockQuestionStatsService, times(1))
+                .increaseUsedQuestions(eq(createdQuiz.getQuestions()), eq(5L));
         verify(this.mockCategoryStatsService).increaseStartedQuizzes(5L);
         verify(this.mockTempQuizStorage).put(eq(createdQuiz.getViewToken()), eq(createdQuiz));
 
@@ -180,5 +190,16 @@ public class QuizCommonServiceTest {
         Assertions.assertNotNull(createdQuiz.getExpireAt());
         Assertions.assertFalse(createdQuiz.getQuestions().isEmpty());
         Assertions.assertEquals(this.mockQuiz.getQuestions().size(), createdQuiz.getQuestions().size());
+        Assertions.assertEquals(List.of("A", "B", "C", "D"), this.question1.getOptions());
+    }
+
+    @Test
+    void createQuiz_ShouldReturnError_WhenCategoryNameCannotBeResolved() {
+        when(this.mockCategoryNameResolver.resolveName(5L)).thenReturn(null);
+
+        Assertions.assertThrows(CategoryNotFoundException.class,
+                () -> this.mockQuizCommonService.createQuiz(5L, 2));
+
+        verifyNoInteractions(this.mockQuestionPoolCache);
     }
 }
\ No newline at end of file
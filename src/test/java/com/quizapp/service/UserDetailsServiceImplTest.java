@@ -2,6 +2,7 @@ package com.quizapp.service;
 
 import com.quizapp.model.dto.user.UserDetailsDTO;
 import com.quizapp.model.entity.Role;
+import com.quizapp.model.entity.SolvedQuiz;
 import com.quizapp.model.entity.User;
 import com.quizapp.model.enums.RoleName;
 import com.quizapp.repository.UserRepository;
@@ -16,10 +17,17 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.mockito.Mockito.when;
 
@@ -76,8 +84,58 @@ public class UserDetailsServiceImplTest {
         UserDetailsDTO dto = (UserDetailsDTO) details;
         Assertions.assertEquals(1L, dto.getId());
         Assertions.assertEquals("user1@gmail.com", dto.getEmail());
-        Assertions.assertNotNull(dto.getSolvedQuizzes());
-        Assertions.assertEquals(0, dto.getSolvedQuizzes().size());
+    }
+
+    @Test
+    void loadUserByUsername_ShouldKeepPrincipalSizeIndependentOfQuizHistory() throws IOException {
+        List<Integer> principalSizes = new ArrayList<>();
+
+        for (int solvedQuizzes : List.of(10, 1_000, 10_000)) {
+            User user = User.builder()
+                    .id(1L)
+                    .username("user1")
+                    .email("user1@gmail.com")
+                    .password("encodedPassword")
+                    .roles(this.mockUser.getRoles())
+                    .solvedQuizzes(IntStream.range(0, solvedQuizzes)
+                            .mapToObj(i -> SolvedQuiz.builder()
+                                    .id((long) i)
+                                    .categoryId(5L)
+                                    .questionIds(List.of(1L, 2L, 3L))
+                                    .userAnswers(Map.of(1L, "A", 2L, "B", 3L, "C"))
+                                    .build())
+                            .collect(Collectors.toList()))
+                    .build();
+
+            when(this.mockUserRepository.findByUsername("user1")).thenReturn(Optional.of(user));
+
+            principalSizes.add(serializedSize(this.mockUserDetailsService.loadUserByUsername("user1")));
+        }
+
+        Assertions.assertEquals(1, principalSizes.stream().distinct().count());
+        Assertions.assertTrue(principalSizes.get(0) < 2_048);
+    }
+
+    @Test
+    void eraseCredentials_ShouldDropPasswordFromPrincipal() {
+        when(this.mockUserRepository.findByUsername("user1"))
+                .thenReturn(Optional.of(this.mockUser));
+
+        UserDetailsDTO dto = (UserDetailsDTO) this.mockUserDetailsService.loadUserByUsername("user1");
+        dto.eraseCredentials();
+
+        Assertions.assertNull(dto.getPassword());
+        Assertions.assertEquals("user1", dto.getUsername());
+    }
+
+    private static int serializedSize(Object principal) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(principal);
+        }
+
+        return bytes.size();
     }
 
     @Test
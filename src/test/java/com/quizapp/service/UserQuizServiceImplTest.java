@@ -2,6 +2,7 @@ package com.quizapp.service;
 
 import com.quizapp.exception.QuizNotFoundException;
 import com.quizapp.exception.UserNotFoundException;
+import com.quizapp.model.dto.KeysetPageDTO;
 import com.quizapp.model.dto.question.QuestionDTO;
 import com.quizapp.model.dto.quiz.QuizDTO;
 import com.quizapp.model.dto.quiz.QuizResultDTO;
@@ -11,7 +12,11 @@ import com.quizapp.model.entity.SolvedQuiz;
 import com.quizapp.model.entity.User;
 import com.quizapp.model.entity.UserStatistics;
 import com.quizapp.repository.SolvedQuizRepository;
+import com.quizapp.service.cache.CategoryNameResolver;
+import com.quizapp.service.evaluation.QuizEvaluation;
 import com.quizapp.service.interfaces.*;
+import com.quizapp.service.paging.KeysetPager;
+import com.quizapp.service.paging.KeysetSort;
 import com.quizapp.service.utils.TempQuizStorage;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +26,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,7 +45,7 @@ public class UserQuizServiceImplTest {
     @Mock
     private QuestionService mockQuestionService;
     @Mock
-    private CategoryService mockCategoryService;
+    private CategoryNameResolver mockCategoryNameResolver;
     @Mock
     private SolvedQuizRepository mockSolvedQuizRepository;
     @Mock
@@ -49,6 +56,10 @@ public class UserQuizServiceImplTest {
     private CategoryStatisticsService mockCategoryStatsService;
     @Mock
     private QuestionStatisticsService mockQuestionStatsService;
+    @Mock
+    private QuestionSnapshotService mockQuestionSnapshotService;
+    @Mock
+    private KeysetPager mockKeysetPager;
     @InjectMocks
     private UserQuizServiceImpl mockUserQuizService;
 
@@ -61,12 +72,14 @@ public class UserQuizServiceImplTest {
         this.mockUserQuizService = new UserQuizServiceImpl(
                 this.mockTempQuizStorage,
                 this.mockQuestionService,
-                this.mockCategoryService,
+                this.mockCategoryNameResolver,
                 this.mockSolvedQuizRepository,
                 this.mockUserService,
                 this.mockUserStatsService,
                 this.mockCategoryStatsService,
-                this.mockQuestionStatsService);
+                this.mockQuestionStatsService,
+                this.mockQuestionSnapshotService,
+                this.mockKeysetPager);
 
         this.solvedQuiz = SolvedQuiz.builder()
                 .id(1L)
@@ -110,11 +123,13 @@ public class UserQuizServiceImplTest {
     @Test
     void getSolvedQuizById_ShouldReturnQuizDTO_WhenQuizExists() {
         when(this.mockSolvedQuizRepository.findById(1L)).thenReturn(Optional.of(solvedQuiz));
-        when(this.mockQuestionService.getQuestionById(10L)).thenReturn(this.questionDTO);
-        when(this.mockCategoryService.getCategoryNameById(5L)).thenReturn("Maths");
+        when(this.mockQuestionSnapshotService.getSnapshotQuestions(1L)).thenReturn(List.of(this.questionDTO));
+        when(this.mockCategoryNameResolver.resolveName(5L)).thenReturn("Maths");
 
         QuizDTO result = this.mockUserQuizService.getSolvedQuizById(1L);
 
+        verifyNoInteractions(this.mockQuestionService);
+
         Assertions.assertNotNull(result);
         Assertions.assertEquals(solvedQuiz.getId(), result.getId());
         Assertions.assertEquals(solvedQuiz.getCategoryId(), result.getCategoryId());
@@ -126,6 +141,18 @@ public class UserQuizServiceImplTest {
         Assertions.assertEquals(solvedQuiz.getUserAnswers().size(), result.getUserAnswers().size());
     }
 
+    @Test
+    void getSolvedQuizById_ShouldFetchQuestionsRemotely_WhenQuizHasNoSnapshots() {
+        when(this.mockSolvedQuizRepository.findById(1L)).thenReturn(Optional.of(solvedQuiz));
+        when(this.mockQuestionSnapshotService.getSnapshotQuestions(1L)).thenReturn(List.of());
+        when(this.mockQuestionService.getQuestionsByIds(this.solvedQuiz.getQuestionIds()))
+                .thenReturn(List.of(this.questionDTO));
+
+        QuizDTO result = this.mockUserQuizService.getSolvedQuizById(1L);
+
+        Assertions.assertEquals(List.of(this.questionDTO), result.getQuestions());
+    }
+
     @Test
     void getSolvedQuizzesByUsername_ShouldReturnPagedResult() {
         Pageable pageable = PageRequest.of(0, 10, Sort.by("solvedAt").descending());
@@ -134,7 +161,7 @@ public class UserQuizServiceImplTest {
         when(this.mockSolvedQuizRepository
                 .findByUserUsernameOrderBySolvedAtDesc("john", pageable))
                 .thenReturn(page);
-        when(this.mockCategoryService.getCategoryNameById(5L)).thenReturn("Maths");
+        when(this.mockCategoryNameResolver.resolveNames(List.of(5L))).thenReturn(Map.of(5L, "Maths"));
 
         Page<QuizDTO> result = this.mockUserQuizService.getSolvedQuizzesByUsername("john", 0, 10);
         QuizDTO resultDTO = result.getContent().get(0);
@@ -149,13 +176,40 @@ public class UserQuizServiceImplTest {
         Assertions.assertEquals(this.solvedQuiz.getSolvedAt(), resultDTO.getSolvedAt());
     }
 
+    @Test
+    void getSolvedQuizzesPage_ShouldMapKeysetPage() {
+        KeysetPageDTO<SolvedQuiz> page = KeysetPageDTO.<SolvedQuiz>builder()
+                .content(List.of(this.solvedQuiz))
+                .currentPage(1)
+                .size(10)
+                .totalElements(11)
+                .hasPrevious(true)
+                .hasNext(false)
+                .build();
+
+        when(this.mockKeysetPager.read(eq(this.mockSolvedQuizRepository), any(),
+                eq(KeysetSort.descending("solvedAt", "solvedAt")), eq("cursor"), eq(10), eq("solved-quizzes:john")))
+                .thenReturn(page);
+        when(this.mockCategoryNameResolver.resolveNames(List.of(5L))).thenReturn(Map.of(5L, "Maths"));
+
+        KeysetPageDTO<QuizDTO> result = this.mockUserQuizService.getSolvedQuizzesPage("john", "cursor", 10);
+
+        Assertions.assertEquals(1, result.getCurrentPage());
+        Assertions.assertEquals(2, result.getTotalPages());
+        Assertions.assertTrue(result.isHasPrevious());
+        Assertions.assertEquals(this.solvedQuiz.getId(), result.getContent().get(0).getId());
+        Assertions.assertEquals("Maths", result.getContent().get(0).getCategoryName());
+    }
+
     @Test
     void evaluateQuiz_ShouldReturnError_WhenUserNotFound() {
         QuizSubmissionDTO dto = new QuizSubmissionDTO();
         dto.setViewToken("token123");
+        dto.setAnswers(Map.of());
 
         when(this.mockTempQuizStorage.get("token123")).thenReturn(this.mockQuiz);
-        when(this.mockUserService.getUserByUsername("missing")).thenReturn(Optional.empty());
+        when(this.mockTempQuizStorage.remove("token123")).thenReturn(true);
+        when(this.mockUserService.getUserReferenceByUsername("missing")).thenReturn(Optional.empty());
 
         UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class,
                 () -> this.mockUserQuizService.evaluateQuiz(dto, "missing"));
@@ -176,17 +230,72 @@ public class UserQuizServiceImplTest {
         user.setUserStatistics(new UserStatistics());
 
         when(this.mockTempQuizStorage.get("token123")).thenReturn(this.mockQuiz);
-        when(this.mockUserService.getUserByUsername("john")).thenReturn(Optional.of(user));
+        when(this.mockTempQuizStorage.remove("token123")).thenReturn(true);
+        when(this.mockUserService.getUserReferenceByUsername("john")).thenReturn(Optional.of(user));
 
-        when(this.mockSolvedQuizRepository.saveAndFlush(any())).thenReturn(this.solvedQuiz);
-        when(this.mockUserStatsService.updateUserStatistics(any(), anyLong(), anyInt(), any()))
-                .thenReturn(new UserStatistics());
+        when(this.mockSolvedQuizRepository.save(any())).thenReturn(this.solvedQuiz);
 
         Long result = this.mockUserQuizService.evaluateQuiz(dto, "john");
 
         Assertions.assertEquals(1L, result);
-        verify(this.mockQuestionStatsService).updateOnQuizCompleted(eq(this.mockQuiz), eq(answers));
-        verify(this.mockSolvedQuizRepository).saveAndFlush(any());
+        verify(this.mockQuestionStatsService).updateOnQuizCompleted(eq(this.mockQuiz), any(QuizEvaluation.class));
+        verify(this.mockSolvedQuizRepository).save(any());
+        verify(this.mockUserStatsService).recordSolvedQuiz(eq(99L), eq(0), eq(this.mockQuiz.getQuestions().size()), any());
+        verify(this.mockUserService, never()).saveAndFlushUser(any());
+        verify(this.mockTempQuizStorage).remove("token123");
+    }
+
+    @Test
+    void evaluateQuiz_ShouldPutQuizBack_OnlyWhenTransactionRollsBack() {
+        QuizSubmissionDTO dto = new QuizSubmissionDTO();
+        dto.setViewToken("token123");
+        dto.setAnswers(Map.of(10L, "A"));
+
+        User user = new User();
+        user.setId(99L);
+
+        when(this.mockTempQuizStorage.get("token123")).thenReturn(this.mockQuiz);
+        when(this.mockTempQuizStorage.remove("token123")).thenReturn(true);
+        when(this.mockUserService.getUserReferenceByUsername("john")).thenReturn(Optional.of(user));
+        when(this.mockSolvedQuizRepository.save(any())).thenReturn(this.solvedQuiz);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.mockUserQuizService.evaluateQuiz(dto, "john");
+            this.completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+            verify(this.mockTempQuizStorage, never()).put(any(), any());
+
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.initSynchronization();
+
+            this.mockUserQuizService.evaluateQuiz(dto, "john");
+            this.completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+            verify(this.mockTempQuizStorage).put("token123", this.mockQuiz);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    void evaluateQuiz_ShouldRejectSubmission_WhenQuizWasAlreadyClaimed() {
+        QuizSubmissionDTO dto = new QuizSubmissionDTO();
+        dto.setViewToken("token123");
+        dto.setAnswers(Map.of(10L, "A"));
+
+        when(this.mockTempQuizStorage.get("token123")).thenReturn(this.mockQuiz);
+        when(this.mockTempQuizStorage.remove("token123")).thenReturn(false);
+
+        QuizNotFoundException exception = Assertions.assertThrows(QuizNotFoundException.class,
+                () -> this.mockUserQuizService.evaluateQuiz(dto, "john"));
+
+        Assertions.assertEquals("Куизът вече е предаден.", exception.getMessage());
+        verify(this.mockSolvedQuizRepository, never()).save(any());
+        verifyNoInteractions(this.mockQuestionStatsService, this.mockUserStatsService);
     }
 
     @Test
@@ -0,0 +1,182 @@
+package com.quizapp.service;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import com.quizapp.model.dto.quiz.QuizSubmissionDTO;
+import com.quizapp.model.entity.Quiz;
+import com.quizapp.model.entity.SolvedQuiz;
+import com.quizapp.model.entity.User;
+import com.quizapp.model.entity.UserStatistics;
+import com.quizapp.repository.SolvedQuizRepository;
+import com.quizapp.repository.UserRepository;
+import com.quizapp.repository.UserStatisticsRepository;
+import com.quizapp.service.interfaces.UserQuizService;
+import com.quizapp.service.session.QuizSessionStore;
+import org.hibernate.SessionEventListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+/**
+ * Counts the statements of the submitting thread only; scheduled jobs in the same context run their own
+ * statements concurrently, so the session factory wide statistics cannot be used here.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session.events.auto="
+        + "com.quizapp.service.UserQuizSubmissionStatementsTest$SubmittingThreadListener")
+@ActiveProfiles("test")
+public class UserQuizSubmissionStatementsTest {
+
+    @Autowired
+    private UserQuizService userQuizService;
+    @Autowired
+    private QuizSessionStore<Quiz> tempQuizStore;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserStatisticsRepository userStatisticsRepository;
+    @Autowired
+    private SolvedQuizRepository solvedQuizRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String username;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        this.username = "submitter-" + UUID.randomUUID();
+
+        User user = this.userRepository.save(User.builder()
+                .username(this.username)
+                .email(this.username + "@example.com")
+                .password("pass")
+                .build());
+        this.userStatisticsRepository.save(UserStatistics.builder().user(user).build());
+        this.userId = user.getId();
+    }
+
+    private List<QuestionDTO> questions(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> QuestionDTO.builder()
+                        .id(id)
+                        .questionText("Въпрос " + id)
+                        .categoryName("Математика")
+                        .correctAnswer("A")
+                        .options(List.of("A", "B"))
+                        .build())
+                .toList();
+    }
+
+    private Long submit(List<QuestionDTO> questions) {
+        String viewToken = UUID.randomUUID().toString();
+        Map<Long, String> answers = new HashMap<>();
+        questions.forEach(question -> answers.put(question.getId(), question.getId() % 2 == 0 ? "A" : "B"));
+
+        this.tempQuizStore.put(viewToken, Quiz.builder()
+                .viewToken(viewToken)
+                .categoryId(1L)
+                .categoryName("Математика")
+                .questions(questions)
+                .expireAt(LocalDateTime.now().plusMinutes(30))
+                .build());
+
+        return this.userQuizService.evaluateQuiz(new QuizSubmissionDTO(viewToken, answers), this.username);
+    }
+
+    private long statementsPerSubmission(List<QuestionDTO> questions) {
+        long solvedQuizzesBefore = this.solvedQuizRepository.count();
+        SubmittingThreadListener.Counts counts = SubmittingThreadListener.start();
+
+        try {
+            this.submit(questions);
+        } finally {
+            SubmittingThreadListener.stop();
+        }
+
+        Assertions.assertEquals(1, counts.flushes);
+        Assertions.assertEquals(solvedQuizzesBefore + 1, this.solvedQuizRepository.count());
+        return counts.preparedStatements;
+    }
+
+    @Test
+    void evaluateQuiz_ShouldFlushOnce_AndIssueSameStatementsForAnyQuizSize() {
+        this.submit(this.questions(50));
+
+        long fiveQuestions = this.statementsPerSubmission(this.questions(5));
+        long fiftyQuestions = this.statementsPerSubmission(this.questions(50));
+
+        // user id, snapshot lookup, solved quiz, three batched collection inserts, user statistics update
+        Assertions.assertEquals(7, fiveQuestions);
+        Assertions.assertEquals(fiveQuestions, fiftyQuestions);
+    }
+
+    @Test
+    void evaluateQuiz_ShouldStoreAnswers_AndUpdateUserStatistics() {
+        Long solvedQuizId = this.submit(this.questions(4));
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            SolvedQuiz solvedQuiz = this.solvedQuizRepository.findById(solvedQuizId).orElseThrow();
+
+            Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), solvedQuiz.getQuestionIds());
+            Assertions.assertEquals(4, solvedQuiz.getUserAnswers().size());
+            Assertions.assertEquals(4, solvedQuiz.getQuestionSnapshots().size());
+            Assertions.assertEquals(2, solvedQuiz.getScore());
+        });
+
+        UserStatistics userStatistics = this.userStatisticsRepository.findAll().stream()
+                .filter(stats -> stats.getUser().getId().equals(this.userId))
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertEquals(1, userStatistics.getTotalQuizzes());
+        Assertions.assertEquals(2, userStatistics.getTotalCorrectAnswers());
+        Assertions.assertEquals(4, userStatistics.getMaxScore());
+        Assertions.assertNotNull(userStatistics.getLastSolvedAt());
+        Assertions.assertEquals(50.0, userStatistics.getAverageScore());
+    }
+
+    public static class SubmittingThreadListener implements SessionEventListener {
+
+        private static final ThreadLocal<Counts> COUNTS = new ThreadLocal<>();
+
+        static Counts start() {
+            Counts counts = new Counts();
+            COUNTS.set(counts);
+            return counts;
+        }
+
+        static void stop() {
+            COUNTS.remove();
+        }
+
+        @Override
+        public void jdbcPrepareStatementStart() {
+            Counts counts = COUNTS.get();
+            if (counts != null) {
+                counts.preparedStatements++;
+            }
+        }
+
+        @Override
+        public void flushEnd(int numberOfEntities, int numberOfCollections) {
+            Counts counts = COUNTS.get();
+            if (counts != null) {
+                counts.flushes++;
+            }
+        }
+
+        static final class Counts {
+            private long preparedStatements;
+            private long flushes;
+        }
+    }
+}
@@ -1,31 +1,42 @@
 package com.quizapp.service;
 
 import com.quizapp.exception.UserNotFoundException;
+import com.quizapp.model.dto.quiz.SolvedQuizSummaryDTO;
+import com.quizapp.model.dto.user.InactiveUserDTO;
 import com.quizapp.model.dto.user.UpdatePasswordDTO;
 import com.quizapp.model.dto.user.UserDTO;
 import com.quizapp.model.dto.user.UserRegisterDTO;
 import com.quizapp.model.entity.*;
 import com.quizapp.model.enums.RoleName;
+import com.quizapp.repository.SolvedQuizRepository;
 import com.quizapp.repository.UserRepository;
+import com.quizapp.service.events.DeletionWarningEvent;
 import com.quizapp.service.events.InactiveSolvingQuizzesEvent;
 import com.quizapp.service.events.UserRegisterEvent;
-import com.quizapp.service.interfaces.CategoryService;
+import com.quizapp.service.cache.CategoryNameResolver;
 import com.quizapp.service.interfaces.RoleService;
 import com.quizapp.service.interfaces.UserStatisticsService;
+import com.quizapp.service.stats.LastLoginBuffer;
+import com.quizapp.service.stats.LastLoginFlusher;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.LongStream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -36,7 +47,9 @@ public class UserServiceImplTest {
     @Mock
     private UserRepository mockUserRepository;
     @Mock
-    private CategoryService mockCategoryService;
+    private SolvedQuizRepository mockSolvedQuizRepository;
+    @Mock
+    private CategoryNameResolver mockCategoryNameResolver;
     @Mock
     private RoleService mockRoleService;
     @Mock
@@ -45,6 +58,12 @@ public class UserServiceImplTest {
     private ApplicationEventPublisher mockAplEventPublisher;
     @Mock
     private UserStatisticsService mockUserStatisticsService;
+    @Mock
+    private TransactionTemplate mockTransactionTemplate;
+    @Mock
+    private LastLoginBuffer mockLastLoginBuffer;
+    @Mock
+    private LastLoginFlusher mockLastLoginFlusher;
     @InjectMocks
     private UserServiceImpl mockUserService;
     private UserServiceImpl spyUserService;
@@ -111,7 +130,12 @@ public class UserServiceImplTest {
 
     @Test
     void getUserInfo_ShouldReturnUserDTO_WithSolvedQuizzesAndStats() {
+        SolvedQuiz solvedQuiz = this.testUser.getSolvedQuizzes().get(0);
         when(this.mockUserRepository.findByUsername(this.testUser.getUsername())).thenReturn(Optional.of(this.testUser));
+        when(this.mockSolvedQuizRepository.findRecentSummariesByUserId(this.testUser.getId(), Limit.of(3)))
+                .thenReturn(List.of(new SolvedQuizSummaryDTO(solvedQuiz.getId(), solvedQuiz.getCategoryId(),
+                        solvedQuiz.getScore(), solvedQuiz.getMaxScore(), solvedQuiz.getSolvedAt())));
+        when(this.mockCategoryNameResolver.resolveNames(List.of(5L))).thenReturn(Map.of(5L, "Maths"));
 
         UserDTO userDTO = this.mockUserService.getUserInfo(this.testUser.getUsername());
 
@@ -127,6 +151,7 @@ public class UserServiceImplTest {
         Assertions.assertEquals(expectedQuiz.getId(), userDTO.getSolvedQuizzes().get(0).getId());
         Assertions.assertEquals(expectedQuiz.getScore(), userDTO.getSolvedQuizzes().get(0).getCorrectAnswers());
         Assertions.assertEquals(expectedQuiz.getMaxScore(), userDTO.getSolvedQuizzes().get(0).getTotalQuestions());
+        Assertions.assertEquals("Maths", userDTO.getSolvedQuizzes().get(0).getCategoryName());
     }
 
     @Test
@@ -204,65 +229,97 @@ public class UserServiceImplTest {
         Assertions.assertEquals(this.testUser.getEmail(), publishedEvent.getEmail());
     }
 
+    private void runTransactionCallbacksInline() {
+        when(this.mockTransactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private List<InactiveUserDTO> inactiveUsers(long fromId, int count) {
+        List<InactiveUserDTO> users = new ArrayList<>();
+
+        for (long id = fromId; id < fromId + count; id++) {
+            users.add(new InactiveUserDTO(id, "user" + id, "user" + id + "@gmail.com"));
+        }
+
+        return users;
+    }
+
     @Test
     void sendInactiveSolvingQuizzesUsersEmails_ShouldReturnZero_WhenNoInactiveUsers() {
-        when(mockUserStatisticsService.findInactiveSolvingQuizzesUsersNotWarned(any())).thenReturn(Collections.emptyList());
+        this.runTransactionCallbacksInline();
+        when(mockUserStatisticsService.findInactiveSolvingQuizzesUsersNotWarned(any(), eq(0L), anyInt()))
+                .thenReturn(Collections.emptyList());
 
         Integer result = this.mockUserService.sendInactiveSolvingQuizzesUsersEmails();
 
         Assertions.assertEquals(0, result);
         verify(this.mockAplEventPublisher, never()).publishEvent(any());
-        verify(this.mockUserStatisticsService, never()).saveAndFlushUserStatistics(any());
+        verify(this.mockUserStatisticsService, never()).markSolvingWarningSent(any(), any());
     }
 
     @Test
-    void sendInactiveSolvingQuizzesUsersEmails_ShouldSendEmailsAndUpdateStatistics() {
-        this.userStatistics.setUser(this.testUser);
-        User user2 = User.builder().id(2L).username("user2").email("user2@gmail.com").build();
-        UserStatistics userStatistics2 = UserStatistics.builder().user(user2).build();
-
-        List<UserStatistics> list = List.of(this.userStatistics, userStatistics2);
+    void sendInactiveSolvingQuizzesUsersEmails_ShouldSendEmailsAndMarkChunk() {
+        this.runTransactionCallbacksInline();
+        List<InactiveUserDTO> list = this.inactiveUsers(1, 2);
 
-        when(this.mockUserStatisticsService.findInactiveSolvingQuizzesUsersNotWarned(any())).thenReturn(list);
+        when(this.mockUserStatisticsService.findInactiveSolvingQuizzesUsersNotWarned(any(), eq(0L), anyInt()))
+                .thenReturn(list);
 
         Integer result = this.mockUserService.sendInactiveSolvingQuizzesUsersEmails();
 
         Assertions.assertEquals(list.size(), result);
-        Assertions.assertTrue(this.userStatistics.isLastSolvingWarningSent());
-        Assertions.assertTrue(userStatistics2.isLastSolvingWarningSent());
-        Assertions.assertNotNull(this.userStatistics.getLastSolvingWarningSentAt());
-        Assertions.assertNotNull(userStatistics2.getLastSolvingWarningSentAt());
+        verify(this.mockUserStatisticsService, times(1)).markSolvingWarningSent(eq(List.of(1L, 2L)), any());
 
         ArgumentCaptor<InactiveSolvingQuizzesEvent> eventCaptor = ArgumentCaptor.forClass(InactiveSolvingQuizzesEvent.class);
         verify(this.mockAplEventPublisher, times(list.size())).publishEvent(eventCaptor.capture());
+        Assertions.assertEquals("user1", eventCaptor.getAllValues().get(0).getUsername());
+        Assertions.assertEquals("user2@gmail.com", eventCaptor.getAllValues().get(1).getEmail());
+    }
+
+    @Test
+    void sendInactiveSolvingQuizzesUsersEmails_ShouldContinueAfterLastIdOfFullChunk() {
+        this.runTransactionCallbacksInline();
+        List<InactiveUserDTO> firstChunk = this.inactiveUsers(1, 500);
+        List<InactiveUserDTO> secondChunk = this.inactiveUsers(501, 3);
+
+        when(this.mockUserStatisticsService.findInactiveSolvingQuizzesUsersNotWarned(any(), eq(0L), eq(500)))
+                .thenReturn(firstChunk);
+        when(this.mockUserStatisticsService.findInactiveSolvingQuizzesUsersNotWarned(any(), eq(500L), eq(500)))
+                .thenReturn(secondChunk);
+
+        Integer result = this.mockUserService.sendInactiveSolvingQuizzesUsersEmails();
+
+        Assertions.assertEquals(503, result);
+        verify(this.mockTransactionTemplate, times(2)).execute(any());
+        verify(this.mockUserStatisticsService, times(2)).markSolvingWarningSent(any(), any());
+        verify(this.mockAplEventPublisher, times(503)).publishEvent(any(InactiveSolvingQuizzesEvent.class));
     }
 
     @Test
     void resendWarnedInactiveSolvingQuizzesUsersEmails_ShouldReturnZero_WhenNoInactiveUsers() {
-        when(this.mockUserStatisticsService.findWarnedUsersToResendSolvingWarning(any())).thenReturn(Collections.emptyList());
+        this.runTransactionCallbacksInline();
+        when(this.mockUserStatisticsService.findWarnedUsersToResendSolvingWarning(any(), eq(0L), anyInt()))
+                .thenReturn(Collections.emptyList());
 
         Integer result = this.mockUserService.resendWarnedInactiveSolvingQuizzesUsersEmails();
 
         Assertions.assertEquals(0, result);
         verify(this.mockAplEventPublisher, never()).publishEvent(any());
-        verify(this.mockUserStatisticsService, never()).saveAndFlushUserStatistics(any());
+        verify(this.mockUserStatisticsService, never()).markSolvingWarningSent(any(), any());
     }
 
     @Test
-    void resendWarnedInactiveSolvingQuizzesUsersEmails_ShouldSendEmailsAndUpdateStatistics() {
-        this.userStatistics.setUser(this.testUser);
-        User user2 = User.builder().id(2L).username("user2").email("user2@gmail.com").build();
-        UserStatistics userStatistics2 = UserStatistics.builder().user(user2).build();
-
-        List<UserStatistics> list = List.of(this.userStatistics, userStatistics2);
+    void resendWarnedInactiveSolvingQuizzesUsersEmails_ShouldSendEmailsAndMarkChunk() {
+        this.runTransactionCallbacksInline();
+        List<InactiveUserDTO> list = this.inactiveUsers(1, 2);
 
-        when(this.mockUserStatisticsService.findWarnedUsersToResendSolvingWarning(any())).thenReturn(list);
+        when(this.mockUserStatisticsService.findWarnedUsersToResendSolvingWarning(any(), eq(0L), anyInt()))
+                .thenReturn(list);
 
         Integer result = this.mockUserService.resendWarnedInactiveSolvingQuizzesUsersEmails();
 
         Assertions.assertEquals(list.size(), result);
-        Assertions.assertNotNull(this.userStatistics.getLastSolvingWarningSentAt());
-        Assertions.assertNotNull(userStatistics2.getLastSolvingWarningSentAt());
+        verify(this.mockUserStatisticsService, times(1)).markSolvingWarningSent(eq(List.of(1L, 2L)), any());
 
         ArgumentCaptor<InactiveSolvingQuizzesEvent> eventCaptor = ArgumentCaptor.forClass(InactiveSolvingQuizzesEvent.class);
         verify(this.mockAplEventPublisher, times(list.size())).publishEvent(eventCaptor.capture());
@@ -270,59 +327,73 @@ public class UserServiceImplTest {
 
     @Test
     void sendInactiveUsersWarnEmail_ShouldReturnZero_WhenNoInactiveUsers() {
-        when(this.mockUserStatisticsService.findInactiveNotWarned(any())).thenReturn(Collections.emptyList());
+        this.runTransactionCallbacksInline();
+        when(this.mockUserStatisticsService.findInactiveNotWarned(any(), eq(0L), anyInt()))
+                .thenReturn(Collections.emptyList());
 
         Integer result = this.mockUserService.sendInactiveUsersWarnEmail();
 
         Assertions.assertEquals(0, result);
         verify(this.mockAplEventPublisher, never()).publishEvent(any());
-        verify(this.mockUserStatisticsService, never()).saveAndFlushUserStatistics(any());
+        verify(this.mockUserStatisticsService, never()).markDeletionWarningSent(any(), any());
     }
 
     @Test
-    void sendInactiveUsersWarnEmail_ShouldSendEmailsAndUpdateUserStatistics() {
-        this.userStatistics.setUser(this.testUser);
-        User user2 = User.builder().id(2L).username("user2").email("user2@gmail.com").build();
-        UserStatistics userStatistics2 = UserStatistics.builder().user(user2).build();
+    void sendInactiveUsersWarnEmail_ShouldSendEmailsAndMarkChunk() {
+        this.runTransactionCallbacksInline();
+        List<InactiveUserDTO> list = this.inactiveUsers(1, 2);
 
-        List<UserStatistics> list = List.of(this.userStatistics, userStatistics2);
-
-        when(this.mockUserStatisticsService.findInactiveNotWarned(any())).thenReturn(list);
+        when(this.mockUserStatisticsService.findInactiveNotWarned(any(), eq(0L), anyInt())).thenReturn(list);
 
         Integer result = this.mockUserService.sendInactiveUsersWarnEmail();
 
         Assertions.assertEquals(list.size(), result);
-        Assertions.assertTrue(this.userStatistics.isDeletionWarningSent());
-        Assertions.assertTrue(userStatistics2.isDeletionWarningSent());
-        Assertions.assertNotNull(this.userStatistics.getDeletionWarningSentAt());
-        Assertions.assertNotNull(userStatistics2.getDeletionWarningSentAt());
+        verify(this.mockUserStatisticsService, times(1)).markDeletionWarningSent(eq(List.of(1L, 2L)), any());
+        verify(this.mockAplEventPublisher, times(list.size())).publishEvent(any(DeletionWarningEvent.class));
     }
 
     @Test
     void removeWarnedInactiveLoginUsersAccounts_ShouldReturnZero_WhenNoUsers() {
-        when(this.mockUserStatisticsService.findInactiveLoginUsersWarned(any())).thenReturn(Collections.emptyList());
+        when(this.mockUserStatisticsService.findInactiveLoginUsersWarned(any(), eq(0L), anyInt()))
+                .thenReturn(Collections.emptyList());
 
         Integer result = this.mockUserService.removeWarnedInactiveLoginUsersAccounts();
 
         Assertions.assertEquals(0, result);
-        verify(this.mockUserStatisticsService, times(1)).findInactiveLoginUsersWarned(any());
-        verify(this.mockUserRepository, never()).deleteById(any());
+        verify(this.mockUserStatisticsService, times(1)).findInactiveLoginUsersWarned(any(), eq(0L), anyInt());
+        verify(this.mockUserRepository, never()).purgeUsers(any());
     }
 
     @Test
-    void removeWarnedInactiveLoginUsersAccounts_ShouldDeleteInactiveUsers() {
-        User user2 = User.builder().id(2L).build();
+    void removeWarnedInactiveLoginUsersAccounts_ShouldPurgeInactiveUsersInBulk() {
+        this.runTransactionCallbacksInline();
+        List<Long> userIds = List.of(1L, 2L);
 
-        List<User> list = List.of(this.testUser, user2);
+        when(this.mockUserStatisticsService.findInactiveLoginUsersWarned(any(), eq(0L), anyInt())).thenReturn(userIds);
+        when(this.mockUserRepository.purgeUsers(userIds)).thenReturn(Map.of("solved_quizzes", 7, "users", 2));
 
-        when(this.mockUserStatisticsService.findInactiveLoginUsersWarned(any())).thenReturn(list);
-        doNothing().when(spyUserService).deleteById(anyLong());
+        Integer result = this.mockUserService.removeWarnedInactiveLoginUsersAccounts();
 
-        Integer result = this.spyUserService.removeWarnedInactiveLoginUsersAccounts();
+        Assertions.assertEquals(userIds.size(), result);
+        verify(this.mockUserRepository, times(1)).purgeUsers(userIds);
+        verify(this.mockUserRepository, never()).deleteById(any());
+    }
 
-        Assertions.assertEquals(list.size(), result);
-        verify(this.mockUserStatisticsService, times(1)).findInactiveLoginUsersWarned(any());
-        verify(this.spyUserService, times(list.size())).deleteById(any());
+    @Test
+    void removeWarnedInactiveLoginUsersAccounts_ShouldContinueAfterLastIdOfFullChunk() {
+        this.runTransactionCallbacksInline();
+        List<Long> firstChunk = LongStream.rangeClosed(1, 500).boxed().toList();
+        List<Long> secondChunk = List.of(501L);
+
+        when(this.mockUserStatisticsService.findInactiveLoginUsersWarned(any(), eq(0L), eq(500))).thenReturn(firstChunk);
+        when(this.mockUserStatisticsService.findInactiveLoginUsersWarned(any(), eq(500L), eq(500))).thenReturn(secondChunk);
+        when(this.mockUserRepository.purgeUsers(firstChunk)).thenReturn(Map.of("users", 500));
+        when(this.mockUserRepository.purgeUsers(secondChunk)).thenReturn(Map.of("users", 1));
+
+        Integer result = this.mockUserService.removeWarnedInactiveLoginUsersAccounts();
+
+        Assertions.assertEquals(501, result);
+        verify(this.mockTransactionTemplate, times(2)).execute(any());
     }
 
     @Test
@@ -413,38 +484,38 @@ public class UserServiceImplTest {
     }
 
     @Test
-    void updateLastLoginTime_ShouldThrowUserNotFoundException_WhenUserNotFound() {
-        when(this.mockUserRepository.findByUsername("non_existent")).thenReturn(Optional.empty());
-
-        UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class,
-                () -> this.mockUserService.updateLastLoginTime("non_existent"));
+    void updateLastLoginTime_ShouldRecordLoginInBuffer_WithoutTouchingDatabase() {
+        this.mockUserService.updateLastLoginTime(this.testUser.getUsername());
 
-        Assertions.assertEquals("Не е намерен потребител non_existent.", exception.getMessage());
+        ArgumentCaptor<LocalDateTime> loggedInAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(this.mockLastLoginBuffer, times(1)).recordLogin(eq(this.testUser.getUsername()), loggedInAt.capture());
+        Assertions.assertTrue(loggedInAt.getValue().isAfter(LocalDateTime.now().minusMinutes(1)));
+        verifyNoInteractions(this.mockUserRepository);
     }
 
     @Test
-    void updateLastLoginTime_ShouldNotDoAnything_WhenUserStatisticsNull() {
-        this.testUser.setUserStatistics(null);
-        when(this.mockUserRepository.findByUsername(this.testUser.getUsername())).thenReturn(Optional.of(this.testUser));
+    void sendInactiveUsersWarnEmail_ShouldFlushPendingLoginsFirst() {
+        this.runTransactionCallbacksInline();
+        when(this.mockUserStatisticsService.findInactiveNotWarned(any(), eq(0L), anyInt()))
+                .thenReturn(Collections.emptyList());
 
-        this.mockUserService.updateLastLoginTime(this.testUser.getUsername());
+        this.mockUserService.sendInactiveUsersWarnEmail();
 
-        Assertions.assertNull(this.testUser.getUserStatistics());
-        verify(this.mockUserRepository, never()).saveAndFlush(this.testUser);
+        InOrder inOrder = inOrder(this.mockLastLoginFlusher, this.mockUserStatisticsService);
+        inOrder.verify(this.mockLastLoginFlusher).flush();
+        inOrder.verify(this.mockUserStatisticsService).findInactiveNotWarned(any(), eq(0L), anyInt());
     }
 
     @Test
-    void updateLastLoginTime_ShouldUpdateTimestamp_WhenUserExists() {
-        this.userStatistics.setLastLoginAt(LocalDateTime.now().minusDays(1));
-        this.testUser.setUserStatistics(this.userStatistics);
+    void removeWarnedInactiveLoginUsersAccounts_ShouldFlushPendingLoginsFirst() {
+        when(this.mockUserStatisticsService.findInactiveLoginUsersWarned(any(), eq(0L), anyInt()))
+                .thenReturn(Collections.emptyList());
 
-        when(this.mockUserRepository.findByUsername(this.testUser.getUsername())).thenReturn(Optional.of(this.testUser));
+        this.mockUserService.removeWarnedInactiveLoginUsersAccounts();
 
-        this.mockUserService.updateLastLoginTime(this.testUser.getUsername());
-
-        Assertions.assertNotNull(this.testUser.getUserStatistics().getLastLoginAt());
-        Assertions.assertTrue(this.testUser.getUserStatistics().getLastLoginAt().isAfter(LocalDateTime.now().minusMinutes(1)));
-        verify(this.mockUserRepository, times(1)).saveAndFlush(this.testUser);
+        InOrder inOrder = inOrder(this.mockLastLoginFlusher, this.mockUserStatisticsService);
+        inOrder.verify(this.mockLastLoginFlusher).flush();
+        inOrder.verify(this.mockUserStatisticsService).findInactiveLoginUsersWarned(any(), eq(0L), anyInt());
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.quizapp.service;
 
+import com.quizapp.model.dto.user.InactiveUserDTO;
 import com.quizapp.model.dto.user.UserStatisticsDTO;
 import com.quizapp.model.entity.SolvedQuiz;
 import com.quizapp.model.entity.User;
@@ -15,6 +16,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -39,6 +41,7 @@ public class UserStatisticsServiceImplTest {
 
     private UserStatistics mockUserStats;
     private User mockUser;
+    private InactiveUserDTO inactiveUser;
 
     @BeforeEach
     void setUp() {
@@ -57,6 +60,8 @@ public class UserStatisticsServiceImplTest {
                 .maxScore(25)
                 .averageScore(80.00)
                 .build();
+
+        this.inactiveUser = new InactiveUserDTO(1L, "user1", "user@gmail.com");
     }
 
     @Test
@@ -149,28 +154,21 @@ public class UserStatisticsServiceImplTest {
     }
 
     @Test
-    void updateUserStatistics_ShouldChangeUserStats() {
-        when(this.mockUserStatsRepository.saveAndFlush(this.mockUserStats)).thenReturn(this.mockUserStats);
-
-        UserStatistics updatedUserStats = this.mockUserStatsService.updateUserStatistics(this.mockUserStats, 3, 5, LocalDateTime.now().plusMinutes(30));
+    void recordSolvedQuiz_ShouldIssueAtomicUpdate() {
+        LocalDateTime solvedAt = LocalDateTime.now();
 
-        Assertions.assertEquals(6, updatedUserStats.getTotalQuizzes());
-        Assertions.assertEquals(23, updatedUserStats.getTotalCorrectAnswers());
-        Assertions.assertEquals(30, updatedUserStats.getMaxScore());
+        this.mockUserStatsService.recordSolvedQuiz(7L, 3, 5, solvedAt);
 
-        double avgScore = (double) updatedUserStats.getTotalCorrectAnswers() / updatedUserStats.getMaxScore() * 100.00;
-        Assertions.assertEquals(avgScore, updatedUserStats.getAverageScore());
-
-        Assertions.assertNotNull(updatedUserStats.getLastSolvedAt());
-        verify(this.mockUserStatsRepository, times(1)).saveAndFlush(this.mockUserStats);
+        verify(this.mockUserStatsRepository, times(1)).recordSolvedQuiz(7L, 3, 5, solvedAt);
+        verify(this.mockUserStatsRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void findInactiveSolvingQuizzesUsersNotWarned_ShouldReturnZero_WhenUserStatsNotFound() {
-        when(this.mockUserStatsRepository.findInactiveSolvingQuizzesUsersNotWarned(any()))
+        when(this.mockUserStatsRepository.findInactiveSolvingQuizzesUsersNotWarned(any(), eq(0L), eq(Limit.of(500))))
                 .thenReturn(Collections.emptyList());
 
-        List<UserStatistics> result = this.mockUserStatsService.findInactiveSolvingQuizzesUsersNotWarned(any());
+        List<InactiveUserDTO> result = this.mockUserStatsService.findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime.now(), 0L, 500);
 
         Assertions.assertNotNull(result);
         Assertions.assertEquals(0, result.size());
@@ -178,22 +176,22 @@ public class UserStatisticsServiceImplTest {
 
     @Test
     void findInactiveSolvingQuizzesUsersNotWarned_ShouldReturnListUserStats_WhenUsersFound() {
-        when(this.mockUserStatsRepository.findInactiveSolvingQuizzesUsersNotWarned(any()))
-                .thenReturn(List.of(this.mockUserStats));
+        when(this.mockUserStatsRepository.findInactiveSolvingQuizzesUsersNotWarned(any(), eq(0L), eq(Limit.of(500))))
+                .thenReturn(List.of(this.inactiveUser));
 
-        List<UserStatistics> result = this.mockUserStatsService.findInactiveSolvingQuizzesUsersNotWarned(any());
+        List<InactiveUserDTO> result = this.mockUserStatsService.findInactiveSolvingQuizzesUsersNotWarned(LocalDateTime.now(), 0L, 500);
 
         Assertions.assertNotNull(result);
         Assertions.assertEquals(1, result.size());
-        Assertions.assertEquals(this.mockUser, result.get(0).getUser());
+        Assertions.assertEquals(this.inactiveUser, result.get(0));
     }
 
     @Test
     void findWarnedUsersToResendSolvingWarning_ShouldReturnZero_WhenUserStatsNotFound() {
-        when(this.mockUserStatsRepository.findWarnedUsersToResendSolvingWarning(any()))
+        when(this.mockUserStatsRepository.findWarnedUsersToResendSolvingWarning(any(), eq(0L), eq(Limit.of(500))))
                 .thenReturn(Collections.emptyList());
 
-        List<UserStatistics> result = this.mockUserStatsService.findWarnedUsersToResendSolvingWarning(any());
+        List<InactiveUserDTO> result = this.mockUserStatsService.findWarnedUsersToResendSolvingWarning(LocalDateTime.now(), 0L, 500);
 
         Assertions.assertNotNull(result);
         Assertions.assertEquals(0, result.size());
@@ -201,22 +199,22 @@ public class UserStatisticsServiceImplTest {
 
     @Test
     void findWarnedUsersToResendSolvingWarning_ShouldReturnListUserStats_WhenUsersFound() {
-        when(this.mockUserStatsRepository.findWarnedUsersToResendSolvingWarning(any()))
-                .thenReturn(List.of(this.mockUserStats));
+        when(this.mockUserStatsRepository.findWarnedUsersToResendSolvingWarning(any(), eq(0L), eq(Limit.of(500))))
+                .thenReturn(List.of(this.inactiveUser));
 
-        List<UserStatistics> result = this.mockUserStatsService.findWarnedUsersToResendSolvingWarning(any());
+        List<InactiveUserDTO> result = this.mockUserStatsService.findWarnedUsersToResendSolvingWarning(LocalDateTime.now(), 0L, 500);
 
         Assertions.assertNotNull(result);
         Assertions.assertEquals(1, result.size());
-        Assertions.assertEquals(this.mockUser, result.get(0).getUser());
+        Assertions.assertEquals(this.inactiveUser, result.get(0));
     }
 
     @Test
     void findInactiveLoginUsersWarned_ShouldReturnZero_WhenUserStatsNotFound() {
-        when(this.mockUserStatsRepository.findInactiveLoginUsersWarned(any()))
+        when(this.mockUserStatsRepository.findInactiveLoginUsersWarned(any(), eq(0L), eq(Limit.of(500))))
                 .thenReturn(Collections.emptyList());
 
-        List<User> result = this.mockUserStatsService.findInactiveLoginUsersWarned(any());
+        List<Long> result = this.mockUserStatsService.findInactiveLoginUsersWarned(LocalDateTime.now(), 0L, 500);
 
         Assertions.assertNotNull(result);
         Assertions.assertEquals(0, result.size());
@@ -224,22 +222,22 @@ public class UserStatisticsServiceImplTest {
 
     @Test
     void findInactiveLoginUsersWarned_ShouldReturnListUserStats_WhenUsersFound() {
-        when(this.mockUserStatsRepository.findInactiveLoginUsersWarned(any()))
-                .thenReturn(List.of(this.mockUser));
+        when(this.mockUserStatsRepository.findInactiveLoginUsersWarned(any(), eq(0L), eq(Limit.of(500))))
+                .thenReturn(List.of(this.mockUser.getId()));
 
-        List<User> result = this.mockUserStatsService.findInactiveLoginUsersWarned(any());
+        List<Long> result = this.mockUserStatsService.findInactiveLoginUsersWarned(LocalDateTime.now(), 0L, 500);
 
         Assertions.assertNotNull(result);
         Assertions.assertEquals(1, result.size());
-        Assertions.assertEquals(this.mockUser, result.get(0));
+        Assertions.assertEquals(this.mockUser.getId(), result.get(0));
     }
 
     @Test
     void findInactiveNotWarned_ShouldReturnZero_WhenUserStatsNotFound() {
-        when(this.mockUserStatsRepository.findInactiveNotWarned(any()))
+        when(this.mockUserStatsRepository.findInactiveNotWarned(any(), eq(0L), eq(Limit.of(500))))
                 .thenReturn(Collections.emptyList());
 
-        List<UserStatistics> result = this.mockUserStatsService.findInactiveNotWarned(any());
+        List<InactiveUserDTO> result = this.mockUserStatsService.findInactiveNotWarned(LocalDateTime.now(), 0L, 500);
 
         Assertions.assertNotNull(result);
         Assertions.assertEquals(0, result.size());
@@ -247,14 +245,32 @@ public class UserStatisticsServiceImplTest {
 
     @Test
     void findInactiveNotWarned_ShouldReturnListUserStats_WhenUsersFound() {
-        when(this.mockUserStatsRepository.findInactiveNotWarned(any()))
-                .thenReturn(List.of(this.mockUserStats));
+        when(this.mockUserStatsRepository.findInactiveNotWarned(any(), eq(0L), eq(Limit.of(500))))
+                .thenReturn(List.of(this.inactiveUser));
 
-        List<UserStatistics> result = this.mockUserStatsService.findInactiveNotWarned(any());
+        List<InactiveUserDTO> result = this.mockUserStatsService.findInactiveNotWarned(LocalDateTime.now(), 0L, 500);
 
         Assertions.assertNotNull(result);
         Assertions.assertEquals(1, result.size());
-        Assertions.assertEquals(this.mockUser, result.get(0).getUser());
+        Assertions.assertEquals(this.inactiveUser, result.get(0));
+    }
+
+    @Test
+    void markSolvingWarningSent_ShouldDelegateBulkUpdate() {
+        LocalDateTime sentAt = LocalDateTime.now();
+
+        this.mockUserStatsService.markSolvingWarningSent(List.of(1L, 2L), sentAt);
+
+        verify(this.mockUserStatsRepository, times(1)).markSolvingWarningSent(List.of(1L, 2L), sentAt);
+    }
+
+    @Test
+    void markDeletionWarningSent_ShouldDelegateBulkUpdate() {
+        LocalDateTime sentAt = LocalDateTime.now();
+
+        this.mockUserStatsService.markDeletionWarningSent(List.of(1L, 2L), sentAt);
+
+        verify(this.mockUserStatsRepository, times(1)).markDeletionWarningSent(List.of(1L, 2L), sentAt);
     }
 
     @Test
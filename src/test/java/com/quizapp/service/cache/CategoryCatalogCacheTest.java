@@ -0,0 +1,168 @@
+package com.quizapp.service.cache;
+
+import com.quizapp.model.dto.category.CategoryDTO;
+import com.quizapp.model.dto.category.CategoryPageDTO;
+import com.quizapp.service.interfaces.CategoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryCatalogCacheTest {
+
+    @Mock
+    private CategoryService mockCategoryService;
+
+    private MeterRegistry meterRegistry;
+    private List<Runnable> pendingRefreshes;
+    private Executor queueingExecutor;
+
+    private CategoryDTO maths;
+    private CategoryDTO music;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.pendingRefreshes = new ArrayList<>();
+        this.queueingExecutor = this.pendingRefreshes::add;
+
+        this.maths = CategoryDTO.builder().id(1L).name("Maths").description("Description").build();
+        this.music = CategoryDTO.builder().id(2L).name("Music").description("Description").build();
+    }
+
+    private CategoryCatalogCache createCache(Duration ttl) {
+        return new CategoryCatalogCache(this.mockCategoryService, this.queueingExecutor, this.meterRegistry, ttl);
+    }
+
+    private void runPendingRefreshes() {
+        List<Runnable> tasks = new ArrayList<>(this.pendingRefreshes);
+        this.pendingRefreshes.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    void getCategories_ShouldLoadOnce_AndServeFromMemoryAfterwards() {
+        when(this.mockCategoryService.getAllCategories("", 0, 100))
+                .thenReturn(new CategoryPageDTO<>(List.of(this.maths, this.music)));
+
+        CategoryCatalogCache cache = this.createCache(Duration.ofMinutes(5));
+
+        Assertions.assertEquals(List.of(this.maths, this.music), cache.getCategories());
+        Assertions.assertEquals(List.of(this.maths, this.music), cache.getCategories());
+        Assertions.assertEquals(List.of(this.maths, this.music), cache.getCategories());
+
+        verify(this.mockCategoryService, times(1)).getAllCategories("", 0, 100);
+        Assertions.assertEquals(1, this.meterRegistry.counter("category.catalog.misses").count());
+        Assertions.assertEquals(2, this.meterRegistry.counter("category.catalog.hits").count());
+        Assertions.assertEquals(1, this.meterRegistry.counter("category.catalog.refreshes").count());
+    }
+
+    @Test
+    void getCategories_ShouldServeStaleCatalog_WhileRefreshingInBackground() {
+        when(this.mockCategoryService.getAllCategories("", 0, 100))
+                .thenReturn(new CategoryPageDTO<>(List.of(this.maths)))
+                .thenReturn(new CategoryPageDTO<>(List.of(this.maths, this.music)));
+
+        CategoryCatalogCache cache = this.createCache(Duration.ZERO);
+
+        Assertions.assertEquals(List.of(this.maths), cache.getCategories());
+        Assertions.assertEquals(List.of(this.maths), cache.getCategories());
+        Assertions.assertEquals(1, this.pendingRefreshes.size());
+
+        this.runPendingRefreshes();
+
+        Assertions.assertEquals(List.of(this.maths, this.music), cache.getCategories());
+        verify(this.mockCategoryService, times(2)).getAllCategories("", 0, 100);
+    }
+
+    @Test
+    void getCategories_ShouldKeepLastKnownCatalog_WhenRefreshFails() {
+        when(this.mockCategoryService.getAllCategories("", 0, 100))
+                .thenReturn(new CategoryPageDTO<>(List.of(this.maths)))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        CategoryCatalogCache cache = this.createCache(Duration.ZERO);
+
+        cache.getCategories();
+        cache.getCategories();
+        this.runPendingRefreshes();
+
+        Assertions.assertEquals(List.of(this.maths), cache.getCategories());
+        Assertions.assertEquals(1, this.meterRegistry.counter("category.catalog.refresh.failures").count());
+    }
+
+    @Test
+    void getCategories_ShouldReturnEmptyList_WhenApiUnavailableOnColdStart() {
+        when(this.mockCategoryService.getAllCategories("", 0, 100))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        CategoryCatalogCache cache = this.createCache(Duration.ofMinutes(5));
+
+        Assertions.assertTrue(cache.getCategories().isEmpty());
+    }
+
+    @Test
+    void getCategories_ShouldLoadOnce_WhenCallersArriveDuringColdStart() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        when(this.mockCategoryService.getAllCategories("", 0, 100)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await();
+            return new CategoryPageDTO<>(List.of(this.maths));
+        });
+
+        CategoryCatalogCache cache = this.createCache(Duration.ofMinutes(5));
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<List<CategoryDTO>>> results = new ArrayList<>();
+            results.add(callers.submit(cache::getCategories));
+            loadStarted.await();
+            for (int i = 0; i < 3; i++) {
+                results.add(callers.submit(cache::getCategories));
+            }
+
+            releaseLoad.countDown();
+
+            for (Future<List<CategoryDTO>> result : results) {
+                Assertions.assertEquals(List.of(this.maths), result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        verify(this.mockCategoryService, times(1)).getAllCategories("", 0, 100);
+    }
+
+    @Test
+    void invalidate_ShouldReloadCatalogInBackground() {
+        when(this.mockCategoryService.getAllCategories("", 0, 100))
+                .thenReturn(new CategoryPageDTO<>(List.of(this.maths)))
+                .thenReturn(new CategoryPageDTO<>(List.of(this.maths, this.music)));
+
+        CategoryCatalogCache cache = this.createCache(Duration.ofMinutes(5));
+        cache.getCategories();
+
+        cache.invalidate();
+
+        Assertions.assertEquals(List.of(this.maths), cache.getCategories());
+
+        this.runPendingRefreshes();
+
+        Assertions.assertEquals(List.of(this.maths, this.music), cache.getCategories());
+        Assertions.assertEquals(2, this.meterRegistry.counter("category.catalog.refreshes").count());
+    }
+}
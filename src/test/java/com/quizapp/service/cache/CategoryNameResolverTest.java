@@ -0,0 +1,146 @@
+package com.quizapp.service.cache;
+
+import com.quizapp.exception.QuestionsApiUnavailableException;
+import com.quizapp.model.dto.category.CategoryDTO;
+import com.quizapp.model.dto.category.CategoryPageDTO;
+import com.quizapp.service.interfaces.CategoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryNameResolverTest {
+
+    @Mock
+    private CategoryService mockCategoryService;
+    @Mock
+    private CategoryCatalogCache mockCategoryCatalogCache;
+
+    private MeterRegistry meterRegistry;
+    private CategoryNameResolver categoryNameResolver;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.categoryNameResolver = new CategoryNameResolver(this.mockCategoryService, this.mockCategoryCatalogCache,
+                this.meterRegistry, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void resolveNames_ShouldMakeNoRemoteCall_WhenCatalogIsWarm() {
+        when(this.mockCategoryCatalogCache.getCategoryNames()).thenReturn(Map.of(1L, "Maths", 2L, "Music"));
+
+        Map<Long, String> result = this.categoryNameResolver.resolveNames(List.of(1L, 2L, 1L, 1L));
+
+        Assertions.assertEquals(Map.of(1L, "Maths", 2L, "Music"), result);
+        verifyNoInteractions(this.mockCategoryService);
+        Assertions.assertEquals(0, this.meterRegistry.counter("category.names.remote.calls").count());
+        Assertions.assertEquals(2, this.meterRegistry.counter("category.names.remote.lookups.saved").count());
+    }
+
+    @Test
+    void resolveNames_ShouldFetchAllMissingIdsInOneCall() {
+        when(this.mockCategoryCatalogCache.getCategoryNames()).thenReturn(Map.of());
+        when(this.mockCategoryService.getAllCategories("", 0, 1000)).thenReturn(new CategoryPageDTO<>(List.of(
+                CategoryDTO.builder().id(1L).name("Maths").build(),
+                CategoryDTO.builder().id(2L).name("Music").build(),
+                CategoryDTO.builder().id(3L).name("History").build())));
+
+        Map<Long, String> result = this.categoryNameResolver.resolveNames(List.of(1L, 2L, 3L, 2L));
+
+        Assertions.assertEquals(Map.of(1L, "Maths", 2L, "Music", 3L, "History"), result);
+        verify(this.mockCategoryService, times(1)).getAllCategories("", 0, 1000);
+        verify(this.mockCategoryService, never()).getCategoryNameById(anyLong());
+        Assertions.assertEquals(1, this.meterRegistry.counter("category.names.remote.calls").count());
+        Assertions.assertEquals(2, this.meterRegistry.counter("category.names.remote.lookups.saved").count());
+    }
+
+    @Test
+    void resolveName_ShouldPreferMemo_WhenFetchedAfterCatalogWasLoaded() {
+        when(this.mockCategoryCatalogCache.getCategoryNames())
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(7L, "Geography"));
+        when(this.mockCategoryCatalogCache.getLoadedAt())
+                .thenReturn(Instant.EPOCH)
+                .thenReturn(Instant.now().minusSeconds(60));
+        when(this.mockCategoryService.getCategoryNameById(7L)).thenReturn("World Geography");
+
+        Assertions.assertEquals("World Geography", this.categoryNameResolver.resolveName(7L));
+        Assertions.assertEquals("World Geography", this.categoryNameResolver.resolveName(7L));
+
+        verify(this.mockCategoryService, times(1)).getCategoryNameById(7L);
+    }
+
+    @Test
+    void resolveName_ShouldPreferCatalog_WhenLoadedAfterMemo() {
+        when(this.mockCategoryCatalogCache.getCategoryNames())
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(7L, "World Geography"));
+        when(this.mockCategoryCatalogCache.getLoadedAt())
+                .thenReturn(Instant.EPOCH)
+                .thenReturn(Instant.now().plusSeconds(60));
+        when(this.mockCategoryService.getCategoryNameById(7L)).thenReturn("Geography");
+
+        Assertions.assertEquals("Geography", this.categoryNameResolver.resolveName(7L));
+        Assertions.assertEquals("World Geography", this.categoryNameResolver.resolveName(7L));
+    }
+
+    @Test
+    void resolveName_ShouldMemoizeSingleLookup() {
+        when(this.mockCategoryCatalogCache.getCategoryNames()).thenReturn(Map.of());
+        when(this.mockCategoryService.getCategoryNameById(7L)).thenReturn("Geography");
+
+        Assertions.assertEquals("Geography", this.categoryNameResolver.resolveName(7L));
+        Assertions.assertEquals("Geography", this.categoryNameResolver.resolveName(7L));
+
+        verify(this.mockCategoryService, times(1)).getCategoryNameById(7L);
+    }
+
+    @Test
+    void resolveName_ShouldServeExpiredName_WhenApiUnavailable() {
+        CategoryNameResolver resolver = new CategoryNameResolver(this.mockCategoryService,
+                this.mockCategoryCatalogCache, this.meterRegistry, Duration.ZERO);
+        when(this.mockCategoryCatalogCache.getCategoryNames()).thenReturn(Map.of());
+        when(this.mockCategoryService.getCategoryNameById(7L))
+                .thenReturn("Geography")
+                .thenThrow(new QuestionsApiUnavailableException("Circuit open", null));
+
+        Assertions.assertEquals("Geography", resolver.resolveName(7L));
+        Assertions.assertEquals("Geography", resolver.resolveName(7L));
+
+        verify(this.mockCategoryService, times(2)).getCategoryNameById(7L);
+    }
+
+    @Test
+    void evict_ShouldForceFreshLookup() {
+        when(this.mockCategoryCatalogCache.getCategoryNames()).thenReturn(Map.of());
+        when(this.mockCategoryService.getCategoryNameById(7L))
+                .thenReturn("Geography")
+                .thenReturn("World Geography");
+
+        this.categoryNameResolver.resolveName(7L);
+        this.categoryNameResolver.evict(7L);
+
+        Assertions.assertEquals("World Geography", this.categoryNameResolver.resolveName(7L));
+    }
+
+    @Test
+    void resolveName_ShouldReturnNull_WhenCategoryNotFound() {
+        when(this.mockCategoryCatalogCache.getCategoryNames()).thenReturn(Map.of());
+        when(this.mockCategoryService.getCategoryNameById(9L)).thenReturn(null);
+
+        Assertions.assertNull(this.categoryNameResolver.resolveName(9L));
+    }
+}
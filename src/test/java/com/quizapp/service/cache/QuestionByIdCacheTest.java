@@ -0,0 +1,72 @@
+package com.quizapp.service.cache;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+public class QuestionByIdCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private QuestionByIdCache questionByIdCache;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.questionByIdCache = new QuestionByIdCache(this.meterRegistry, Duration.ofMinutes(10), 3);
+    }
+
+    private QuestionDTO question(Long id) {
+        return QuestionDTO.builder()
+                .id(id)
+                .questionText("Question" + id)
+                .correctAnswer("A")
+                .options(List.of("A", "B"))
+                .build();
+    }
+
+    @Test
+    void get_ShouldReturnCachedQuestion_AndCountHitsAndMisses() {
+        this.questionByIdCache.put(this.question(1L));
+
+        Assertions.assertEquals("Question1", this.questionByIdCache.get(1L).getQuestionText());
+        Assertions.assertNull(this.questionByIdCache.get(2L));
+        Assertions.assertEquals(1, this.meterRegistry.counter("question.cache.hits").count());
+        Assertions.assertEquals(1, this.meterRegistry.counter("question.cache.misses").count());
+    }
+
+    @Test
+    void get_ShouldMissExpiredQuestion_ButGetStaleShouldReturnIt() {
+        QuestionByIdCache expiringCache = new QuestionByIdCache(this.meterRegistry, Duration.ZERO, 3);
+        expiringCache.put(this.question(1L));
+
+        Assertions.assertNull(expiringCache.get(1L));
+        Assertions.assertEquals("Question1", expiringCache.getStale(1L).getQuestionText());
+    }
+
+    @Test
+    void evict_ShouldRemoveEditedQuestion() {
+        this.questionByIdCache.put(this.question(1L));
+        this.questionByIdCache.put(this.question(2L));
+
+        this.questionByIdCache.evict(1L);
+
+        Assertions.assertNull(this.questionByIdCache.getStale(1L));
+        Assertions.assertNotNull(this.questionByIdCache.get(2L));
+    }
+
+    @Test
+    void put_ShouldStayWithinMaxEntries() {
+        for (long id = 1; id <= 10; id++) {
+            this.questionByIdCache.put(this.question(id));
+        }
+
+        Assertions.assertEquals(3, this.questionByIdCache.size());
+        Assertions.assertNotNull(this.questionByIdCache.get(10L));
+    }
+}
@@ -0,0 +1,158 @@
+package com.quizapp.service.cache;
+
+import com.quizapp.exception.QuestionsApiUnavailableException;
+import com.quizapp.model.rest.QuestionApiDTO;
+import com.quizapp.service.interfaces.QuestionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class QuestionPoolCacheTest {
+
+    @Mock
+    private QuestionService mockQuestionService;
+
+    private MeterRegistry meterRegistry;
+    private QuestionPoolCache questionPoolCache;
+
+    private QuestionApiDTO[] questions;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.questionPoolCache = new QuestionPoolCache(this.mockQuestionService, this.meterRegistry,
+                Duration.ofMinutes(10));
+
+        this.questions = LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> QuestionApiDTO.builder()
+                        .id(id)
+                        .categoryId(5L)
+                        .questionText("Question" + id)
+                        .correctAnswer("A")
+                        .options(List.of("A", "B", "C", "D"))
+                        .build())
+                .toArray(QuestionApiDTO[]::new);
+    }
+
+    @Test
+    void getPool_ShouldLoadOnce_WhilePoolIsWarm() {
+        when(this.mockQuestionService.makeGetRequestByCategoryId(5L)).thenReturn(this.questions);
+
+        QuestionPool first = this.questionPoolCache.getPool(5L);
+        QuestionPool second = this.questionPoolCache.getPool(5L);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(20, second.size());
+        verify(this.mockQuestionService, times(1)).makeGetRequestByCategoryId(5L);
+        Assertions.assertEquals(1, this.meterRegistry.counter("question.pool.hits").count());
+        Assertions.assertEquals(1, this.meterRegistry.counter("question.pool.misses").count());
+    }
+
+    @Test
+    void invalidate_ShouldReloadOnlyThatCategory() {
+        when(this.mockQuestionService.makeGetRequestByCategoryId(anyLong())).thenReturn(this.questions);
+
+        this.questionPoolCache.getPool(5L);
+        this.questionPoolCache.getPool(6L);
+
+        this.questionPoolCache.invalidate(5L);
+
+        this.questionPoolCache.getPool(5L);
+        this.questionPoolCache.getPool(6L);
+
+        verify(this.mockQuestionService, times(2)).makeGetRequestByCategoryId(5L);
+        verify(this.mockQuestionService, times(1)).makeGetRequestByCategoryId(6L);
+    }
+
+    @Test
+    void invalidateAll_ShouldReloadEveryCategory() {
+        when(this.mockQuestionService.makeGetRequestByCategoryId(anyLong())).thenReturn(this.questions);
+
+        this.questionPoolCache.getPool(5L);
+        this.questionPoolCache.getPool(6L);
+
+        this.questionPoolCache.invalidate(null);
+
+        this.questionPoolCache.getPool(5L);
+        this.questionPoolCache.getPool(6L);
+
+        verify(this.mockQuestionService, times(2)).makeGetRequestByCategoryId(5L);
+        verify(this.mockQuestionService, times(2)).makeGetRequestByCategoryId(6L);
+    }
+
+    @Test
+    void getPool_ShouldNotCacheFailedLoad() {
+        when(this.mockQuestionService.makeGetRequestByCategoryId(5L))
+                .thenThrow(new ResourceAccessException("Connection refused"))
+                .thenReturn(this.questions);
+
+        Assertions.assertThrows(ResourceAccessException.class, () -> this.questionPoolCache.getPool(5L));
+
+        Assertions.assertEquals(20, this.questionPoolCache.getPool(5L).size());
+    }
+
+    @Test
+    void getPool_ShouldServeStalePool_WhenApiUnavailable() {
+        when(this.mockQuestionService.makeGetRequestByCategoryId(5L))
+                .thenReturn(this.questions)
+                .thenThrow(new QuestionsApiUnavailableException("Circuit open", null));
+
+        QuestionPool loaded = this.questionPoolCache.getPool(5L);
+        this.questionPoolCache.invalidate(5L);
+
+        Assertions.assertSame(loaded, this.questionPoolCache.getPool(5L));
+        Assertions.assertEquals(1, this.meterRegistry.counter("question.pool.stale.served").count());
+    }
+
+    @Test
+    void getPool_ShouldNotServeStalePool_OnUnexpectedErrors() {
+        when(this.mockQuestionService.makeGetRequestByCategoryId(5L))
+                .thenReturn(this.questions)
+                .thenThrow(new IllegalStateException("Broken response"));
+
+        this.questionPoolCache.getPool(5L);
+        this.questionPoolCache.invalidate(5L);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.questionPoolCache.getPool(5L));
+    }
+
+    @Test
+    void sample_ShouldReturnDistinctQuestions_WithoutReorderingPool() {
+        QuestionPool pool = new QuestionPool(List.of(this.questions), 0, 0, Instant.now());
+
+        List<QuestionApiDTO> sample = pool.sample(5, new Random(42));
+
+        Set<Long> sampledIds = new HashSet<>();
+        sample.forEach(question -> sampledIds.add(question.getId()));
+
+        Assertions.assertEquals(5, sample.size());
+        Assertions.assertEquals(5, sampledIds.size());
+        Assertions.assertEquals(List.of(this.questions), pool.sample(20, new Random(1)).stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toList());
+    }
+
+    @Test
+    void sample_ShouldReturnError_WhenPoolTooSmall() {
+        QuestionPool pool = new QuestionPool(List.of(this.questions[0]), 0, 0, Instant.now());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> pool.sample(2, new Random()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.quizapp.service.evaluation;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class AnswerKeyTest {
+
+    private final AnswerKey answerKey = AnswerKey.of(List.of(
+            QuestionDTO.builder().id(1L).options(List.of("A", "B")).correctAnswer("A").build(),
+            QuestionDTO.builder().id(2L).options(List.of("A", "B")).correctAnswer("B").build(),
+            QuestionDTO.builder().id(3L).options(List.of("A", "B")).correctAnswer("A").build(),
+            QuestionDTO.builder().id(4L).options(List.of("A", "B")).correctAnswer(null).build()));
+
+    @Test
+    void evaluate_ShouldMarkCorrectQuestionsByPosition() {
+        QuizEvaluation evaluation = this.answerKey.evaluate(Map.of(1L, "A", 2L, "A", 3L, new String("A")));
+
+        Assertions.assertTrue(evaluation.isCorrect(0));
+        Assertions.assertFalse(evaluation.isCorrect(1));
+        Assertions.assertTrue(evaluation.isCorrect(2));
+        Assertions.assertFalse(evaluation.isCorrect(3));
+        Assertions.assertEquals(2, evaluation.getCorrectAnswers());
+        Assertions.assertEquals(4, evaluation.getTotalQuestions());
+        Assertions.assertEquals(50.0, evaluation.getScorePercent());
+    }
+
+    @Test
+    void evaluate_ShouldTreatUnansweredAndUnknownQuestionsAsWrong() {
+        QuizEvaluation evaluation = this.answerKey.evaluate(Map.of(99L, "A"));
+
+        Assertions.assertEquals(0, evaluation.getCorrectAnswers());
+        Assertions.assertEquals(0.0, evaluation.getScorePercent());
+    }
+}
@@ -0,0 +1,206 @@
+package com.quizapp.service.paging;
+
+import com.quizapp.model.dto.KeysetPageDTO;
+import com.quizapp.model.entity.QuestionStatistics;
+import com.quizapp.model.entity.Role;
+import com.quizapp.model.entity.User;
+import com.quizapp.model.entity.UserStatistics;
+import com.quizapp.model.enums.RoleName;
+import com.quizapp.repository.QuestionStatisticsRepository;
+import com.quizapp.repository.UserStatisticsRepository;
+import com.quizapp.repository.spec.QuestionStatisticsSpecifications;
+import com.quizapp.repository.spec.UserStatisticsSpecifications;
+import com.quizapp.service.cache.ListingCountCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@DataJpaTest
+public class KeysetPagerTest {
+
+    @Autowired
+    private QuestionStatisticsRepository questionStatisticsRepository;
+    @Autowired
+    private UserStatisticsRepository userStatisticsRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private MeterRegistry meterRegistry;
+    private KeysetPager keysetPager;
+
+    private final List<QuestionStatistics> questionStats = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.keysetPager = new KeysetPager(new ListingCountCache(this.meterRegistry, Duration.ofMinutes(1), 100));
+
+        double[] accuracies = {50, 80, 80, 80, 20, 50, 90};
+        for (int i = 0; i < accuracies.length; i++) {
+            QuestionStatistics questionStatistics = QuestionStatistics.builder()
+                    .questionId(100L + i)
+                    .questionText("Question" + i)
+                    .categoryId(i % 2 == 0 ? 1L : 2L)
+                    .accuracy(accuracies[i])
+                    .build();
+
+            this.questionStats.add(this.entityManager.persist(questionStatistics));
+        }
+
+        this.entityManager.flush();
+    }
+
+    private List<Long> questionIds(int... indexes) {
+        List<Long> ids = new ArrayList<>();
+        for (int index : indexes) {
+            ids.add(this.questionStats.get(index).getId());
+        }
+        return ids;
+    }
+
+    private <T> List<List<Long>> walkForward(KeysetPageFetcher<T> fetcher, List<KeysetPageDTO<T>> pages) {
+        List<List<Long>> ids = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            KeysetPageDTO<T> page = fetcher.fetch(cursor);
+            pages.add(page);
+            ids.add(page.getContent().stream().map(KeysetPagerTest::idOf).toList());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        return ids;
+    }
+
+    private static Long idOf(Object row) {
+        return row instanceof QuestionStatistics questionStatistics
+                ? questionStatistics.getId()
+                : ((UserStatistics) row).getId();
+    }
+
+    @Test
+    void read_ShouldSeekThroughTiedSortValues_InSortThenIdOrder() {
+        KeysetSort sort = KeysetSort.descending("ACCURACY", "accuracy");
+        List<KeysetPageDTO<QuestionStatistics>> pages = new ArrayList<>();
+
+        List<List<Long>> ids = this.walkForward(cursor -> this.keysetPager.read(this.questionStatisticsRepository,
+                null, sort, cursor, 3, "questions"), pages);
+
+        Assertions.assertEquals(List.of(
+                this.questionIds(6, 3, 2),
+                this.questionIds(1, 5, 0),
+                this.questionIds(4)), ids);
+        Assertions.assertEquals(List.of(0, 1, 2), pages.stream().map(KeysetPageDTO::getCurrentPage).toList());
+        Assertions.assertFalse(pages.get(0).isHasPrevious());
+        Assertions.assertTrue(pages.get(2).isHasPrevious());
+        Assertions.assertFalse(pages.get(2).isHasNext());
+        Assertions.assertEquals(7, pages.get(2).getTotalElements());
+        Assertions.assertEquals(3, pages.get(2).getTotalPages());
+    }
+
+    @Test
+    void read_ShouldWalkBackward_FromPreviousCursor() {
+        KeysetSort sort = KeysetSort.descending("ACCURACY", "accuracy");
+        List<KeysetPageDTO<QuestionStatistics>> pages = new ArrayList<>();
+        this.walkForward(cursor -> this.keysetPager.read(this.questionStatisticsRepository,
+                null, sort, cursor, 3, "questions"), pages);
+
+        KeysetPageDTO<QuestionStatistics> previous = this.keysetPager.read(this.questionStatisticsRepository, null,
+                sort, pages.get(2).getPreviousCursor(), 3, "questions");
+
+        Assertions.assertEquals(this.questionIds(1, 5, 0),
+                previous.getContent().stream().map(QuestionStatistics::getId).toList());
+        Assertions.assertEquals(1, previous.getCurrentPage());
+        Assertions.assertTrue(previous.isHasNext());
+        Assertions.assertNull(previous.getPreviousCursor());
+    }
+
+    @Test
+    void read_ShouldApplyFilter_AndCountOncePerListing() {
+        Specification<QuestionStatistics> filter = Specification
+                .allOf(QuestionStatisticsSpecifications.hasCategory(1L));
+        List<KeysetPageDTO<QuestionStatistics>> pages = new ArrayList<>();
+
+        List<List<Long>> ids = this.walkForward(cursor -> this.keysetPager.read(this.questionStatisticsRepository,
+                filter, KeysetSort.byId(), cursor, 2, "questions:1"), pages);
+
+        Assertions.assertEquals(List.of(this.questionIds(0, 2), this.questionIds(4, 6)), ids);
+        Assertions.assertEquals(4, pages.get(1).getTotalElements());
+        Assertions.assertEquals(1, this.meterRegistry.counter("listing.count.cache.misses").count());
+        Assertions.assertEquals(1, this.meterRegistry.counter("listing.count.cache.hits").count());
+    }
+
+    @Test
+    void read_ShouldStartOver_WhenCursorBelongsToAnotherSort() {
+        KeysetPageDTO<QuestionStatistics> first = this.keysetPager.read(this.questionStatisticsRepository, null,
+                KeysetSort.byId(), null, 3, "questions");
+
+        KeysetPageDTO<QuestionStatistics> page = this.keysetPager.read(this.questionStatisticsRepository, null,
+                KeysetSort.descending("ACCURACY", "accuracy"), first.getNextCursor(), 3, "questions");
+
+        Assertions.assertEquals(0, page.getCurrentPage());
+        Assertions.assertEquals(this.questionIds(6, 3, 2), page.getContent().stream().map(QuestionStatistics::getId).toList());
+    }
+
+    @Test
+    void read_ShouldPlaceNullSortValuesLast_InBothDirections() {
+        Role roleUser = this.entityManager.persist(Role.builder().name(RoleName.USER).description("User role").build());
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+        LocalDateTime[] lastSolvedAt = {now.minusDays(1), null, now.minusDays(2), null, now.minusDays(1)};
+
+        List<Long> statisticsIds = new ArrayList<>();
+        for (int i = 0; i < lastSolvedAt.length; i++) {
+            User user = this.entityManager.persist(User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("pass")
+                    .roles(Set.of(roleUser))
+                    .build());
+
+            statisticsIds.add(this.entityManager.persist(UserStatistics.builder()
+                    .user(user)
+                    .lastSolvedAt(lastSolvedAt[i])
+                    .build()).getId());
+        }
+        this.entityManager.flush();
+
+        KeysetSort sort = KeysetSort.descendingNullsLast("LAST_SOLVED_AT", "lastSolvedAt");
+        Specification<UserStatistics> filter = Specification.allOf(UserStatisticsSpecifications.onlyRegularUsers());
+        List<KeysetPageDTO<UserStatistics>> pages = new ArrayList<>();
+
+        List<List<Long>> ids = this.walkForward(cursor -> this.keysetPager.read(this.userStatisticsRepository,
+                filter, sort, cursor, 2, "users"), pages);
+
+        Assertions.assertEquals(List.of(
+                List.of(statisticsIds.get(4), statisticsIds.get(0)),
+                List.of(statisticsIds.get(2), statisticsIds.get(3)),
+                List.of(statisticsIds.get(1))), ids);
+
+        KeysetPageDTO<UserStatistics> previous = this.keysetPager.read(this.userStatisticsRepository, filter, sort,
+                pages.get(2).getPreviousCursor(), 2, "users");
+        KeysetPageDTO<UserStatistics> next = this.keysetPager.read(this.userStatisticsRepository, filter, sort,
+                previous.getNextCursor(), 2, "users");
+
+        Assertions.assertEquals(List.of(statisticsIds.get(2), statisticsIds.get(3)),
+                previous.getContent().stream().map(UserStatistics::getId).toList());
+        Assertions.assertEquals(List.of(statisticsIds.get(1)),
+                next.getContent().stream().map(UserStatistics::getId).toList());
+    }
+
+    @FunctionalInterface
+    private interface KeysetPageFetcher<T> {
+        KeysetPageDTO<T> fetch(String cursor);
+    }
+}
@@ -0,0 +1,240 @@
+package com.quizapp.service.remote;
+
+import com.quizapp.config.QuestionsApiConfig;
+import com.quizapp.exception.QuestionsApiUnavailableException;
+import com.quizapp.model.dto.question.AddQuestionDTO;
+import com.quizapp.model.entity.Result;
+import com.quizapp.service.CategoryServiceImpl;
+import com.quizapp.service.QuestionServiceImpl;
+import com.quizapp.service.cache.QuestionByIdCache;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+
+public class QuestionsApiGuardTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private MeterRegistry meterRegistry;
+    private RestClient restClient;
+
+    private final AtomicBoolean failing = new AtomicBoolean(false);
+    private final AtomicInteger questionPoolHits = new AtomicInteger();
+    private final CountDownLatch slowRequestStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSlowRequest = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.serverExecutor = Executors.newCachedThreadPool();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(this.serverExecutor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.restClient = RestClient.builder()
+                .baseUrl("http://localhost:" + this.server.getAddress().getPort())
+                .requestFactory(new SimpleClientHttpRequestFactory())
+                .defaultHeader("Content-Type", "application/json")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.releaseSlowRequest.countDown();
+        this.server.stop(0);
+        this.serverExecutor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+
+        if (path.startsWith("/api/questions/category/")) {
+            this.questionPoolHits.incrementAndGet();
+            this.respond(exchange, this.failing.get() ? 500 : 200, "[]");
+        } else if (path.equals("/api/questions/404")) {
+            this.respond(exchange, 404, "{}");
+        } else if (path.equals("/api/questions/slow")) {
+            this.slowRequestStarted.countDown();
+            try {
+                this.releaseSlowRequest.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.respond(exchange, 200, "{\"id\":1}");
+        } else if (path.startsWith("/api/categories")) {
+            this.respond(exchange, 200, "{\"categories\":[]}");
+        } else if (path.equals("/api/questions")) {
+            this.respond(exchange, this.failing.get() ? 503 : 201, "");
+        } else {
+            this.respond(exchange, 404, "{}");
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private QuestionsApiGuard createGuard(Duration openDuration, int maxConcurrentCalls) {
+        QuestionsApiConfig config = new QuestionsApiConfig()
+                .setBreakerSlidingWindowSize(4)
+                .setBreakerMinimumCalls(4)
+                .setBreakerFailureRateThreshold(50)
+                .setBreakerOpenDuration(openDuration)
+                .setBreakerHalfOpenCalls(1)
+                .setBulkheadMaxConcurrentCalls(maxConcurrentCalls)
+                .setBulkheadMaxWait(Duration.ZERO);
+
+        return new QuestionsApiGuard(config, this.meterRegistry);
+    }
+
+    private QuestionServiceImpl questionService(QuestionsApiGuard guard) {
+        return new QuestionServiceImpl(this.restClient, mock(ApplicationEventPublisher.class), guard,
+                new QuestionByIdCache(this.meterRegistry, Duration.ZERO, 100), new QuestionsApiConfig(), Runnable::run);
+    }
+
+    private void failQuestionPoolLoads(QuestionServiceImpl questionService, int times) {
+        for (int i = 0; i < times; i++) {
+            Assertions.assertThrows(HttpServerErrorException.class, () -> questionService.makeGetRequestByCategoryId(1L));
+        }
+    }
+
+    @Test
+    void call_ShouldOpenCircuit_AndStopCallingApi_WhenFailureRateExceeded() {
+        QuestionsApiGuard guard = this.createGuard(Duration.ofMinutes(1), 5);
+        QuestionServiceImpl questionService = this.questionService(guard);
+        this.failing.set(true);
+
+        this.failQuestionPoolLoads(questionService, 4);
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, guard.getState(QuestionsApiEndpoint.QUESTIONS_BY_CATEGORY));
+        Assertions.assertThrows(QuestionsApiUnavailableException.class, () -> questionService.makeGetRequestByCategoryId(1L));
+        Assertions.assertEquals(4, this.questionPoolHits.get());
+        Assertions.assertEquals(1, this.meterRegistry.counter("questions.api.circuit.transitions",
+                "name", "questions-api.questions-by-category", "from", "CLOSED", "to", "OPEN").count());
+        Assertions.assertEquals(1, this.meterRegistry.get("resilience4j.circuitbreaker.state")
+                .tags("name", "questions-api.questions-by-category", "state", "open").gauge().value());
+    }
+
+    @Test
+    void call_ShouldCloseCircuit_WhenHalfOpenProbeSucceeds() throws InterruptedException {
+        QuestionsApiGuard guard = this.createGuard(Duration.ofMillis(100), 5);
+        QuestionServiceImpl questionService = this.questionService(guard);
+        this.failing.set(true);
+        this.failQuestionPoolLoads(questionService, 4);
+
+        Thread.sleep(150);
+        this.failing.set(false);
+
+        Assertions.assertEquals(0, questionService.makeGetRequestByCategoryId(1L).length);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, guard.getState(QuestionsApiEndpoint.QUESTIONS_BY_CATEGORY));
+    }
+
+    @Test
+    void call_ShouldReopenCircuit_WhenHalfOpenProbeFails() throws InterruptedException {
+        QuestionsApiGuard guard = this.createGuard(Duration.ofMillis(100), 5);
+        QuestionServiceImpl questionService = this.questionService(guard);
+        this.failing.set(true);
+        this.failQuestionPoolLoads(questionService, 4);
+
+        Thread.sleep(150);
+
+        this.failQuestionPoolLoads(questionService, 1);
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, guard.getState(QuestionsApiEndpoint.QUESTIONS_BY_CATEGORY));
+        Assertions.assertEquals(5, this.questionPoolHits.get());
+    }
+
+    @Test
+    void call_ShouldNotOpenCircuit_OnClientErrors() {
+        QuestionsApiGuard guard = this.createGuard(Duration.ofMinutes(1), 5);
+        QuestionServiceImpl questionService = this.questionService(guard);
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertNull(questionService.getQuestionById(404L));
+        }
+
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, guard.getState(QuestionsApiEndpoint.QUESTION_BY_ID));
+    }
+
+    @Test
+    void call_ShouldIsolateEndpointFamilies() {
+        QuestionsApiGuard guard = this.createGuard(Duration.ofMinutes(1), 5);
+        QuestionServiceImpl questionService = this.questionService(guard);
+        CategoryServiceImpl categoryService = new CategoryServiceImpl(this.restClient,
+                mock(ApplicationEventPublisher.class), guard);
+        this.failing.set(true);
+        this.failQuestionPoolLoads(questionService, 4);
+
+        Assertions.assertTrue(categoryService.getAllCategories("", 0, 100).getCategories().isEmpty());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, guard.getState(QuestionsApiEndpoint.CATEGORIES));
+    }
+
+    @Test
+    void call_ShouldRejectCallsBeyondBulkheadLimit() throws Exception {
+        QuestionsApiGuard guard = this.createGuard(Duration.ofMinutes(1), 1);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<Object> slowCall = caller.submit(() -> guard.call(QuestionsApiEndpoint.QUESTION_BY_ID,
+                    () -> this.restClient.get().uri("/api/questions/slow").retrieve().body(String.class)));
+            Assertions.assertTrue(this.slowRequestStarted.await(5, TimeUnit.SECONDS));
+
+            Assertions.assertThrows(QuestionsApiUnavailableException.class,
+                    () -> this.questionService(guard).makeGetRequestById(1L));
+            Assertions.assertEquals(0, this.questionService(guard).makeGetRequestByCategoryId(1L).length);
+
+            this.releaseSlowRequest.countDown();
+            Assertions.assertNotNull(slowCall.get(5, TimeUnit.SECONDS));
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void addQuestion_ShouldReturnFailedResult_WhenWritesCircuitIsOpen() {
+        QuestionsApiGuard guard = this.createGuard(Duration.ofMinutes(1), 5);
+        QuestionServiceImpl questionService = this.questionService(guard);
+        AddQuestionDTO addQuestionDTO = AddQuestionDTO.builder().categoryId(1L).questionText("Question").build();
+        this.failing.set(true);
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertFalse(questionService.addQuestion(addQuestionDTO).isSuccess());
+        }
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, guard.getState(QuestionsApiEndpoint.WRITES));
+
+        Result result = questionService.addQuestion(addQuestionDTO);
+        Assertions.assertFalse(result.isSuccess());
+        Assertions.assertEquals("Услугата за въпроси е временно недостъпна. Опитайте отново по-късно.",
+                result.getMessage());
+    }
+}
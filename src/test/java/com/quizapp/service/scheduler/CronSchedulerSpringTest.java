@@ -2,6 +2,7 @@ package com.quizapp.service.scheduler;
 
 import com.quizapp.service.interfaces.GuestQuizService;
 import com.quizapp.service.interfaces.PasswordResetService;
+import com.quizapp.service.interfaces.QuestionSnapshotService;
 import com.quizapp.service.interfaces.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +31,8 @@ public class CronSchedulerSpringTest {
     private PasswordResetService mockPasswordResetService;
     @MockitoBean
     private UserService mockUserService;
+    @MockitoBean
+    private QuestionSnapshotService mockQuestionSnapshotService;
 
     @Test
     void triggerScheduledTasks() {
@@ -43,5 +46,6 @@ public class CronSchedulerSpringTest {
         verify(this.mockUserService, atLeastOnce()).removeWarnedInactiveLoginUsersAccounts();
         verify(this.mockUserService, atLeastOnce()).sendInactiveSolvingQuizzesUsersEmails();
         verify(this.mockUserService, atLeastOnce()).resendWarnedInactiveSolvingQuizzesUsersEmails();
+        verify(this.mockQuestionSnapshotService, atLeastOnce()).backfillSolvedQuizzes();
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.quizapp.service.scheduler;
 
 import com.quizapp.service.interfaces.GuestQuizService;
 import com.quizapp.service.interfaces.PasswordResetService;
+import com.quizapp.service.interfaces.QuestionSnapshotService;
 import com.quizapp.service.interfaces.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,8 @@ public class CronSchedulerTest {
     private GuestQuizService mockGuestQuizService;
     @Mock
     private UserService mockUserService;
+    @Mock
+    private QuestionSnapshotService mockQuestionSnapshotService;
     @InjectMocks
     private CronScheduler cronScheduler;
 
@@ -88,4 +91,15 @@ public class CronSchedulerTest {
         verify(this.mockUserService, times(1))
                 .resendWarnedInactiveSolvingQuizzesUsersEmails();
     }
-}
\ No newline at end of file
+
+    @Test
+    void backfillQuestionSnapshots_ShouldCallQuestionSnapshotService() {
+        when(this.mockQuestionSnapshotService.backfillSolvedQuizzes())
+                .thenReturn(12);
+
+        this.cronScheduler.backfillQuestionSnapshots();
+
+        verify(this.mockQuestionSnapshotService, times(1))
+                .backfillSolvedQuizzes();
+    }
+}
@@ -0,0 +1,115 @@
+package com.quizapp.service.scheduler;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.quizapp.model.entity.EmailOutboxMessage;
+import com.quizapp.model.enums.EmailOutboxStatus;
+import com.quizapp.service.interfaces.EmailOutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailOutboxWorkerTest {
+
+    @Mock
+    private EmailOutboxService mockEmailOutboxService;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl javaMailSender;
+    private MeterRegistry meterRegistry;
+    private EmailOutboxWorker emailOutboxWorker;
+
+    @BeforeEach
+    void setUp() {
+        this.greenMail = new GreenMail(ServerSetupTest.SMTP);
+        this.greenMail.start();
+
+        this.javaMailSender = new JavaMailSenderImpl();
+        this.javaMailSender.setHost("127.0.0.1");
+        this.javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+        this.javaMailSender.setDefaultEncoding("UTF-8");
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.emailOutboxWorker = new EmailOutboxWorker(this.mockEmailOutboxService, this.javaMailSender,
+                Runnable::run, this.meterRegistry, "quizapp@example.com", 50, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.greenMail.stop();
+    }
+
+    private List<EmailOutboxMessage> messages(long count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> EmailOutboxMessage.builder()
+                        .id(id)
+                        .recipient("user" + id + "@example.com")
+                        .replyTo("quizapp@example.com")
+                        .subject("Успешен абонамент " + id)
+                        .content("<html>content " + id + "</html>")
+                        .status(EmailOutboxStatus.SENDING)
+                        .nextAttemptAt(LocalDateTime.now())
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .toList();
+    }
+
+    @Test
+    void drain_ShouldSendClaimedMessages_AndMarkThemSent() throws Exception {
+        when(this.mockEmailOutboxService.claimDueMessages(50)).thenReturn(this.messages(4));
+        when(this.mockEmailOutboxService.countPending()).thenReturn(0L);
+
+        this.emailOutboxWorker.drain();
+
+        MimeMessage[] received = this.greenMail.getReceivedMessages();
+        Assertions.assertEquals(4, received.length);
+        Assertions.assertEquals("quizapp@example.com", received[0].getFrom()[0].toString());
+        Assertions.assertTrue(received[0].getSubject().startsWith("Успешен абонамент"));
+
+        verify(this.mockEmailOutboxService).markSent(List.of(1L, 2L));
+        verify(this.mockEmailOutboxService).markSent(List.of(3L, 4L));
+        verify(this.mockEmailOutboxService, never()).markFailed(anyLong(), any());
+        Assertions.assertEquals(4, this.meterRegistry.counter("email.outbox.sent").count());
+    }
+
+    @Test
+    void drain_ShouldMarkMessagesFailed_WhenSmtpServerIsDown() {
+        this.greenMail.stop();
+        when(this.mockEmailOutboxService.claimDueMessages(50)).thenReturn(this.messages(2));
+        when(this.mockEmailOutboxService.countPending()).thenReturn(2L);
+
+        this.emailOutboxWorker.drain();
+
+        verify(this.mockEmailOutboxService).markFailed(eq(1L), any());
+        verify(this.mockEmailOutboxService).markFailed(eq(2L), any());
+        verify(this.mockEmailOutboxService, times(2)).markSent(List.of());
+        Assertions.assertEquals(2, this.meterRegistry.get("email.outbox.depth").gauge().value());
+    }
+
+    @Test
+    void drain_ShouldOnlyUpdateQueueDepth_WhenNothingIsDue() {
+        when(this.mockEmailOutboxService.claimDueMessages(50)).thenReturn(List.of());
+        when(this.mockEmailOutboxService.countPending()).thenReturn(0L);
+
+        this.emailOutboxWorker.drain();
+
+        Assertions.assertEquals(0, this.greenMail.getReceivedMessages().length);
+        verify(this.mockEmailOutboxService, never()).markSent(anyCollection());
+    }
+}
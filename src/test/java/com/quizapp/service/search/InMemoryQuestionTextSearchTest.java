@@ -0,0 +1,92 @@
+package com.quizapp.service.search;
+
+import com.quizapp.model.dto.question.QuestionTextDTO;
+import com.quizapp.repository.QuestionStatisticsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.*;
+
+public class InMemoryQuestionTextSearchTest {
+
+    private QuestionStatisticsRepository mockQuestionStatsRepository;
+    private InMemoryQuestionTextSearch questionTextSearch;
+
+    @BeforeEach
+    void setUp() {
+        this.mockQuestionStatsRepository = mock(QuestionStatisticsRepository.class);
+        this.questionTextSearch = new InMemoryQuestionTextSearch(this.mockQuestionStatsRepository,
+                new SimpleMeterRegistry());
+
+        this.questionTextSearch.index(1L, 1L, "Коя е столицата на България?");
+        this.questionTextSearch.index(2L, 1L, "Коя е столица на Франция?");
+        this.questionTextSearch.index(3L, 2L, "Колко е 2 + 2?");
+        this.questionTextSearch.index(4L, 2L, "Who painted the Mona Lisa?");
+    }
+
+    @Test
+    void tokenize_ShouldLowercaseAndSplitOnPunctuation() {
+        Assertions.assertEquals(List.of("коя", "е", "столицата", "на", "българия"),
+                QuestionTextTokenizer.tokenize("Коя е СТОЛИЦАТА на България?"));
+        Assertions.assertEquals(List.of("и"), QuestionTextTokenizer.tokenize("ѝ, и"));
+        Assertions.assertTrue(QuestionTextTokenizer.tokenize(" ?! ").isEmpty());
+    }
+
+    @Test
+    void search_ShouldMatchCyrillicPrefixes_AndRankExactMatchesFirst() {
+        Assertions.assertEquals(List.of(2L, 1L), this.questionTextSearch.search("столица", null, 10));
+        Assertions.assertEquals(List.of(1L, 2L), this.questionTextSearch.search("СТОЛ", null, 10));
+    }
+
+    @Test
+    void search_ShouldRequireEveryWord() {
+        Assertions.assertEquals(List.of(1L), this.questionTextSearch.search("столица българ", null, 10));
+        Assertions.assertTrue(this.questionTextSearch.search("столица лондон", null, 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldNotExpandSingleCharacterPrefixes() {
+        Assertions.assertEquals(List.of(3L), this.questionTextSearch.search("2", null, 10));
+        Assertions.assertTrue(this.questionTextSearch.search("m", null, 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldFilterByCategory_AndApplyLimit() {
+        Assertions.assertEquals(List.of(3L), this.questionTextSearch.search("колко", 2L, 10));
+        Assertions.assertTrue(this.questionTextSearch.search("колко", 1L, 10).isEmpty());
+        Assertions.assertEquals(List.of(1L), this.questionTextSearch.search("коя", null, 1));
+    }
+
+    @Test
+    void index_ShouldReplaceTokens_WhenQuestionTextChanges() {
+        this.questionTextSearch.index(4L, 2L, "Who painted Starry Night?");
+
+        Assertions.assertTrue(this.questionTextSearch.search("mona", null, 10).isEmpty());
+        Assertions.assertEquals(List.of(4L), this.questionTextSearch.search("starry", null, 10));
+        Assertions.assertEquals(4, this.questionTextSearch.size());
+    }
+
+    @Test
+    void rebuild_ShouldLoadQuestionTextsInChunks() {
+        int chunkSize = InMemoryQuestionTextSearch.REBUILD_CHUNK_SIZE;
+        List<QuestionTextDTO> firstChunk = LongStream.rangeClosed(101, 100 + chunkSize)
+                .mapToObj(id -> new QuestionTextDTO(id, 3L, "Въпрос " + id))
+                .toList();
+
+        when(this.mockQuestionStatsRepository.findQuestionTexts(0L, Limit.of(chunkSize))).thenReturn(firstChunk);
+        when(this.mockQuestionStatsRepository.findQuestionTexts(100L + chunkSize, Limit.of(chunkSize)))
+                .thenReturn(List.of(new QuestionTextDTO(5000L, 3L, "Последен въпрос")));
+
+        this.questionTextSearch.rebuild();
+
+        Assertions.assertEquals(4 + chunkSize + 1, this.questionTextSearch.size());
+        Assertions.assertEquals(List.of(5000L), this.questionTextSearch.search("послед", 3L, 10));
+        verify(this.mockQuestionStatsRepository, times(2)).findQuestionTexts(anyLong(), any());
+    }
+}
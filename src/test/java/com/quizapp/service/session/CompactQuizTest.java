@@ -0,0 +1,154 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import com.quizapp.model.entity.Quiz;
+import com.quizapp.service.evaluation.QuizEvaluation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+public class CompactQuizTest {
+
+    private static final int QUIZZES = 1000;
+    private static final int QUESTIONS_PER_QUIZ = 10;
+
+    static {
+        // records such as ViewTokenKey hide their field offsets from Unsafe on recent JDKs
+        System.setProperty("jol.magicFieldOffset", "true");
+    }
+
+    private QuestionInternPool questionInternPool;
+
+    @BeforeEach
+    void setUp() {
+        this.questionInternPool = new QuestionInternPool(new SimpleMeterRegistry());
+    }
+
+    private static QuestionDTO question(long id, String correctAnswer, List<String> options) {
+        return QuestionDTO.builder()
+                .id(id)
+                .questionText("Въпрос номер " + id + " от категория География?")
+                .categoryName("География")
+                .correctAnswer(correctAnswer)
+                .options(options)
+                .build();
+    }
+
+    private static Quiz quiz(String viewToken, List<QuestionDTO> questions) {
+        return Quiz.builder()
+                .viewToken(viewToken)
+                .categoryId(3L)
+                .categoryName("География")
+                .questions(questions)
+                .expireAt(LocalDateTime.of(2025, 1, 1, 10, 30, 0, 123_456_000))
+                .build();
+    }
+
+    @Test
+    void toQuiz_ShouldRestoreQuiz() {
+        String viewToken = UUID.randomUUID().toString();
+        Quiz quiz = quiz(viewToken, List.of(
+                question(1L, "София", List.of("Варна", "София", "Бургас")),
+                question(2L, "Не е сред отговорите", List.of("A", "B")),
+                question(3L, "A", Arrays.asList("A", null, "A"))));
+
+        CompactQuiz compactQuiz = CompactQuiz.of(ViewTokenKey.of(viewToken), quiz, this.questionInternPool);
+
+        Assertions.assertTrue(compactQuiz.getViewToken().isUuid());
+        Assertions.assertEquals(quiz, compactQuiz.toQuiz());
+    }
+
+    @Test
+    void answerKey_ShouldScoreByCorrectOptionIndex() {
+        Quiz quiz = quiz("token", List.of(
+                question(1L, "София", List.of("Варна", "София", "Бургас")),
+                question(2L, "Не е сред отговорите", List.of("A", "B")),
+                question(3L, "Не е сред отговорите", List.of("A", "B"))));
+
+        CompactQuiz compactQuiz = CompactQuiz.of(ViewTokenKey.of("token"), quiz, this.questionInternPool);
+        QuizEvaluation evaluation = compactQuiz.answerKey()
+                .evaluate(Map.of(1L, new String("София"), 2L, "A", 3L, "Не е сред отговорите"));
+
+        Assertions.assertTrue(evaluation.isCorrect(0));
+        Assertions.assertFalse(evaluation.isCorrect(1));
+        Assertions.assertTrue(evaluation.isCorrect(2));
+        Assertions.assertEquals(3, evaluation.getTotalQuestions());
+    }
+
+    @Test
+    void of_ShouldReplacePooledQuestion_WhenQuestionWasEdited() {
+        Quiz before = quiz("before", List.of(question(1L, "A", List.of("A", "B"))));
+        Quiz after = quiz("after", List.of(question(1L, "B", List.of("A", "B"))));
+
+        CompactQuiz compactBefore = CompactQuiz.of(ViewTokenKey.of("before"), before, this.questionInternPool);
+        CompactQuiz compactAfter = CompactQuiz.of(ViewTokenKey.of("after"), after, this.questionInternPool);
+
+        Assertions.assertEquals("A", compactBefore.toQuiz().getQuestions().get(0).getCorrectAnswer());
+        Assertions.assertEquals("B", compactAfter.toQuiz().getQuestions().get(0).getCorrectAnswer());
+        Assertions.assertEquals(1, this.questionInternPool.size());
+    }
+
+    @Test
+    void of_ShouldRejectQuestionsWithTooManyOptions() {
+        List<String> options = new ArrayList<>();
+        for (int i = 0; i <= InternedQuestion.MAX_OPTIONS; i++) {
+            options.add("Option" + i);
+        }
+
+        Quiz quiz = quiz("token", List.of(question(1L, "Option0", options)));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CompactQuiz.of(ViewTokenKey.of("token"), quiz, this.questionInternPool));
+    }
+
+    /**
+     * Compares the retained heap of a thousand in-flight quizzes in both forms. Full quizzes share the option
+     * strings of the cached question pool, as they do when created, but own their DTOs, lists and tokens.
+     */
+    @Test
+    void footprint_CompactQuizzesShouldRetainAFractionOfFullQuizzes() {
+        Random random = new Random(42);
+        List<QuestionDTO> questionPool = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            questionPool.add(question(id, "Отговор " + id + "A",
+                    List.of("Отговор " + id + "A", "Отговор " + id + "B", "Отговор " + id + "C", "Отговор " + id + "D")));
+        }
+
+        List<Quiz> fullQuizzes = new ArrayList<>();
+        for (int i = 0; i < QUIZZES; i++) {
+            List<QuestionDTO> questions = new ArrayList<>();
+            for (int j = 0; j < QUESTIONS_PER_QUIZ; j++) {
+                QuestionDTO pooled = questionPool.get(random.nextInt(questionPool.size()));
+                List<String> options = new ArrayList<>(pooled.getOptions());
+                Collections.shuffle(options, random);
+
+                questions.add(QuestionDTO.builder()
+                        .id(pooled.getId())
+                        .questionText(pooled.getQuestionText())
+                        .categoryName(pooled.getCategoryName())
+                        .correctAnswer(pooled.getCorrectAnswer())
+                        .options(options)
+                        .build());
+            }
+            fullQuizzes.add(quiz(new UUID(random.nextLong(), random.nextLong()).toString(), questions));
+        }
+
+        List<CompactQuiz> compactQuizzes = fullQuizzes.stream()
+                .map(quiz -> CompactQuiz.of(ViewTokenKey.of(quiz.getViewToken()), quiz, this.questionInternPool))
+                .toList();
+
+        long sharedBytes = GraphLayout.parseInstance(questionPool.toArray()).totalSize();
+        long fullBytes = GraphLayout.parseInstance(fullQuizzes.toArray()).subtract(
+                GraphLayout.parseInstance(questionPool.toArray())).totalSize();
+        long compactBytes = GraphLayout.parseInstance(compactQuizzes.toArray()).totalSize() - sharedBytes;
+
+        Assertions.assertTrue(compactBytes * 4 < fullBytes,
+                "compact quizzes retain " + compactBytes + " bytes, full quizzes " + fullBytes);
+        Assertions.assertEquals(fullQuizzes, compactQuizzes.stream().map(CompactQuiz::toQuiz).toList());
+    }
+}
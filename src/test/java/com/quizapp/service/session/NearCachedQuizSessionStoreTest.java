@@ -0,0 +1,105 @@
+package com.quizapp.service.session;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+
+import static org.mockito.Mockito.*;
+
+public class NearCachedQuizSessionStoreTest {
+
+    private MutableClock clock;
+    private MeterRegistry meterRegistry;
+    private QuizSessionStore<String> mockDelegate;
+    private NearCachedQuizSessionStore<String> nearCachedStore;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.mockDelegate = mock(QuizSessionStore.class);
+        this.nearCachedStore = new NearCachedQuizSessionStore<>(this.mockDelegate, "temp", Duration.ofSeconds(5),
+                2, this.clock, this.meterRegistry);
+    }
+
+    @Test
+    void get_ShouldServeLocalCopy_UntilTtlPasses() {
+        when(this.mockDelegate.get("token")).thenReturn("quiz");
+
+        Assertions.assertEquals("quiz", this.nearCachedStore.get("token"));
+        Assertions.assertEquals("quiz", this.nearCachedStore.get("token"));
+        verify(this.mockDelegate, times(1)).get("token");
+
+        this.clock.advance(Duration.ofSeconds(6));
+        when(this.mockDelegate.get("token")).thenReturn(null);
+
+        Assertions.assertNull(this.nearCachedStore.get("token"));
+        Assertions.assertEquals(0, this.nearCachedStore.size());
+        Assertions.assertEquals(1, this.meterRegistry.counter("quiz.session.near-cache.hits", "store", "temp").count());
+    }
+
+    @Test
+    void putAndRemove_ShouldWriteThrough() {
+        this.nearCachedStore.put("token", "quiz");
+
+        Assertions.assertEquals("quiz", this.nearCachedStore.get("token"));
+        verify(this.mockDelegate).put("token", "quiz");
+        verify(this.mockDelegate, never()).get("token");
+
+        this.nearCachedStore.remove("token");
+
+        verify(this.mockDelegate).remove("token");
+        Assertions.assertNull(this.nearCachedStore.get("token"));
+    }
+
+    @Test
+    void remove_ShouldAnswerFromDelegate_EvenWhenCachedLocally() {
+        this.nearCachedStore.put("token", "quiz");
+        when(this.mockDelegate.remove("token")).thenReturn(false);
+
+        Assertions.assertFalse(this.nearCachedStore.remove("token"));
+    }
+
+    @Test
+    void put_ShouldStayWithinMaxEntries() {
+        this.nearCachedStore.put("first", "quiz1");
+        this.nearCachedStore.put("second", "quiz2");
+        this.nearCachedStore.put("third", "quiz3");
+
+        Assertions.assertEquals(2, this.nearCachedStore.size());
+        Assertions.assertEquals("quiz3", this.nearCachedStore.get("third"));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
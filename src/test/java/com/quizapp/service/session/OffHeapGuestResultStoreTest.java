@@ -0,0 +1,213 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import com.quizapp.model.dto.quiz.QuizDTO;
+import com.quizapp.service.utils.GuestQuizStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.*;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class OffHeapGuestResultStoreTest {
+
+    private MutableClock clock;
+    private MeterRegistry meterRegistry;
+    private OffHeapGuestResultStore offHeapStore;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        this.clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.offHeapStore = this.createStore(null);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.offHeapStore.close();
+    }
+
+    private OffHeapGuestResultStore createStore(Path file) {
+        return new OffHeapGuestResultStore(this.meterRegistry, DataSize.ofKilobytes(4), DataSize.ofKilobytes(12),
+                file, this.clock);
+    }
+
+    private QuizDTO result(String viewToken, Duration ttl) {
+        return QuizDTO.builder()
+                .viewToken(viewToken)
+                .correctAnswers(1)
+                .totalQuestions(2)
+                .scorePercent(50.0)
+                .categoryName("География")
+                .questions(List.of(QuestionDTO.builder()
+                        .id(1L)
+                        .questionText("Коя е столицата на България?")
+                        .categoryName("География")
+                        .correctAnswer("София")
+                        .options(List.of("София", "Варна"))
+                        .build()))
+                .solvedAt(LocalDateTime.now(this.clock))
+                .expireAt(LocalDateTime.now(this.clock).plus(ttl))
+                .userAnswers(Map.of(1L, "Варна"))
+                .build();
+    }
+
+    @Test
+    void get_ShouldReturnStoredResult_AndNullAfterRemove() {
+        String viewToken = UUID.randomUUID().toString();
+        QuizDTO result = this.result(viewToken, Duration.ofMinutes(30));
+
+        this.offHeapStore.put(viewToken, result);
+
+        Assertions.assertEquals(result, this.offHeapStore.get(viewToken));
+        Assertions.assertNull(this.offHeapStore.get("missing"));
+
+        this.offHeapStore.remove(viewToken);
+
+        Assertions.assertNull(this.offHeapStore.get(viewToken));
+        Assertions.assertEquals(0, this.offHeapStore.size());
+    }
+
+    @Test
+    void put_ShouldReplacePreviousResultForToken() {
+        this.offHeapStore.put("token123", this.result("token123", Duration.ofMinutes(30)));
+        QuizDTO replacement = this.result("token123", Duration.ofMinutes(40));
+        replacement.setCorrectAnswers(2);
+
+        this.offHeapStore.put("token123", replacement);
+
+        Assertions.assertEquals(2, this.offHeapStore.get("token123").getCorrectAnswers());
+        Assertions.assertEquals(1, this.offHeapStore.size());
+    }
+
+    @Test
+    void get_ShouldRejectExpiredResult_BeforeItIsSwept() {
+        this.offHeapStore.put("token123", this.result("token123", Duration.ofMinutes(5)));
+
+        this.clock.advance(Duration.ofMinutes(6));
+
+        Assertions.assertNull(this.offHeapStore.get("token123"));
+    }
+
+    @Test
+    void deleteExpiredQuizzes_ShouldReclaimSlabsWhoseResultsExpired() {
+        for (int i = 0; i < 30; i++) {
+            this.offHeapStore.put("short" + i, this.result("short" + i, Duration.ofMinutes(5)));
+        }
+        this.offHeapStore.put("long", this.result("long", Duration.ofMinutes(30)));
+
+        this.clock.advance(Duration.ofMinutes(6));
+        this.offHeapStore.deleteExpiredQuizzes(LocalDateTime.now(this.clock));
+
+        Assertions.assertEquals(1, this.offHeapStore.size());
+        Assertions.assertNotNull(this.offHeapStore.get("long"));
+        Assertions.assertTrue(this.offHeapStore.getFreeSlabs() > 0);
+    }
+
+    @Test
+    void put_ShouldEvictOldestSlab_WhenByteCapIsReached() {
+        for (int i = 0; i < 100; i++) {
+            this.offHeapStore.put("token" + i, this.result("token" + i, Duration.ofMinutes(30)));
+        }
+
+        Assertions.assertEquals(DataSize.ofKilobytes(12).toBytes(), this.offHeapStore.getReservedBytes());
+        Assertions.assertNull(this.offHeapStore.get("token0"));
+        Assertions.assertNotNull(this.offHeapStore.get("token99"));
+        Assertions.assertEquals(100 - this.offHeapStore.size(),
+                this.meterRegistry.counter("guest.results.offheap.evictions", "reason", "capacity").count());
+    }
+
+    @Test
+    void put_ShouldRejectResultLargerThanSlab() {
+        QuizDTO result = this.result("token123", Duration.ofMinutes(30));
+        result.setCategoryName("x".repeat(5000));
+
+        this.offHeapStore.put("token123", result);
+
+        Assertions.assertNull(this.offHeapStore.get("token123"));
+        Assertions.assertEquals(1, this.meterRegistry.counter("guest.results.offheap.rejected").count());
+    }
+
+    @Test
+    void fileBackedStore_ShouldKeepResultsAcrossRestart() throws IOException {
+        Path file = this.tempDir.resolve("guest-results.bin");
+        OffHeapGuestResultStore before = this.createStore(file);
+        QuizDTO kept = this.result("3f1c2d9e-5b7a-4c1e-9d2f-0a1b2c3d4e5f", Duration.ofMinutes(30));
+
+        before.put(kept.getViewToken(), kept);
+        before.put("removed", this.result("removed", Duration.ofMinutes(30)));
+        before.put("expiring", this.result("expiring", Duration.ofMinutes(5)));
+        before.remove("removed");
+        before.close();
+
+        this.clock.advance(Duration.ofMinutes(6));
+        OffHeapGuestResultStore after = this.createStore(file);
+
+        try {
+            Assertions.assertEquals(kept, after.get(kept.getViewToken()));
+            Assertions.assertNull(after.get("removed"));
+            Assertions.assertNull(after.get("expiring"));
+            Assertions.assertEquals(1, after.size());
+        } finally {
+            after.close();
+        }
+    }
+
+    @Test
+    void enabledProperty_ShouldReplaceInMemoryGuestStorage() {
+        new ApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withBean(SimpleMeterRegistry.class)
+                .withUserConfiguration(GuestQuizStorage.class, OffHeapGuestResultStore.class)
+                .withPropertyValues("quiz.guest-results.off-heap.enabled=true",
+                        "quiz.guest-results.off-heap.max-size=8MB")
+                .run(context -> {
+                    Assertions.assertEquals(1, context.getBeansOfType(QuizSessionStore.class).size());
+                    Assertions.assertNotNull(context.getBean(OffHeapGuestResultStore.class));
+                });
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
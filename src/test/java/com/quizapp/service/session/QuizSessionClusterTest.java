@@ -0,0 +1,135 @@
+package com.quizapp.service.session;
+
+import com.quizapp.QuizAppApplication;
+import com.quizapp.exception.QuizNotFoundException;
+import com.quizapp.model.dto.question.QuestionDTO;
+import com.quizapp.model.dto.quiz.QuizDTO;
+import com.quizapp.model.dto.quiz.QuizResultDTO;
+import com.quizapp.model.dto.quiz.QuizSubmissionDTO;
+import com.quizapp.model.entity.Quiz;
+import com.quizapp.model.entity.QuizSession;
+import com.quizapp.model.enums.QuizSessionKind;
+import com.quizapp.repository.QuizSessionRepository;
+import com.quizapp.service.interfaces.GuestQuizService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ResolvableType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Two application nodes sharing one H2 database, as they would share PostgreSQL behind a load balancer.
+ */
+public class QuizSessionClusterTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(QuizAppApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:quiz-cluster;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--quiz.session-store.type=jdbc");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static QuizSessionStore<Quiz> tempQuizStore(ConfigurableApplicationContext node) {
+        return (QuizSessionStore<Quiz>) node.getBeanProvider(
+                ResolvableType.forClassWithGenerics(QuizSessionStore.class, Quiz.class)).getObject();
+    }
+
+    private static Quiz quiz(String viewToken) {
+        return Quiz.builder()
+                .viewToken(viewToken)
+                .categoryId(1L)
+                .categoryName("География")
+                .questions(List.of(
+                        QuestionDTO.builder().id(1L).questionText("Столица на България?").categoryName("География")
+                                .correctAnswer("София").options(List.of("София", "Варна")).build(),
+                        QuestionDTO.builder().id(2L).questionText("Столица на Франция?").categoryName("География")
+                                .correctAnswer("Париж").options(List.of("Лион", "Париж")).build()))
+                .expireAt(LocalDateTime.now().plusMinutes(30))
+                .build();
+    }
+
+    @Test
+    void quizStartedOnNodeA_ShouldBeSubmittedOnNodeB() {
+        tempQuizStore(nodeA).put("cluster-token", quiz("cluster-token"));
+
+        Assertions.assertEquals(quiz("cluster-token").getQuestions(),
+                tempQuizStore(nodeB).get("cluster-token").getQuestions());
+
+        nodeB.getBean(GuestQuizService.class).evaluateQuiz(QuizSubmissionDTO.builder()
+                .viewToken("cluster-token")
+                .answers(Map.of(1L, "София", 2L, "Лион"))
+                .build());
+
+        QuizResultDTO result = nodeA.getBean(GuestQuizService.class).getQuizResult("cluster-token");
+        Assertions.assertEquals(1, result.getCorrectAnswers());
+        Assertions.assertEquals(2, result.getTotalQuestions());
+
+        QuizDTO review = nodeA.getBean(GuestQuizService.class).showQuizResult("cluster-token");
+        Assertions.assertEquals("Лион", review.getUserAnswers().get(2L));
+
+        Assertions.assertTrue(nodeA.getBean(QuizSessionRepository.class)
+                .findById(new QuizSession.Key(QuizSessionKind.IN_FLIGHT, "cluster-token"))
+                .isEmpty());
+    }
+
+    @Test
+    void quizSubmittedOnNodeB_ShouldNotBeScoredAgainOnNodeA() {
+        tempQuizStore(nodeA).put("double-token", quiz("double-token"));
+        tempQuizStore(nodeB).get("double-token");
+
+        QuizSubmissionDTO submission = QuizSubmissionDTO.builder()
+                .viewToken("double-token")
+                .answers(Map.of(1L, "София", 2L, "Париж"))
+                .build();
+
+        nodeB.getBean(GuestQuizService.class).evaluateQuiz(submission);
+
+        QuizNotFoundException exception = Assertions.assertThrows(QuizNotFoundException.class,
+                () -> nodeA.getBean(GuestQuizService.class).evaluateQuiz(submission));
+        Assertions.assertEquals("Куизът вече е предаден.", exception.getMessage());
+    }
+
+    @Test
+    void expiredQuiz_ShouldBeGoneOnEveryNode() {
+        Quiz expired = quiz("expired-token");
+        expired.setExpireAt(LocalDateTime.now().minusSeconds(1));
+
+        tempQuizStore(nodeA).put("expired-token", expired);
+
+        Assertions.assertNull(tempQuizStore(nodeB).get("expired-token"));
+
+        nodeB.getBean(JdbcQuizSessionSweeper.class).sweepExpiredQuizzes();
+
+        Assertions.assertTrue(nodeA.getBean(QuizSessionRepository.class)
+                .findById(new QuizSession.Key(QuizSessionKind.IN_FLIGHT, "expired-token"))
+                .isEmpty());
+    }
+}
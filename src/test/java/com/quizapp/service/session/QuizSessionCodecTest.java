@@ -0,0 +1,147 @@
+package com.quizapp.service.session;
+
+import com.quizapp.model.dto.question.QuestionDTO;
+import com.quizapp.model.dto.quiz.QuizDTO;
+import com.quizapp.model.entity.Quiz;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class QuizSessionCodecTest {
+
+    private final List<QuestionDTO> questions = List.of(
+            QuestionDTO.builder()
+                    .id(1L)
+                    .questionText("Коя е столицата на България?")
+                    .categoryName("География")
+                    .correctAnswer("София")
+                    .options(List.of("Пловдив", "София", "Варна"))
+                    .build(),
+            QuestionDTO.builder()
+                    .id(2L)
+                    .questionText("Question2")
+                    .categoryName("Друга")
+                    .correctAnswer("B")
+                    .options(new ArrayList<>(List.of("A", "B")))
+                    .build());
+
+    @Test
+    void quizCodec_ShouldRoundTripQuiz() {
+        Quiz quiz = Quiz.builder()
+                .viewToken("3f1c2d9e-0000-4000-8000-000000000001")
+                .categoryId(5L)
+                .categoryName("География")
+                .questions(this.questions)
+                .expireAt(LocalDateTime.of(2025, 1, 1, 10, 30, 15, 123_000_000))
+                .build();
+
+        QuizCodec codec = new QuizCodec();
+
+        Assertions.assertEquals(quiz, codec.decode(codec.encode(quiz)));
+    }
+
+    @Test
+    void quizResultCodec_ShouldRoundTripGuestResult() {
+        Map<Long, String> userAnswers = new LinkedHashMap<>();
+        userAnswers.put(1L, "София");
+        userAnswers.put(2L, null);
+
+        QuizDTO quizDTO = QuizDTO.builder()
+                .viewToken("token123")
+                .correctAnswers(1)
+                .totalQuestions(2)
+                .scorePercent(50.0)
+                .categoryName("География")
+                .questions(this.questions)
+                .solvedAt(LocalDateTime.of(2025, 1, 1, 10, 5))
+                .expireAt(LocalDateTime.of(2025, 1, 1, 10, 30))
+                .userAnswers(userAnswers)
+                .build();
+
+        QuizResultCodec codec = new QuizResultCodec();
+
+        Assertions.assertEquals(quizDTO, codec.decode(codec.encode(quizDTO)));
+    }
+
+    @Test
+    void quizCodec_ShouldWriteUuidTokenAsTwoLongs() {
+        Quiz uuidToken = Quiz.builder()
+                .viewToken("3f1c2d9e-0000-4000-8000-000000000001")
+                .categoryName("География")
+                .questions(this.questions)
+                .build();
+        Quiz textToken = Quiz.builder()
+                .viewToken("3F1C2D9E-0000-4000-8000-000000000001")
+                .categoryName("География")
+                .questions(this.questions)
+                .build();
+
+        QuizCodec codec = new QuizCodec();
+
+        Assertions.assertEquals(codec.encode(textToken).length - 21, codec.encode(uuidToken).length);
+        Assertions.assertEquals(textToken, codec.decode(codec.encode(textToken)));
+    }
+
+    @Test
+    void quizCodec_ShouldKeepCorrectAnswerThatIsNotAnOption() {
+        Quiz quiz = Quiz.builder()
+                .viewToken("token123")
+                .questions(List.of(QuestionDTO.builder()
+                        .id(3L)
+                        .questionText("Question3")
+                        .correctAnswer("Русе")
+                        .options(List.of("София", "Варна"))
+                        .build()))
+                .build();
+
+        QuizCodec codec = new QuizCodec();
+
+        Assertions.assertEquals(quiz, codec.decode(codec.encode(quiz)));
+    }
+
+    @Test
+    void decode_ShouldTreatFixedWidthFormatAsMiss() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeBoolean(false);
+            writeFixedWidthString(out, "3f1c2d9e-5b7a-4c1e-9d2f-0a1b2c3d4e5f");
+            out.writeBoolean(true);
+            out.writeLong(10L);
+            writeFixedWidthString(out, "Maths");
+            out.writeBoolean(false);
+            out.writeInt(1);
+            out.writeBoolean(true);
+            out.writeLong(1L);
+            writeFixedWidthString(out, "Question1");
+            out.writeBoolean(true);
+            writeFixedWidthString(out, "A");
+            out.writeInt(2);
+            writeFixedWidthString(out, "A");
+            writeFixedWidthString(out, "B");
+        }
+
+        Assertions.assertNull(new QuizCodec().decode(bytes.toByteArray()));
+        Assertions.assertNull(new QuizResultCodec().decode(new byte[]{1, 0, 0, 0, 0}));
+    }
+
+    private static void writeFixedWidthString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Test
+    void decode_ShouldRejectUnknownFormat() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new QuizCodec().decode(new byte[]{9}));
+    }
+}
@@ -0,0 +1,85 @@
+package com.quizapp.service.stats;
+
+import com.quizapp.repository.UserStatisticsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LastLoginFlusherTest {
+
+    @Mock
+    private UserStatisticsRepository mockUserStatsRepository;
+
+    private MeterRegistry meterRegistry;
+    private LastLoginBuffer lastLoginBuffer;
+    private LastLoginFlusher lastLoginFlusher;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.lastLoginBuffer = new LastLoginBuffer(this.meterRegistry);
+        this.lastLoginFlusher = new LastLoginFlusher(this.lastLoginBuffer, this.mockUserStatsRepository,
+                this.meterRegistry);
+
+        this.now = LocalDateTime.of(2025, 1, 1, 9, 0);
+    }
+
+    @Test
+    void recordLogin_ShouldKeepOnlyLatestTimestampPerUser() {
+        this.lastLoginBuffer.recordLogin("user1", this.now);
+        this.lastLoginBuffer.recordLogin("user1", this.now.minusMinutes(5));
+        this.lastLoginBuffer.recordLogin("user2", this.now.minusMinutes(1));
+
+        Assertions.assertEquals(2, this.lastLoginBuffer.pendingLogins());
+        Assertions.assertEquals(Map.of("user1", this.now, "user2", this.now.minusMinutes(1)),
+                this.lastLoginBuffer.drain());
+        Assertions.assertEquals(0, this.lastLoginBuffer.pendingLogins());
+    }
+
+    @Test
+    void flush_ShouldWriteAllPendingLoginsInOneBulkUpdate() {
+        this.lastLoginBuffer.recordLogin("user1", this.now);
+        this.lastLoginBuffer.recordLogin("user2", this.now);
+
+        this.lastLoginFlusher.flush();
+
+        verify(this.mockUserStatsRepository, times(1))
+                .updateLastLoginTimes(Map.of("user1", this.now, "user2", this.now));
+        Assertions.assertEquals(0, this.lastLoginBuffer.pendingLogins());
+        Assertions.assertEquals(1, this.meterRegistry.counter("stats.last-login.flushes").count());
+    }
+
+    @Test
+    void flush_ShouldDoNothing_WhenNoLoginsPending() {
+        this.lastLoginFlusher.flush();
+
+        verifyNoInteractions(this.mockUserStatsRepository);
+    }
+
+    @Test
+    void flush_ShouldKeepLoginsForNextFlush_WhenWriteFails() {
+        when(this.mockUserStatsRepository.updateLastLoginTimes(anyMap()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        this.lastLoginBuffer.recordLogin("user1", this.now.minusMinutes(1));
+        this.lastLoginFlusher.flush();
+        this.lastLoginBuffer.recordLogin("user1", this.now.minusMinutes(2));
+
+        Assertions.assertEquals(Map.of("user1", this.now.minusMinutes(1)), this.lastLoginBuffer.drain());
+        Assertions.assertEquals(1, this.meterRegistry.counter("stats.last-login.flush.failures").count());
+    }
+}
@@ -0,0 +1,92 @@
+package com.quizapp.service.stats;
+
+import com.quizapp.model.dto.category.CategoryStatsDeltaDTO;
+import com.quizapp.model.dto.question.QuestionStatsDeltaDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class StatisticsDeltaBufferTest {
+
+    private MeterRegistry meterRegistry;
+    private StatisticsDeltaBuffer statisticsDeltaBuffer;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.statisticsDeltaBuffer = new StatisticsDeltaBuffer(this.meterRegistry);
+    }
+
+    @Test
+    void drain_ShouldReturnAggregatedDeltas_AndResetCounters() {
+        this.statisticsDeltaBuffer.recordQuizStarted(5L);
+        this.statisticsDeltaBuffer.recordQuizStarted(5L);
+        this.statisticsDeltaBuffer.recordQuizCompleted(5L, 3, 4);
+        this.statisticsDeltaBuffer.recordQuestionAttempt(1L, "Question", 5L);
+        this.statisticsDeltaBuffer.recordQuestionAttempt(1L, "Question", 5L);
+        this.statisticsDeltaBuffer.recordQuestionAnswer(1L, "Question", 5L, true);
+
+        Assertions.assertEquals(6, this.meterRegistry.get("stats.write-behind.pending").gauge().value());
+
+        StatisticsDeltaBuffer.PendingDeltas pending = this.statisticsDeltaBuffer.drain();
+
+        Assertions.assertEquals(List.of(QuestionStatsDeltaDTO.builder()
+                .questionId(1L).questionText("Question").categoryId(5L)
+                .attempts(2).correctAnswers(1).wrongAnswers(0)
+                .build()), pending.questions());
+        Assertions.assertEquals(List.of(CategoryStatsDeltaDTO.builder()
+                .categoryId(5L).startedQuizzes(2).completedQuizzes(1).correctAnswers(3).totalQuestions(4)
+                .build()), pending.categories());
+
+        Assertions.assertTrue(this.statisticsDeltaBuffer.drain().isEmpty());
+        Assertions.assertEquals(0, this.statisticsDeltaBuffer.pendingDeltas());
+        Assertions.assertEquals(Duration.ZERO, this.statisticsDeltaBuffer.oldestPendingAge());
+    }
+
+    @Test
+    void restore_ShouldPutDeltasBackForTheNextDrain() {
+        this.statisticsDeltaBuffer.recordQuizStarted(5L);
+        StatisticsDeltaBuffer.PendingDeltas pending = this.statisticsDeltaBuffer.drain();
+
+        this.statisticsDeltaBuffer.restoreCategories(pending.categories());
+        this.statisticsDeltaBuffer.recordQuizStarted(5L);
+
+        Assertions.assertEquals(2, this.statisticsDeltaBuffer.drain().categories().get(0).getStartedQuizzes());
+    }
+
+    @Test
+    void record_ShouldNotLoseIncrements_WhenDrainedConcurrently() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        int recordsPerThread = 10_000;
+
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < recordsPerThread; i++) {
+                    this.statisticsDeltaBuffer.recordQuestionAttempt(1L, "Question", 5L);
+                }
+            });
+        }
+
+        long drained = 0;
+        while (!executor.isTerminated()) {
+            executor.shutdown();
+            drained += this.statisticsDeltaBuffer.drain().questions().stream()
+                    .mapToLong(QuestionStatsDeltaDTO::getAttempts)
+                    .sum();
+            executor.awaitTermination(1, TimeUnit.MILLISECONDS);
+        }
+        drained += this.statisticsDeltaBuffer.drain().questions().stream()
+                .mapToLong(QuestionStatsDeltaDTO::getAttempts)
+                .sum();
+
+        Assertions.assertEquals(4L * recordsPerThread, drained);
+    }
+}
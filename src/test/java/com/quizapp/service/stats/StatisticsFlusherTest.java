@@ -0,0 +1,130 @@
+package com.quizapp.service.stats;
+
+import com.quizapp.model.dto.category.CategoryStatsDeltaDTO;
+import com.quizapp.repository.CategoryStatisticsRepository;
+import com.quizapp.repository.QuestionStatisticsRepository;
+import com.quizapp.service.cache.CategoryNameResolver;
+import com.quizapp.service.search.QuestionTextSearch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatisticsFlusherTest {
+
+    @Mock
+    private QuestionStatisticsRepository mockQuestionStatsRepository;
+    @Mock
+    private CategoryStatisticsRepository mockCategoryStatsRepository;
+    @Mock
+    private CategoryNameResolver mockCategoryNameResolver;
+    @Mock
+    private QuestionTextSearch mockQuestionTextSearch;
+
+    private MeterRegistry meterRegistry;
+    private StatisticsDeltaBuffer statisticsDeltaBuffer;
+    private StatisticsFlusher statisticsFlusher;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.statisticsDeltaBuffer = new StatisticsDeltaBuffer(this.meterRegistry);
+        this.statisticsFlusher = new StatisticsFlusher(this.statisticsDeltaBuffer, this.mockQuestionStatsRepository,
+                this.mockCategoryStatsRepository, this.mockCategoryNameResolver, this.mockQuestionTextSearch, this.meterRegistry,
+                Duration.ofMinutes(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWritePendingDeltasInBatches() {
+        when(this.mockCategoryNameResolver.resolveNames(List.of(5L))).thenReturn(Map.of(5L, "Maths"));
+
+        this.statisticsDeltaBuffer.recordQuizStarted(5L);
+        this.statisticsDeltaBuffer.recordQuestionAttempt(1L, "Question", 5L);
+        this.statisticsDeltaBuffer.recordQuestionAttempt(2L, "Question2", 5L);
+
+        this.statisticsFlusher.flush();
+
+        ArgumentCaptor<List<CategoryStatsDeltaDTO>> categoryCaptor = ArgumentCaptor.forClass(List.class);
+        verify(this.mockQuestionStatsRepository, times(1)).upsertDeltas(argThat(deltas -> deltas.size() == 2));
+        verify(this.mockCategoryStatsRepository, times(1)).upsertDeltas(categoryCaptor.capture());
+        Assertions.assertEquals("Maths", categoryCaptor.getValue().get(0).getCategoryName());
+        Assertions.assertEquals(0, this.statisticsDeltaBuffer.pendingDeltas());
+        verify(this.mockQuestionTextSearch).index(1L, 5L, "Question");
+        verify(this.mockQuestionTextSearch).index(2L, 5L, "Question2");
+    }
+
+    @Test
+    void flush_ShouldDoNothing_WhenNothingIsPending() {
+        this.statisticsFlusher.flush();
+
+        verifyNoInteractions(this.mockQuestionStatsRepository, this.mockCategoryStatsRepository);
+    }
+
+    @Test
+    void flush_ShouldKeepDeltas_WhenWriteFails() {
+        doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .when(this.mockQuestionStatsRepository).upsertDeltas(anyList());
+
+        this.statisticsDeltaBuffer.recordQuestionAttempt(1L, "Question", 5L);
+
+        this.statisticsFlusher.flush();
+
+        Assertions.assertEquals(1, this.statisticsDeltaBuffer.pendingDeltas());
+        Assertions.assertEquals(1, this.meterRegistry.counter("stats.write-behind.flush.failures").count());
+    }
+
+    @Test
+    void flush_ShouldKeepCategoryDeltas_WhenCategoryNameCannotBeResolved() {
+        when(this.mockCategoryNameResolver.resolveNames(List.of(5L))).thenReturn(Map.of());
+
+        this.statisticsDeltaBuffer.recordQuizStarted(5L);
+
+        this.statisticsFlusher.flush();
+
+        verify(this.mockCategoryStatsRepository).upsertDeltas(List.of());
+        Assertions.assertEquals(1, this.statisticsDeltaBuffer.pendingDeltas());
+    }
+
+    @Test
+    void flush_ShouldDropCategoryDeltas_WhenNameStaysUnresolved() {
+        when(this.mockCategoryNameResolver.resolveNames(List.of(5L))).thenReturn(Map.of());
+
+        this.statisticsDeltaBuffer.recordQuizStarted(5L);
+
+        for (int i = 1; i < StatisticsFlusher.MAX_UNRESOLVED_FLUSHES; i++) {
+            this.statisticsFlusher.flush();
+            Assertions.assertEquals(1, this.statisticsDeltaBuffer.pendingDeltas());
+        }
+
+        this.statisticsFlusher.flush();
+
+        Assertions.assertEquals(0, this.statisticsDeltaBuffer.pendingDeltas());
+        Assertions.assertEquals(1, this.meterRegistry
+                .counter("stats.write-behind.dropped", "reason", "unknown-category").count());
+    }
+
+    @Test
+    void flushIfDue_ShouldWaitForMaxLag() {
+        this.statisticsDeltaBuffer.recordQuestionAttempt(1L, "Question", 5L);
+
+        this.statisticsFlusher.flushIfDue();
+
+        verifyNoInteractions(this.mockQuestionStatsRepository);
+        Assertions.assertEquals(1, this.statisticsDeltaBuffer.pendingDeltas());
+    }
+}
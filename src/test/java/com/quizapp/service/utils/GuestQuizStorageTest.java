@@ -1,28 +1,35 @@
 package com.quizapp.service.utils;
 
 import com.quizapp.model.dto.quiz.QuizDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
+import java.time.*;
 
-@ExtendWith(MockitoExtension.class)
 public class GuestQuizStorageTest {
 
-    @InjectMocks
+    private MutableClock clock;
+    private MeterRegistry meterRegistry;
     private GuestQuizStorage mockQuestQuizStorage;
 
     private QuizDTO quizDTO;
 
     @BeforeEach
     void setUp() {
-        this.quizDTO = QuizDTO.builder()
-                .viewToken("token123")
-                .expireAt(LocalDateTime.now().plusMinutes(30))
+        this.clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.mockQuestQuizStorage = new GuestQuizStorage(this.meterRegistry, Duration.ofMinutes(30), this.clock);
+
+        this.quizDTO = this.resultExpiringIn("token123", Duration.ofMinutes(30));
+    }
+
+    private QuizDTO resultExpiringIn(String viewToken, Duration ttl) {
+        return QuizDTO.builder()
+                .viewToken(viewToken)
+                .expireAt(LocalDateTime.now(this.clock).plus(ttl))
                 .build();
     }
 
@@ -54,17 +61,89 @@ public class GuestQuizStorageTest {
 
     @Test
     void deleteExpiredQuizzes_ShouldDeleteExpiredQuizzes() {
-        QuizDTO expiredQuiz = QuizDTO.builder()
-                .viewToken("expired")
-                .expireAt(LocalDateTime.now().minusMinutes(5))
-                .build();
-
         this.mockQuestQuizStorage.put("token123", quizDTO);
-        this.mockQuestQuizStorage.put("expired", expiredQuiz);
+        this.mockQuestQuizStorage.put("expired", this.resultExpiringIn("expired", Duration.ofMinutes(5)));
+        this.clock.advance(Duration.ofMinutes(6));
 
-        this.mockQuestQuizStorage.deleteExpiredQuizzes(LocalDateTime.now());
+        this.mockQuestQuizStorage.deleteExpiredQuizzes(LocalDateTime.now(this.clock));
 
+        Assertions.assertEquals(1, this.mockQuestQuizStorage.size());
         Assertions.assertNotNull(this.mockQuestQuizStorage.get("token123"));
         Assertions.assertNull(this.mockQuestQuizStorage.get("expired"));
     }
+
+    @Test
+    void get_ShouldRejectExpiredResult_BeforeItIsSwept() {
+        this.mockQuestQuizStorage.put("token123", this.quizDTO);
+
+        this.clock.advance(Duration.ofMinutes(31));
+
+        Assertions.assertNull(this.mockQuestQuizStorage.get("token123"));
+        Assertions.assertEquals(0, this.mockQuestQuizStorage.size());
+    }
+
+    @Test
+    void sweepExpired_ShouldReclaimOnlyResultsWhoseTimeHasCome_AndRecordMetrics() {
+        this.mockQuestQuizStorage.put("token123", this.quizDTO);
+        this.mockQuestQuizStorage.put("soon", this.resultExpiringIn("soon", Duration.ofSeconds(3)));
+        this.mockQuestQuizStorage.put("later", this.resultExpiringIn("later", Duration.ofSeconds(10)));
+
+        this.clock.advance(Duration.ofSeconds(5));
+        this.mockQuestQuizStorage.sweepExpired();
+
+        Assertions.assertEquals(2, this.mockQuestQuizStorage.size());
+        Assertions.assertNotNull(this.mockQuestQuizStorage.get("later"));
+        Assertions.assertEquals(1, this.meterRegistry.counter("guest.quizzes.evictions", "reason", "expired").count());
+        Assertions.assertEquals(1, this.meterRegistry.timer("guest.quizzes.sweep").count());
+    }
+
+    @Test
+    void put_ShouldReplaceExpiryOfPreviousResult() {
+        this.mockQuestQuizStorage.put("token123", this.resultExpiringIn("token123", Duration.ofSeconds(3)));
+        this.mockQuestQuizStorage.put("token123", this.quizDTO);
+
+        this.clock.advance(Duration.ofSeconds(5));
+        this.mockQuestQuizStorage.sweepExpired();
+
+        Assertions.assertNotNull(this.mockQuestQuizStorage.get("token123"));
+    }
+
+    @Test
+    void put_ShouldUseDefaultTtl_WhenResultHasNoExpiry() {
+        this.mockQuestQuizStorage.put("token123", QuizDTO.builder().viewToken("token123").build());
+
+        this.clock.advance(Duration.ofMinutes(29));
+        Assertions.assertNotNull(this.mockQuestQuizStorage.get("token123"));
+
+        this.clock.advance(Duration.ofMinutes(2));
+        Assertions.assertNull(this.mockQuestQuizStorage.get("token123"));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
 }
\ No newline at end of file
@@ -1,28 +1,52 @@
 package com.quizapp.service.utils;
 
+import com.quizapp.model.dto.question.QuestionDTO;
 import com.quizapp.model.entity.Quiz;
+import com.quizapp.service.session.CompactQuiz;
+import com.quizapp.service.session.QuestionInternPool;
+import com.quizapp.service.session.ViewTokenKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
+import java.time.*;
+import java.util.List;
+import java.util.Map;
 
-@ExtendWith(MockitoExtension.class)
 public class TempQuizStorageTest {
 
-    @InjectMocks
+    private MutableClock clock;
+    private MeterRegistry meterRegistry;
+    private QuestionInternPool questionInternPool;
     private TempQuizStorage mockTempQuizStorage;
 
     private Quiz quiz;
 
     @BeforeEach
     void setUp() {
-        this.quiz = Quiz.builder()
-                .viewToken("token123")
-                .expireAt(LocalDateTime.now().plusMinutes(30))
+        this.clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.questionInternPool = new QuestionInternPool(this.meterRegistry);
+        this.mockTempQuizStorage = new TempQuizStorage(this.meterRegistry, this.questionInternPool, 3,
+                Duration.ofMinutes(30), this.clock);
+
+        this.quiz = this.quizExpiringIn("token123", Duration.ofMinutes(30));
+    }
+
+    private Quiz quizExpiringIn(String viewToken, Duration ttl) {
+        return Quiz.builder()
+                .viewToken(viewToken)
+                .categoryName("Maths")
+                .questions(List.of(QuestionDTO.builder()
+                        .id(1L)
+                        .questionText("Question1")
+                        .categoryName("Maths")
+                        .correctAnswer("A")
+                        .options(List.of("A", "B"))
+                        .build()))
+                .expireAt(LocalDateTime.now(this.clock).plus(ttl))
                 .build();
     }
 
@@ -40,7 +64,30 @@ public class TempQuizStorageTest {
         Quiz result = this.mockTempQuizStorage.get("token123");
 
         Assertions.assertNotNull(result);
-        Assertions.assertEquals(this.quiz.getViewToken(), result.getViewToken());
+        Assertions.assertEquals(this.quiz, result);
+    }
+
+    @Test
+    void put_ShouldShareQuestionsBetweenQuizzes_AndKeepEachQuizOptionOrder() {
+        String viewToken = "3f1c2d9e-5b7a-4c1e-9d2f-0a1b2c3d4e5f";
+        Quiz shuffled = this.quizExpiringIn(viewToken, Duration.ofMinutes(30));
+        shuffled.getQuestions().get(0).setOptions(List.of("B", "A"));
+
+        this.mockTempQuizStorage.put("token123", this.quiz);
+        this.mockTempQuizStorage.put(viewToken, shuffled);
+
+        Assertions.assertEquals(List.of("A", "B"), this.mockTempQuizStorage.get("token123").getQuestions().get(0).getOptions());
+        Assertions.assertEquals(shuffled, this.mockTempQuizStorage.get(viewToken));
+        Assertions.assertEquals(1, this.questionInternPool.size());
+    }
+
+    @Test
+    void answerKey_ShouldScoreHeldQuiz_AndReturnNullForMissingQuiz() {
+        this.mockTempQuizStorage.put("token123", this.quiz);
+
+        Assertions.assertEquals(1, this.mockTempQuizStorage.answerKey("token123")
+                .evaluate(Map.of(1L, "A")).getCorrectAnswers());
+        Assertions.assertNull(this.mockTempQuizStorage.answerKey("missing"));
     }
 
     @Test
@@ -50,5 +97,105 @@ public class TempQuizStorageTest {
         this.mockTempQuizStorage.remove("token123");
 
         Assertions.assertNull(this.mockTempQuizStorage.get("token123"));
+        Assertions.assertEquals(0, this.mockTempQuizStorage.getEstimatedBytes());
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenQuizExpired() {
+        this.mockTempQuizStorage.put("token123", this.quiz);
+
+        this.clock.advance(Duration.ofMinutes(31));
+
+        Assertions.assertNull(this.mockTempQuizStorage.get("token123"));
+        Assertions.assertEquals(0, this.mockTempQuizStorage.size());
+    }
+
+    @Test
+    void sweepExpired_ShouldRemoveOnlyExpiredQuizzes() {
+        this.mockTempQuizStorage.put("short", this.quizExpiringIn("short", Duration.ofMinutes(5)));
+        this.mockTempQuizStorage.put("long", this.quizExpiringIn("long", Duration.ofMinutes(30)));
+
+        this.clock.advance(Duration.ofMinutes(6));
+        this.mockTempQuizStorage.sweepExpired();
+
+        Assertions.assertEquals(1, this.mockTempQuizStorage.size());
+        Assertions.assertNotNull(this.mockTempQuizStorage.get("long"));
+        Assertions.assertEquals(1, this.meterRegistry.counter("temp.quizzes.evictions", "reason", "expired").count());
+    }
+
+    @Test
+    void deleteExpiredQuizzes_ShouldNotSweepAheadOfClock() {
+        this.mockTempQuizStorage.put("short", this.quizExpiringIn("short", Duration.ofMinutes(5)));
+
+        this.mockTempQuizStorage.deleteExpiredQuizzes(LocalDateTime.now(this.clock).plusMinutes(10));
+        Assertions.assertEquals(1, this.mockTempQuizStorage.size());
+
+        this.clock.advance(Duration.ofMinutes(6));
+        this.mockTempQuizStorage.deleteExpiredQuizzes(LocalDateTime.now(this.clock));
+        Assertions.assertEquals(0, this.mockTempQuizStorage.size());
+    }
+
+    @Test
+    void sweepExpired_ShouldRemoveQuizzesExpiringAfterAFullWheelTurn() {
+        this.mockTempQuizStorage.put("long", this.quizExpiringIn("long", Duration.ofHours(3)));
+
+        this.clock.advance(Duration.ofMinutes(90));
+        this.mockTempQuizStorage.sweepExpired();
+        Assertions.assertEquals(1, this.mockTempQuizStorage.size());
+
+        this.clock.advance(Duration.ofMinutes(91));
+        this.mockTempQuizStorage.sweepExpired();
+        Assertions.assertEquals(0, this.mockTempQuizStorage.size());
+    }
+
+    @Test
+    void put_ShouldEvictQuizClosestToExpiry_WhenMaxEntriesReached() {
+        this.mockTempQuizStorage.put("first", this.quizExpiringIn("first", Duration.ofMinutes(10)));
+        this.mockTempQuizStorage.put("second", this.quizExpiringIn("second", Duration.ofMinutes(20)));
+        this.mockTempQuizStorage.put("third", this.quizExpiringIn("third", Duration.ofMinutes(30)));
+        this.mockTempQuizStorage.put("fourth", this.quizExpiringIn("fourth", Duration.ofMinutes(30)));
+
+        Assertions.assertEquals(3, this.mockTempQuizStorage.size());
+        Assertions.assertNull(this.mockTempQuizStorage.get("first"));
+        Assertions.assertNotNull(this.mockTempQuizStorage.get("fourth"));
+        Assertions.assertEquals(1, this.meterRegistry.counter("temp.quizzes.evictions", "reason", "capacity").count());
+    }
+
+    @Test
+    void put_ShouldTrackLiveEntriesAndEstimatedBytes() {
+        this.mockTempQuizStorage.put("token123", this.quiz);
+
+        Assertions.assertEquals(1, this.meterRegistry.get("temp.quizzes.live").gauge().value());
+        Assertions.assertEquals(
+                CompactQuiz.of(ViewTokenKey.of("token123"), this.quiz, this.questionInternPool).estimatedBytes(),
+                this.meterRegistry.get("temp.quizzes.estimated.bytes").gauge().value());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package com.quizapp.validation;
+
+import com.quizapp.config.PasswordPolicyConfig;
+import jakarta.validation.ConstraintValidatorContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PasswordConstraintValidatorTest {
+
+    @Mock
+    private ConstraintValidatorContext mockContext;
+    @Mock
+    private ConstraintValidatorContext.ConstraintViolationBuilder mockViolationBuilder;
+
+    private PasswordConstraintValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        this.validator = new PasswordConstraintValidator(PasswordPolicy.defaults());
+    }
+
+    @Test
+    void isValid_ShouldReturnTrue_WhenPasswordMatchesPolicy() {
+        Assertions.assertTrue(this.validator.isValid("Password123", this.mockContext));
+
+        verifyNoInteractions(this.mockContext);
+    }
+
+    @Test
+    void isValid_ShouldReturnFalse_WhenPasswordIsNull() {
+        Assertions.assertFalse(this.validator.isValid(null, this.mockContext));
+    }
+
+    @Test
+    void isValid_ShouldReportEachViolatedRule() {
+        when(this.mockContext.buildConstraintViolationWithTemplate(anyString())).thenReturn(this.mockViolationBuilder);
+
+        boolean valid = this.validator.isValid("pass word", this.mockContext);
+
+        Assertions.assertFalse(valid);
+        verify(this.mockContext).disableDefaultConstraintViolation();
+        verify(this.mockContext).buildConstraintViolationWithTemplate("Паролата трябва да съдържа поне 1 главна буква.");
+        verify(this.mockContext).buildConstraintViolationWithTemplate("Паролата трябва да съдържа поне 1 цифра.");
+        verify(this.mockContext).buildConstraintViolationWithTemplate("Паролата не трябва да съдържа интервали.");
+        verify(this.mockViolationBuilder, times(3)).addConstraintViolation();
+    }
+
+    @Test
+    void validate_ShouldApplyConfiguredRules() {
+        PasswordPolicyConfig config = new PasswordPolicyConfig();
+        config.setMinLength(12);
+        config.setMinSpecial(1);
+
+        List<String> violations = new PasswordPolicy(config).validate("Password123");
+
+        Assertions.assertEquals(List.of(
+                "Паролата трябва да съдържа поне 12 символа.",
+                "Паролата трябва да съдържа поне 1 специален символ."), violations);
+    }
+
+    @Test
+    void validate_ShouldFallBackToDefaultMessages_WhenMessagesResourceMissing() {
+        PasswordPolicyConfig config = new PasswordPolicyConfig();
+        config.setMessages("missing.properties");
+
+        List<String> violations = new PasswordPolicy(config).validate("Pass1");
+
+        Assertions.assertEquals(List.of("Password must be 8 or more characters in length."), violations);
+    }
+}
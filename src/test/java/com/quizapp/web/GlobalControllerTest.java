@@ -2,8 +2,7 @@ package com.quizapp.web;
 
 import com.quizapp.config.SecurityConfig;
 import com.quizapp.model.dto.category.CategoryDTO;
-import com.quizapp.model.dto.category.CategoryPageDTO;
-import com.quizapp.service.interfaces.CategoryService;
+import com.quizapp.service.cache.CategoryCatalogCache;
 import com.quizapp.service.interfaces.ContactsService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,7 +30,7 @@ public class GlobalControllerTest {
     private MockMvc mockMvc;
 
     @MockitoBean
-    private CategoryService categoryService;
+    private CategoryCatalogCache categoryCatalogCache;
 
     @MockitoBean
     private ContactsService contactsService;
@@ -42,10 +41,7 @@ public class GlobalControllerTest {
         CategoryDTO cat1 = CategoryDTO.builder().id(1L).name("Maths").description("Description").build();
         CategoryDTO cat2 = CategoryDTO.builder().id(2L).name("Music").description("Description").build();
 
-        CategoryPageDTO<CategoryDTO> page = new CategoryPageDTO<>(List.of(cat1, cat2));
-
-        when(this.categoryService.getAllCategories(anyString(), anyInt(), anyInt()))
-                .thenReturn(page);
+        when(this.categoryCatalogCache.getCategories()).thenReturn(List.of(cat1, cat2));
 
         this.mockMvc.perform(get("/contacts"))
                 .andExpect(status().isOk())
@@ -56,16 +52,13 @@ public class GlobalControllerTest {
                 .andExpect(model().attributeExists("categoriesSortFields"))
                 .andExpect(model().attribute("categories", List.of(cat1, cat2)));
 
-        verify(this.categoryService, times(1)).getAllCategories("", 0, 100);
+        verify(this.categoryCatalogCache, times(1)).getCategories();
     }
 
     @WithAnonymousUser
     @Test
     void getCategoriesForSelectElement_ShouldReturnEmptyPage_WhenCategoriesNotFound() throws Exception {
-        CategoryPageDTO<CategoryDTO> page = new CategoryPageDTO<>(Collections.emptyList());
-
-        when(this.categoryService.getAllCategories(anyString(), anyInt(), anyInt()))
-                .thenReturn(page);
+        when(this.categoryCatalogCache.getCategories()).thenReturn(Collections.emptyList());
 
         this.mockMvc.perform(get("/contacts"))
                 .andExpect(status().isOk())
@@ -76,6 +69,6 @@ public class GlobalControllerTest {
                 .andExpect(model().attributeExists("categoriesSortFields"))
                 .andExpect(model().attribute("categories", Collections.emptyList()));
 
-        verify(this.categoryService, times(1)).getAllCategories("", 0, 100);
+        verify(this.categoryCatalogCache, times(1)).getCategories();
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.quizapp.web;
 
 import com.quizapp.config.SecurityConfig;
 import com.quizapp.exception.CategoryStatisticsNotFound;
+import com.quizapp.model.dto.KeysetPageDTO;
 import com.quizapp.model.dto.category.CategoryStatsDTO;
 import com.quizapp.model.dto.question.QuestionStatsDTO;
 import com.quizapp.model.dto.user.UserStatisticsDTO;
@@ -16,7 +17,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.*;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -89,18 +89,23 @@ public class StatisticsControllerTest {
                 .build();
     }
 
+    private <T> KeysetPageDTO<T> keysetPage(List<T> content) {
+        return KeysetPageDTO.<T>builder()
+                .content(content)
+                .size(10)
+                .totalElements(content.size())
+                .build();
+    }
+
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     @Test
     void showCategoriesStats_ShouldReturnPageCategoryStatsFiltered_WhenDataFound() throws Exception {
-        Page<CategoryStatsDTO> page = new PageImpl<>(List.of(this.categoryStatsDTO));
+        KeysetPageDTO<CategoryStatsDTO> page = this.keysetPage(List.of(this.categoryStatsDTO));
 
-        Sort sort = Sort.by(CategorySortField.TOTAL_STARTED_QUIZZES.getFieldName()).descending();
-        Pageable pageable = PageRequest.of(0, 10, sort);
-        when(this.categoryStatsService.getAllCategoriesFiltered(anyLong(), eq(pageable)))
+        when(this.categoryStatsService.getCategoryStatisticsPage(anyLong(), eq(CategorySortField.TOTAL_STARTED_QUIZZES), isNull(), eq(10)))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/statistics/categories")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("categoryId", "1")
                         .param("sortBy", "TOTAL_STARTED_QUIZZES"))
@@ -110,25 +115,23 @@ public class StatisticsControllerTest {
                 .andExpect(model().attribute("currentPage", 0))
                 .andExpect(model().attribute("totalPages", 1))
                 .andExpect(model().attribute("totalElements", 1L))
-                .andExpect(model().attribute("size", 1))
+                .andExpect(model().attribute("size", 10))
                 .andExpect(model().attribute("categoryId", 1L))
                 .andExpect(model().attribute("sortBy", CategorySortField.TOTAL_STARTED_QUIZZES));
 
         verify(this.categoryStatsService, times(1))
-                .getAllCategoriesFiltered(anyLong(), eq(pageable));
+                .getCategoryStatisticsPage(anyLong(), eq(CategorySortField.TOTAL_STARTED_QUIZZES), isNull(), eq(10));
     }
 
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     @Test
     void showCategoriesStats_ShouldReturnPageCategoryStatsNotFiltered_WhenNoSortBy() throws Exception {
-        Page<CategoryStatsDTO> page = new PageImpl<>(List.of(this.categoryStatsDTO));
+        KeysetPageDTO<CategoryStatsDTO> page = this.keysetPage(List.of(this.categoryStatsDTO));
 
-        Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
-        when(this.categoryStatsService.getAllCategoriesFiltered(anyLong(), eq(pageable)))
+        when(this.categoryStatsService.getCategoryStatisticsPage(anyLong(), isNull(), isNull(), eq(10)))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/statistics/categories")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("categoryId", "1")
                         .param("sortBy", ""))
@@ -138,25 +141,23 @@ public class StatisticsControllerTest {
                 .andExpect(model().attribute("currentPage", 0))
                 .andExpect(model().attribute("totalPages", 1))
                 .andExpect(model().attribute("totalElements", 1L))
-                .andExpect(model().attribute("size", 1))
+                .andExpect(model().attribute("size", 10))
                 .andExpect(model().attribute("categoryId", 1L))
                 .andExpect(model().attribute("sortBy", nullValue()));
 
         verify(this.categoryStatsService, times(1))
-                .getAllCategoriesFiltered(anyLong(), eq(pageable));
+                .getCategoryStatisticsPage(anyLong(), isNull(), isNull(), eq(10));
     }
 
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     @Test
     void showCategoriesStats_ShouldReturnEmptyPage_WhenCategoriesNotFound() throws Exception {
-        Page<CategoryStatsDTO> page = new PageImpl<>(Collections.emptyList());
+        KeysetPageDTO<CategoryStatsDTO> page = this.keysetPage(Collections.emptyList());
 
-        Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
-        when(this.categoryStatsService.getAllCategoriesFiltered(anyLong(), eq(pageable)))
+        when(this.categoryStatsService.getCategoryStatisticsPage(anyLong(), isNull(), isNull(), eq(10)))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/statistics/categories")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("categoryId", "1")
                         .param("sortBy", ""))
@@ -164,57 +165,80 @@ public class StatisticsControllerTest {
                 .andExpect(view().name("categories-statistics"))
                 .andExpect(model().attribute("categoriesStats", Collections.emptyList()))
                 .andExpect(model().attribute("currentPage", 0))
-                .andExpect(model().attribute("totalPages", 1))
+                .andExpect(model().attribute("totalPages", 0))
                 .andExpect(model().attribute("totalElements", 0L))
-                .andExpect(model().attribute("size", 0))
+                .andExpect(model().attribute("size", 10))
                 .andExpect(model().attribute("categoryId", 1L))
                 .andExpect(model().attribute("sortBy", nullValue()))
                 .andExpect(model().attributeExists("warning"))
                 .andExpect(model().attribute("warning", "Няма намерени статистики за категории."));
 
         verify(this.categoryStatsService, times(1))
-                .getAllCategoriesFiltered(anyLong(), eq(pageable));
+                .getCategoryStatisticsPage(anyLong(), isNull(), isNull(), eq(10));
+    }
+
+    @WithMockUser(authorities = {"ROLE_ADMIN"})
+    @Test
+    void showCategoriesStats_ShouldPassCursor_AndExposeContinuationLinks() throws Exception {
+        KeysetPageDTO<CategoryStatsDTO> page = KeysetPageDTO.<CategoryStatsDTO>builder()
+                .content(List.of(this.categoryStatsDTO))
+                .currentPage(1)
+                .size(10)
+                .totalElements(25)
+                .hasPrevious(true)
+                .hasNext(true)
+                .nextCursor("next")
+                .build();
+
+        when(this.categoryStatsService.getCategoryStatisticsPage(isNull(), isNull(), eq("current"), eq(10)))
+                .thenReturn(page);
+
+        this.mockMvc.perform(get("/statistics/categories")
+                        .param("cursor", "current")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("currentPage", 1))
+                .andExpect(model().attribute("totalPages", 3))
+                .andExpect(model().attribute("hasPrevious", true))
+                .andExpect(model().attribute("previousCursor", nullValue()))
+                .andExpect(model().attribute("hasNext", true))
+                .andExpect(model().attribute("nextCursor", "next"));
     }
 
     @WithMockUser(authorities = {"ROLE_USER"})
     @Test
     void showCategoriesStats_ShouldReturnError_WhenUser() throws Exception {
         this.mockMvc.perform(get("/statistics/categories")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("categoryId", "1")
                         .param("sortBy", "TOTAL_STARTED_QUIZZES"))
                 .andExpect(status().isForbidden());
 
-        verify(this.categoryStatsService, never()).getAllCategoriesFiltered(anyLong(), any(Pageable.class));
+        verify(this.categoryStatsService, never()).getCategoryStatisticsPage(anyLong(), any(), any(), anyInt());
     }
 
     @WithAnonymousUser
     @Test
     void showCategoriesStats_ShouldRedirectToLoginError_WhenAnonymous() throws Exception {
         this.mockMvc.perform(get("/statistics/categories")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("categoryId", "1")
                         .param("sortBy", "TOTAL_STARTED_QUIZZES"))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrlPattern("**/users/login"));
 
-        verify(this.categoryStatsService, never()).getAllCategoriesFiltered(anyLong(), any(Pageable.class));
+        verify(this.categoryStatsService, never()).getCategoryStatisticsPage(anyLong(), any(), any(), anyInt());
     }
 
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     @Test
     void showQuestionsStats_ShouldReturnPageQuestionsStatsFiltered_WhenDataFound() throws Exception {
-        Page<QuestionStatsDTO> page = new PageImpl<>(List.of(this.questionStatsDTO));
+        KeysetPageDTO<QuestionStatsDTO> page = this.keysetPage(List.of(this.questionStatsDTO));
 
-        Sort sort = Sort.by(QuestionSortField.COMPLETION_RATE.getFieldName()).descending();
-        Pageable pageable = PageRequest.of(0, 10, sort);
-        when(this.questionStatsService.getFilteredQuestionStatistics(anyLong(), anyString(), eq(pageable)))
+        when(this.questionStatsService.getQuestionStatisticsPage(anyLong(), anyString(), eq(QuestionSortField.COMPLETION_RATE), isNull(), eq(10)))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/statistics/questions")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("categoryId", "1")
                         .param("sortBy", "COMPLETION_RATE")
@@ -225,26 +249,24 @@ public class StatisticsControllerTest {
                 .andExpect(model().attribute("currentPage", 0))
                 .andExpect(model().attribute("totalPages", 1))
                 .andExpect(model().attribute("totalElements", 1L))
-                .andExpect(model().attribute("size", 1))
+                .andExpect(model().attribute("size", 10))
                 .andExpect(model().attribute("categoryId", 1L))
                 .andExpect(model().attribute("sortBy", QuestionSortField.COMPLETION_RATE))
                 .andExpect(model().attribute("questionText", "Question"));
 
         verify(this.questionStatsService, times(1))
-                .getFilteredQuestionStatistics(anyLong(), anyString(), eq(pageable));
+                .getQuestionStatisticsPage(anyLong(), anyString(), eq(QuestionSortField.COMPLETION_RATE), isNull(), eq(10));
     }
 
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     @Test
     void showQuestionsStats_ShouldReturnPageQuestionStatsNotFiltered_WhenNoSortBy() throws Exception {
-        Page<QuestionStatsDTO> page = new PageImpl<>(List.of(this.questionStatsDTO));
+        KeysetPageDTO<QuestionStatsDTO> page = this.keysetPage(List.of(this.questionStatsDTO));
 
-        Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
-        when(this.questionStatsService.getFilteredQuestionStatistics(anyLong(), anyString(), eq(pageable)))
+        when(this.questionStatsService.getQuestionStatisticsPage(anyLong(), anyString(), isNull(), isNull(), eq(10)))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/statistics/questions")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("categoryId", "1")
                         .param("sortBy", "")
@@ -255,26 +277,24 @@ public class StatisticsControllerTest {
                 .andExpect(model().attribute("currentPage", 0))
                 .andExpect(model().attribute("totalPages", 1))
                 .andExpect(model().attribute("totalElements", 1L))
-                .andExpect(model().attribute("size", 1))
+                .andExpect(model().attribute("size", 10))
                 .andExpect(model().attribute("categoryId", 1L))
                 .andExpect(model().attribute("sortBy", nullValue()))
                 .andExpect(model().attribute("questionText", ""));
 
         verify(this.questionStatsService, times(1))
-                .getFilteredQuestionStatistics(anyLong(), anyString(), eq(pageable));
+                .getQuestionStatisticsPage(anyLong(), anyString(), isNull(), isNull(), eq(10));
     }
 
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     @Test
     void showQuestionsStats_ShouldReturnEmptyPage_WhenQuestionsNotFound() throws Exception {
-        Page<QuestionStatsDTO> page = new PageImpl<>(Collections.emptyList());
+        KeysetPageDTO<QuestionStatsDTO> page = this.keysetPage(Collections.emptyList());
 
-        Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
-        when(this.questionStatsService.getFilteredQuestionStatistics(anyLong(), anyString(), eq(pageable)))
+        when(this.questionStatsService.getQuestionStatisticsPage(anyLong(), anyString(), isNull(), isNull(), eq(10)))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/statistics/questions")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("categoryId", "1")
                         .param("sortBy", "")
@@ -283,9 +303,9 @@ public class StatisticsControllerTest {
                 .andExpect(view().name("questions-statistics"))
                 .andExpect(model().attribute("questionStats", Collections.emptyList()))
                 .andExpect(model().attribute("currentPage", 0))
-                .andExpect(model().attribute("totalPages", 1))
+                .andExpect(model().attribute("totalPages", 0))
                 .andExpect(model().attribute("totalElements", 0L))
-                .andExpect(model().attribute("size", 0))
+                .andExpect(model().attribute("size", 10))
                 .andExpect(model().attribute("categoryId", 1L))
                 .andExpect(model().attribute("sortBy", nullValue()))
                 .andExpect(model().attribute("questionText", ""))
@@ -293,14 +313,13 @@ public class StatisticsControllerTest {
                 .andExpect(model().attribute("warning", "Няма намерени статистики за въпроси."));
 
         verify(this.questionStatsService, times(1))
-                .getFilteredQuestionStatistics(anyLong(), anyString(), eq(pageable));
+                .getQuestionStatisticsPage(anyLong(), anyString(), isNull(), isNull(), eq(10));
     }
 
     @WithMockUser(authorities = {"ROLE_USER"})
     @Test
     void showQuestionsStats_ShouldReturnError_WhenUser() throws Exception {
         this.mockMvc.perform(get("/statistics/questions")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("categoryId", "1")
                         .param("sortBy", "COMPLETION_RATE")
@@ -308,14 +327,13 @@ public class StatisticsControllerTest {
                 .andExpect(status().isForbidden());
 
         verify(this.questionStatsService, never())
-                .getFilteredQuestionStatistics(anyLong(), anyString(), any(Pageable.class));
+                .getQuestionStatisticsPage(anyLong(), anyString(), any(), any(), anyInt());
     }
 
     @WithAnonymousUser
     @Test
     void showQuestionsStats_ShouldRedirectToLoginError_WhenAnonymous() throws Exception {
         this.mockMvc.perform(get("/statistics/questions")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("categoryId", "1")
                         .param("sortBy", "COMPLETION_RATE")
@@ -324,21 +342,18 @@ public class StatisticsControllerTest {
                 .andExpect(redirectedUrlPattern("**/users/login"));
 
         verify(this.questionStatsService, never())
-                .getFilteredQuestionStatistics(anyLong(), anyString(), any(Pageable.class));
+                .getQuestionStatisticsPage(anyLong(), anyString(), any(), any(), anyInt());
     }
 
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     @Test
     void showUserStats_ShouldReturnPageUserStatsFiltered_WhenDataFound() throws Exception {
-        Page<UserStatisticsDTO> page = new PageImpl<>(List.of(this.userStatisticsDTO));
+        KeysetPageDTO<UserStatisticsDTO> page = this.keysetPage(List.of(this.userStatisticsDTO));
 
-        Sort sort = Sort.by(UserSortField.TOTAL_CORRECT_ANSWERS.getFieldName()).descending();
-        Pageable pageable = PageRequest.of(0, 10, sort);
-        when(this.userStatsService.getUserStatisticsFiltered(anyString(), any(UserSortField.class), eq(pageable)))
+        when(this.userStatsService.getUserStatisticsPage(anyString(), eq(UserSortField.TOTAL_CORRECT_ANSWERS), isNull(), eq(10)))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/statistics/users")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("username", "username")
                         .param("sortBy", "TOTAL_CORRECT_ANSWERS"))
@@ -348,24 +363,24 @@ public class StatisticsControllerTest {
                 .andExpect(model().attribute("currentPage", 0))
                 .andExpect(model().attribute("totalPages", 1))
                 .andExpect(model().attribute("totalElements", 1L))
-                .andExpect(model().attribute("size", 1))
+                .andExpect(model().attribute("size", 10))
                 .andExpect(model().attribute("username", "username"))
                 .andExpect(model().attribute("sortBy", UserSortField.TOTAL_CORRECT_ANSWERS));
 
         verify(this.userStatsService, times(1))
-                .getUserStatisticsFiltered(anyString(), any(UserSortField.class), eq(pageable));
+                .getUserStatisticsPage(anyString(), eq(UserSortField.TOTAL_CORRECT_ANSWERS), isNull(), eq(10));
     }
 
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     @Test
     void showUserStats_ShouldReturnPageUserStatsFiltered_WhenSortingByLastSolvedAt() throws Exception {
-        Page<UserStatisticsDTO> page = new PageImpl<>(List.of(this.userStatisticsDTO));
+        KeysetPageDTO<UserStatisticsDTO> page = this.keysetPage(List.of(this.userStatisticsDTO));
 
-        when(this.userStatsService.getUserStatisticsFiltered(anyString(), any(UserSortField.class), any(Pageable.class)))
+
+        when(this.userStatsService.getUserStatisticsPage(anyString(), eq(UserSortField.LAST_SOLVED_AT), isNull(), eq(10)))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/statistics/users")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("username", "username")
                         .param("sortBy", "LAST_SOLVED_AT"))
@@ -375,25 +390,23 @@ public class StatisticsControllerTest {
                 .andExpect(model().attribute("currentPage", 0))
                 .andExpect(model().attribute("totalPages", 1))
                 .andExpect(model().attribute("totalElements", 1L))
-                .andExpect(model().attribute("size", 1))
+                .andExpect(model().attribute("size", 10))
                 .andExpect(model().attribute("username", "username"))
                 .andExpect(model().attribute("sortBy", UserSortField.LAST_SOLVED_AT));
 
         verify(this.userStatsService, times(1))
-                .getUserStatisticsFiltered(anyString(), any(UserSortField.class), any(Pageable.class));
+                .getUserStatisticsPage(anyString(), eq(UserSortField.LAST_SOLVED_AT), isNull(), eq(10));
     }
 
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     @Test
     void showUserStats_ShouldReturnPageUserStatsNotFiltered_WhenNoSortBy() throws Exception {
-        Page<UserStatisticsDTO> page = new PageImpl<>(List.of(this.userStatisticsDTO));
+        KeysetPageDTO<UserStatisticsDTO> page = this.keysetPage(List.of(this.userStatisticsDTO));
 
-        Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
-        when(this.userStatsService.getUserStatisticsFiltered(anyString(), eq(null), eq(pageable)))
+        when(this.userStatsService.getUserStatisticsPage(anyString(), isNull(), isNull(), eq(10)))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/statistics/users")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("username", "")
                         .param("sortBy", ""))
@@ -403,25 +416,23 @@ public class StatisticsControllerTest {
                 .andExpect(model().attribute("currentPage", 0))
                 .andExpect(model().attribute("totalPages", 1))
                 .andExpect(model().attribute("totalElements", 1L))
-                .andExpect(model().attribute("size", 1))
+                .andExpect(model().attribute("size", 10))
                 .andExpect(model().attribute("username", ""))
                 .andExpect(model().attribute("sortBy", nullValue()));
 
         verify(this.userStatsService, times(1))
-                .getUserStatisticsFiltered(anyString(), eq(null), eq(pageable));
+                .getUserStatisticsPage(anyString(), isNull(), isNull(), eq(10));
     }
 
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     @Test
     void showUserStats_ShouldReturnEmptyPage_WhenUsersNotFound() throws Exception {
-        Page<UserStatisticsDTO> page = new PageImpl<>(Collections.emptyList());
+        KeysetPageDTO<UserStatisticsDTO> page = this.keysetPage(Collections.emptyList());
 
-        Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
-        when(this.userStatsService.getUserStatisticsFiltered(anyString(), eq(null), eq(pageable)))
+        when(this.userStatsService.getUserStatisticsPage(anyString(), isNull(), isNull(), eq(10)))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/statistics/users")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("username", "")
                         .param("sortBy", ""))
@@ -429,37 +440,35 @@ public class StatisticsControllerTest {
                 .andExpect(view().name("users-statistics"))
                 .andExpect(model().attribute("userStats", Collections.emptyList()))
                 .andExpect(model().attribute("currentPage", 0))
-                .andExpect(model().attribute("totalPages", 1))
+                .andExpect(model().attribute("totalPages", 0))
                 .andExpect(model().attribute("totalElements", 0L))
-                .andExpect(model().attribute("size", 0))
+                .andExpect(model().attribute("size", 10))
                 .andExpect(model().attribute("username", ""))
                 .andExpect(model().attribute("sortBy", nullValue()))
                 .andExpect(model().attributeExists("warning"))
                 .andExpect(model().attribute("warning", "Няма намерени статистики за потребители."));
 
         verify(this.userStatsService, times(1))
-                .getUserStatisticsFiltered(anyString(), eq(null), eq(pageable));
+                .getUserStatisticsPage(anyString(), isNull(), isNull(), eq(10));
     }
 
     @WithMockUser(authorities = {"ROLE_USER"})
     @Test
     void showUsersStats_ShouldReturnError_WhenUser() throws Exception {
         this.mockMvc.perform(get("/statistics/users")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("username", "")
                         .param("sortBy", ""))
                 .andExpect(status().isForbidden());
 
         verify(this.userStatsService, never())
-                .getUserStatisticsFiltered(anyString(), any(UserSortField.class), any(Pageable.class));
+                .getUserStatisticsPage(anyString(), any(), any(), anyInt());
     }
 
     @WithAnonymousUser
     @Test
     void showUsersStats_ShouldRedirectToLoginError_WhenAnonymous() throws Exception {
         this.mockMvc.perform(get("/statistics/users")
-                        .param("page", "0")
                         .param("size", "10")
                         .param("username", "")
                         .param("sortBy", ""))
@@ -467,6 +476,6 @@ public class StatisticsControllerTest {
                 .andExpect(redirectedUrlPattern("**/users/login"));
 
         verify(this.userStatsService, never())
-                .getUserStatisticsFiltered(anyString(), any(UserSortField.class), any(Pageable.class));
+                .getUserStatisticsPage(anyString(), any(), any(), anyInt());
     }
 }
\ No newline at end of file
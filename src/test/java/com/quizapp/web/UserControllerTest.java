@@ -1,6 +1,7 @@
 package com.quizapp.web;
 
 import com.quizapp.config.SecurityConfig;
+import com.quizapp.model.dto.KeysetPageDTO;
 import com.quizapp.model.dto.quiz.QuizDTO;
 import com.quizapp.model.dto.user.UpdatePasswordDTO;
 import com.quizapp.model.dto.user.UserDTO;
@@ -14,8 +15,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -161,12 +160,11 @@ public class UserControllerTest {
 
     @Test
     void viewUserQuizzes_ShouldReturnEmptyPage_WhenQuizzesNotFound() throws Exception {
-        when(this.userQuizService.getSolvedQuizzesByUsername(anyString(), anyInt(), anyInt()))
-                .thenReturn(Page.empty());
+        when(this.userQuizService.getSolvedQuizzesPage(anyString(), any(), anyInt()))
+                .thenReturn(KeysetPageDTO.<QuizDTO>builder().content(List.of()).size(5).build());
 
         this.mockMvc.perform(get("/users/quizzes")
                         .with(user(this.loggedUser))
-                        .param("page", "0")
                         .param("size", "5"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("quizzes"))
@@ -174,56 +172,61 @@ public class UserControllerTest {
                 .andExpect(model().attribute("warning", "Все още нямате решени куизове."));
 
         verify(this.userQuizService, times(1))
-                .getSolvedQuizzesByUsername(anyString(), anyInt(), anyInt());
+                .getSolvedQuizzesPage(anyString(), any(), anyInt());
     }
 
     @Test
     void viewUserQuizzes_ShouldReturnQuizzesPage_WhenQuizzesFound() throws Exception {
         QuizDTO quizDTO = QuizDTO.builder().id(1L).categoryId(5L).build();
-        Page<QuizDTO> page = new PageImpl<>(List.of(quizDTO));
+        KeysetPageDTO<QuizDTO> page = KeysetPageDTO.<QuizDTO>builder()
+                .content(List.of(quizDTO))
+                .currentPage(1)
+                .size(5)
+                .totalElements(6)
+                .hasPrevious(true)
+                .build();
 
-        when(this.userQuizService.getSolvedQuizzesByUsername(anyString(), anyInt(), anyInt()))
+        when(this.userQuizService.getSolvedQuizzesPage(anyString(), any(), anyInt()))
                 .thenReturn(page);
 
         this.mockMvc.perform(get("/users/quizzes")
                         .with(user(this.loggedUser))
-                        .param("page", "0")
                         .param("size", "5"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("quizzes"))
                 .andExpect(model().attributeDoesNotExist("warning"))
                 .andExpect(model().attributeExists("quizzes"))
                 .andExpect(model().attribute("quizzes", page.getContent()))
-                .andExpect(model().attribute("currentPage", 0))
-                .andExpect(model().attribute("totalPages", 1));
+                .andExpect(model().attribute("currentPage", 1))
+                .andExpect(model().attribute("totalPages", 2))
+                .andExpect(model().attribute("hasPrevious", true))
+                .andExpect(model().attribute("hasNext", false));
 
         verify(this.userQuizService, times(1))
-                .getSolvedQuizzesByUsername(anyString(), anyInt(), anyInt());
+                .getSolvedQuizzesPage(anyString(), any(), anyInt());
     }
 
     @Test
     void viewUserQuizzes_ShouldReturnError_WhenAdmin() throws Exception {
         this.mockMvc.perform(get("/users/quizzes")
                         .with(user(this.admin))
-                        .param("page", "0")
                         .param("size", "5"))
                 .andExpect(status().isForbidden());
 
         verify(this.userQuizService, never())
-                .getSolvedQuizzesByUsername(anyString(), anyInt(), anyInt());
+                .getSolvedQuizzesPage(anyString(), any(), anyInt());
     }
 
     @WithAnonymousUser
     @Test
     void viewUserQuizzes_ShouldReturnError_WhenAnonymousUser() throws Exception {
         this.mockMvc.perform(get("/users/quizzes")
-                        .param("page", "0")
                         .param("size", "5"))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrlPattern("**/users/login"));
 
         verify(this.userQuizService, never())
-                .getSolvedQuizzesByUsername(anyString(), anyInt(), anyInt());
+                .getSolvedQuizzesPage(anyString(), any(), anyInt());
     }
 
     @Test